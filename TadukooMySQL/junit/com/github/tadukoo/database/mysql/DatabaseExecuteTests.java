@@ -11,6 +11,8 @@ import com.github.tadukoo.util.ListUtil;
 import org.junit.jupiter.api.Test;
 
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -109,6 +111,77 @@ public class DatabaseExecuteTests extends DatabaseConnectionTest{
 				CommonResultSetConverters::singleInteger));
 	}
 	
+	@Test
+	public void testInsertBindsValues() throws SQLException{
+		// Try dropping the Test table (should succeed due to IF EXISTS)
+		assertTrue(db.executeUpdate("Drop Test", SQLDropStatement.builder()
+				.table()
+				.ifExists()
+				.name("Test")
+				.build()
+				.toString()));
+		
+		// Create the table if it doesn't exist
+		assertTrue(db.executeUpdate("Create test table",
+				SQLCreateStatement.builder()
+						.table()
+						.ifTableNotExists()
+						.tableName("Test")
+						.columns(ColumnDefinition.builder()
+								.columnName("name")
+								.varchar()
+								.length(30)
+								.build())
+						.build()
+						.toString()));
+		
+		// Run the insert with a value that would need escaping if it were inlined
+		db.insert("Test", ListUtil.createList("name"), ListUtil.createList("Logan's Test"));
+		
+		assertEquals("Logan's Test", db.executeQuery("Find Tests", SQLSelectStatement.builder()
+						.fromTables(TableRef.builder()
+								.tableName("Test")
+								.build())
+						.build()
+						.toParameterizedSQL(),
+				CommonResultSetConverters::singleString));
+	}
+	
+	@Test
+	public void testBulkInsert() throws SQLException{
+		// Try dropping the Test table (should succeed due to IF EXISTS)
+		assertTrue(db.executeUpdate("Drop Test", SQLDropStatement.builder()
+				.table()
+				.ifExists()
+				.name("Test")
+				.build()
+				.toString()));
+		
+		// Create the table if it doesn't exist
+		assertTrue(db.executeUpdate("Create test table",
+				SQLCreateStatement.builder()
+						.table()
+						.ifTableNotExists()
+						.tableName("Test")
+						.columns(ColumnDefinition.builder()
+								.columnName("id")
+								.integer()
+								.defaultSize()
+								.build())
+						.build()
+						.toString()));
+		
+		// Insert a bunch of rows in one go
+		List<List<Object>> rows = new ArrayList<>();
+		for(int i = 0; i < 2500; i++){
+			rows.add(ListUtil.createList(i));
+		}
+		assertEquals(2500, db.bulkInsert("Test", ListUtil.createList("id"), rows));
+		
+		assertEquals(2500, db.executeQuery("Count Tests", "SELECT COUNT(*) FROM Test",
+				CommonResultSetConverters::singleInteger));
+	}
+	
 	@Test
 	public void testInsertAndGetID() throws SQLException{
 		// Try dropping the Test table (should succeed due to IF EXISTS)
@@ -146,6 +219,158 @@ public class DatabaseExecuteTests extends DatabaseConnectionTest{
 				ListUtil.createList("other"), ListUtil.createList(42)));
 	}
 	
+	@Test
+	public void testInsertAndGetIDWithoutIDColumn() throws SQLException{
+		// Try dropping the Test table (should succeed due to IF EXISTS)
+		assertTrue(db.executeUpdate("Drop Test", SQLDropStatement.builder()
+				.table()
+				.ifExists()
+				.name("Test")
+				.build()
+				.toString()));
+		
+		// Create the table if it doesn't exist
+		assertTrue(db.executeUpdate("Create test table",
+				SQLCreateStatement.builder()
+						.table()
+						.ifTableNotExists()
+						.tableName("Test")
+						.columns(ColumnDefinition.builder()
+										.columnName("id")
+										.integer()
+										.defaultSize()
+										.notNull()
+										.autoIncrement()
+										.primaryKey()
+										.build(),
+								ColumnDefinition.builder()
+										.columnName("other")
+										.integer()
+										.defaultSize()
+										.build())
+						.build()
+						.toString()));
+		
+		// Run the insert and get ID
+		assertEquals(1, db.insertAndGetID("Test", ListUtil.createList("other"), ListUtil.createList(42)));
+	}
+	
+	@Test
+	public void testBulkUpsert() throws SQLException{
+		// Try dropping the Test table (should succeed due to IF EXISTS)
+		assertTrue(db.executeUpdate("Drop Test", SQLDropStatement.builder()
+				.table()
+				.ifExists()
+				.name("Test")
+				.build()
+				.toString()));
+		
+		// Create the table if it doesn't exist
+		assertTrue(db.executeUpdate("Create test table",
+				SQLCreateStatement.builder()
+						.table()
+						.ifTableNotExists()
+						.tableName("Test")
+						.columns(ColumnDefinition.builder()
+										.columnName("id")
+										.integer()
+										.defaultSize()
+										.notNull()
+										.autoIncrement()
+										.primaryKey()
+										.build(),
+								ColumnDefinition.builder()
+										.columnName("other")
+										.integer()
+										.defaultSize()
+										.build())
+						.build()
+						.toString()));
+		
+		// Insert a row, then upsert it along with a new one
+		db.insert("Test", ListUtil.createList("other"), ListUtil.createList(42));
+		assertEquals(3, db.bulkUpsert("Test", ListUtil.createList("id", "other"),
+				ListUtil.createList(ListUtil.createList(1, 43), ListUtil.createList(2, 44)),
+				ListUtil.createList("other"), false));
+		
+		assertEquals(ListUtil.createList(43, 44), db.executeQuery("Find Tests", "SELECT other FROM Test ORDER BY id",
+				CommonResultSetConverters::integers));
+	}
+	
+	@Test
+	public void testInsertAndGetKeyDuplicateRows() throws SQLException{
+		// Try dropping the Test table (should succeed due to IF EXISTS)
+		assertTrue(db.executeUpdate("Drop Test", SQLDropStatement.builder()
+				.table()
+				.ifExists()
+				.name("Test")
+				.build()
+				.toString()));
+		
+		// Create the table if it doesn't exist
+		assertTrue(db.executeUpdate("Create test table",
+				SQLCreateStatement.builder()
+						.table()
+						.ifTableNotExists()
+						.tableName("Test")
+						.columns(ColumnDefinition.builder()
+										.columnName("id")
+										.integer()
+										.defaultSize()
+										.notNull()
+										.autoIncrement()
+										.primaryKey()
+										.build(),
+								ColumnDefinition.builder()
+										.columnName("other")
+										.integer()
+										.defaultSize()
+										.build())
+						.build()
+						.toString()));
+		
+		// Insert the same values twice - each one should still get its own key
+		assertEquals(1L, db.insertAndGetKey("Test", ListUtil.createList("other"), ListUtil.createList(42)));
+		assertEquals(2L, db.insertAndGetKey("Test", ListUtil.createList("other"), ListUtil.createList(42)));
+	}
+	
+	@Test
+	public void testBulkInsertAndGetKeys() throws SQLException{
+		// Try dropping the Test table (should succeed due to IF EXISTS)
+		assertTrue(db.executeUpdate("Drop Test", SQLDropStatement.builder()
+				.table()
+				.ifExists()
+				.name("Test")
+				.build()
+				.toString()));
+		
+		// Create the table if it doesn't exist
+		assertTrue(db.executeUpdate("Create test table",
+				SQLCreateStatement.builder()
+						.table()
+						.ifTableNotExists()
+						.tableName("Test")
+						.columns(ColumnDefinition.builder()
+										.columnName("id")
+										.integer()
+										.defaultSize()
+										.notNull()
+										.autoIncrement()
+										.primaryKey()
+										.build(),
+								ColumnDefinition.builder()
+										.columnName("other")
+										.integer()
+										.defaultSize()
+										.build())
+						.build()
+						.toString()));
+		
+		// Insert a few rows and grab all their keys
+		assertEquals(ListUtil.createList(1L, 2L, 3L), db.bulkInsertAndGetKeys("Test", ListUtil.createList("other"),
+				ListUtil.createList(ListUtil.createList(42), ListUtil.createList(43), ListUtil.createList(42))));
+	}
+	
 	@Test
 	public void testUpdate() throws SQLException{
 		// Try dropping the Test table (should succeed due to IF EXISTS)
@@ -1,15 +1,46 @@
 package com.github.tadukoo.database.mysql;
 
+import com.github.tadukoo.database.mysql.breaker.CircuitBreakerOpenException;
+import com.github.tadukoo.database.mysql.breaker.CircuitBreakerSettings;
+import com.github.tadukoo.database.mysql.breaker.CircuitState;
+import com.github.tadukoo.database.mysql.connection.ConnectionPool;
+import com.github.tadukoo.database.mysql.connection.ConnectionPoolSettings;
+import com.github.tadukoo.database.mysql.connection.DirectConnectionSource;
+import com.github.tadukoo.database.mysql.connection.HostStrategy;
+import com.github.tadukoo.database.mysql.connection.LoadBalancedConnectionSource;
+import com.github.tadukoo.database.mysql.connection.MultiHostConnectionSource;
+import com.github.tadukoo.database.mysql.hedge.HedgingSettings;
+import com.github.tadukoo.database.mysql.limit.ConcurrencyLimitExceededException;
+import com.github.tadukoo.database.mysql.limit.ConcurrencyLimiterSettings;
+import com.github.tadukoo.database.mysql.retry.BackoffRetryPolicy;
+import com.github.tadukoo.database.mysql.retry.RetryBudget;
+import com.github.tadukoo.database.mysql.retry.RetryPolicy;
 import com.github.tadukoo.database.mysql.syntax.statement.SQLDropStatement;
+import com.github.tadukoo.database.mysql.transaction.SQLTransaction;
+import com.github.tadukoo.database.mysql.transaction.TransactionLane;
 import com.github.tadukoo.database.mysql.transaction.update.Updates;
 import com.github.tadukoo.junit.logger.JUnitEasyLogger;
 import com.github.tadukoo.util.ListUtil;
+import com.github.tadukoo.util.logger.EasyLogger;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.sql.Connection;
 import java.sql.SQLException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
 public class DatabaseTest{
@@ -19,6 +50,39 @@ public class DatabaseTest{
 	private final String username = "root";
 	private final String password = "";
 	
+	private static SQLTransaction<Object> transaction(){
+		return new SQLTransaction<>(){
+			@Override
+			public String getTransactionName(){
+				return "Test";
+			}
+			
+			@Override
+			public Object execute(Connection conn, EasyLogger logger){
+				return null;
+			}
+		};
+	}
+	
+	private static SQLTransaction<Object> batchTransaction(){
+		return new SQLTransaction<>(){
+			@Override
+			public String getTransactionName(){
+				return "Batch Test";
+			}
+			
+			@Override
+			public TransactionLane getLane(){
+				return TransactionLane.BATCH;
+			}
+			
+			@Override
+			public Object execute(Connection conn, EasyLogger logger){
+				return null;
+			}
+		};
+	}
+	
 	@BeforeEach
 	public void setup(){
 		database = Database.builder()
@@ -36,7 +100,7 @@ public class DatabaseTest{
 	
 	@Test
 	public void testConnectionURL(){
-		assertEquals("jdbc:mysql://" + host + ":3306", database.getConnectionURL());
+		assertEquals("jdbc:mysql://" + host + ":3306?assureReadOnly=true", database.getConnectionURL());
 	}
 	
 	@Test
@@ -48,7 +112,7 @@ public class DatabaseTest{
 				.username(username)
 				.password(password)
 				.build();
-		assertEquals("jdbc:mysql://" + host + ":3307", database.getConnectionURL());
+		assertEquals("jdbc:mysql://" + host + ":3307?assureReadOnly=true", database.getConnectionURL());
 	}
 	
 	@Test
@@ -60,7 +124,7 @@ public class DatabaseTest{
 				.username(username)
 				.password(password)
 				.build();
-		assertEquals("jdbc:mysql://" + host + ":3306/Test", database.getConnectionURL());
+		assertEquals("jdbc:mysql://" + host + ":3306/Test?assureReadOnly=true", database.getConnectionURL());
 	}
 	
 	@Test
@@ -73,7 +137,50 @@ public class DatabaseTest{
 				.username(username)
 				.password(password)
 				.build();
-		assertEquals("jdbc:mysql://" + host + ":3307/Test", database.getConnectionURL());
+		assertEquals("jdbc:mysql://" + host + ":3307/Test?assureReadOnly=true", database.getConnectionURL());
+	}
+	
+	@Test
+	public void testConnectionURLAssuresReadOnly(){
+		assertTrue(database.getConnectionURL().contains("?assureReadOnly=true"));
+	}
+	
+	@Test
+	public void testDefaultServerPreparedStatements(){
+		assertFalse(database.isServerPreparedStatements());
+	}
+	
+	@Test
+	public void testConnectionURLServerPreparedStatements(){
+		database = Database.builder()
+				.logger(logger)
+				.host(host)
+				.databaseName("Test")
+				.username(username)
+				.password(password)
+				.serverPreparedStatements(true)
+				.build();
+		assertTrue(database.isServerPreparedStatements());
+		assertEquals("jdbc:mysql://" + host + ":3306/Test?assureReadOnly=true&useServerPrepStmts=true",
+				database.getConnectionURL());
+	}
+	
+	@Test
+	public void testDefaultMaxAllowedPacket(){
+		assertEquals(Database.DEFAULT_MAX_ALLOWED_PACKET, database.getMaxAllowedPacket());
+		assertEquals(4 * 1024 * 1024, database.getMaxAllowedPacket());
+	}
+	
+	@Test
+	public void testSetMaxAllowedPacket(){
+		database = Database.builder()
+				.logger(logger)
+				.host(host)
+				.username(username)
+				.password(password)
+				.maxAllowedPacket(1024)
+				.build();
+		assertEquals(1024, database.getMaxAllowedPacket());
 	}
 	
 	@Test
@@ -93,6 +200,544 @@ public class DatabaseTest{
 		assertEquals(11, database.getMaxAttempts());
 	}
 	
+	@Test
+	public void testDefaultRetryPolicy(){
+		RetryPolicy retryPolicy = database.getRetryPolicy();
+		assertTrue(retryPolicy instanceof BackoffRetryPolicy);
+		assertEquals(10, retryPolicy.getMaxAttempts());
+	}
+	
+	@Test
+	public void testSetRetryPolicy(){
+		RetryPolicy retryPolicy = BackoffRetryPolicy.builder().maxAttempts(3).build();
+		database = Database.builder()
+				.logger(logger)
+				.host(host)
+				.username(username)
+				.password(password)
+				.retryPolicy(retryPolicy)
+				.build();
+		assertEquals(retryPolicy, database.getRetryPolicy());
+		assertEquals(3, database.getMaxAttempts());
+	}
+	
+	@Test
+	public void testDefaultConnectionSource(){
+		assertTrue(database.getConnectionSource() instanceof DirectConnectionSource);
+	}
+	
+	@Test
+	public void testSetConnectionPool(){
+		ConnectionPoolSettings settings = ConnectionPoolSettings.builder().maxSize(3).build();
+		database = Database.builder()
+				.logger(logger)
+				.host(host)
+				.username(username)
+				.password(password)
+				.connectionPool(settings)
+				.build();
+		assertTrue(database.getConnectionSource() instanceof ConnectionPool);
+		assertEquals(settings, ((ConnectionPool) database.getConnectionSource()).getSettings());
+	}
+	
+	@Test
+	public void testDefaultTransactionTimeout(){
+		assertNull(database.getTransactionTimeout());
+	}
+	
+	@Test
+	public void testSetTransactionTimeout(){
+		database = Database.builder()
+				.logger(logger)
+				.host(host)
+				.username(username)
+				.password(password)
+				.transactionTimeout(Duration.ofSeconds(3))
+				.build();
+		assertEquals(Duration.ofSeconds(3), database.getTransactionTimeout());
+	}
+	
+	@Test
+	public void testDefaultTransactionTimeoutForTransaction(){
+		assertNull(transaction().getTimeout());
+	}
+	
+	@Test
+	public void testBuilderNegativeTransactionTimeout(){
+		try{
+			database = Database.builder()
+					.logger(logger)
+					.host(host)
+					.username(username)
+					.password(password)
+					.transactionTimeout(Duration.ofSeconds(-1))
+					.build();
+			fail();
+		}catch(IllegalArgumentException e){
+			assertEquals("Encountered errors in building a Database: \n" +
+					"transactionTimeout can't be negative!", e.getMessage());
+		}
+	}
+	
+	@Test
+	public void testDefaultAutoCommitSingleStatements(){
+		assertFalse(database.isAutoCommitSingleStatements());
+	}
+	
+	@Test
+	public void testSetAutoCommitSingleStatements(){
+		database = Database.builder()
+				.logger(logger)
+				.host(host)
+				.username(username)
+				.password(password)
+				.connectionPool(ConnectionPoolSettings.builder().build())
+				.autoCommitSingleStatements(true)
+				.build();
+		assertTrue(database.isAutoCommitSingleStatements());
+		assertFalse(((ConnectionPool) database.getConnectionSource()).isResetAutoCommit());
+	}
+	
+	@Test
+	public void testConnectionPoolResetsAutoCommitByDefault(){
+		database = Database.builder()
+				.logger(logger)
+				.host(host)
+				.username(username)
+				.password(password)
+				.connectionPool(ConnectionPoolSettings.builder().build())
+				.build();
+		assertTrue(((ConnectionPool) database.getConnectionSource()).isResetAutoCommit());
+	}
+	
+	@Test
+	public void testDefaultHosts(){
+		assertEquals(ListUtil.createList(host + ":3306"), database.getHosts());
+		assertTrue(database.getConnectionSource() instanceof DirectConnectionSource);
+	}
+	
+	@Test
+	public void testSetAdditionalHosts(){
+		database = Database.builder()
+				.logger(logger)
+				.host(host)
+				.username(username)
+				.password(password)
+				.additionalHost("standby1")
+				.additionalHost("standby2", 3307)
+				.build();
+		assertEquals(ListUtil.createList(host + ":3306", "standby1:3306", "standby2:3307"), database.getHosts());
+		MultiHostConnectionSource source = (MultiHostConnectionSource) database.getConnectionSource();
+		assertEquals(3, source.getSources().size());
+		assertEquals(HostStrategy.FAILOVER, source.getStrategy());
+		assertSame(source, database.getReadConnectionSource());
+	}
+	
+	@Test
+	public void testAdditionalHostsWithConnectionPool(){
+		database = Database.builder()
+				.logger(logger)
+				.host(host)
+				.username(username)
+				.password(password)
+				.connectionPool(ConnectionPoolSettings.builder().build())
+				.additionalHost("standby1")
+				.build();
+		MultiHostConnectionSource source = (MultiHostConnectionSource) database.getConnectionSource();
+		assertTrue(source.getSources().get(0) instanceof ConnectionPool);
+		assertTrue(source.getSources().get(1) instanceof ConnectionPool);
+	}
+	
+	@Test
+	public void testDefaultHostStrategy(){
+		assertEquals(HostStrategy.FAILOVER, database.getHostStrategy());
+	}
+	
+	@Test
+	public void testSetHostStrategy(){
+		database = Database.builder()
+				.logger(logger)
+				.host(host)
+				.username(username)
+				.password(password)
+				.additionalHost("standby1")
+				.hostStrategy(HostStrategy.LOAD_BALANCE)
+				.build();
+		assertEquals(HostStrategy.LOAD_BALANCE, database.getHostStrategy());
+		assertEquals(HostStrategy.LOAD_BALANCE,
+				((MultiHostConnectionSource) database.getConnectionSource()).getStrategy());
+	}
+	
+	@Test
+	public void testDefaultHostRetryDelay(){
+		assertEquals(MultiHostConnectionSource.DEFAULT_RETRY_DELAY, database.getHostRetryDelay());
+	}
+	
+	@Test
+	public void testSetHostRetryDelay(){
+		database = Database.builder()
+				.logger(logger)
+				.host(host)
+				.username(username)
+				.password(password)
+				.additionalHost("standby1")
+				.hostRetryDelay(Duration.ofSeconds(5))
+				.build();
+		assertEquals(Duration.ofSeconds(5), database.getHostRetryDelay());
+		assertEquals(Duration.ofSeconds(5),
+				((MultiHostConnectionSource) database.getConnectionSource()).getRetryDelay());
+	}
+	
+	@Test
+	public void testBuilderBlankAdditionalHost(){
+		try{
+			database = Database.builder()
+					.logger(logger)
+					.host(host)
+					.username(username)
+					.password(password)
+					.additionalHost(" ")
+					.build();
+			fail();
+		}catch(IllegalArgumentException e){
+			assertEquals("Encountered errors in building a Database: \n" +
+					"additionalHost host is required!", e.getMessage());
+		}
+	}
+	
+	@Test
+	public void testDefaultReadReplicas(){
+		assertTrue(database.getReadReplicas().isEmpty());
+		assertSame(database.getConnectionSource(), database.getReadConnectionSource());
+	}
+	
+	@Test
+	public void testSetReadReplicas(){
+		database = Database.builder()
+				.logger(logger)
+				.host(host)
+				.username(username)
+				.password(password)
+				.readReplica("replica1")
+				.readReplica("replica2", 3307)
+				.build();
+		assertEquals(ListUtil.createList("replica1:3306", "replica2:3307"), database.getReadReplicas());
+		assertTrue(database.getReadConnectionSource() instanceof LoadBalancedConnectionSource);
+		assertEquals(2, ((LoadBalancedConnectionSource) database.getReadConnectionSource()).getSources().size());
+		assertTrue(database.getConnectionSource() instanceof DirectConnectionSource);
+	}
+	
+	@Test
+	public void testReadReplicasWithConnectionPool(){
+		database = Database.builder()
+				.logger(logger)
+				.host(host)
+				.username(username)
+				.password(password)
+				.connectionPool(ConnectionPoolSettings.builder().build())
+				.readReplica("replica1")
+				.build();
+		LoadBalancedConnectionSource readSource = (LoadBalancedConnectionSource) database.getReadConnectionSource();
+		assertTrue(readSource.getSources().get(0) instanceof ConnectionPool);
+		assertTrue(database.getConnectionSource() instanceof ConnectionPool);
+	}
+	
+	@Test
+	public void testBuilderBlankReadReplica(){
+		try{
+			database = Database.builder()
+					.logger(logger)
+					.host(host)
+					.username(username)
+					.password(password)
+					.readReplica(" ")
+					.build();
+			fail();
+		}catch(IllegalArgumentException e){
+			assertEquals("Encountered errors in building a Database: \n" +
+					"readReplica host is required!", e.getMessage());
+		}
+	}
+	
+	@Test
+	public void testDefaultConcurrencyLimiter(){
+		assertNull(database.getConcurrencyLimiter());
+	}
+	
+	@Test
+	public void testSetConcurrencyLimit(){
+		ConcurrencyLimiterSettings settings = ConcurrencyLimiterSettings.builder().initialLimit(5).build();
+		database = Database.builder()
+				.logger(logger)
+				.host(host)
+				.username(username)
+				.password(password)
+				.concurrencyLimit(settings)
+				.build();
+		assertEquals(settings, database.getConcurrencyLimiter().getSettings());
+		assertEquals(5, database.getConcurrencyLimiter().getLimit());
+	}
+	
+	@Test
+	public void testDefaultLaneLimiters(){
+		assertNull(database.getLaneLimiter(TransactionLane.INTERACTIVE));
+		assertNull(database.getLaneLimiter(TransactionLane.BATCH));
+	}
+	
+	@Test
+	public void testSetLaneLimit(){
+		ConcurrencyLimiterSettings settings = ConcurrencyLimiterSettings.builder()
+				.initialLimit(2).minLimit(2).maxLimit(2).build();
+		database = Database.builder()
+				.logger(logger)
+				.host(host)
+				.username(username)
+				.password(password)
+				.laneLimit(TransactionLane.BATCH, settings)
+				.build();
+		assertNull(database.getLaneLimiter(TransactionLane.INTERACTIVE));
+		assertEquals(settings, database.getLaneLimiter(TransactionLane.BATCH).getSettings());
+	}
+	
+	@Test
+	public void testDefaultTransactionLane(){
+		assertEquals(TransactionLane.INTERACTIVE, transaction().getLane());
+	}
+	
+	@Test
+	public void testExecuteTransactionLaneFull() throws SQLException{
+		database = Database.builder()
+				.logger(logger)
+				.host(host)
+				.username(username)
+				.password(password)
+				.laneLimit(TransactionLane.BATCH, ConcurrencyLimiterSettings.builder()
+						.initialLimit(1).maxLimit(1).maxQueueSize(0).build())
+				.build();
+		database.getLaneLimiter(TransactionLane.BATCH).acquire();
+		try{
+			database.executeTransaction(batchTransaction());
+			fail();
+		}catch(ConcurrencyLimitExceededException e){
+			assertEquals("Rejected transaction: 0 transactions are already waiting on the concurrency limit of 1",
+					e.getMessage());
+		}
+	}
+	
+	@Test
+	public void testExecuteTransactionInGivenLane() throws SQLException{
+		database = Database.builder()
+				.logger(logger)
+				.host(host)
+				.username(username)
+				.password(password)
+				.laneLimit(TransactionLane.BATCH, ConcurrencyLimiterSettings.builder()
+						.initialLimit(1).maxLimit(1).maxQueueSize(0).build())
+				.build();
+		database.getLaneLimiter(TransactionLane.BATCH).acquire();
+		try{
+			database.executeTransaction(TransactionLane.BATCH, transaction());
+			fail();
+		}catch(ConcurrencyLimitExceededException e){
+			assertEquals(1, database.getLaneLimiter(TransactionLane.BATCH).getInFlight());
+		}
+	}
+	
+	@Test
+	public void testBuilderNullLane(){
+		try{
+			database = Database.builder()
+					.logger(logger)
+					.host(host)
+					.username(username)
+					.password(password)
+					.laneLimit(null, ConcurrencyLimiterSettings.builder().build())
+					.build();
+			fail();
+		}catch(IllegalArgumentException e){
+			assertEquals("Encountered errors in building a Database: \n" +
+					"laneLimit can't be set for a null lane!", e.getMessage());
+		}
+	}
+	
+	@Test
+	public void testDefaultRetryBudget(){
+		assertNull(database.getRetryBudget());
+	}
+	
+	@Test
+	public void testSetRetryBudget(){
+		RetryBudget budget = new RetryBudget();
+		database = Database.builder()
+				.logger(logger)
+				.host(host)
+				.username(username)
+				.password(password)
+				.retryBudget(budget)
+				.build();
+		assertEquals(budget, database.getRetryBudget());
+	}
+	
+	@Test
+	public void testDefaultHedgedReads(){
+		assertNull(database.getReadHedger());
+	}
+	
+	@Test
+	public void testSetHedgedReads(){
+		HedgingSettings settings = HedgingSettings.builder().percentile(0.99).build();
+		database = Database.builder()
+				.logger(logger)
+				.host(host)
+				.username(username)
+				.password(password)
+				.readReplica("replica1")
+				.readReplica("replica2")
+				.hedgedReads(settings)
+				.build();
+		assertSame(settings, database.getReadHedger().getSettings());
+		assertEquals(0, database.getReadHedger().getStats().getReads());
+	}
+	
+	@Test
+	public void testHedgedReadsNeedTwoReplicas(){
+		database = Database.builder()
+				.logger(logger)
+				.host(host)
+				.username(username)
+				.password(password)
+				.readReplica("replica1")
+				.hedgedReads(HedgingSettings.builder().build())
+				.build();
+		assertNull(database.getReadHedger());
+	}
+	
+	@Test
+	public void testDefaultCircuitBreaker(){
+		assertNull(database.getCircuitBreaker());
+		assertNull(database.getReadCircuitBreaker());
+	}
+	
+	@Test
+	public void testSetCircuitBreaker(){
+		CircuitBreakerSettings settings = CircuitBreakerSettings.builder().failureThreshold(3).build();
+		database = Database.builder()
+				.logger(logger)
+				.host(host)
+				.username(username)
+				.password(password)
+				.circuitBreaker(settings)
+				.build();
+		assertEquals(settings, database.getCircuitBreaker().getSettings());
+		assertEquals(CircuitState.CLOSED, database.getCircuitBreaker().getState());
+		assertSame(database.getCircuitBreaker(), database.getReadCircuitBreaker());
+	}
+	
+	@Test
+	public void testCircuitBreakerForReadReplicas(){
+		database = Database.builder()
+				.logger(logger)
+				.host(host)
+				.username(username)
+				.password(password)
+				.readReplica("replica1")
+				.circuitBreaker(CircuitBreakerSettings.builder().build())
+				.build();
+		assertNotSame(database.getCircuitBreaker(), database.getReadCircuitBreaker());
+	}
+	
+	@Test
+	public void testExecuteTransactionCircuitBreakerOpen() throws SQLException{
+		database = Database.builder()
+				.logger(logger)
+				.host(host)
+				.username(username)
+				.password(password)
+				.circuitBreaker(CircuitBreakerSettings.builder()
+						.failureThreshold(1).openDuration(Duration.ofMinutes(1)).build())
+				.build();
+		database.getCircuitBreaker().acquire();
+		database.getCircuitBreaker().record(new SQLException("Could not connect", "08000", 0));
+		try{
+			database.executeTransaction(transaction());
+			fail();
+		}catch(CircuitBreakerOpenException e){
+			assertEquals(CircuitState.OPEN, database.getCircuitBreaker().getState());
+			assertEquals(1, database.getCircuitBreaker().getConsecutiveFailures());
+		}
+	}
+	
+	@Test
+	public void testDefaultExecutor(){
+		assertTrue(database.getExecutor() instanceof ExecutorService);
+	}
+	
+	@Test
+	public void testSetExecutor(){
+		Executor executor = Runnable::run;
+		database = Database.builder()
+				.logger(logger)
+				.host(host)
+				.username(username)
+				.password(password)
+				.executor(executor)
+				.build();
+		assertSame(executor, database.getExecutor());
+	}
+	
+	@Test
+	public void testCloseShutsDownDefaultExecutor(){
+		database.close();
+		assertTrue(((ExecutorService) database.getExecutor()).isShutdown());
+	}
+	
+	@Test
+	public void testCloseLeavesGivenExecutor(){
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+		database = Database.builder()
+				.logger(logger)
+				.host(host)
+				.username(username)
+				.password(password)
+				.executor(executor)
+				.build();
+		database.close();
+		assertFalse(executor.isShutdown());
+		executor.shutdown();
+	}
+	
+	@Test
+	public void testNewDefaultExecutor() throws Exception{
+		ExecutorService executor = Database.newDefaultExecutor();
+		try{
+			assertEquals(42, executor.submit(() -> 42).get());
+		}finally{
+			executor.shutdown();
+		}
+	}
+	
+	@Test
+	public void testExecuteQueryAsyncRejected(){
+		database = Database.builder()
+				.logger(logger)
+				.host(host)
+				.username(username)
+				.password(password)
+				.executor(runnable -> {
+					throw new RejectedExecutionException("Full");
+				})
+				.build();
+		CompletableFuture<Boolean> future = database.executeQueryAsync("Check", "SELECT 1",
+				CommonResultSetConverters::check);
+		try{
+			future.join();
+			fail();
+		}catch(CompletionException e){
+			assertTrue(e.getCause() instanceof RejectedExecutionException);
+			assertEquals("Full", e.getCause().getMessage());
+		}
+	}
+	
 	@Test
 	public void testBuilderMissingLogger(){
 		try{
@@ -157,6 +802,23 @@ public class DatabaseTest{
 		}
 	}
 	
+	@Test
+	public void testBuilderBadMaxAllowedPacket(){
+		try{
+			database = Database.builder()
+					.logger(logger)
+					.host(host)
+					.username(username)
+					.password(password)
+					.maxAllowedPacket(0)
+					.build();
+			fail();
+		}catch(IllegalArgumentException e){
+			assertEquals("Encountered errors in building a Database: \n" +
+					"maxAllowedPacket must be at least 1!", e.getMessage());
+		}
+	}
+	
 	@Test
 	public void testBuilderAllErrors(){
 		try{
@@ -165,6 +827,13 @@ public class DatabaseTest{
 					.host(null)
 					.username(null)
 					.password(null)
+					.maxAllowedPacket(0)
+					.additionalHost(null)
+					.hostStrategy(null)
+					.hostRetryDelay(null)
+					.transactionTimeout(Duration.ofSeconds(-1))
+					.readReplica(null)
+					.laneLimit(null, null)
 					.build();
 			fail();
 		}catch(IllegalArgumentException e){
@@ -173,7 +842,14 @@ public class DatabaseTest{
 					logger is required!
 					host is required!
 					username is required!
-					password is required! (empty string is allowed for a blank password)""", e.getMessage());
+					password is required! (empty string is allowed for a blank password)
+					maxAllowedPacket must be at least 1!
+					additionalHost host is required!
+					hostStrategy is required!
+					hostRetryDelay is required and can't be negative!
+					transactionTimeout can't be negative!
+					readReplica host is required!
+					laneLimit can't be set for a null lane!""", e.getMessage());
 		}
 	}
 	
@@ -197,7 +873,7 @@ public class DatabaseTest{
 					)));
 			fail();
 		}catch(SQLException e){
-			assertEquals("Failed to execute transaction after 2 attempts", e.getMessage());
+			assertEquals("Failed to execute transaction after 1 attempt", e.getMessage());
 			/* TODO: Someday improve Tadukoo JUnit to actually allow this logger check
 			SQLTransientConnectionException ex =
 					new SQLTransientConnectionException("(conn=345) Can't drop database " +
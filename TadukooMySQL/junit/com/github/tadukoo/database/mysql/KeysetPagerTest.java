@@ -0,0 +1,108 @@
+package com.github.tadukoo.database.mysql;
+
+import com.github.tadukoo.database.mysql.syntax.ParameterizedSQL;
+import com.github.tadukoo.util.ListUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+public class KeysetPagerTest{
+	private List<ParameterizedSQL> queries;
+	private List<Integer> rows;
+	private KeysetPager<Integer> pager;
+	
+	private List<Integer> runQuery(ParameterizedSQL sql){
+		// Acts like a table of the rows, sorted by key
+		queries.add(sql);
+		int lastSeen = sql.getParameters().isEmpty()?Integer.MIN_VALUE:(Integer) sql.getParameters().get(0);
+		List<Integer> page = new ArrayList<>();
+		for(Integer row: rows){
+			if(row > lastSeen && page.size() < pager.getPageSize()){
+				page.add(row);
+			}
+		}
+		return page;
+	}
+	
+	@BeforeEach
+	public void setup(){
+		queries = new ArrayList<>();
+		rows = ListUtil.createList(1, 2, 3, 5, 8);
+		pager = new KeysetPager<>(this::runQuery, "Test", ListUtil.createList("id"), "id", 2, row -> row);
+	}
+	
+	@Test
+	public void testGetPageSize(){
+		assertEquals(2, pager.getPageSize());
+	}
+	
+	@Test
+	public void testDefaultLastSeenKey(){
+		assertNull(pager.getLastSeenKey());
+	}
+	
+	@Test
+	public void testDefaultHasNextPage(){
+		assertTrue(pager.hasNextPage());
+	}
+	
+	@Test
+	public void testBadPageSize(){
+		try{
+			new KeysetPager<>(this::runQuery, "Test", ListUtil.createList("id"), "id", 0, row -> row);
+			fail();
+		}catch(IllegalArgumentException e){
+			assertEquals("pageSize must be at least 1!", e.getMessage());
+		}
+	}
+	
+	@Test
+	public void testNextPage() throws SQLException{
+		assertEquals(ListUtil.createList(1, 2), pager.nextPage());
+		assertEquals(2, pager.getLastSeenKey());
+		assertTrue(pager.hasNextPage());
+		assertEquals("SELECT id FROM Test ORDER BY id ASC LIMIT 2", queries.get(0).getSQL());
+	}
+	
+	@Test
+	public void testAllPages() throws SQLException{
+		assertEquals(ListUtil.createList(1, 2), pager.nextPage());
+		assertEquals(ListUtil.createList(3, 5), pager.nextPage());
+		assertEquals(ListUtil.createList(8), pager.nextPage());
+		assertFalse(pager.hasNextPage());
+		assertEquals(8, pager.getLastSeenKey());
+		assertEquals(3, queries.size());
+		assertEquals("SELECT id FROM Test WHERE id > ? ORDER BY id ASC LIMIT 2", queries.get(2).getSQL());
+		assertEquals(ListUtil.createList(5), queries.get(2).getParameters());
+		
+		// No more queries are run once the last page has been read
+		assertTrue(pager.nextPage().isEmpty());
+		assertEquals(3, queries.size());
+	}
+	
+	@Test
+	public void testFullLastPage() throws SQLException{
+		rows = ListUtil.createList(1, 2);
+		assertEquals(ListUtil.createList(1, 2), pager.nextPage());
+		assertTrue(pager.hasNextPage());
+		assertTrue(pager.nextPage().isEmpty());
+		assertFalse(pager.hasNextPage());
+		assertEquals(2, pager.getLastSeenKey());
+	}
+	
+	@Test
+	public void testStartAfterKey() throws SQLException{
+		pager = new KeysetPager<>(this::runQuery, "Test", ListUtil.createList("id"), "id", 2, row -> row, 3);
+		assertEquals(3, pager.getLastSeenKey());
+		assertEquals(ListUtil.createList(5, 8), pager.nextPage());
+	}
+}
@@ -0,0 +1,180 @@
+package com.github.tadukoo.database.mysql;
+
+import com.github.tadukoo.database.mysql.transaction.SQLTransaction;
+import com.github.tadukoo.util.ListUtil;
+import com.github.tadukoo.util.logger.EasyLogger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+public class TransactionFanOutTest{
+	private ExecutorService executor;
+	private TransactionFanOut fanOut;
+	
+	private static SQLTransaction<Object> transaction(String name){
+		return new SQLTransaction<>(){
+			@Override
+			public String getTransactionName(){
+				return name;
+			}
+			
+			@Override
+			public Object execute(Connection conn, EasyLogger logger){
+				return name;
+			}
+		};
+	}
+	
+	@BeforeEach
+	public void setup(){
+		executor = Executors.newFixedThreadPool(4);
+		fanOut = new TransactionFanOut(executor, 2, FanOutFailurePolicy.FAIL_FAST);
+	}
+	
+	@AfterEach
+	public void tearDown(){
+		executor.shutdownNow();
+	}
+	
+	@Test
+	public void testGetMaxParallelism(){
+		assertEquals(2, fanOut.getMaxParallelism());
+	}
+	
+	@Test
+	public void testGetFailurePolicy(){
+		assertEquals(FanOutFailurePolicy.FAIL_FAST, fanOut.getFailurePolicy());
+	}
+	
+	@Test
+	public void testBadMaxParallelism(){
+		try{
+			new TransactionFanOut(executor, 0, FanOutFailurePolicy.FAIL_FAST);
+			fail();
+		}catch(IllegalArgumentException e){
+			assertEquals("maxParallelism must be at least 1!", e.getMessage());
+		}
+	}
+	
+	@Test
+	public void testExecuteAllInOrder() throws SQLException{
+		List<SQLTransaction<Object>> transactions = new ArrayList<>();
+		for(int i = 0; i < 10; i++){
+			transactions.add(transaction("T" + i));
+		}
+		List<Object> results = fanOut.executeAll(transactions, SQLTransaction::getTransactionName);
+		assertEquals(ListUtil.createList("T0", "T1", "T2", "T3", "T4", "T5", "T6", "T7", "T8", "T9"), results);
+	}
+	
+	@Test
+	public void testExecuteAllEmpty() throws SQLException{
+		assertTrue(fanOut.executeAll(new ArrayList<SQLTransaction<Object>>(), transaction -> null).isEmpty());
+	}
+	
+	@Test
+	public void testExecuteAllBoundedParallelism() throws SQLException{
+		AtomicInteger running = new AtomicInteger();
+		AtomicInteger maxRunning = new AtomicInteger();
+		List<SQLTransaction<Object>> transactions = new ArrayList<>();
+		for(int i = 0; i < 8; i++){
+			transactions.add(transaction("T" + i));
+		}
+		fanOut.executeAll(transactions, transaction -> {
+			maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+			try{
+				Thread.sleep(5);
+			}catch(InterruptedException e){
+				throw new SQLException(e);
+			}
+			running.decrementAndGet();
+			return null;
+		});
+		assertTrue(maxRunning.get() <= 2);
+	}
+	
+	@Test
+	public void testExecuteAllRunsConcurrently() throws SQLException{
+		CountDownLatch bothStarted = new CountDownLatch(2);
+		List<Object> results = fanOut.executeAll(ListUtil.createList(transaction("A"), transaction("B")),
+				transaction -> {
+					bothStarted.countDown();
+					try{
+						// Only finishes if the other transaction is running at the same time
+						if(!bothStarted.await(5, TimeUnit.SECONDS)){
+							throw new SQLException("Transactions didn't run at the same time");
+						}
+					}catch(InterruptedException e){
+						throw new SQLException(e);
+					}
+					return transaction.getTransactionName();
+				});
+		assertEquals(ListUtil.createList("A", "B"), results);
+	}
+	
+	@Test
+	public void testExecuteAllFailFast(){
+		AtomicInteger started = new AtomicInteger();
+		fanOut = new TransactionFanOut(executor, 1, FanOutFailurePolicy.FAIL_FAST);
+		try{
+			fanOut.executeAll(ListUtil.createList(transaction("A"), transaction("B"), transaction("C")),
+					transaction -> {
+						started.incrementAndGet();
+						throw new SQLException("Failed " + transaction.getTransactionName());
+					});
+			fail();
+		}catch(SQLException e){
+			assertEquals("Failed A", e.getMessage());
+			assertEquals(1, started.get());
+		}
+	}
+	
+	@Test
+	public void testExecuteAllCollectErrors(){
+		AtomicInteger started = new AtomicInteger();
+		fanOut = new TransactionFanOut(executor, 2, FanOutFailurePolicy.COLLECT_ERRORS);
+		try{
+			fanOut.executeAll(ListUtil.createList(transaction("A"), transaction("B"), transaction("C")),
+					transaction -> {
+						started.incrementAndGet();
+						if(transaction.getTransactionName().equals("B")){
+							return "B";
+						}
+						throw new SQLException("Failed " + transaction.getTransactionName());
+					});
+			fail();
+		}catch(SQLException e){
+			assertEquals("Failed to execute 2 of 3 transactions", e.getMessage());
+			assertEquals("Failed A", e.getCause().getMessage());
+			assertEquals(1, e.getSuppressed().length);
+			assertEquals("Failed C", e.getSuppressed()[0].getMessage());
+			assertEquals(3, started.get());
+		}
+	}
+	
+	@Test
+	public void testExecuteAllRuntimeFailure(){
+		try{
+			fanOut.executeAll(ListUtil.createList(transaction("A")), transaction -> {
+				throw new IllegalStateException("Broken");
+			});
+			fail();
+		}catch(SQLException e){
+			assertEquals("Broken", e.getMessage());
+			assertTrue(e.getCause() instanceof IllegalStateException);
+		}
+	}
+}
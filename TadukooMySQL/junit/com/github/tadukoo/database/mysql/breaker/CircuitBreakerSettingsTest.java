@@ -0,0 +1,80 @@
+package com.github.tadukoo.database.mysql.breaker;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.fail;
+
+public class CircuitBreakerSettingsTest{
+	private CircuitBreakerSettings settings;
+	
+	@BeforeEach
+	public void setup(){
+		settings = CircuitBreakerSettings.builder().build();
+	}
+	
+	@Test
+	public void testDefaultFailureThreshold(){
+		assertEquals(5, settings.getFailureThreshold());
+	}
+	
+	@Test
+	public void testSetFailureThreshold(){
+		settings = CircuitBreakerSettings.builder().failureThreshold(3).build();
+		assertEquals(3, settings.getFailureThreshold());
+	}
+	
+	@Test
+	public void testDefaultOpenDuration(){
+		assertEquals(Duration.ofSeconds(30), settings.getOpenDuration());
+	}
+	
+	@Test
+	public void testSetOpenDuration(){
+		settings = CircuitBreakerSettings.builder().openDuration(Duration.ofSeconds(5)).build();
+		assertEquals(Duration.ofSeconds(5), settings.getOpenDuration());
+	}
+	
+	@Test
+	public void testDefaultHalfOpenProbes(){
+		assertEquals(1, settings.getHalfOpenProbes());
+	}
+	
+	@Test
+	public void testSetHalfOpenProbes(){
+		settings = CircuitBreakerSettings.builder().halfOpenProbes(3).build();
+		assertEquals(3, settings.getHalfOpenProbes());
+	}
+	
+	@Test
+	public void testNullOpenDuration(){
+		try{
+			settings = CircuitBreakerSettings.builder().openDuration(null).build();
+			fail();
+		}catch(IllegalArgumentException e){
+			assertEquals("Encountered errors in building CircuitBreakerSettings: \n" +
+					"openDuration is required and can't be negative!", e.getMessage());
+		}
+	}
+	
+	@Test
+	public void testAllErrors(){
+		try{
+			settings = CircuitBreakerSettings.builder()
+					.failureThreshold(0)
+					.openDuration(Duration.ofSeconds(-1))
+					.halfOpenProbes(0)
+					.build();
+			fail();
+		}catch(IllegalArgumentException e){
+			assertEquals("""
+					Encountered errors in building CircuitBreakerSettings:\s
+					failureThreshold must be at least 1!
+					openDuration is required and can't be negative!
+					halfOpenProbes must be at least 1!""", e.getMessage());
+		}
+	}
+}
@@ -0,0 +1,216 @@
+package com.github.tadukoo.database.mysql.breaker;
+
+import com.github.tadukoo.database.mysql.connection.ConnectionPoolTimeoutException;
+import com.github.tadukoo.database.mysql.retry.SQLExceptionClassifier;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+public class CircuitBreakerTest{
+	private static final SQLException CONNECTION_ERROR = new SQLException("Could not connect", "08000", 0);
+	private static final SQLException SYNTAX_ERROR = new SQLException("Bad syntax", "42000", 1064);
+	private CircuitBreakerSettings settings;
+	private CircuitBreaker breaker;
+	
+	@BeforeEach
+	public void setup(){
+		settings = CircuitBreakerSettings.builder()
+				.failureThreshold(2)
+				.openDuration(Duration.ofMillis(20))
+				.build();
+		breaker = new CircuitBreaker(settings);
+	}
+	
+	private void trip() throws SQLException{
+		for(int i = 0; i < settings.getFailureThreshold(); i++){
+			breaker.acquire();
+			breaker.record(CONNECTION_ERROR);
+		}
+	}
+	
+	private void waitOutOpenDuration() throws InterruptedException{
+		Thread.sleep(settings.getOpenDuration().toMillis() + 5);
+	}
+	
+	@Test
+	public void testGetSettings(){
+		assertEquals(settings, breaker.getSettings());
+	}
+	
+	@Test
+	public void testStartsClosed() throws SQLException{
+		assertEquals(CircuitState.CLOSED, breaker.getState());
+		assertEquals(0, breaker.getConsecutiveFailures());
+		breaker.acquire();
+	}
+	
+	@Test
+	public void testOpensAfterFailureThreshold() throws SQLException{
+		breaker.acquire();
+		breaker.record(CONNECTION_ERROR);
+		assertEquals(CircuitState.CLOSED, breaker.getState());
+		breaker.acquire();
+		breaker.record(CONNECTION_ERROR);
+		assertEquals(CircuitState.OPEN, breaker.getState());
+		assertEquals(2, breaker.getConsecutiveFailures());
+	}
+	
+	@Test
+	public void testSuccessResetsFailures(){
+		breaker.record(CONNECTION_ERROR);
+		breaker.record(null);
+		breaker.record(CONNECTION_ERROR);
+		assertEquals(CircuitState.CLOSED, breaker.getState());
+		assertEquals(1, breaker.getConsecutiveFailures());
+	}
+	
+	@Test
+	public void testOtherErrorsDoNotCount(){
+		breaker.record(CONNECTION_ERROR);
+		breaker.record(SYNTAX_ERROR);
+		breaker.record(CONNECTION_ERROR);
+		assertEquals(CircuitState.CLOSED, breaker.getState());
+	}
+	
+	@Test
+	public void testTimeoutsCount(){
+		breaker.record(new SQLTimeoutException("Query timed out"));
+		breaker.record(new SQLTimeoutException("Query timed out"));
+		assertEquals(CircuitState.OPEN, breaker.getState());
+	}
+	
+	@Test
+	public void testOpenFailsFast() throws SQLException{
+		settings = CircuitBreakerSettings.builder().failureThreshold(1).openDuration(Duration.ofMinutes(1)).build();
+		breaker = new CircuitBreaker(settings);
+		trip();
+		try{
+			breaker.acquire();
+			fail();
+		}catch(CircuitBreakerOpenException e){
+			assertTrue(e.getMessage().startsWith("Circuit breaker is open after 1 failure in a row, failing fast " +
+					"for another "));
+		}
+	}
+	
+	@Test
+	public void testHalfOpenAfterOpenDuration() throws Exception{
+		trip();
+		waitOutOpenDuration();
+		assertEquals(CircuitState.HALF_OPEN, breaker.getState());
+	}
+	
+	@Test
+	public void testHalfOpenLimitsProbes() throws Exception{
+		trip();
+		waitOutOpenDuration();
+		breaker.acquire();
+		try{
+			breaker.acquire();
+			fail();
+		}catch(CircuitBreakerOpenException e){
+			assertEquals("Circuit breaker is half-open and already probing the host with 1 transaction",
+					e.getMessage());
+		}
+	}
+	
+	@Test
+	public void testProbeSuccessCloses() throws Exception{
+		trip();
+		waitOutOpenDuration();
+		breaker.acquire();
+		breaker.record(null);
+		assertEquals(CircuitState.CLOSED, breaker.getState());
+		assertEquals(0, breaker.getConsecutiveFailures());
+		breaker.acquire();
+		breaker.acquire();
+	}
+	
+	@Test
+	public void testProbeFailureReopens() throws Exception{
+		trip();
+		waitOutOpenDuration();
+		breaker.acquire();
+		breaker.record(CONNECTION_ERROR);
+		assertEquals(CircuitState.OPEN, breaker.getState());
+		try{
+			breaker.acquire();
+			fail();
+		}catch(CircuitBreakerOpenException e){
+			assertTrue(e.getMessage().startsWith("Circuit breaker is open after 3 failures in a row"));
+		}
+	}
+	
+	@Test
+	public void testLostProbeReplaced() throws Exception{
+		trip();
+		waitOutOpenDuration();
+		breaker.acquire();
+		waitOutOpenDuration();
+		breaker.acquire();
+		assertEquals(CircuitState.HALF_OPEN, breaker.getState());
+	}
+	
+	@Test
+	public void testInconclusiveKeepsClosed() throws SQLException{
+		breaker.acquire();
+		breaker.record(CONNECTION_ERROR);
+		breaker.acquire();
+		breaker.recordInconclusive();
+		assertEquals(CircuitState.CLOSED, breaker.getState());
+		assertEquals(1, breaker.getConsecutiveFailures());
+	}
+	
+	@Test
+	public void testInconclusiveProbeFreesItsSpot() throws Exception{
+		trip();
+		waitOutOpenDuration();
+		breaker.acquire();
+		breaker.recordInconclusive();
+		assertEquals(CircuitState.HALF_OPEN, breaker.getState());
+		breaker.acquire();
+	}
+	
+	@Test
+	public void testIsTripErrorConnection(){
+		assertTrue(CircuitBreaker.isTripError(
+				new SQLException("Server has gone away", "HY000", SQLExceptionClassifier.SERVER_GONE)));
+	}
+	
+	@Test
+	public void testIsTripErrorTimeout(){
+		assertTrue(CircuitBreaker.isTripError(new SQLException("Wrapped", new SQLTimeoutException("Timed out"))));
+	}
+	
+	@Test
+	public void testIsTripErrorPoolTimeout(){
+		assertFalse(CircuitBreaker.isTripError(new ConnectionPoolTimeoutException("Timed out waiting")));
+		assertFalse(CircuitBreaker.isTripError(
+				new SQLException("Wrapped", new ConnectionPoolTimeoutException("Timed out waiting"))));
+	}
+	
+	@Test
+	public void testIsPoolTimeout(){
+		assertTrue(CircuitBreaker.isPoolTimeout(new ConnectionPoolTimeoutException("Timed out waiting")));
+		assertFalse(CircuitBreaker.isPoolTimeout(new SQLTimeoutException("Query timed out")));
+	}
+	
+	@Test
+	public void testIsTripErrorLockContention(){
+		assertFalse(CircuitBreaker.isTripError(
+				new SQLException("Deadlock found", "HY000", SQLExceptionClassifier.DEADLOCK)));
+	}
+	
+	@Test
+	public void testIsTripErrorSyntax(){
+		assertFalse(CircuitBreaker.isTripError(SYNTAX_ERROR));
+	}
+}
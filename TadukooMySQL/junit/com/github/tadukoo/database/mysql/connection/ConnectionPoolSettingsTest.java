@@ -0,0 +1,145 @@
+package com.github.tadukoo.database.mysql.connection;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+public class ConnectionPoolSettingsTest{
+	private ConnectionPoolSettings settings;
+	
+	@BeforeEach
+	public void setup(){
+		settings = ConnectionPoolSettings.builder().build();
+	}
+	
+	@Test
+	public void testDefaultMinSize(){
+		assertEquals(0, settings.getMinSize());
+	}
+	
+	@Test
+	public void testSetMinSize(){
+		settings = ConnectionPoolSettings.builder().minSize(3).build();
+		assertEquals(3, settings.getMinSize());
+	}
+	
+	@Test
+	public void testDefaultMaxSize(){
+		assertEquals(10, settings.getMaxSize());
+	}
+	
+	@Test
+	public void testSetMaxSize(){
+		settings = ConnectionPoolSettings.builder().maxSize(42).build();
+		assertEquals(42, settings.getMaxSize());
+	}
+	
+	@Test
+	public void testDefaultIdleTimeout(){
+		assertEquals(Duration.ofMinutes(10), settings.getIdleTimeout());
+	}
+	
+	@Test
+	public void testSetIdleTimeout(){
+		settings = ConnectionPoolSettings.builder().idleTimeout(Duration.ofSeconds(7)).build();
+		assertEquals(Duration.ofSeconds(7), settings.getIdleTimeout());
+	}
+	
+	@Test
+	public void testDefaultMaxLifetime(){
+		assertEquals(Duration.ofMinutes(30), settings.getMaxLifetime());
+	}
+	
+	@Test
+	public void testSetMaxLifetime(){
+		settings = ConnectionPoolSettings.builder().maxLifetime(Duration.ofHours(1)).build();
+		assertEquals(Duration.ofHours(1), settings.getMaxLifetime());
+	}
+	
+	@Test
+	public void testDefaultValidateOnBorrow(){
+		assertTrue(settings.isValidateOnBorrow());
+	}
+	
+	@Test
+	public void testSetValidateOnBorrow(){
+		settings = ConnectionPoolSettings.builder().validateOnBorrow(false).build();
+		assertFalse(settings.isValidateOnBorrow());
+	}
+	
+	@Test
+	public void testDefaultValidationTimeout(){
+		assertEquals(Duration.ofSeconds(5), settings.getValidationTimeout());
+	}
+	
+	@Test
+	public void testSetValidationTimeout(){
+		settings = ConnectionPoolSettings.builder().validationTimeout(Duration.ofSeconds(2)).build();
+		assertEquals(Duration.ofSeconds(2), settings.getValidationTimeout());
+	}
+	
+	@Test
+	public void testDefaultBorrowTimeout(){
+		assertEquals(Duration.ofSeconds(30), settings.getBorrowTimeout());
+	}
+	
+	@Test
+	public void testSetBorrowTimeout(){
+		settings = ConnectionPoolSettings.builder().borrowTimeout(Duration.ofSeconds(1)).build();
+		assertEquals(Duration.ofSeconds(1), settings.getBorrowTimeout());
+	}
+	
+	@Test
+	public void testDefaultStatementCacheSize(){
+		assertEquals(250, settings.getStatementCacheSize());
+	}
+	
+	@Test
+	public void testSetStatementCacheSize(){
+		settings = ConnectionPoolSettings.builder().statementCacheSize(0).build();
+		assertEquals(0, settings.getStatementCacheSize());
+	}
+	
+	@Test
+	public void testMaxSizeLessThanMinSize(){
+		try{
+			settings = ConnectionPoolSettings.builder().minSize(5).maxSize(2).build();
+			fail();
+		}catch(IllegalArgumentException e){
+			assertEquals("Encountered errors in building ConnectionPoolSettings: \n" +
+					"maxSize can't be less than minSize!", e.getMessage());
+		}
+	}
+	
+	@Test
+	public void testAllErrors(){
+		try{
+			settings = ConnectionPoolSettings.builder()
+					.minSize(-1)
+					.maxSize(0)
+					.idleTimeout(null)
+					.maxLifetime(null)
+					.validationTimeout(Duration.ofSeconds(-1))
+					.borrowTimeout(null)
+					.statementCacheSize(-1)
+					.build();
+			fail();
+		}catch(IllegalArgumentException e){
+			assertEquals("""
+					Encountered errors in building ConnectionPoolSettings:\s
+					minSize can't be negative!
+					maxSize must be at least 1!
+					idleTimeout is required and can't be negative!
+					maxLifetime is required and can't be negative!
+					validationTimeout is required and can't be negative!
+					borrowTimeout is required and can't be negative!
+					statementCacheSize can't be negative!""", e.getMessage());
+		}
+	}
+}
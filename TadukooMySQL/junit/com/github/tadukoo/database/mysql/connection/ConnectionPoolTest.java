@@ -0,0 +1,269 @@
+package com.github.tadukoo.database.mysql.connection;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+public class ConnectionPoolTest{
+	private List<FakeConnection> opened;
+	private ConnectionPool pool;
+	
+	@BeforeEach
+	public void setup(){
+		opened = new ArrayList<>();
+		pool = makePool(ConnectionPoolSettings.builder()
+				.maxSize(2)
+				.borrowTimeout(Duration.ofMillis(50))
+				.build());
+	}
+	
+	private ConnectionPool makePool(ConnectionPoolSettings settings){
+		return new ConnectionPool(settings, () -> {
+			FakeConnection fake = new FakeConnection();
+			opened.add(fake);
+			return fake.connection;
+		});
+	}
+	
+	@Test
+	public void testGetConnectionDisablesAutoCommit() throws SQLException{
+		pool.getConnection();
+		assertEquals(1, opened.size());
+		assertFalse(opened.get(0).autoCommit);
+		assertEquals(1, pool.getTotalConnections());
+		assertEquals(1, pool.getBorrowedConnections());
+	}
+	
+	@Test
+	public void testReleasedConnectionIsReused() throws SQLException{
+		Connection conn = pool.getConnection();
+		pool.releaseConnection(conn, false);
+		assertEquals(1, pool.getIdleConnections());
+		assertSame(conn, pool.getConnection());
+		assertEquals(1, opened.size());
+	}
+	
+	@Test
+	public void testReleaseRollsBack() throws SQLException{
+		Connection conn = pool.getConnection();
+		pool.releaseConnection(conn, false);
+		assertEquals(1, opened.get(0).rollbacks);
+		assertFalse(opened.get(0).closed);
+	}
+	
+	@Test
+	public void testReleaseResetsAutoCommit() throws SQLException{
+		Connection conn = pool.getConnection();
+		conn.setAutoCommit(true);
+		pool.releaseConnection(conn, false);
+		assertFalse(opened.get(0).autoCommit);
+	}
+	
+	@Test
+	public void testDefaultResetAutoCommit(){
+		assertTrue(pool.isResetAutoCommit());
+	}
+	
+	@Test
+	public void testReleaseLeavesAutoCommit() throws SQLException{
+		pool = new ConnectionPool(ConnectionPoolSettings.builder().build(), () -> {
+			FakeConnection fake = new FakeConnection();
+			opened.add(fake);
+			return fake.connection;
+		}, false);
+		assertFalse(pool.isResetAutoCommit());
+		Connection conn = pool.getConnection();
+		conn.setAutoCommit(true);
+		pool.releaseConnection(conn, false);
+		assertTrue(opened.get(0).autoCommit);
+		assertEquals(0, opened.get(0).rollbacks);
+		assertSame(conn, pool.getConnection());
+	}
+	
+	@Test
+	public void testReleaseBrokenClosesConnection() throws SQLException{
+		Connection conn = pool.getConnection();
+		pool.releaseConnection(conn, true);
+		assertTrue(opened.get(0).closed);
+		assertEquals(0, pool.getTotalConnections());
+		assertNotSame(conn, pool.getConnection());
+	}
+	
+	@Test
+	public void testInvalidConnectionIsReplaced() throws SQLException{
+		Connection conn = pool.getConnection();
+		pool.releaseConnection(conn, false);
+		opened.get(0).valid = false;
+		assertNotSame(conn, pool.getConnection());
+		assertTrue(opened.get(0).closed);
+		assertEquals(1, pool.getTotalConnections());
+	}
+	
+	@Test
+	public void testNoValidationOnBorrow() throws SQLException{
+		pool = makePool(ConnectionPoolSettings.builder().validateOnBorrow(false).build());
+		Connection conn = pool.getConnection();
+		pool.releaseConnection(conn, false);
+		opened.get(0).valid = false;
+		assertSame(conn, pool.getConnection());
+	}
+	
+	@Test
+	public void testBorrowTimeout() throws SQLException{
+		pool.getConnection();
+		pool.getConnection();
+		try{
+			pool.getConnection();
+			fail();
+		}catch(SQLTimeoutException e){
+			assertTrue(e instanceof ConnectionPoolTimeoutException);
+			assertEquals("Timed out waiting for a connection from the pool after 50 ms", e.getMessage());
+		}
+	}
+	
+	@Test
+	public void testWaitsForReleasedConnection() throws Exception{
+		pool = makePool(ConnectionPoolSettings.builder().maxSize(1).borrowTimeout(Duration.ofSeconds(5)).build());
+		Connection conn = pool.getConnection();
+		Thread releaser = new Thread(() -> {
+			try{
+				Thread.sleep(20);
+			}catch(InterruptedException ignored){
+			}
+			pool.releaseConnection(conn, false);
+		});
+		releaser.start();
+		assertSame(conn, pool.getConnection());
+		releaser.join();
+	}
+	
+	@Test
+	public void testIdleTimeout() throws Exception{
+		pool = makePool(ConnectionPoolSettings.builder().idleTimeout(Duration.ofMillis(1)).build());
+		Connection conn = pool.getConnection();
+		pool.releaseConnection(conn, false);
+		Thread.sleep(10);
+		assertNotSame(conn, pool.getConnection());
+		assertTrue(opened.get(0).closed);
+	}
+	
+	@Test
+	public void testIdleTimeoutKeepsMinSize() throws Exception{
+		pool = makePool(ConnectionPoolSettings.builder().minSize(1).idleTimeout(Duration.ofMillis(1)).build());
+		Connection conn = pool.getConnection();
+		pool.releaseConnection(conn, false);
+		Thread.sleep(10);
+		assertSame(conn, pool.getConnection());
+	}
+	
+	@Test
+	public void testMaxLifetime() throws Exception{
+		pool = makePool(ConnectionPoolSettings.builder().maxLifetime(Duration.ofMillis(1)).build());
+		Connection conn = pool.getConnection();
+		Thread.sleep(10);
+		pool.releaseConnection(conn, false);
+		assertTrue(opened.get(0).closed);
+		assertEquals(0, pool.getTotalConnections());
+	}
+	
+	@Test
+	public void testWarmUp() throws SQLException{
+		pool = makePool(ConnectionPoolSettings.builder().minSize(2).build());
+		pool.warmUp();
+		assertEquals(2, opened.size());
+		assertEquals(2, pool.getIdleConnections());
+	}
+	
+	@Test
+	public void testFailedOpenFreesSlot(){
+		pool = new ConnectionPool(ConnectionPoolSettings.builder().maxSize(1).build(), () -> {
+			throw new SQLException("Nope");
+		});
+		for(int i = 0; i < 2; i++){
+			try{
+				pool.getConnection();
+				fail();
+			}catch(SQLException e){
+				assertEquals("Nope", e.getMessage());
+			}
+		}
+		assertEquals(0, pool.getTotalConnections());
+	}
+	
+	@Test
+	public void testClose() throws SQLException{
+		Connection idle = pool.getConnection();
+		Connection borrowed = pool.getConnection();
+		pool.releaseConnection(idle, false);
+		pool.close();
+		assertTrue(opened.get(0).closed);
+		assertFalse(opened.get(1).closed);
+		pool.releaseConnection(borrowed, false);
+		assertTrue(opened.get(1).closed);
+		try{
+			pool.getConnection();
+			fail();
+		}catch(SQLException e){
+			assertEquals("Connection pool is closed", e.getMessage());
+		}
+	}
+	
+	@Test
+	public void testEvictIdleConnections() throws SQLException{
+		Connection idle = pool.getConnection();
+		Connection borrowed = pool.getConnection();
+		pool.releaseConnection(idle, false);
+		pool.evictIdleConnections();
+		assertTrue(opened.get(0).closed);
+		assertFalse(opened.get(1).closed);
+		assertEquals(0, pool.getIdleConnections());
+		assertEquals(1, pool.getTotalConnections());
+		pool.releaseConnection(borrowed, false);
+		assertEquals(1, pool.getIdleConnections());
+	}
+	
+	@Test
+	public void testStatementCacheSurvivesRelease() throws SQLException{
+		Connection conn = pool.getConnection();
+		conn.prepareStatement("SELECT 1").close();
+		pool.releaseConnection(conn, false);
+		
+		conn = pool.getConnection();
+		conn.prepareStatement("SELECT 1").close();
+		assertEquals(1, opened.get(0).prepared.size());
+		assertEquals(1, pool.getStatementCacheStats().getHits());
+		assertEquals(1, pool.getStatementCacheStats().getMisses());
+	}
+	
+	@Test
+	public void testStatementCacheClosedWithConnection() throws SQLException{
+		Connection conn = pool.getConnection();
+		conn.prepareStatement("SELECT 1").close();
+		pool.releaseConnection(conn, true);
+		assertTrue(opened.get(0).closed);
+		assertTrue(opened.get(0).prepared.get(0).closed);
+	}
+	
+	@Test
+	public void testStatementCacheDisabled() throws SQLException{
+		pool = makePool(ConnectionPoolSettings.builder().statementCacheSize(0).build());
+		Connection conn = pool.getConnection();
+		assertSame(opened.get(0).connection, conn);
+		conn.prepareStatement("SELECT 1").close();
+		conn.prepareStatement("SELECT 1").close();
+		assertEquals(2, opened.get(0).prepared.size());
+	}
+}
@@ -0,0 +1,30 @@
+package com.github.tadukoo.database.mysql.connection;
+
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class DirectConnectionSourceTest{
+	
+	@Test
+	public void testGetConnection() throws SQLException{
+		FakeConnection fake = new FakeConnection();
+		DirectConnectionSource source = new DirectConnectionSource(() -> fake.connection);
+		assertSame(fake.connection, source.getConnection());
+		assertFalse(fake.autoCommit);
+	}
+	
+	@Test
+	public void testReleaseConnection() throws SQLException{
+		FakeConnection fake = new FakeConnection();
+		DirectConnectionSource source = new DirectConnectionSource(() -> fake.connection);
+		Connection conn = source.getConnection();
+		source.releaseConnection(conn, false);
+		assertTrue(fake.closed);
+	}
+}
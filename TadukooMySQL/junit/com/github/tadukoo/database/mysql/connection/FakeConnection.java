@@ -0,0 +1,92 @@
+package com.github.tadukoo.database.mysql.connection;
+
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+public class FakeConnection{
+	public boolean closed = false;
+	public boolean autoCommit = true;
+	public boolean valid = true;
+	public boolean readOnly = false;
+	public int isolation = Connection.TRANSACTION_REPEATABLE_READ;
+	public int settingChanges = 0;
+	public SQLException isolationError = null;
+	public int rollbacks = 0;
+	public int commits = 0;
+	public final List<FakePreparedStatement> prepared = new ArrayList<>();
+	public final List<FakePreparedStatement> created = new ArrayList<>();
+	public final List<Object> generatedKeys = new ArrayList<>();
+	public final List<Object> rows = new ArrayList<>();
+	public SQLException queryError = null;
+	public CountDownLatch blockQueriesUntilCancelled = null;
+	public final Connection connection;
+	
+	public FakeConnection(){
+		connection = (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+				new Class<?>[]{Connection.class}, (proxy, method, args) -> switch(method.getName()){
+					case "close" -> {
+						closed = true;
+						yield null;
+					}
+					case "isClosed" -> closed;
+					case "isValid" -> valid && !closed;
+					case "getAutoCommit" -> autoCommit;
+					case "setAutoCommit" -> {
+						autoCommit = (Boolean) args[0];
+						settingChanges++;
+						yield null;
+					}
+					case "isReadOnly" -> readOnly;
+					case "setReadOnly" -> {
+						readOnly = (Boolean) args[0];
+						settingChanges++;
+						yield null;
+					}
+					case "getTransactionIsolation" -> isolation;
+					case "setTransactionIsolation" -> {
+						if(isolationError != null){
+							throw isolationError;
+						}
+						isolation = (Integer) args[0];
+						settingChanges++;
+						yield null;
+					}
+					case "rollback" -> {
+						rollbacks++;
+						yield null;
+					}
+					case "commit" -> {
+						commits++;
+						yield null;
+					}
+					case "prepareStatement" -> {
+						FakePreparedStatement stmt = new FakePreparedStatement((String) args[0]);
+						stmt.generatedKeys.addAll(generatedKeys);
+						stmt.rows.addAll(rows);
+						stmt.queryError = queryError;
+						stmt.blockUntilCancelled = blockQueriesUntilCancelled;
+						if(args.length == 2){
+							stmt.autoGeneratedKeys = (Integer) args[1];
+						}else if(args.length == 3){
+							stmt.resultSetType = (Integer) args[1];
+						}
+						prepared.add(stmt);
+						yield stmt.statement;
+					}
+					case "createStatement" -> {
+						FakePreparedStatement stmt = new FakePreparedStatement(null);
+						stmt.generatedKeys.addAll(generatedKeys);
+						created.add(stmt);
+						yield stmt.statement;
+					}
+					case "hashCode" -> System.identityHashCode(proxy);
+					case "equals" -> proxy == args[0];
+					case "toString" -> "FakeConnection";
+					default -> throw new UnsupportedOperationException(method.getName());
+				});
+	}
+}
@@ -0,0 +1,160 @@
+package com.github.tadukoo.database.mysql.connection;
+
+import java.lang.reflect.Proxy;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+public class FakePreparedStatement{
+	public final String sql;
+	public boolean closed = false;
+	public int clearedParameters = 0;
+	public int executions = 0;
+	public int pendingBatch = 0;
+	public SQLException clearBatchError = null;
+	public final List<Integer> batches = new ArrayList<>();
+	public final List<String> batchedSQLs = new ArrayList<>();
+	public final List<String> executedSQLs = new ArrayList<>();
+	public final List<Object> generatedKeys = new ArrayList<>();
+	public boolean generatedKeysClosed = false;
+	public Integer autoGeneratedKeys = null;
+	public final List<Object> rows = new ArrayList<>();
+	public boolean resultSetClosed = false;
+	public Integer resultSetType = null;
+	public int fetchSize = 0;
+	public int queryTimeout = 0;
+	public int cancels = 0;
+	public SQLException queryError = null;
+	public CountDownLatch blockUntilCancelled = null;
+	private final CountDownLatch cancelled = new CountDownLatch(1);
+	public final PreparedStatement statement;
+	
+	public FakePreparedStatement(String sql){
+		this.sql = sql;
+		statement = (PreparedStatement) Proxy.newProxyInstance(PreparedStatement.class.getClassLoader(),
+				new Class<?>[]{PreparedStatement.class}, (proxy, method, args) -> switch(method.getName()){
+					case "close" -> {
+						closed = true;
+						yield null;
+					}
+					case "isClosed" -> closed;
+					case "clearParameters" -> {
+						clearedParameters++;
+						yield null;
+					}
+					case "executeUpdate" -> {
+						executions++;
+						if(args != null){
+							executedSQLs.add((String) args[0]);
+							if(args.length > 1){
+								autoGeneratedKeys = (Integer) args[1];
+							}
+						}
+						yield 1;
+					}
+					case "getGeneratedKeys" -> makeGeneratedKeys();
+					case "setFetchSize" -> {
+						fetchSize = (Integer) args[0];
+						yield null;
+					}
+					case "getQueryTimeout" -> queryTimeout;
+					case "setQueryTimeout" -> {
+						queryTimeout = (Integer) args[0];
+						yield null;
+					}
+					case "cancel" -> {
+						cancels++;
+						cancelled.countDown();
+						yield null;
+					}
+					case "executeQuery" -> {
+						executions++;
+						if(queryError != null){
+							throw queryError;
+						}
+						if(blockUntilCancelled != null){
+							blockUntilCancelled.countDown();
+							awaitCancel();
+							throw new SQLException("Query execution was interrupted", "70100", 1317);
+						}
+						yield makeResultSet();
+					}
+					case "addBatch" -> {
+						pendingBatch++;
+						if(args != null){
+							batchedSQLs.add((String) args[0]);
+						}
+						yield null;
+					}
+					case "clearBatch" -> {
+						if(clearBatchError != null){
+							throw clearBatchError;
+						}
+						pendingBatch = 0;
+						batchedSQLs.clear();
+						yield null;
+					}
+					case "executeBatch" -> {
+						int[] counts = new int[pendingBatch];
+						Arrays.fill(counts, 1);
+						batches.add(pendingBatch);
+						pendingBatch = 0;
+						yield counts;
+					}
+					case "hashCode" -> System.identityHashCode(proxy);
+					case "equals" -> proxy == args[0];
+					case "toString" -> "FakePreparedStatement";
+					default -> {
+						if(method.getName().startsWith("set")){
+							yield null;
+						}
+						throw new UnsupportedOperationException(method.getName());
+					}
+				});
+	}
+	
+	// Like a driver blocked on its socket, this doesn't stop waiting (or clear the flag) when interrupted
+	private void awaitCancel(){
+		while(cancelled.getCount() > 0){
+			LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(1));
+		}
+	}
+	
+	private ResultSet makeGeneratedKeys(){
+		int[] row = {0};
+		return (ResultSet) Proxy.newProxyInstance(ResultSet.class.getClassLoader(),
+				new Class<?>[]{ResultSet.class}, (proxy, method, args) -> switch(method.getName()){
+					case "next" -> ++row[0] <= generatedKeys.size();
+					case "getObject" -> generatedKeys.get(row[0] - 1);
+					case "close" -> {
+						generatedKeysClosed = true;
+						yield null;
+					}
+					case "hashCode" -> System.identityHashCode(proxy);
+					case "equals" -> proxy == args[0];
+					default -> throw new UnsupportedOperationException(method.getName());
+				});
+	}
+	
+	private ResultSet makeResultSet(){
+		int[] row = {0};
+		return (ResultSet) Proxy.newProxyInstance(ResultSet.class.getClassLoader(),
+				new Class<?>[]{ResultSet.class}, (proxy, method, args) -> switch(method.getName()){
+					case "next" -> ++row[0] <= rows.size();
+					case "getObject" -> rows.get(row[0] - 1);
+					case "close" -> {
+						resultSetClosed = true;
+						yield null;
+					}
+					case "hashCode" -> System.identityHashCode(proxy);
+					case "equals" -> proxy == args[0];
+					default -> throw new UnsupportedOperationException(method.getName());
+				});
+	}
+}
@@ -0,0 +1,195 @@
+package com.github.tadukoo.database.mysql.connection;
+
+import com.github.tadukoo.database.mysql.breaker.CircuitBreaker;
+import com.github.tadukoo.database.mysql.breaker.CircuitBreakerOpenException;
+import com.github.tadukoo.database.mysql.breaker.CircuitBreakerSettings;
+import com.github.tadukoo.database.mysql.breaker.CircuitState;
+import com.github.tadukoo.database.mysql.limit.ConcurrencyLimiter;
+import com.github.tadukoo.database.mysql.limit.ConcurrencyLimiterSettings;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+public class LimitedConnectionSourceTest{
+	private static final SQLException CONNECTION_ERROR = new SQLException("Could not connect", "08000", 0);
+	private FakeConnection fake;
+	private DirectConnectionSource direct;
+	private ConcurrencyLimiter laneLimiter;
+	private ConcurrencyLimiter limiter;
+	private CircuitBreaker breaker;
+	private LimitedConnectionSource source;
+	
+	@BeforeEach
+	public void setup(){
+		fake = new FakeConnection();
+		direct = new DirectConnectionSource(() -> fake.connection);
+		laneLimiter = new ConcurrencyLimiter(ConcurrencyLimiterSettings.builder()
+				.initialLimit(1)
+				.maxQueueSize(0)
+				.build());
+		limiter = new ConcurrencyLimiter(ConcurrencyLimiterSettings.builder().build());
+		breaker = new CircuitBreaker(CircuitBreakerSettings.builder()
+				.failureThreshold(1)
+				.openDuration(Duration.ofMinutes(1))
+				.build());
+		source = new LimitedConnectionSource(direct, Arrays.asList(laneLimiter, limiter), breaker, "Test",
+				Duration.ofMillis(2500));
+	}
+	
+	@Test
+	public void testGetSource(){
+		assertSame(direct, source.getSource());
+	}
+	
+	@Test
+	public void testHoldsLimitsWhileConnectionInUse() throws SQLException{
+		Connection conn = source.getConnection();
+		assertEquals(1, laneLimiter.getInFlight());
+		assertEquals(1, limiter.getInFlight());
+		assertFalse(fake.closed);
+		
+		source.releaseConnection(conn, false);
+		assertEquals(0, laneLimiter.getInFlight());
+		assertEquals(0, limiter.getInFlight());
+		assertTrue(fake.closed);
+	}
+	
+	@Test
+	public void testReleaseConnectionKeepsLimits() throws SQLException{
+		for(int i = 0; i < 5; i++){
+			source.releaseConnection(source.getConnection(), false);
+		}
+		assertEquals(1, laneLimiter.getLimit());
+		assertEquals(limiter.getSettings().getInitialLimit(), limiter.getLimit());
+	}
+	
+	@Test
+	public void testFailureNotOverloadKeepsLimits(){
+		SQLException syntaxError = new SQLException("Bad syntax", "42000", 1064);
+		source = new LimitedConnectionSource(new DirectConnectionSource(() -> {
+			throw syntaxError;
+		}), Arrays.asList(laneLimiter, limiter), breaker, "Test", null);
+		try{
+			source.getConnection();
+			fail();
+		}catch(SQLException e){
+			assertSame(syntaxError, e);
+			assertEquals(0, laneLimiter.getInFlight());
+			assertEquals(1, laneLimiter.getLimit());
+		}
+	}
+	
+	@Test
+	public void testReleaseConnectionTwice() throws SQLException{
+		Connection conn = source.getConnection();
+		source.releaseConnection(conn, false);
+		source.releaseConnection(conn, false);
+		assertEquals(0, laneLimiter.getInFlight());
+		assertEquals(0, limiter.getInFlight());
+	}
+	
+	@Test
+	public void testLaneLimitReached() throws SQLException{
+		source.getConnection();
+		try{
+			source.getConnection();
+			fail();
+		}catch(SQLException e){
+			assertEquals(1, laneLimiter.getInFlight());
+			assertEquals(1, limiter.getInFlight());
+		}
+	}
+	
+	@Test
+	public void testSkipsNullLimiters() throws SQLException{
+		source = new LimitedConnectionSource(direct, Arrays.asList(null, limiter), null, "Test", null);
+		Connection conn = source.getConnection();
+		assertEquals(1, limiter.getInFlight());
+		source.releaseConnection(conn, false);
+		assertEquals(0, limiter.getInFlight());
+	}
+	
+	@Test
+	public void testGuardsConnection() throws SQLException{
+		Connection conn = source.getConnection();
+		assertNotSame(fake.connection, conn);
+		conn.prepareStatement("SELECT 1");
+		assertEquals(3, fake.prepared.get(0).queryTimeout);
+	}
+	
+	@Test
+	public void testNoTimeout() throws SQLException{
+		source = new LimitedConnectionSource(direct, List.of(limiter), breaker, "Test", null);
+		Connection conn = source.getConnection();
+		conn.prepareStatement("SELECT 1");
+		assertEquals(0, fake.prepared.get(0).queryTimeout);
+	}
+	
+	@Test
+	public void testConnectionFailure(){
+		source = new LimitedConnectionSource(new DirectConnectionSource(() -> {
+			throw CONNECTION_ERROR;
+		}), Arrays.asList(laneLimiter, limiter), breaker, "Test", null);
+		try{
+			source.getConnection();
+			fail();
+		}catch(SQLException e){
+			assertSame(CONNECTION_ERROR, e);
+			assertEquals(0, laneLimiter.getInFlight());
+			assertEquals(0, limiter.getInFlight());
+			assertEquals(1, breaker.getConsecutiveFailures());
+		}
+	}
+	
+	@Test
+	public void testPoolTimeoutLeavesBreakerClosed(){
+		SQLException poolTimeout = new ConnectionPoolTimeoutException("Timed out waiting for a connection");
+		source = new LimitedConnectionSource(new DirectConnectionSource(() -> {
+			throw poolTimeout;
+		}), Arrays.asList(laneLimiter, limiter), breaker, "Test", null);
+		try{
+			source.getConnection();
+			fail();
+		}catch(SQLException e){
+			assertSame(poolTimeout, e);
+			assertEquals(CircuitState.CLOSED, breaker.getState());
+			assertEquals(0, breaker.getConsecutiveFailures());
+		}
+	}
+	
+	@Test
+	public void testBreakerOpen() throws SQLException{
+		breaker.acquire();
+		breaker.record(CONNECTION_ERROR);
+		try{
+			source.getConnection();
+			fail();
+		}catch(CircuitBreakerOpenException e){
+			assertEquals(0, laneLimiter.getInFlight());
+			assertEquals(0, limiter.getInFlight());
+			assertTrue(fake.prepared.isEmpty());
+		}
+	}
+	
+	@Test
+	public void testRecordsSuccessWithBreaker() throws SQLException{
+		breaker = new CircuitBreaker(CircuitBreakerSettings.builder().failureThreshold(2).build());
+		breaker.acquire();
+		breaker.record(CONNECTION_ERROR);
+		source = new LimitedConnectionSource(direct, List.of(limiter), breaker, "Test", null);
+		source.getConnection();
+		assertEquals(0, breaker.getConsecutiveFailures());
+	}
+}
@@ -0,0 +1,158 @@
+package com.github.tadukoo.database.mysql.connection;
+
+import com.github.tadukoo.util.ListUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+public class LoadBalancedConnectionSourceTest{
+	private FakeConnection first;
+	private FakeConnection second;
+	private DirectConnectionSource firstSource;
+	private DirectConnectionSource secondSource;
+	private LoadBalancedConnectionSource source;
+	
+	@BeforeEach
+	public void setup(){
+		first = new FakeConnection();
+		second = new FakeConnection();
+		firstSource = new DirectConnectionSource(() -> first.connection);
+		secondSource = new DirectConnectionSource(() -> second.connection);
+		source = new LoadBalancedConnectionSource(ListUtil.createList(firstSource, secondSource));
+	}
+	
+	@Test
+	public void testGetSources(){
+		assertEquals(ListUtil.createList(firstSource, secondSource), source.getSources());
+	}
+	
+	@Test
+	public void testNoSources(){
+		try{
+			new LoadBalancedConnectionSource(new ArrayList<>());
+			fail();
+		}catch(IllegalArgumentException e){
+			assertEquals("sources must contain at least one ConnectionSource!", e.getMessage());
+		}
+	}
+	
+	@Test
+	public void testGetConnectionTakesTurns() throws SQLException{
+		assertSame(first.connection, source.getConnection());
+		assertSame(second.connection, source.getConnection());
+		assertSame(first.connection, source.getConnection());
+	}
+	
+	@Test
+	public void testGetConnectionFallsBack() throws SQLException{
+		source = new LoadBalancedConnectionSource(ListUtil.createList(new DirectConnectionSource(() -> {
+			throw new SQLException("Replica down");
+		}), secondSource));
+		assertSame(second.connection, source.getConnection());
+		assertSame(second.connection, source.getConnection());
+	}
+	
+	@Test
+	public void testGetConnectionAllFail(){
+		source = new LoadBalancedConnectionSource(ListUtil.createList(
+				new DirectConnectionSource(() -> {
+					throw new SQLException("First down");
+				}),
+				new DirectConnectionSource(() -> {
+					throw new SQLException("Second down");
+				})));
+		try{
+			source.getConnection();
+			fail();
+		}catch(SQLException e){
+			assertEquals("Second down", e.getMessage());
+			assertEquals("First down", e.getSuppressed()[0].getMessage());
+		}
+	}
+	
+	@Test
+	public void testGetConnectionExcluding() throws SQLException{
+		assertSame(second.connection, source.getConnection(firstSource));
+		assertSame(second.connection, source.getConnection(firstSource));
+		assertSame(first.connection, source.getConnection(secondSource));
+	}
+	
+	@Test
+	public void testGetConnectionExcludingNull() throws SQLException{
+		assertSame(first.connection, source.getConnection(null));
+		assertSame(second.connection, source.getConnection(null));
+	}
+	
+	@Test
+	public void testGetConnectionExcludingOthersFail(){
+		source = new LoadBalancedConnectionSource(ListUtil.createList(firstSource, new DirectConnectionSource(() -> {
+			throw new SQLException("Second down");
+		})));
+		try{
+			source.getConnection(firstSource);
+			fail();
+		}catch(SQLException e){
+			assertEquals("Second down", e.getMessage());
+		}
+	}
+	
+	@Test
+	public void testGetConnectionExcludingOnlySource(){
+		source = new LoadBalancedConnectionSource(ListUtil.createList(firstSource));
+		try{
+			source.getConnection(firstSource);
+			fail();
+		}catch(SQLException e){
+			assertEquals("No ConnectionSource to grab a connection from besides the excluded one", e.getMessage());
+		}
+	}
+	
+	@Test
+	public void testGetSourceOf() throws SQLException{
+		Connection conn = source.getConnection();
+		assertSame(firstSource, source.getSourceOf(conn));
+		source.releaseConnection(conn, false);
+		assertNull(source.getSourceOf(conn));
+		assertNull(source.getSourceOf(null));
+	}
+	
+	@Test
+	public void testReleaseConnectionToItsSource() throws SQLException{
+		source.getConnection();
+		Connection conn = source.getConnection();
+		source.releaseConnection(conn, false);
+		assertTrue(second.closed);
+		assertFalse(first.closed);
+	}
+	
+	@Test
+	public void testEvictIdleConnections(){
+		AtomicInteger evictions = new AtomicInteger();
+		ConnectionSource evictingSource = new DirectConnectionSource(() -> first.connection){
+			@Override
+			public void evictIdleConnections(){
+				evictions.incrementAndGet();
+			}
+		};
+		source = new LoadBalancedConnectionSource(ListUtil.createList(evictingSource, evictingSource));
+		source.evictIdleConnections();
+		assertEquals(2, evictions.get());
+	}
+	
+	@Test
+	public void testReleaseUnknownConnection(){
+		source.releaseConnection(first.connection, false);
+		assertFalse(first.closed);
+	}
+}
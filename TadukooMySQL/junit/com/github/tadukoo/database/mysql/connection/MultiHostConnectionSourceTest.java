@@ -0,0 +1,310 @@
+package com.github.tadukoo.database.mysql.connection;
+
+import com.github.tadukoo.database.mysql.breaker.CircuitState;
+import com.github.tadukoo.util.ListUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+public class MultiHostConnectionSourceTest{
+	private FakeConnection first;
+	private FakeConnection second;
+	private boolean firstDown;
+	private boolean secondDown;
+	private int firstAttempts;
+	private ConnectionSource firstSource;
+	private ConnectionSource secondSource;
+	private MultiHostConnectionSource source;
+	
+	@BeforeEach
+	public void setup(){
+		first = new FakeConnection();
+		second = new FakeConnection();
+		firstDown = false;
+		secondDown = false;
+		firstAttempts = 0;
+		firstSource = new DirectConnectionSource(() -> {
+			firstAttempts++;
+			if(firstDown){
+				throw new SQLException("First down", "08000", 0);
+			}
+			return first.connection;
+		});
+		secondSource = new DirectConnectionSource(() -> {
+			if(secondDown){
+				throw new SQLException("Second down", "08000", 0);
+			}
+			return second.connection;
+		});
+		source = makeSource(HostStrategy.FAILOVER, Duration.ofMinutes(1));
+	}
+	
+	private MultiHostConnectionSource makeSource(HostStrategy strategy, Duration retryDelay){
+		return new MultiHostConnectionSource(ListUtil.createList(firstSource, secondSource), strategy, retryDelay);
+	}
+	
+	@Test
+	public void testGetSources(){
+		assertEquals(ListUtil.createList(firstSource, secondSource), source.getSources());
+	}
+	
+	@Test
+	public void testGetStrategy(){
+		assertEquals(HostStrategy.FAILOVER, source.getStrategy());
+	}
+	
+	@Test
+	public void testGetRetryDelay(){
+		assertEquals(Duration.ofMinutes(1), source.getRetryDelay());
+	}
+	
+	@Test
+	public void testDefaultRetryDelay(){
+		source = new MultiHostConnectionSource(ListUtil.createList(firstSource), HostStrategy.FAILOVER);
+		assertEquals(MultiHostConnectionSource.DEFAULT_RETRY_DELAY, source.getRetryDelay());
+	}
+	
+	@Test
+	public void testNoSources(){
+		try{
+			new MultiHostConnectionSource(new ArrayList<>(), HostStrategy.FAILOVER);
+			fail();
+		}catch(IllegalArgumentException e){
+			assertEquals("sources must contain at least one ConnectionSource!", e.getMessage());
+		}
+	}
+	
+	@Test
+	public void testNullStrategy(){
+		try{
+			new MultiHostConnectionSource(ListUtil.createList(firstSource), null);
+			fail();
+		}catch(IllegalArgumentException e){
+			assertEquals("strategy is required!", e.getMessage());
+		}
+	}
+	
+	@Test
+	public void testNegativeRetryDelay(){
+		try{
+			new MultiHostConnectionSource(ListUtil.createList(firstSource), HostStrategy.FAILOVER,
+					Duration.ofSeconds(-1));
+			fail();
+		}catch(IllegalArgumentException e){
+			assertEquals("retryDelay is required and can't be negative!", e.getMessage());
+		}
+	}
+	
+	@Test
+	public void testHostsStartUp(){
+		assertEquals(ListUtil.createList(CircuitState.CLOSED, CircuitState.CLOSED), source.getHostStates());
+	}
+	
+	@Test
+	public void testFailoverUsesFirstHost() throws SQLException{
+		assertSame(first.connection, source.getConnection());
+		assertSame(first.connection, source.getConnection());
+	}
+	
+	@Test
+	public void testFailoverFailsOver() throws SQLException{
+		firstDown = true;
+		assertSame(second.connection, source.getConnection());
+		assertEquals(ListUtil.createList(CircuitState.OPEN, CircuitState.CLOSED), source.getHostStates());
+	}
+	
+	@Test
+	public void testDownHostSkipped() throws SQLException{
+		firstDown = true;
+		source.getConnection();
+		source.getConnection();
+		assertEquals(1, firstAttempts);
+	}
+	
+	@Test
+	public void testFailoverReturnsToFirstHost() throws Exception{
+		source = makeSource(HostStrategy.FAILOVER, Duration.ofMillis(20));
+		firstDown = true;
+		assertSame(second.connection, source.getConnection());
+		firstDown = false;
+		Thread.sleep(25);
+		assertSame(first.connection, source.getConnection());
+		assertEquals(ListUtil.createList(CircuitState.CLOSED, CircuitState.CLOSED), source.getHostStates());
+	}
+	
+	@Test
+	public void testSequentialStaysOnHost() throws Exception{
+		source = makeSource(HostStrategy.SEQUENTIAL, Duration.ofMillis(20));
+		firstDown = true;
+		assertSame(second.connection, source.getConnection());
+		firstDown = false;
+		Thread.sleep(25);
+		assertSame(second.connection, source.getConnection());
+	}
+	
+	@Test
+	public void testLoadBalanceTakesTurns() throws SQLException{
+		source = makeSource(HostStrategy.LOAD_BALANCE, Duration.ofMinutes(1));
+		assertSame(first.connection, source.getConnection());
+		assertSame(second.connection, source.getConnection());
+		assertSame(first.connection, source.getConnection());
+	}
+	
+	@Test
+	public void testLoadBalanceSkipsDownHost() throws SQLException{
+		source = makeSource(HostStrategy.LOAD_BALANCE, Duration.ofMinutes(1));
+		firstDown = true;
+		assertSame(second.connection, source.getConnection());
+		assertSame(second.connection, source.getConnection());
+		assertSame(second.connection, source.getConnection());
+		assertEquals(1, firstAttempts);
+	}
+	
+	@Test
+	public void testAllHostsDownStillTried() throws SQLException{
+		firstDown = true;
+		secondDown = true;
+		try{
+			source.getConnection();
+			fail();
+		}catch(SQLException e){
+			assertEquals("Second down", e.getMessage());
+		}
+		firstDown = false;
+		assertSame(first.connection, source.getConnection());
+		assertEquals(2, firstAttempts);
+	}
+	
+	@Test
+	public void testAllHostsDown(){
+		firstDown = true;
+		secondDown = true;
+		try{
+			source.getConnection();
+			fail();
+		}catch(SQLException e){
+			assertEquals("Second down", e.getMessage());
+			assertEquals("First down", e.getSuppressed()[0].getMessage());
+		}
+	}
+	
+	@Test
+	public void testOtherErrorsDoNotMarkHostDown() throws SQLException{
+		source = new MultiHostConnectionSource(ListUtil.createList(new DirectConnectionSource(() -> {
+			throw new SQLException("Access denied", "28000", 1045);
+		}), secondSource), HostStrategy.FAILOVER);
+		assertSame(second.connection, source.getConnection());
+		assertEquals(ListUtil.createList(CircuitState.CLOSED, CircuitState.CLOSED), source.getHostStates());
+	}
+	
+	@Test
+	public void testTimeoutsDoNotMarkHostDown() throws SQLException{
+		AtomicInteger evictions = new AtomicInteger();
+		ConnectionSource busySource = new DirectConnectionSource(() -> {
+			throw new SQLTimeoutException("Timed out waiting for a connection from the pool after 10 ms");
+		}){
+			@Override
+			public void evictIdleConnections(){
+				evictions.incrementAndGet();
+			}
+		};
+		source = new MultiHostConnectionSource(ListUtil.createList(busySource, secondSource), HostStrategy.FAILOVER);
+		assertSame(second.connection, source.getConnection());
+		assertEquals(ListUtil.createList(CircuitState.CLOSED, CircuitState.CLOSED), source.getHostStates());
+		assertEquals(0, evictions.get());
+	}
+	
+	@Test
+	public void testDownHostIdleConnectionsEvicted() throws SQLException{
+		AtomicInteger evictions = new AtomicInteger();
+		ConnectionSource evictingSource = new DirectConnectionSource(() -> {
+			throw new SQLException("First down", "08000", 0);
+		}){
+			@Override
+			public void evictIdleConnections(){
+				evictions.incrementAndGet();
+			}
+		};
+		source = new MultiHostConnectionSource(ListUtil.createList(evictingSource, secondSource),
+				HostStrategy.FAILOVER);
+		source.getConnection();
+		assertEquals(1, evictions.get());
+	}
+	
+	@Test
+	public void testEvictIdleConnections(){
+		AtomicInteger evictions = new AtomicInteger();
+		ConnectionSource evictingSource = new DirectConnectionSource(() -> first.connection){
+			@Override
+			public void evictIdleConnections(){
+				evictions.incrementAndGet();
+			}
+		};
+		source = new MultiHostConnectionSource(ListUtil.createList(evictingSource, evictingSource),
+				HostStrategy.FAILOVER);
+		source.evictIdleConnections();
+		assertEquals(2, evictions.get());
+	}
+	
+	@Test
+	public void testReleaseToDownHostDiscards() throws SQLException{
+		Connection conn = source.getConnection();
+		firstDown = true;
+		source.getConnection();
+		source.releaseConnection(conn, false);
+		assertTrue(first.closed);
+	}
+	
+	@Test
+	public void testReleaseToHostDueToBeCheckedKeeps() throws Exception{
+		List<Boolean> released = new ArrayList<>();
+		firstSource = new DirectConnectionSource(() -> {
+			if(firstDown){
+				throw new SQLException("First down", "08000", 0);
+			}
+			return first.connection;
+		}){
+			@Override
+			public void releaseConnection(Connection connection, boolean broken){
+				released.add(broken);
+			}
+		};
+		source = makeSource(HostStrategy.FAILOVER, Duration.ofMillis(20));
+		Connection conn = source.getConnection();
+		firstDown = true;
+		source.getConnection();
+		Thread.sleep(25);
+		assertEquals(CircuitState.HALF_OPEN, source.getHostStates().get(0));
+		source.releaseConnection(conn, false);
+		assertEquals(ListUtil.createList(false), released);
+	}
+	
+	@Test
+	public void testReleaseConnectionToItsHost() throws SQLException{
+		source = makeSource(HostStrategy.LOAD_BALANCE, Duration.ofMinutes(1));
+		source.getConnection();
+		Connection conn = source.getConnection();
+		source.releaseConnection(conn, false);
+		assertTrue(second.closed);
+		assertFalse(first.closed);
+	}
+	
+	@Test
+	public void testReleaseUnknownConnection(){
+		source.releaseConnection(first.connection, false);
+		assertFalse(first.closed);
+	}
+}
@@ -0,0 +1,41 @@
+package com.github.tadukoo.database.mysql.connection;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class StatementCacheStatsTest{
+	private StatementCacheStats stats;
+	
+	@BeforeEach
+	public void setup(){
+		stats = new StatementCacheStats();
+	}
+	
+	@Test
+	public void testDefaultStats(){
+		assertEquals(0, stats.getHits());
+		assertEquals(0, stats.getMisses());
+		assertEquals(0, stats.getEvictions());
+	}
+	
+	@Test
+	public void testRecordHit(){
+		stats.recordHit();
+		stats.recordHit();
+		assertEquals(2, stats.getHits());
+	}
+	
+	@Test
+	public void testRecordMiss(){
+		stats.recordMiss();
+		assertEquals(1, stats.getMisses());
+	}
+	
+	@Test
+	public void testRecordEviction(){
+		stats.recordEviction();
+		assertEquals(1, stats.getEvictions());
+	}
+}
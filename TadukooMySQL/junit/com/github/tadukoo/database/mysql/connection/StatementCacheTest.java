@@ -0,0 +1,189 @@
+package com.github.tadukoo.database.mysql.connection;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+public class StatementCacheTest{
+	private final String sql = "SELECT * FROM Test WHERE id = ?";
+	private final String sql2 = "SELECT * FROM Test WHERE name = ?";
+	private final String sql3 = "SELECT * FROM Test WHERE other = ?";
+	private FakeConnection fake;
+	private StatementCacheStats stats;
+	private StatementCache cache;
+	private Connection conn;
+	
+	@BeforeEach
+	public void setup(){
+		fake = new FakeConnection();
+		stats = new StatementCacheStats();
+		cache = new StatementCache(fake.connection, 2, stats);
+		conn = cache.getConnection();
+	}
+	
+	@Test
+	public void testGetMaxSize(){
+		assertEquals(2, cache.getMaxSize());
+	}
+	
+	@Test
+	public void testPrepareMiss() throws SQLException{
+		conn.prepareStatement(sql);
+		assertEquals(1, fake.prepared.size());
+		assertEquals(1, cache.size());
+		assertEquals(1, stats.getMisses());
+		assertEquals(0, stats.getHits());
+	}
+	
+	@Test
+	public void testPrepareHit() throws SQLException{
+		conn.prepareStatement(sql).close();
+		conn.prepareStatement(sql);
+		assertEquals(1, fake.prepared.size());
+		assertEquals(1, stats.getMisses());
+		assertEquals(1, stats.getHits());
+	}
+	
+	@Test
+	public void testCloseKeepsStatementOpen() throws SQLException{
+		PreparedStatement stmt = conn.prepareStatement(sql);
+		stmt.close();
+		assertTrue(stmt.isClosed());
+		assertFalse(fake.prepared.get(0).closed);
+		assertEquals(1, fake.prepared.get(0).clearedParameters);
+	}
+	
+	@Test
+	public void testCloseResetsQueryTimeout() throws SQLException{
+		PreparedStatement stmt = conn.prepareStatement(sql);
+		stmt.setQueryTimeout(5);
+		assertEquals(5, fake.prepared.get(0).queryTimeout);
+		stmt.close();
+		assertEquals(0, fake.prepared.get(0).queryTimeout);
+	}
+	
+	@Test
+	public void testCloseClearsBatch() throws SQLException{
+		PreparedStatement stmt = conn.prepareStatement(sql);
+		stmt.addBatch();
+		stmt.addBatch();
+		stmt.close();
+		assertEquals(0, fake.prepared.get(0).pendingBatch);
+		
+		// The next user of the statement only sends its own rows
+		stmt = conn.prepareStatement(sql);
+		stmt.addBatch();
+		stmt.executeBatch();
+		assertEquals(1, fake.prepared.size());
+		assertEquals(1, fake.prepared.get(0).batches.get(0));
+	}
+	
+	@Test
+	public void testCloseDropsStatementThatCantBeReset() throws SQLException{
+		PreparedStatement stmt = conn.prepareStatement(sql);
+		stmt.addBatch();
+		fake.prepared.get(0).clearBatchError = new SQLException("Can't clear batch");
+		stmt.close();
+		assertTrue(fake.prepared.get(0).closed);
+		
+		// The next user gets a freshly prepared statement
+		conn.prepareStatement(sql);
+		assertEquals(2, fake.prepared.size());
+	}
+	
+	@Test
+	public void testClosedStatementCantBeUsed() throws SQLException{
+		PreparedStatement stmt = conn.prepareStatement(sql);
+		stmt.close();
+		try{
+			stmt.executeUpdate();
+			fail();
+		}catch(SQLException e){
+			assertEquals("Statement is closed", e.getMessage());
+		}
+	}
+	
+	@Test
+	public void testStatementDelegates() throws SQLException{
+		PreparedStatement stmt = conn.prepareStatement(sql);
+		stmt.executeUpdate();
+		assertEquals(1, fake.prepared.get(0).executions);
+		assertSame(conn, stmt.getConnection());
+	}
+	
+	@Test
+	public void testInUseStatementNotShared() throws SQLException{
+		PreparedStatement stmt = conn.prepareStatement(sql);
+		PreparedStatement stmt2 = conn.prepareStatement(sql);
+		assertEquals(2, fake.prepared.size());
+		assertEquals(1, cache.size());
+		assertEquals(2, stats.getMisses());
+		
+		// The uncached one is really closed
+		stmt2.close();
+		assertTrue(fake.prepared.get(1).closed);
+		stmt.close();
+		assertFalse(fake.prepared.get(0).closed);
+	}
+	
+	@Test
+	public void testLeastRecentlyUsedEvicted() throws SQLException{
+		conn.prepareStatement(sql).close();
+		conn.prepareStatement(sql2).close();
+		// Use the first again so the second is least recently used
+		conn.prepareStatement(sql).close();
+		conn.prepareStatement(sql3).close();
+		assertEquals(2, cache.size());
+		assertEquals(1, stats.getEvictions());
+		assertFalse(fake.prepared.get(0).closed);
+		assertTrue(fake.prepared.get(1).closed);
+		assertFalse(fake.prepared.get(2).closed);
+	}
+	
+	@Test
+	public void testEvictedInUseClosedOnRelease() throws SQLException{
+		PreparedStatement stmt = conn.prepareStatement(sql);
+		conn.prepareStatement(sql2).close();
+		conn.prepareStatement(sql3).close();
+		assertFalse(fake.prepared.get(0).closed);
+		stmt.close();
+		assertTrue(fake.prepared.get(0).closed);
+	}
+	
+	@Test
+	public void testDriverClosedStatementReplaced() throws SQLException{
+		conn.prepareStatement(sql).close();
+		fake.prepared.get(0).closed = true;
+		conn.prepareStatement(sql);
+		assertEquals(2, fake.prepared.size());
+		assertEquals(2, stats.getMisses());
+	}
+	
+	@Test
+	public void testCloseConnectionClosesStatements() throws SQLException{
+		conn.prepareStatement(sql).close();
+		conn.prepareStatement(sql2).close();
+		conn.close();
+		assertTrue(fake.closed);
+		assertTrue(fake.prepared.get(0).closed);
+		assertTrue(fake.prepared.get(1).closed);
+		assertEquals(0, cache.size());
+	}
+	
+	@Test
+	public void testConnectionDelegates() throws SQLException{
+		conn.setAutoCommit(false);
+		conn.commit();
+		assertFalse(fake.autoCommit);
+		assertEquals(1, fake.commits);
+	}
+}
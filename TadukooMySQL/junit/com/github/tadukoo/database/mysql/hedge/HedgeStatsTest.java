@@ -0,0 +1,37 @@
+package com.github.tadukoo.database.mysql.hedge;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class HedgeStatsTest{
+	private HedgeStats stats;
+	
+	@BeforeEach
+	public void setup(){
+		stats = new HedgeStats();
+	}
+	
+	@Test
+	public void testStartsEmpty(){
+		assertEquals(0, stats.getReads());
+		assertEquals(0, stats.getHedges());
+		assertEquals(0, stats.getHedgeWins());
+		assertEquals(0.0, stats.getHedgeRate());
+	}
+	
+	@Test
+	public void testRecord(){
+		stats.recordRead();
+		stats.recordRead();
+		stats.recordRead();
+		stats.recordRead();
+		stats.recordHedge();
+		stats.recordHedgeWin();
+		assertEquals(4, stats.getReads());
+		assertEquals(1, stats.getHedges());
+		assertEquals(1, stats.getHedgeWins());
+		assertEquals(0.25, stats.getHedgeRate());
+	}
+}
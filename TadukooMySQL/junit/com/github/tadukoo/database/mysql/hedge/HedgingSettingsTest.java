@@ -0,0 +1,104 @@
+package com.github.tadukoo.database.mysql.hedge;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.fail;
+
+public class HedgingSettingsTest{
+	private HedgingSettings settings;
+	
+	@BeforeEach
+	public void setup(){
+		settings = HedgingSettings.builder().build();
+	}
+	
+	@Test
+	public void testDefaultPercentile(){
+		assertEquals(0.95, settings.getPercentile());
+	}
+	
+	@Test
+	public void testSetPercentile(){
+		settings = HedgingSettings.builder().percentile(0.99).build();
+		assertEquals(0.99, settings.getPercentile());
+	}
+	
+	@Test
+	public void testDefaultSampleSize(){
+		assertEquals(1000, settings.getSampleSize());
+	}
+	
+	@Test
+	public void testSetSampleSize(){
+		settings = HedgingSettings.builder().sampleSize(100).build();
+		assertEquals(100, settings.getSampleSize());
+	}
+	
+	@Test
+	public void testDefaultMinSamples(){
+		assertEquals(20, settings.getMinSamples());
+	}
+	
+	@Test
+	public void testSetMinSamples(){
+		settings = HedgingSettings.builder().minSamples(50).build();
+		assertEquals(50, settings.getMinSamples());
+	}
+	
+	@Test
+	public void testDefaultInitialDelay(){
+		assertEquals(Duration.ofMillis(50), settings.getInitialDelay());
+	}
+	
+	@Test
+	public void testSetInitialDelay(){
+		settings = HedgingSettings.builder().initialDelay(Duration.ofMillis(10)).build();
+		assertEquals(Duration.ofMillis(10), settings.getInitialDelay());
+	}
+	
+	@Test
+	public void testMinSamplesAboveSampleSize(){
+		try{
+			settings = HedgingSettings.builder().sampleSize(10).minSamples(11).build();
+			fail();
+		}catch(IllegalArgumentException e){
+			assertEquals("Encountered errors in building HedgingSettings: \n" +
+					"minSamples must be between 1 and sampleSize!", e.getMessage());
+		}
+	}
+	
+	@Test
+	public void testNullInitialDelay(){
+		try{
+			settings = HedgingSettings.builder().initialDelay(null).build();
+			fail();
+		}catch(IllegalArgumentException e){
+			assertEquals("Encountered errors in building HedgingSettings: \n" +
+					"initialDelay is required and can't be negative!", e.getMessage());
+		}
+	}
+	
+	@Test
+	public void testAllErrors(){
+		try{
+			settings = HedgingSettings.builder()
+					.percentile(1)
+					.sampleSize(0)
+					.minSamples(0)
+					.initialDelay(Duration.ofMillis(-1))
+					.build();
+			fail();
+		}catch(IllegalArgumentException e){
+			assertEquals("""
+					Encountered errors in building HedgingSettings:\s
+					percentile must be between 0 and 1!
+					sampleSize must be at least 1!
+					minSamples must be between 1 and sampleSize!
+					initialDelay is required and can't be negative!""", e.getMessage());
+		}
+	}
+}
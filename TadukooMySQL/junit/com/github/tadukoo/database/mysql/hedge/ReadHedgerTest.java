@@ -0,0 +1,217 @@
+package com.github.tadukoo.database.mysql.hedge;
+
+import com.github.tadukoo.database.mysql.transaction.Deadline;
+import com.github.tadukoo.database.mysql.transaction.TransactionGuard;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+public class ReadHedgerTest{
+	private ExecutorService executor;
+	private HedgingSettings settings;
+	private ReadHedger hedger;
+	private TransactionGuard guard;
+	private List<TransactionGuard> copyGuards;
+	
+	@BeforeEach
+	public void setup(){
+		executor = Executors.newFixedThreadPool(4);
+		settings = HedgingSettings.builder()
+				.sampleSize(100)
+				.minSamples(10)
+				.percentile(0.9)
+				.initialDelay(Duration.ofMillis(20))
+				.build();
+		hedger = new ReadHedger(settings, executor);
+		guard = new TransactionGuard("Test", Deadline.none());
+		copyGuards = new CopyOnWriteArrayList<>();
+	}
+	
+	@AfterEach
+	public void tearDown(){
+		executor.shutdownNow();
+	}
+	
+	private static String waitForCancel(TransactionGuard copyGuard) throws SQLException{
+		while(!copyGuard.isCancelled()){
+			try{
+				Thread.sleep(1);
+			}catch(InterruptedException e){
+				throw new SQLException("Interrupted", e);
+			}
+		}
+		throw new SQLException("Cancelled");
+	}
+	
+	@Test
+	public void testGetSettings(){
+		assertSame(settings, hedger.getSettings());
+	}
+	
+	@Test
+	public void testInitialHedgeDelay(){
+		assertEquals(Duration.ofMillis(20), hedger.getHedgeDelay());
+	}
+	
+	@Test
+	public void testHedgeDelayNeedsMinSamples(){
+		for(int i = 1; i <= 9; i++){
+			hedger.recordLatency(Duration.ofMillis(i).toNanos());
+		}
+		assertEquals(Duration.ofMillis(20), hedger.getHedgeDelay());
+	}
+	
+	@Test
+	public void testHedgeDelayFromPercentile(){
+		for(int i = 10; i >= 1; i--){
+			hedger.recordLatency(Duration.ofMillis(i).toNanos());
+		}
+		assertEquals(Duration.ofMillis(9), hedger.getHedgeDelay());
+	}
+	
+	@Test
+	public void testHedgeDelayUsesRecentSamples(){
+		for(int i = 0; i < 100; i++){
+			hedger.recordLatency(Duration.ofMillis(50).toNanos());
+		}
+		for(int i = 0; i < 100; i++){
+			hedger.recordLatency(Duration.ofMillis(5).toNanos());
+		}
+		assertEquals(Duration.ofMillis(5), hedger.getHedgeDelay());
+	}
+	
+	@Test
+	public void testFastRead() throws SQLException{
+		String result = hedger.execute(guard, copyGuard -> {
+			copyGuards.add(copyGuard);
+			return "Result";
+		});
+		assertEquals("Result", result);
+		assertEquals(1, copyGuards.size());
+		assertNull(copyGuards.get(0).getHedgeOf());
+		assertEquals(1, hedger.getStats().getReads());
+		assertEquals(0, hedger.getStats().getHedges());
+	}
+	
+	@Test
+	public void testFastFailure(){
+		try{
+			hedger.execute(guard, copyGuard -> {
+				copyGuards.add(copyGuard);
+				throw new SQLException("Failed");
+			});
+			fail();
+		}catch(SQLException e){
+			assertEquals("Failed", e.getMessage());
+			assertEquals(1, copyGuards.size());
+			assertEquals(0, hedger.getStats().getHedges());
+		}
+	}
+	
+	@Test
+	public void testSlowReadIsHedged() throws SQLException{
+		String result = hedger.execute(guard, copyGuard -> {
+			copyGuards.add(copyGuard);
+			return copyGuards.size() == 1?waitForCancel(copyGuard):"Hedge";
+		});
+		assertEquals("Hedge", result);
+		assertEquals(2, copyGuards.size());
+		assertTrue(copyGuards.get(0).isCancelled());
+		assertFalse(copyGuards.get(1).isCancelled());
+		assertNull(copyGuards.get(0).getHedgeOf());
+		assertSame(copyGuards.get(0), copyGuards.get(1).getHedgeOf());
+		assertEquals(1, hedger.getStats().getHedges());
+		assertEquals(1, hedger.getStats().getHedgeWins());
+		assertEquals(1.0, hedger.getStats().getHedgeRate());
+		assertEquals(1, hedger.getNumLatencies());
+	}
+	
+	@Test
+	public void testOriginalFinishingAfterHedgeWinsRecordedOnce() throws SQLException, InterruptedException{
+		String result = hedger.execute(guard, copyGuard -> {
+			copyGuards.add(copyGuard);
+			if(copyGuards.size() == 1){
+				// Ignore being cancelled and finish anyway
+				while(!copyGuard.isCancelled()){
+					Thread.onSpinWait();
+				}
+				return "Original";
+			}
+			return "Hedge";
+		});
+		assertEquals("Hedge", result);
+		executor.shutdown();
+		assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+		assertEquals(1, hedger.getNumLatencies());
+	}
+	
+	@Test
+	public void testOriginalWinsAfterHedge() throws SQLException{
+		String result = hedger.execute(guard, copyGuard -> {
+			copyGuards.add(copyGuard);
+			if(copyGuards.size() == 1){
+				while(copyGuards.size() == 1){
+					Thread.onSpinWait();
+				}
+				return "Original";
+			}
+			return waitForCancel(copyGuard);
+		});
+		assertEquals("Original", result);
+		assertFalse(copyGuards.get(0).isCancelled());
+		assertTrue(copyGuards.get(1).isCancelled());
+		assertEquals(1, hedger.getStats().getHedges());
+		assertEquals(0, hedger.getStats().getHedgeWins());
+	}
+	
+	@Test
+	public void testBothFail(){
+		try{
+			hedger.execute(guard, copyGuard -> {
+				copyGuards.add(copyGuard);
+				if(copyGuards.size() == 1){
+					while(copyGuards.size() == 1){
+						Thread.onSpinWait();
+					}
+					throw new SQLException("Original failed");
+				}
+				throw new SQLException("Hedge failed");
+			});
+			fail();
+		}catch(SQLException e){
+			assertEquals("Original failed", e.getMessage());
+			assertEquals(1, e.getSuppressed().length);
+			assertEquals("Hedge failed", e.getSuppressed()[0].getMessage());
+		}
+	}
+	
+	@Test
+	public void testCancelCancelsCopies(){
+		guard.cancel();
+		try{
+			hedger.execute(guard, copyGuard -> {
+				copyGuards.add(copyGuard);
+				return waitForCancel(copyGuard);
+			});
+			fail();
+		}catch(SQLException e){
+			assertEquals("Cancelled", e.getMessage());
+			assertTrue(copyGuards.get(0).isCancelled());
+		}
+	}
+}
@@ -0,0 +1,155 @@
+package com.github.tadukoo.database.mysql.limit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.fail;
+
+public class ConcurrencyLimiterSettingsTest{
+	private ConcurrencyLimiterSettings settings;
+	
+	@BeforeEach
+	public void setup(){
+		settings = ConcurrencyLimiterSettings.builder().build();
+	}
+	
+	@Test
+	public void testDefaultInitialLimit(){
+		assertEquals(20, settings.getInitialLimit());
+	}
+	
+	@Test
+	public void testSetInitialLimit(){
+		settings = ConcurrencyLimiterSettings.builder().initialLimit(5).build();
+		assertEquals(5, settings.getInitialLimit());
+	}
+	
+	@Test
+	public void testDefaultMinLimit(){
+		assertEquals(1, settings.getMinLimit());
+	}
+	
+	@Test
+	public void testSetMinLimit(){
+		settings = ConcurrencyLimiterSettings.builder().minLimit(4).build();
+		assertEquals(4, settings.getMinLimit());
+	}
+	
+	@Test
+	public void testDefaultMaxLimit(){
+		assertEquals(200, settings.getMaxLimit());
+	}
+	
+	@Test
+	public void testSetMaxLimit(){
+		settings = ConcurrencyLimiterSettings.builder().maxLimit(50).build();
+		assertEquals(50, settings.getMaxLimit());
+	}
+	
+	@Test
+	public void testDefaultBackoffRatio(){
+		assertEquals(0.9, settings.getBackoffRatio());
+	}
+	
+	@Test
+	public void testSetBackoffRatio(){
+		settings = ConcurrencyLimiterSettings.builder().backoffRatio(0.5).build();
+		assertEquals(0.5, settings.getBackoffRatio());
+	}
+	
+	@Test
+	public void testDefaultSlowLatency(){
+		assertEquals(Duration.ofSeconds(1), settings.getSlowLatency());
+	}
+	
+	@Test
+	public void testSetSlowLatency(){
+		settings = ConcurrencyLimiterSettings.builder().slowLatency(Duration.ofMillis(250)).build();
+		assertEquals(Duration.ofMillis(250), settings.getSlowLatency());
+	}
+	
+	@Test
+	public void testDefaultMaxQueueSize(){
+		assertEquals(100, settings.getMaxQueueSize());
+	}
+	
+	@Test
+	public void testSetMaxQueueSize(){
+		settings = ConcurrencyLimiterSettings.builder().maxQueueSize(0).build();
+		assertEquals(0, settings.getMaxQueueSize());
+	}
+	
+	@Test
+	public void testDefaultQueueTimeout(){
+		assertEquals(Duration.ofSeconds(5), settings.getQueueTimeout());
+	}
+	
+	@Test
+	public void testSetQueueTimeout(){
+		settings = ConcurrencyLimiterSettings.builder().queueTimeout(Duration.ofSeconds(2)).build();
+		assertEquals(Duration.ofSeconds(2), settings.getQueueTimeout());
+	}
+	
+	@Test
+	public void testMaxLimitLessThanMinLimit(){
+		try{
+			settings = ConcurrencyLimiterSettings.builder().minLimit(5).maxLimit(2).initialLimit(3).build();
+			fail();
+		}catch(IllegalArgumentException e){
+			assertEquals("Encountered errors in building ConcurrencyLimiterSettings: \n" +
+					"maxLimit can't be less than minLimit!\n" +
+					"initialLimit must be between minLimit and maxLimit!", e.getMessage());
+		}
+	}
+	
+	@Test
+	public void testInitialLimitAboveMaxLimit(){
+		try{
+			settings = ConcurrencyLimiterSettings.builder().maxLimit(10).build();
+			fail();
+		}catch(IllegalArgumentException e){
+			assertEquals("Encountered errors in building ConcurrencyLimiterSettings: \n" +
+					"initialLimit must be between minLimit and maxLimit!", e.getMessage());
+		}
+	}
+	
+	@Test
+	public void testBackoffRatioOfOne(){
+		try{
+			settings = ConcurrencyLimiterSettings.builder().backoffRatio(1).build();
+			fail();
+		}catch(IllegalArgumentException e){
+			assertEquals("Encountered errors in building ConcurrencyLimiterSettings: \n" +
+					"backoffRatio must be between 0 and 1!", e.getMessage());
+		}
+	}
+	
+	@Test
+	public void testAllErrors(){
+		try{
+			settings = ConcurrencyLimiterSettings.builder()
+					.minLimit(0)
+					.maxLimit(-1)
+					.initialLimit(-2)
+					.backoffRatio(0)
+					.slowLatency(null)
+					.queueTimeout(Duration.ofSeconds(-1))
+					.maxQueueSize(-1)
+					.build();
+			fail();
+		}catch(IllegalArgumentException e){
+			assertEquals("""
+					Encountered errors in building ConcurrencyLimiterSettings:\s
+					minLimit must be at least 1!
+					maxLimit can't be less than minLimit!
+					initialLimit must be between minLimit and maxLimit!
+					backoffRatio must be between 0 and 1!
+					slowLatency is required and can't be negative!
+					queueTimeout is required and can't be negative!
+					maxQueueSize can't be negative!""", e.getMessage());
+		}
+	}
+}
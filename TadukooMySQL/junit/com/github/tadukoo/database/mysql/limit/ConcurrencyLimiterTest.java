@@ -0,0 +1,236 @@
+package com.github.tadukoo.database.mysql.limit;
+
+import com.github.tadukoo.database.mysql.retry.SQLExceptionClassifier;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+public class ConcurrencyLimiterTest{
+	private static final long FAST = TimeUnit.MILLISECONDS.toNanos(1);
+	private static final long SLOW = TimeUnit.SECONDS.toNanos(2);
+	private ConcurrencyLimiterSettings settings;
+	private ConcurrencyLimiter limiter;
+	
+	@BeforeEach
+	public void setup(){
+		settings = ConcurrencyLimiterSettings.builder()
+				.initialLimit(2)
+				.minLimit(1)
+				.maxLimit(3)
+				.backoffRatio(0.5)
+				.queueTimeout(Duration.ofMillis(20))
+				.build();
+		limiter = new ConcurrencyLimiter(settings);
+	}
+	
+	@Test
+	public void testGetSettings(){
+		assertEquals(settings, limiter.getSettings());
+	}
+	
+	@Test
+	public void testStartsAtInitialLimit(){
+		assertEquals(2, limiter.getLimit());
+		assertEquals(0, limiter.getInFlight());
+		assertEquals(0, limiter.getQueueDepth());
+	}
+	
+	@Test
+	public void testAcquireAndRelease() throws SQLException{
+		limiter.acquire();
+		limiter.acquire();
+		assertEquals(2, limiter.getInFlight());
+		limiter.release(FAST, false);
+		assertEquals(1, limiter.getInFlight());
+		limiter.release(FAST, false);
+		assertEquals(0, limiter.getInFlight());
+	}
+	
+	@Test
+	public void testRejectWhenQueueFull() throws SQLException{
+		limiter = new ConcurrencyLimiter(ConcurrencyLimiterSettings.builder()
+				.initialLimit(1)
+				.maxQueueSize(0)
+				.build());
+		limiter.acquire();
+		try{
+			limiter.acquire();
+			fail();
+		}catch(ConcurrencyLimitExceededException e){
+			assertEquals("Rejected transaction: 0 transactions are already waiting on the concurrency limit of 1",
+					e.getMessage());
+			assertEquals(1, limiter.getInFlight());
+		}
+	}
+	
+	@Test
+	public void testQueueTimeout() throws SQLException{
+		limiter.acquire();
+		limiter.acquire();
+		try{
+			limiter.acquire();
+			fail();
+		}catch(ConcurrencyLimitExceededException e){
+			assertEquals("Timed out waiting on the concurrency limit after 20 ms", e.getMessage());
+			assertEquals(2, limiter.getInFlight());
+			assertEquals(0, limiter.getQueueDepth());
+		}
+	}
+	
+	@Test
+	public void testQueuedAcquireLetInOnRelease() throws Exception{
+		limiter = new ConcurrencyLimiter(ConcurrencyLimiterSettings.builder().initialLimit(1).build());
+		limiter.acquire();
+		CountDownLatch acquired = new CountDownLatch(1);
+		AtomicReference<SQLException> error = new AtomicReference<>();
+		Thread waiter = new Thread(() -> {
+			try{
+				limiter.acquire();
+				acquired.countDown();
+			}catch(SQLException e){
+				error.set(e);
+			}
+		});
+		waiter.start();
+		while(limiter.getQueueDepth() == 0){
+			Thread.onSpinWait();
+		}
+		limiter.release(FAST, false);
+		assertTrue(acquired.await(5, TimeUnit.SECONDS));
+		waiter.join();
+		assertNull(error.get());
+		assertEquals(1, limiter.getInFlight());
+		assertEquals(0, limiter.getQueueDepth());
+	}
+	
+	@Test
+	public void testBackoffOnOverload() throws SQLException{
+		limiter.acquire();
+		limiter.acquire();
+		limiter.release(FAST, true);
+		assertEquals(1, limiter.getLimit());
+	}
+	
+	@Test
+	public void testBackoffOnSlowLatency() throws SQLException{
+		limiter.acquire();
+		limiter.acquire();
+		limiter.release(SLOW, false);
+		assertEquals(1, limiter.getLimit());
+	}
+	
+	@Test
+	public void testBackoffStopsAtMinLimit() throws SQLException{
+		for(int i = 0; i < 5; i++){
+			limiter.acquire();
+			limiter.release(FAST, true);
+		}
+		assertEquals(1, limiter.getLimit());
+	}
+	
+	@Test
+	public void testGrowsWhenUsed() throws SQLException{
+		// Each fast release while the limit is in use adds 1 / limit (2 -> 2.5 -> 2.9 -> 3.24)
+		for(int i = 0; i < 3; i++){
+			limiter.acquire();
+			limiter.acquire();
+			limiter.release(FAST, false);
+			limiter.release(FAST, false);
+		}
+		assertEquals(3, limiter.getLimit());
+	}
+	
+	@Test
+	public void testDoesNotGrowWhenIdle() throws SQLException{
+		limiter = new ConcurrencyLimiter(ConcurrencyLimiterSettings.builder().initialLimit(10).build());
+		for(int i = 0; i < 100; i++){
+			limiter.acquire();
+			limiter.release(FAST, false);
+		}
+		assertEquals(10, limiter.getLimit());
+	}
+	
+	@Test
+	public void testReleaseWithoutSample() throws SQLException{
+		for(int i = 0; i < 3; i++){
+			limiter.acquire();
+			limiter.acquire();
+			limiter.releaseWithoutSample();
+			limiter.releaseWithoutSample();
+		}
+		assertEquals(2, limiter.getLimit());
+		assertEquals(0, limiter.getInFlight());
+	}
+	
+	@Test
+	public void testReleaseWithoutSampleLetsInQueued() throws Exception{
+		limiter = new ConcurrencyLimiter(ConcurrencyLimiterSettings.builder().initialLimit(1).build());
+		limiter.acquire();
+		CountDownLatch acquired = new CountDownLatch(1);
+		AtomicReference<SQLException> error = new AtomicReference<>();
+		Thread waiter = new Thread(() -> {
+			try{
+				limiter.acquire();
+				acquired.countDown();
+			}catch(SQLException e){
+				error.set(e);
+			}
+		});
+		waiter.start();
+		while(limiter.getQueueDepth() == 0){
+			Thread.onSpinWait();
+		}
+		limiter.releaseWithoutSample();
+		assertTrue(acquired.await(5, TimeUnit.SECONDS));
+		waiter.join();
+		assertNull(error.get());
+		assertEquals(1, limiter.getInFlight());
+		assertEquals(1, limiter.getLimit());
+	}
+	
+	@Test
+	public void testGrowthStopsAtMaxLimit() throws SQLException{
+		for(int i = 0; i < 20; i++){
+			limiter.acquire();
+			limiter.acquire();
+			limiter.release(FAST, false);
+			limiter.release(FAST, false);
+		}
+		assertEquals(3, limiter.getLimit());
+	}
+	
+	@Test
+	public void testIsOverloadErrorLockContention(){
+		assertTrue(ConcurrencyLimiter.isOverloadError(
+				new SQLException("Deadlock found", "HY000", SQLExceptionClassifier.DEADLOCK)));
+	}
+	
+	@Test
+	public void testIsOverloadErrorConnection(){
+		assertTrue(ConcurrencyLimiter.isOverloadError(new SQLException("Could not connect", "08000", 0)));
+	}
+	
+	@Test
+	public void testIsOverloadErrorTimeout(){
+		assertTrue(ConcurrencyLimiter.isOverloadError(
+				new SQLException("Wrapped", new SQLTimeoutException("Timed out waiting for a connection"))));
+	}
+	
+	@Test
+	public void testIsOverloadErrorSyntax(){
+		assertFalse(ConcurrencyLimiter.isOverloadError(
+				new SQLException("You have an error in your SQL syntax", "42000", 1064)));
+	}
+}
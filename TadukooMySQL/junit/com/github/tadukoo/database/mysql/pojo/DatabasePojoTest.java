@@ -2,6 +2,7 @@ package com.github.tadukoo.database.mysql.pojo;
 
 import com.github.tadukoo.database.mysql.CommonResultSetConverters;
 import com.github.tadukoo.database.mysql.DatabaseConnectionTest;
+import com.github.tadukoo.database.mysql.KeysetPager;
 import com.github.tadukoo.database.mysql.syntax.ColumnDefinition;
 import com.github.tadukoo.database.mysql.syntax.ForeignKeyConstraint;
 import com.github.tadukoo.database.mysql.syntax.conditional.Conditional;
@@ -70,7 +71,7 @@ public class DatabasePojoTest extends DatabaseConnectionTest{
 		
 		@Override
 		public void setDefaultColumnDefs(){
-		
+			
 		}
 	}
 	
@@ -970,6 +971,241 @@ public class DatabasePojoTest extends DatabaseConnectionTest{
 		assertEquals(42, pojo.getItem(other.getColumnName()));
 	}
 	
+	@Test
+	public void testUpsertInsert() throws SQLException{
+		ColumnDefinition id = ColumnDefinition.builder()
+				.columnName(idColName)
+				.integer()
+				.defaultSize()
+				.primaryKey()
+				.autoIncrement()
+				.build();
+		ColumnDefinition other = ColumnDefinition.builder()
+				.columnName("Derp")
+				.integer()
+				.defaultSize()
+				.build();
+		
+		// Create the table
+		db.executeUpdate("Create table",
+				SQLCreateStatement.builder()
+						.table()
+						.tableName(pojo.getTableName())
+						.columns(id, other)
+						.build()
+						.toString());
+		
+		// Setup the pojo properly
+		pojo.addColumnDef(id);
+		pojo.addColumnDef(other);
+		pojo.setItem("Derp", 42);
+		
+		// Do the upsert
+		assertEquals(1, pojo.upsert(db));
+		
+		assertNotNull(pojo.getItem(pojo.getIDColumnName()));
+		int result = db.executeQuery("Get Value", SQLSelectStatement.builder()
+						.returnColumns(ColumnRef.builder().columnName(other.getColumnName()).build())
+						.fromTables(TableRef.builder().tableName(pojo.getTableName()).build())
+						.whereStatement(Conditional.builder()
+								.firstCondStmt(ConditionalStatement.builder()
+										.column(ColumnRef.builder().columnName(pojo.getIDColumnName()).build())
+										.operator(SQLOperator.EQUAL)
+										.value(pojo.getItem(pojo.getIDColumnName()))
+										.build()
+								)
+								.build())
+						.build()
+						.toString(),
+				CommonResultSetConverters::singleInteger);
+		assertEquals(42, result);
+		
+		// Drop the table
+		db.executeUpdate("Drop table",
+				SQLDropStatement.builder()
+						.table()
+						.name(pojo.getTableName())
+						.build()
+						.toString());
+		
+		// Check value
+		assertEquals(42, pojo.getItem(other.getColumnName()));
+	}
+	
+	@Test
+	public void testUpsertUpdate() throws SQLException{
+		ColumnDefinition id = ColumnDefinition.builder()
+				.columnName(idColName)
+				.integer()
+				.defaultSize()
+				.primaryKey()
+				.autoIncrement()
+				.build();
+		ColumnDefinition other = ColumnDefinition.builder()
+				.columnName("Derp")
+				.integer()
+				.defaultSize()
+				.build();
+		
+		// Create the table and insert a row
+		db.executeUpdate("Create table",
+				SQLCreateStatement.builder()
+						.table()
+						.tableName(pojo.getTableName())
+						.columns(id, other)
+						.build()
+						.toString());
+		db.insert(pojo.getTableName(), ListUtil.createList(other.getColumnName()), ListUtil.createList(14));
+		db.insert(pojo.getTableName(), ListUtil.createList(other.getColumnName()), ListUtil.createList(15));
+		db.insert(pojo.getTableName(), ListUtil.createList(other.getColumnName()), ListUtil.createList(16));
+		
+		// Setup the pojo properly (updating the second row, so a newly generated id can't match by accident)
+		pojo.addColumnDef(id);
+		pojo.addColumnDef(other);
+		pojo.setItem(pojo.getIDColumnName(), 2);
+		pojo.setItem("Derp", 42);
+		
+		// Do the upsert
+		assertEquals(2, pojo.upsert(db));
+		assertEquals(2, pojo.getItem(pojo.getIDColumnName()));
+		
+		int result = db.executeQuery("Get Value", SQLSelectStatement.builder()
+						.returnColumns(ColumnRef.builder().columnName(other.getColumnName()).build())
+						.fromTables(TableRef.builder().tableName(pojo.getTableName()).build())
+						.whereStatement(Conditional.builder()
+								.firstCondStmt(ConditionalStatement.builder()
+										.column(ColumnRef.builder().columnName(pojo.getIDColumnName()).build())
+										.operator(SQLOperator.EQUAL)
+										.value(pojo.getItem(pojo.getIDColumnName()))
+										.build()
+								)
+								.build())
+						.build()
+						.toString(),
+				CommonResultSetConverters::singleInteger);
+		assertEquals(42, result);
+		
+		// Drop the table
+		db.executeUpdate("Drop table",
+				SQLDropStatement.builder()
+						.table()
+						.name(pojo.getTableName())
+						.build()
+						.toString());
+		
+		// Check value
+		assertEquals(42, pojo.getItem(other.getColumnName()));
+	}
+	
+	@Test
+	public void testUpsertUpdateLongID() throws SQLException{
+		ColumnDefinition id = ColumnDefinition.builder()
+				.columnName(idColName)
+				.integer()
+				.defaultSize()
+				.primaryKey()
+				.autoIncrement()
+				.build();
+		ColumnDefinition other = ColumnDefinition.builder()
+				.columnName("Derp")
+				.integer()
+				.defaultSize()
+				.build();
+		
+		// Create the table and insert some rows
+		db.executeUpdate("Create table",
+				SQLCreateStatement.builder()
+						.table()
+						.tableName(pojo.getTableName())
+						.columns(id, other)
+						.build()
+						.toString());
+		db.insert(pojo.getTableName(), ListUtil.createList(other.getColumnName()), ListUtil.createList(14));
+		db.insert(pojo.getTableName(), ListUtil.createList(other.getColumnName()), ListUtil.createList(15));
+		
+		// Setup the pojo with a Long id for the second row
+		pojo.addColumnDef(id);
+		pojo.addColumnDef(other);
+		pojo.setItem(pojo.getIDColumnName(), 2L);
+		pojo.setItem("Derp", 42);
+		
+		// Do the upsert, which should still report the id (and keep the one the pojo had)
+		assertEquals(2, pojo.upsert(db));
+		assertEquals(2L, pojo.getItem(pojo.getIDColumnName()));
+		
+		// Drop the table
+		db.executeUpdate("Drop table",
+				SQLDropStatement.builder()
+						.table()
+						.name(pojo.getTableName())
+						.build()
+						.toString());
+	}
+	
+	@Test
+	public void testUpsertUpdateByUniqueKey() throws SQLException{
+		ColumnDefinition id = ColumnDefinition.builder()
+				.columnName(idColName)
+				.integer()
+				.defaultSize()
+				.primaryKey()
+				.autoIncrement()
+				.build();
+		ColumnDefinition other = ColumnDefinition.builder()
+				.columnName("Derp")
+				.integer()
+				.defaultSize()
+				.build();
+		ColumnDefinition code = ColumnDefinition.builder()
+				.columnName("Code")
+				.integer()
+				.defaultSize()
+				.build();
+		
+		// Create the table (with a unique code) and insert some rows
+		db.executeUpdate("Create table", "CREATE TABLE " + pojo.getTableName() + " (" + idColName +
+				" INT PRIMARY KEY AUTO_INCREMENT, Derp INT, Code INT UNIQUE)");
+		db.insert(pojo.getTableName(), ListUtil.createList("Derp", "Code"), ListUtil.createList(14, 7));
+		db.insert(pojo.getTableName(), ListUtil.createList("Derp", "Code"), ListUtil.createList(15, 8));
+		
+		// Setup the pojo without an id, matching the second row by its code
+		pojo.addColumnDef(id);
+		pojo.addColumnDef(other);
+		pojo.addColumnDef(code);
+		pojo.setItem("Derp", 42);
+		pojo.setItem("Code", 8);
+		
+		// Do the upsert, which should report the existing row's id
+		assertEquals(2, pojo.upsert(db));
+		assertEquals(2, pojo.getItem(pojo.getIDColumnName()));
+		
+		int result = db.executeQuery("Get Value", SQLSelectStatement.builder()
+						.returnColumns(ColumnRef.builder().columnName(other.getColumnName()).build())
+						.fromTables(TableRef.builder().tableName(pojo.getTableName()).build())
+						.whereStatement(Conditional.builder()
+								.firstCondStmt(ConditionalStatement.builder()
+										.column(ColumnRef.builder().columnName(pojo.getIDColumnName()).build())
+										.operator(SQLOperator.EQUAL)
+										.value(2)
+										.build()
+								)
+								.build())
+						.build()
+						.toString(),
+				CommonResultSetConverters::singleInteger);
+		
+		// Drop the table
+		db.executeUpdate("Drop table",
+				SQLDropStatement.builder()
+						.table()
+						.name(pojo.getTableName())
+						.build()
+						.toString());
+		
+		// Check value
+		assertEquals(42, result);
+	}
+	
 	@Test
 	public void testStoreValuesNullSubPojo() throws SQLException{
 		ColumnDefinition id = ColumnDefinition.builder()
@@ -1477,6 +1713,38 @@ public class DatabasePojoTest extends DatabaseConnectionTest{
 		assertNotEquals(foundPojos.get(0).getItem(subPojoIDColName), foundPojos.get(1).getItem(subPojoIDColName));
 	}
 	
+	@Test
+	public void testDoSearchNoCriteria() throws SQLException{
+		DatabasePojo subPojo = new SubPojoClass2();
+		
+		// Create the table and insert 2 rows
+		db.executeUpdate("Create table",
+				SQLCreateStatement.builder()
+						.table()
+						.tableName(subPojo.getTableName())
+						.columns(subPojoIDCol, other)
+						.build()
+						.toString());
+		db.insert(subPojo.getTableName(), ListUtil.createList(other.getColumnName()), ListUtil.createList(42));
+		db.insert(subPojo.getTableName(), ListUtil.createList(other.getColumnName()), ListUtil.createList(43));
+		
+		// Do the search without setting anything on the pojo
+		List<SubPojoClass2> foundPojos = subPojo.doSearch(db, SubPojoClass2.class, false);
+		
+		// Drop the table
+		db.executeUpdate("Drop table",
+				SQLDropStatement.builder()
+						.table()
+						.name(subPojo.getTableName())
+						.build()
+						.toString());
+		
+		// Check the results
+		assertEquals(2, foundPojos.size());
+		assertEquals(42, foundPojos.get(0).getItem(other.getColumnName()));
+		assertEquals(43, foundPojos.get(1).getItem(other.getColumnName()));
+	}
+	
 	@Test
 	public void testDoSearchNullSubPojo() throws SQLException{
 		DatabasePojo subPojo = new SubPojoClass2();
@@ -1549,7 +1817,7 @@ public class DatabasePojoTest extends DatabaseConnectionTest{
 			
 			@Override
 			public void setDefaultColumnDefs(){
-			
+				
 			}
 		};
 		subPojo.addSubPojo(SubPojoDefinition.builder()
@@ -1671,4 +1939,79 @@ public class DatabasePojoTest extends DatabaseConnectionTest{
 		assertNotNull(foundPojos.get(0).getItem(subPojoIDColName));
 		assertEquals(1, foundPojos.get(0).getItem("id_42"));
 	}
+	
+	@Test
+	public void testRetrieveByIDs() throws SQLException{
+		DatabasePojo subPojo = new SubPojoClass2();
+		
+		// Create the table and insert 3 rows
+		db.executeUpdate("Create table",
+				SQLCreateStatement.builder()
+						.table()
+						.tableName(subPojo.getTableName())
+						.columns(subPojoIDCol, other)
+						.build()
+						.toString());
+		db.insert(subPojo.getTableName(), ListUtil.createList(other.getColumnName()), ListUtil.createList(1));
+		db.insert(subPojo.getTableName(), ListUtil.createList(other.getColumnName()), ListUtil.createList(2));
+		db.insert(subPojo.getTableName(), ListUtil.createList(other.getColumnName()), ListUtil.createList(3));
+		
+		// Retrieve 2 of the rows and a missing one, in chunks of 2 ids
+		List<SubPojoClass2> foundPojos = subPojo.retrieveByIDs(db, SubPojoClass2.class,
+				ListUtil.createList(1, 3, 42), 2);
+		
+		// Drop the table
+		db.executeUpdate("Drop table",
+				SQLDropStatement.builder()
+						.table()
+						.name(subPojo.getTableName())
+						.build()
+						.toString());
+		
+		// Check the results
+		assertEquals(2, foundPojos.size());
+		assertEquals(1, foundPojos.get(0).getItem(subPojoIDColName));
+		assertEquals(1, foundPojos.get(0).getItem(other.getColumnName()));
+		assertEquals(3, foundPojos.get(1).getItem(subPojoIDColName));
+		assertEquals(3, foundPojos.get(1).getItem(other.getColumnName()));
+	}
+	
+	@Test
+	public void testPageByID() throws SQLException{
+		DatabasePojo subPojo = new SubPojoClass2();
+		
+		// Create the table and insert 3 rows
+		db.executeUpdate("Create table",
+				SQLCreateStatement.builder()
+						.table()
+						.tableName(subPojo.getTableName())
+						.columns(subPojoIDCol, other)
+						.build()
+						.toString());
+		db.insert(subPojo.getTableName(), ListUtil.createList(other.getColumnName()), ListUtil.createList(1));
+		db.insert(subPojo.getTableName(), ListUtil.createList(other.getColumnName()), ListUtil.createList(2));
+		db.insert(subPojo.getTableName(), ListUtil.createList(other.getColumnName()), ListUtil.createList(3));
+		
+		// Read through the rows 2 at a time
+		KeysetPager<SubPojoClass2> pager = subPojo.pageByID(db, SubPojoClass2.class, 2);
+		List<SubPojoClass2> firstPage = pager.nextPage();
+		List<SubPojoClass2> secondPage = pager.nextPage();
+		boolean hasNextPage = pager.hasNextPage();
+		
+		// Drop the table
+		db.executeUpdate("Drop table",
+				SQLDropStatement.builder()
+						.table()
+						.name(subPojo.getTableName())
+						.build()
+						.toString());
+		
+		// Check the results
+		assertEquals(2, firstPage.size());
+		assertEquals(1, firstPage.get(0).getItem(subPojoIDColName));
+		assertEquals(2, firstPage.get(1).getItem(subPojoIDColName));
+		assertEquals(1, secondPage.size());
+		assertEquals(3, secondPage.get(0).getItem(subPojoIDColName));
+		assertFalse(hasNextPage);
+	}
 }
@@ -0,0 +1,193 @@
+package com.github.tadukoo.database.mysql.retry;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+public class BackoffRetryPolicyTest{
+	private final SQLException deadlock = new SQLException("Deadlock found", "40001", 1213);
+	private final SQLException serverGone = new SQLException("Server has gone away", "08S01", 2006);
+	private final SQLException syntaxError = new SQLException("Syntax error", "42000", 1064);
+	private BackoffRetryPolicy retryPolicy;
+	
+	@BeforeEach
+	public void setup(){
+		retryPolicy = BackoffRetryPolicy.builder().build();
+	}
+	
+	@Test
+	public void testDefaultPolicy(){
+		RetryPolicy defaultPolicy = RetryPolicy.defaultPolicy(4);
+		assertTrue(defaultPolicy instanceof BackoffRetryPolicy);
+		assertEquals(4, defaultPolicy.getMaxAttempts());
+	}
+	
+	@Test
+	public void testDefaultMaxAttempts(){
+		assertEquals(10, retryPolicy.getMaxAttempts());
+	}
+	
+	@Test
+	public void testSetMaxAttempts(){
+		retryPolicy = BackoffRetryPolicy.builder().maxAttempts(3).build();
+		assertEquals(3, retryPolicy.getMaxAttempts());
+	}
+	
+	@Test
+	public void testDefaultInitialBackoff(){
+		assertEquals(Duration.ofMillis(50), retryPolicy.getInitialBackoff());
+	}
+	
+	@Test
+	public void testSetInitialBackoff(){
+		retryPolicy = BackoffRetryPolicy.builder().initialBackoff(Duration.ofMillis(5)).build();
+		assertEquals(Duration.ofMillis(5), retryPolicy.getInitialBackoff());
+	}
+	
+	@Test
+	public void testDefaultMaxBackoff(){
+		assertEquals(Duration.ofSeconds(2), retryPolicy.getMaxBackoff());
+	}
+	
+	@Test
+	public void testSetMaxBackoff(){
+		retryPolicy = BackoffRetryPolicy.builder().maxBackoff(Duration.ofSeconds(1)).build();
+		assertEquals(Duration.ofSeconds(1), retryPolicy.getMaxBackoff());
+	}
+	
+	@Test
+	public void testDefaultMultiplier(){
+		assertEquals(2, retryPolicy.getMultiplier());
+	}
+	
+	@Test
+	public void testSetMultiplier(){
+		retryPolicy = BackoffRetryPolicy.builder().multiplier(3).build();
+		assertEquals(3, retryPolicy.getMultiplier());
+	}
+	
+	@Test
+	public void testDefaultJitter(){
+		assertEquals(0.5, retryPolicy.getJitter());
+	}
+	
+	@Test
+	public void testSetJitter(){
+		retryPolicy = BackoffRetryPolicy.builder().jitter(0).build();
+		assertEquals(0, retryPolicy.getJitter());
+	}
+	
+	@Test
+	public void testDefaultRetryableErrorCodes(){
+		assertTrue(retryPolicy.getRetryableErrorCodes().isEmpty());
+	}
+	
+	@Test
+	public void testSetRetryableErrorCodes(){
+		retryPolicy = BackoffRetryPolicy.builder().retryableErrorCodes(1064, 1146).build();
+		assertEquals(Set.of(1064, 1146), retryPolicy.getRetryableErrorCodes());
+	}
+	
+	@Test
+	public void testRetryDeadlock(){
+		assertTrue(retryPolicy.isRetryable(deadlock));
+		assertFalse(retryPolicy.shouldReconnect(deadlock));
+	}
+	
+	@Test
+	public void testRetryConnectionError(){
+		assertTrue(retryPolicy.isRetryable(serverGone));
+		assertTrue(retryPolicy.shouldReconnect(serverGone));
+	}
+	
+	@Test
+	public void testDontRetrySyntaxError(){
+		assertFalse(retryPolicy.isRetryable(syntaxError));
+		assertFalse(retryPolicy.shouldReconnect(syntaxError));
+	}
+	
+	@Test
+	public void testRetryExtraErrorCode(){
+		retryPolicy = BackoffRetryPolicy.builder().retryableErrorCodes(1064).build();
+		assertTrue(retryPolicy.isRetryable(syntaxError));
+	}
+	
+	@Test
+	public void testDontRetryLockContention(){
+		retryPolicy = BackoffRetryPolicy.builder().retryLockContention(false).build();
+		assertFalse(retryPolicy.isRetryLockContention());
+		assertFalse(retryPolicy.isRetryable(deadlock));
+	}
+	
+	@Test
+	public void testDontRetryConnectionErrors(){
+		retryPolicy = BackoffRetryPolicy.builder().retryConnectionErrors(false).build();
+		assertFalse(retryPolicy.isRetryConnectionErrors());
+		assertFalse(retryPolicy.isRetryable(serverGone));
+	}
+	
+	@Test
+	public void testDontReconnectOnConnectionErrors(){
+		retryPolicy = BackoffRetryPolicy.builder().reconnectOnConnectionErrors(false).build();
+		assertFalse(retryPolicy.isReconnectOnConnectionErrors());
+		assertFalse(retryPolicy.shouldReconnect(serverGone));
+	}
+	
+	@Test
+	public void testBackoffNoJitter(){
+		retryPolicy = BackoffRetryPolicy.builder()
+				.initialBackoff(Duration.ofMillis(10))
+				.maxBackoff(Duration.ofMillis(50))
+				.jitter(0)
+				.build();
+		assertEquals(Duration.ofMillis(10), retryPolicy.getBackoff(1));
+		assertEquals(Duration.ofMillis(20), retryPolicy.getBackoff(2));
+		assertEquals(Duration.ofMillis(40), retryPolicy.getBackoff(3));
+		assertEquals(Duration.ofMillis(50), retryPolicy.getBackoff(4));
+	}
+	
+	@Test
+	public void testBackoffWithJitter(){
+		retryPolicy = BackoffRetryPolicy.builder()
+				.initialBackoff(Duration.ofMillis(100))
+				.jitter(0.5)
+				.build();
+		for(int i = 0; i < 100; i++){
+			Duration backoff = retryPolicy.getBackoff(1);
+			assertTrue(backoff.compareTo(Duration.ofMillis(50)) >= 0);
+			assertTrue(backoff.compareTo(Duration.ofMillis(100)) <= 0);
+		}
+	}
+	
+	@Test
+	public void testAllErrors(){
+		try{
+			retryPolicy = BackoffRetryPolicy.builder()
+					.maxAttempts(0)
+					.initialBackoff(null)
+					.maxBackoff(Duration.ofMillis(-1))
+					.multiplier(0.5)
+					.jitter(2)
+					.retryableErrorCodes((Set<Integer>) null)
+					.build();
+			fail();
+		}catch(IllegalArgumentException e){
+			assertEquals("""
+					Encountered errors in building a BackoffRetryPolicy:\s
+					maxAttempts must be at least 1!
+					initialBackoff is required and can't be negative!
+					maxBackoff is required and can't be negative!
+					multiplier must be at least 1!
+					jitter must be between 0 and 1!
+					retryableErrorCodes is required (but may be empty)!""", e.getMessage());
+		}
+	}
+}
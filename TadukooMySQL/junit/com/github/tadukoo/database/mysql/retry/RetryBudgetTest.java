@@ -0,0 +1,88 @@
+package com.github.tadukoo.database.mysql.retry;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+public class RetryBudgetTest{
+	private RetryBudget budget;
+	
+	@BeforeEach
+	public void setup(){
+		budget = new RetryBudget(0.5, 2);
+	}
+	
+	@Test
+	public void testDefaultRetryRatio(){
+		assertEquals(RetryBudget.DEFAULT_RETRY_RATIO, new RetryBudget().getRetryRatio());
+	}
+	
+	@Test
+	public void testDefaultMaxTokens(){
+		assertEquals(RetryBudget.DEFAULT_MAX_TOKENS, new RetryBudget().getMaxTokens());
+	}
+	
+	@Test
+	public void testGetRetryRatio(){
+		assertEquals(0.5, budget.getRetryRatio());
+	}
+	
+	@Test
+	public void testGetMaxTokens(){
+		assertEquals(2, budget.getMaxTokens());
+	}
+	
+	@Test
+	public void testStartsFull(){
+		assertEquals(2, budget.getTokens());
+	}
+	
+	@Test
+	public void testRetriesUseUpBudget(){
+		assertTrue(budget.tryRetry());
+		assertTrue(budget.tryRetry());
+		assertFalse(budget.tryRetry());
+		assertEquals(0, budget.getTokens());
+	}
+	
+	@Test
+	public void testTransactionsRefillBudget(){
+		budget.tryRetry();
+		budget.tryRetry();
+		budget.recordTransaction();
+		assertFalse(budget.tryRetry());
+		budget.recordTransaction();
+		assertTrue(budget.tryRetry());
+	}
+	
+	@Test
+	public void testRefillStopsAtMaxTokens(){
+		budget.recordTransaction();
+		budget.recordTransaction();
+		assertEquals(2, budget.getTokens());
+	}
+	
+	@Test
+	public void testNegativeRetryRatio(){
+		try{
+			new RetryBudget(-0.1, 2);
+			fail();
+		}catch(IllegalArgumentException e){
+			assertEquals("retryRatio can't be negative!", e.getMessage());
+		}
+	}
+	
+	@Test
+	public void testBadMaxTokens(){
+		try{
+			new RetryBudget(0.1, 0);
+			fail();
+		}catch(IllegalArgumentException e){
+			assertEquals("maxTokens must be at least 1!", e.getMessage());
+		}
+	}
+}
@@ -0,0 +1,80 @@
+package com.github.tadukoo.database.mysql.retry;
+
+import org.junit.jupiter.api.Test;
+
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class SQLExceptionClassifierTest{
+	
+	@Test
+	public void testDeadlockIsLockContention(){
+		assertTrue(SQLExceptionClassifier.isLockContentionError(
+				new SQLException("Deadlock found", "HY000", SQLExceptionClassifier.DEADLOCK)));
+	}
+	
+	@Test
+	public void testLockWaitTimeoutIsLockContention(){
+		assertTrue(SQLExceptionClassifier.isLockContentionError(
+				new SQLException("Lock wait timeout exceeded", "HY000", SQLExceptionClassifier.LOCK_WAIT_TIMEOUT)));
+	}
+	
+	@Test
+	public void testSerializationFailureIsLockContention(){
+		assertTrue(SQLExceptionClassifier.isLockContentionError(new SQLException("Derp", "40001", 0)));
+	}
+	
+	@Test
+	public void testCauseIsLockContention(){
+		assertTrue(SQLExceptionClassifier.isLockContentionError(new SQLException("Wrapped",
+				new SQLException("Deadlock found", "HY000", SQLExceptionClassifier.DEADLOCK))));
+	}
+	
+	@Test
+	public void testSyntaxErrorIsNotLockContention(){
+		assertFalse(SQLExceptionClassifier.isLockContentionError(
+				new SQLException("You have an error in your SQL syntax", "42000", 1064)));
+	}
+	
+	@Test
+	public void testServerGoneIsConnectionError(){
+		assertTrue(SQLExceptionClassifier.isConnectionError(
+				new SQLException("Server has gone away", "HY000", SQLExceptionClassifier.SERVER_GONE)));
+	}
+	
+	@Test
+	public void testConnectionSQLStateIsConnectionError(){
+		assertTrue(SQLExceptionClassifier.isConnectionError(new SQLException("Could not connect", "08000", 0)));
+	}
+	
+	@Test
+	public void testSyntaxErrorIsNotConnectionError(){
+		assertFalse(SQLExceptionClassifier.isConnectionError(
+				new SQLException("You have an error in your SQL syntax", "42000", 1064)));
+	}
+	
+	@Test
+	public void testNoSQLStateIsNotConnectionError(){
+		assertFalse(SQLExceptionClassifier.isConnectionError(new SQLException("Derp")));
+	}
+	
+	@Test
+	public void testTimeoutIsTimeoutError(){
+		assertTrue(SQLExceptionClassifier.isTimeoutError(new SQLTimeoutException("Query timed out")));
+	}
+	
+	@Test
+	public void testCauseIsTimeoutError(){
+		assertTrue(SQLExceptionClassifier.isTimeoutError(
+				new SQLException("Wrapped", new SQLTimeoutException("Query timed out"))));
+	}
+	
+	@Test
+	public void testSyntaxErrorIsNotTimeoutError(){
+		assertFalse(SQLExceptionClassifier.isTimeoutError(
+				new SQLException("You have an error in your SQL syntax", "42000", 1064)));
+	}
+}
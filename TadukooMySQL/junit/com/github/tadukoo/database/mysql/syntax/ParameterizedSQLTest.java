@@ -0,0 +1,35 @@
+package com.github.tadukoo.database.mysql.syntax;
+
+import com.github.tadukoo.util.ListUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class ParameterizedSQLTest{
+	private final String sql = "SELECT * FROM Test WHERE id = ?";
+	private final List<Object> parameters = ListUtil.createList(42);
+	private ParameterizedSQL parameterizedSQL;
+	
+	@BeforeEach
+	public void setup(){
+		parameterizedSQL = new ParameterizedSQL(sql, parameters);
+	}
+	
+	@Test
+	public void testGetSQL(){
+		assertEquals(sql, parameterizedSQL.getSQL());
+	}
+	
+	@Test
+	public void testGetParameters(){
+		assertEquals(parameters, parameterizedSQL.getParameters());
+	}
+	
+	@Test
+	public void testToString(){
+		assertEquals(sql, parameterizedSQL.toString());
+	}
+}
@@ -14,22 +14,45 @@ import com.github.tadukoo.util.ByteUtil;
 import com.github.tadukoo.util.ListUtil;
 import org.junit.jupiter.api.Test;
 
+import java.lang.reflect.Proxy;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.sql.Date;
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Time;
 import java.sql.Timestamp;
+import java.sql.Types;
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
+import java.util.NoSuchElementException;
 
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
 public class SQLSyntaxUtilTest extends DatabaseConnectionTest{
+	private final List<Object[]> bindCalls = new ArrayList<>();
+	private final PreparedStatement preparedStmt = (PreparedStatement) Proxy.newProxyInstance(
+			PreparedStatement.class.getClassLoader(), new Class<?>[]{PreparedStatement.class},
+			(proxy, method, args) -> {
+				bindCalls.add(new Object[]{method.getName(), args[0], args[1]});
+				return null;
+			});
+	
+	private void assertBound(Object value, String expectedMethod, Object expectedValue) throws SQLException{
+		SQLSyntaxUtil.bindValue(preparedStmt, 3, value);
+		assertEquals(1, bindCalls.size());
+		assertEquals(expectedMethod, bindCalls.get(0)[0]);
+		assertEquals(3, bindCalls.get(0)[1]);
+		assertEquals(expectedValue, bindCalls.get(0)[2]);
+	}
 	
 	@Test
 	public void testConvertValueToStringWithString(){
@@ -563,6 +586,11 @@ public class SQLSyntaxUtilTest extends DatabaseConnectionTest{
 		assertEquals("%Derp%", stmt.getValue());
 	}
 	
+	@Test
+	public void testMakeConditionalNoValues(){
+		assertNull(SQLSyntaxUtil.makeConditional(ListUtil.createList(), ListUtil.createList(), false));
+	}
+	
 	@Test
 	public void testMakeConditionalSingleValueNotSearch(){
 		Conditional cond = SQLSyntaxUtil.makeConditional(ListUtil.createList("Test"), ListUtil.createList("42"),
@@ -581,28 +609,90 @@ public class SQLSyntaxUtilTest extends DatabaseConnectionTest{
 	public void testMakeConditionalTwoValueNotSearch(){
 		Conditional cond = SQLSyntaxUtil.makeConditional(ListUtil.createList("Test", "Derp"),
 				ListUtil.createList("Yep", 42), false);
-		assertEquals("(Test = 'Yep') AND Derp = 42", cond.toString());
+		assertEquals("Test = 'Yep' AND Derp = 42", cond.toString());
 	}
 	
 	@Test
 	public void testMakeConditionalTwoValueSearch(){
 		Conditional cond = SQLSyntaxUtil.makeConditional(ListUtil.createList("Test", "Derp"),
 				ListUtil.createList("Yep", 42), true);
-		assertEquals("(Test LIKE '%Yep%') AND Derp = 42", cond.toString());
+		assertEquals("Test LIKE '%Yep%' AND Derp = 42", cond.toString());
 	}
 	
 	@Test
 	public void testMakeConditionalThreeValueNotSearch(){
 		Conditional cond = SQLSyntaxUtil.makeConditional(ListUtil.createList("Test", "Derp", "Plop"),
 				ListUtil.createList("Yep", 42, true), false);
-		assertEquals("((Test = 'Yep') AND Derp = 42) AND Plop = true", cond.toString());
+		assertEquals("Test = 'Yep' AND Derp = 42 AND Plop = true", cond.toString());
 	}
 	
 	@Test
 	public void testMakeConditionalThreeValueSearch(){
 		Conditional cond = SQLSyntaxUtil.makeConditional(ListUtil.createList("Test", "Derp", "Plop"),
 				ListUtil.createList("Yep", 42, true), true);
-		assertEquals("((Test LIKE '%Yep%') AND Derp = 42) AND Plop = true", cond.toString());
+		assertEquals("Test LIKE '%Yep%' AND Derp = 42 AND Plop = true", cond.toString());
+	}
+	
+	@Test
+	public void testFormatParameterizedKeyQueries(){
+		List<ParameterizedSQL> queries = SQLSyntaxUtil.formatParameterizedKeyQueries("Test",
+				ListUtil.createList("id", "Derp"), "id", ListUtil.createList(1, 2, 3, 4, 5), 2);
+		assertEquals(3, queries.size());
+		assertEquals("SELECT id, Derp FROM Test WHERE id IN (?, ?)", queries.get(0).getSQL());
+		assertEquals(ListUtil.createList(1, 2), queries.get(0).getParameters());
+		assertEquals("SELECT id, Derp FROM Test WHERE id IN (?, ?)", queries.get(1).getSQL());
+		assertEquals(ListUtil.createList(3, 4), queries.get(1).getParameters());
+		assertEquals("SELECT id, Derp FROM Test WHERE id IN (?)", queries.get(2).getSQL());
+		assertEquals(ListUtil.createList(5), queries.get(2).getParameters());
+	}
+	
+	@Test
+	public void testFormatParameterizedKeyQueriesSingleChunk(){
+		List<ParameterizedSQL> queries = SQLSyntaxUtil.formatParameterizedKeyQueries("Test",
+				ListUtil.createList("id"), "id", ListUtil.createList(1, 2, 3), 1000);
+		assertEquals(1, queries.size());
+		assertEquals("SELECT id FROM Test WHERE id IN (?, ?, ?)", queries.get(0).getSQL());
+		assertEquals(ListUtil.createList(1, 2, 3), queries.get(0).getParameters());
+	}
+	
+	@Test
+	public void testFormatParameterizedKeyQueriesNoKeys(){
+		assertTrue(SQLSyntaxUtil.formatParameterizedKeyQueries("Test", ListUtil.createList("id"), "id",
+				new ArrayList<>(), 1000).isEmpty());
+	}
+	
+	@Test
+	public void testFormatParameterizedKeyQueriesBadChunkSize(){
+		try{
+			SQLSyntaxUtil.formatParameterizedKeyQueries("Test", ListUtil.createList("id"), "id",
+					ListUtil.createList(1), 0);
+			fail();
+		}catch(IllegalArgumentException e){
+			assertEquals("chunkSize must be between 1 and 65535!", e.getMessage());
+		}
+		try{
+			SQLSyntaxUtil.formatParameterizedKeyQueries("Test", ListUtil.createList("id"), "id",
+					ListUtil.createList(1), 65536);
+			fail();
+		}catch(IllegalArgumentException e){
+			assertEquals("chunkSize must be between 1 and 65535!", e.getMessage());
+		}
+	}
+	
+	@Test
+	public void testFormatParameterizedKeysetQueryFirstPage(){
+		ParameterizedSQL sql = SQLSyntaxUtil.formatParameterizedKeysetQuery("Test", ListUtil.createList("id", "Derp"),
+				"id", null, 50);
+		assertEquals("SELECT id, Derp FROM Test ORDER BY id ASC LIMIT 50", sql.getSQL());
+		assertTrue(sql.getParameters().isEmpty());
+	}
+	
+	@Test
+	public void testFormatParameterizedKeysetQueryNextPage(){
+		ParameterizedSQL sql = SQLSyntaxUtil.formatParameterizedKeysetQuery("Test", ListUtil.createList("id", "Derp"),
+				"id", 42, 50);
+		assertEquals("SELECT id, Derp FROM Test WHERE id > ? ORDER BY id ASC LIMIT 50", sql.getSQL());
+		assertEquals(ListUtil.createList(42), sql.getParameters());
 	}
 	
 	@Test
@@ -652,17 +742,382 @@ public class SQLSyntaxUtilTest extends DatabaseConnectionTest{
 		assertEquals("SELECT DISTINCT Derp FROM Test WHERE Plop = 42", selectStmt);
 	}
 	
+	@Test
+	public void testFormatQueryNoConditions(){
+		String selectStmt = SQLSyntaxUtil.formatQuery(ListUtil.createList("Test"), ListUtil.createList("Derp"),
+				ListUtil.createList(), ListUtil.createList(), false);
+		assertEquals("SELECT DISTINCT Derp FROM Test", selectStmt);
+	}
+	
+	@Test
+	public void testFormatParameterizedQueryNoConditions(){
+		ParameterizedSQL sql = SQLSyntaxUtil.formatParameterizedQuery(ListUtil.createList("Test"),
+				ListUtil.createList("Derp"), ListUtil.createList(), ListUtil.createList(), true);
+		assertEquals("SELECT DISTINCT Derp FROM Test", sql.getSQL());
+		assertTrue(sql.getParameters().isEmpty());
+	}
+	
 	@Test
 	public void testFormatQueryMultipleConditions(){
 		String selectStmt = SQLSyntaxUtil.formatQuery(ListUtil.createList("Test"), ListUtil.createList("Derp"),
 				ListUtil.createList("Plop", "Yep"), ListUtil.createList(42, "something"), false);
-		assertEquals("SELECT DISTINCT Derp FROM Test WHERE (Plop = 42) AND Yep = 'something'", selectStmt);
+		assertEquals("SELECT DISTINCT Derp FROM Test WHERE Plop = 42 AND Yep = 'something'", selectStmt);
 	}
 	
 	@Test
 	public void testFormatQuerySearchTrue(){
 		String selectStmt = SQLSyntaxUtil.formatQuery(ListUtil.createList("Test"), ListUtil.createList("Derp"),
 				ListUtil.createList("Plop", "Yep"), ListUtil.createList(42, "something"), true);
-		assertEquals("SELECT DISTINCT Derp FROM Test WHERE (Plop = 42) AND Yep LIKE '%something%'", selectStmt);
+		assertEquals("SELECT DISTINCT Derp FROM Test WHERE Plop = 42 AND Yep LIKE '%something%'", selectStmt);
+	}
+	
+	@Test
+	public void testConvertValueToPlaceholder(){
+		List<Object> parameters = new ArrayList<>();
+		assertEquals("?", SQLSyntaxUtil.convertValueToPlaceholder("Te'st", parameters));
+		assertEquals(ListUtil.createList("Te'st"), parameters);
+	}
+	
+	@Test
+	public void testConvertValueToPlaceholderNoParameters(){
+		assertEquals("'Test'", SQLSyntaxUtil.convertValueToPlaceholder("Test", null));
+	}
+	
+	@Test
+	public void testConvertValueToPlaceholderColumnRef(){
+		List<Object> parameters = new ArrayList<>();
+		ColumnRef column = ColumnRef.builder()
+				.tableName("Test")
+				.columnName("Derp")
+				.build();
+		assertEquals("Test.Derp", SQLSyntaxUtil.convertValueToPlaceholder(column, parameters));
+		assertTrue(parameters.isEmpty());
+	}
+	
+	@Test
+	public void testAppendValue(){
+		StringBuilder sb = new StringBuilder("VALUES (");
+		assertSame(sb, SQLSyntaxUtil.appendValue(sb, "Test"));
+		SQLSyntaxUtil.appendValue(sb.append(", "), 42);
+		SQLSyntaxUtil.appendValue(sb.append(", "), 'c');
+		SQLSyntaxUtil.appendValue(sb.append(", "), 3.5);
+		assertEquals("VALUES ('Test', 42, 'c', 3.5", sb.toString());
+	}
+	
+	@Test
+	public void testAppendValueOrPlaceholder(){
+		List<Object> parameters = new ArrayList<>();
+		StringBuilder sb = new StringBuilder();
+		assertSame(sb, SQLSyntaxUtil.appendValueOrPlaceholder(sb, "Te'st", parameters));
+		assertEquals("?", sb.toString());
+		assertEquals(ListUtil.createList("Te'st"), parameters);
+	}
+	
+	@Test
+	public void testAppendValueOrPlaceholderNullParameters(){
+		StringBuilder sb = new StringBuilder();
+		SQLSyntaxUtil.appendValueOrPlaceholder(sb, "Test", null);
+		assertEquals("'Test'", sb.toString());
+	}
+	
+	@Test
+	public void testAppendValueOrPlaceholderColumnRef(){
+		List<Object> parameters = new ArrayList<>();
+		StringBuilder sb = new StringBuilder();
+		SQLSyntaxUtil.appendValueOrPlaceholder(sb, ColumnRef.builder().tableName("Test").columnName("Derp").build(),
+				parameters);
+		assertEquals("Test.Derp", sb.toString());
+		assertTrue(parameters.isEmpty());
+	}
+	
+	@Test
+	public void testBindValueNull() throws SQLException{
+		assertBound(null, "setNull", Types.NULL);
+	}
+	
+	@Test
+	public void testBindValueString() throws SQLException{
+		assertBound("Te'st", "setString", "Te'st");
+	}
+	
+	@Test
+	public void testBindValueInt() throws SQLException{
+		assertBound(42, "setInt", 42);
+	}
+	
+	@Test
+	public void testBindValueLong() throws SQLException{
+		assertBound(42L, "setLong", 42L);
+	}
+	
+	@Test
+	public void testBindValueShort() throws SQLException{
+		assertBound((short) 42, "setShort", (short) 42);
+	}
+	
+	@Test
+	public void testBindValueByte() throws SQLException{
+		assertBound((byte) 42, "setByte", (byte) 42);
+	}
+	
+	@Test
+	public void testBindValueBoolean() throws SQLException{
+		assertBound(true, "setBoolean", true);
+	}
+	
+	@Test
+	public void testBindValueBytes() throws SQLException{
+		byte[] bytes = new byte[]{1, 2, 3};
+		assertBound(bytes, "setBytes", bytes);
+	}
+	
+	@Test
+	public void testBindValueCharacter() throws SQLException{
+		assertBound('c', "setString", "c");
+	}
+	
+	@Test
+	public void testBindValueFloat() throws SQLException{
+		assertBound(4.2F, "setFloat", 4.2F);
+	}
+	
+	@Test
+	public void testBindValueDouble() throws SQLException{
+		assertBound(4.2, "setDouble", 4.2);
+	}
+	
+	@Test
+	public void testBindValueBigDecimal() throws SQLException{
+		assertBound(new BigDecimal("4.2"), "setBigDecimal", new BigDecimal("4.2"));
+	}
+	
+	@Test
+	public void testBindValueBigInteger() throws SQLException{
+		assertBound(new BigInteger("18446744073709551615"), "setBigDecimal", new BigDecimal("18446744073709551615"));
+	}
+	
+	@Test
+	public void testBindValueDate() throws SQLException{
+		Date date = Date.valueOf("2022-03-14");
+		assertBound(date, "setDate", date);
+	}
+	
+	@Test
+	public void testBindValueTime() throws SQLException{
+		Time time = Time.valueOf("15:42:00");
+		assertBound(time, "setTime", time);
+	}
+	
+	@Test
+	public void testBindValueTimestamp() throws SQLException{
+		Timestamp timestamp = Timestamp.valueOf("2022-03-14 15:42:00");
+		assertBound(timestamp, "setTimestamp", timestamp);
+	}
+	
+	@Test
+	public void testBindValueOther() throws SQLException{
+		assertBound(SQLOperator.EQUAL, "setObject", SQLOperator.EQUAL);
+	}
+	
+	@Test
+	public void testBindValues() throws SQLException{
+		SQLSyntaxUtil.bindValues(preparedStmt, ListUtil.createList("Test", 42));
+		assertEquals(2, bindCalls.size());
+		assertEquals("setString", bindCalls.get(0)[0]);
+		assertEquals(1, bindCalls.get(0)[1]);
+		assertEquals("Test", bindCalls.get(0)[2]);
+		assertEquals("setInt", bindCalls.get(1)[0]);
+		assertEquals(2, bindCalls.get(1)[1]);
+		assertEquals(42, bindCalls.get(1)[2]);
+	}
+	
+	@Test
+	public void testFormatParameterizedInsertStatement(){
+		ParameterizedSQL insertStmt = SQLSyntaxUtil.formatParameterizedInsertStatement("Test",
+				ListUtil.createList("Derp", "Plop"), ListUtil.createList(42, "Te'st"));
+		assertEquals("INSERT INTO Test (Derp, Plop) VALUES (?, ?)", insertStmt.getSQL());
+		assertEquals(ListUtil.createList(42, "Te'st"), insertStmt.getParameters());
+	}
+	
+	@Test
+	public void testFormatParameterizedBulkInsertStatement(){
+		ParameterizedSQL insertStmt = SQLSyntaxUtil.formatParameterizedBulkInsertStatement("Test",
+				ListUtil.createList("Derp", "Plop"),
+				ListUtil.createList(ListUtil.createList(42, "Te'st"), ListUtil.createList(43, "Other")));
+		assertEquals("INSERT INTO Test (Derp, Plop) VALUES (?, ?), (?, ?)", insertStmt.getSQL());
+		assertEquals(ListUtil.createList(42, "Te'st", 43, "Other"), insertStmt.getParameters());
+	}
+	
+	@Test
+	public void testFormatParameterizedUpsertStatement(){
+		ParameterizedSQL upsertStmt = SQLSyntaxUtil.formatParameterizedUpsertStatement("Test",
+				ListUtil.createList("id", "Plop"),
+				ListUtil.createList(ListUtil.createList(1, "Te'st"), ListUtil.createList(2, "Other")),
+				ListUtil.createList("Plop"));
+		assertEquals("INSERT INTO Test (id, Plop) VALUES (?, ?), (?, ?) ON DUPLICATE KEY UPDATE Plop = VALUES(Plop)",
+				upsertStmt.getSQL());
+		assertEquals(ListUtil.createList(1, "Te'st", 2, "Other"), upsertStmt.getParameters());
+	}
+	
+	@Test
+	public void testFormatParameterizedUpsertStatementKeyColumn(){
+		ParameterizedSQL upsertStmt = SQLSyntaxUtil.formatParameterizedUpsertStatement("Test",
+				ListUtil.createList("Plop"), ListUtil.createList(ListUtil.createList("Te'st")),
+				ListUtil.createList("Plop"), "id");
+		assertEquals("INSERT INTO Test (Plop) VALUES (?) " +
+				"ON DUPLICATE KEY UPDATE Plop = VALUES(Plop), id = LAST_INSERT_ID(id)", upsertStmt.getSQL());
+		assertEquals(ListUtil.createList("Te'st"), upsertStmt.getParameters());
+	}
+	
+	@Test
+	public void testFormatParameterizedUpsertStatementNoUpdateColumns(){
+		ParameterizedSQL upsertStmt = SQLSyntaxUtil.formatParameterizedUpsertStatement("Test",
+				ListUtil.createList("id"), ListUtil.createList(ListUtil.createList(1)), null);
+		assertEquals("INSERT INTO Test (id) VALUES (?)", upsertStmt.getSQL());
+	}
+	
+	@Test
+	public void testFormatParameterizedBulkUpsertStatements(){
+		// Each row of a 1 digit number takes 7 bytes, on top of the 34 + 46 bytes for the rest of the statement
+		Iterator<ParameterizedSQL> stmts = SQLSyntaxUtil.formatParameterizedBulkUpsertStatements("Test",
+				ListUtil.createList("Derp"), ListUtil.createList(ListUtil.createList(1), ListUtil.createList(2),
+						ListUtil.createList(3)), ListUtil.createList("Derp"), 94);
+		ParameterizedSQL first = stmts.next();
+		assertEquals("INSERT INTO Test (Derp) VALUES (?), (?) ON DUPLICATE KEY UPDATE Derp = VALUES(Derp)",
+				first.getSQL());
+		assertEquals(ListUtil.createList(1, 2), first.getParameters());
+		ParameterizedSQL second = stmts.next();
+		assertEquals("INSERT INTO Test (Derp) VALUES (?) ON DUPLICATE KEY UPDATE Derp = VALUES(Derp)",
+				second.getSQL());
+		assertEquals(ListUtil.createList(3), second.getParameters());
+		assertFalse(stmts.hasNext());
+	}
+	
+	@Test
+	public void testFormatParameterizedBulkInsertStatementsSingleStatement(){
+		Iterator<ParameterizedSQL> stmts = SQLSyntaxUtil.formatParameterizedBulkInsertStatements("Test",
+				ListUtil.createList("Derp"), ListUtil.createList(ListUtil.createList(1), ListUtil.createList(2)),
+				1024);
+		assertTrue(stmts.hasNext());
+		ParameterizedSQL stmt = stmts.next();
+		assertEquals("INSERT INTO Test (Derp) VALUES (?), (?)", stmt.getSQL());
+		assertEquals(ListUtil.createList(1, 2), stmt.getParameters());
+		assertFalse(stmts.hasNext());
+	}
+	
+	@Test
+	public void testFormatParameterizedBulkInsertStatementsSplitBySize(){
+		// Each row of a 1 digit number takes 7 bytes, on top of the 34 bytes for the rest of the statement
+		Iterator<ParameterizedSQL> stmts = SQLSyntaxUtil.formatParameterizedBulkInsertStatements("Test",
+				ListUtil.createList("Derp"), ListUtil.createList(ListUtil.createList(1), ListUtil.createList(2),
+						ListUtil.createList(3), ListUtil.createList(4), ListUtil.createList(5)), 50);
+		assertEquals(ListUtil.createList(1, 2), stmts.next().getParameters());
+		assertEquals(ListUtil.createList(3, 4), stmts.next().getParameters());
+		ParameterizedSQL last = stmts.next();
+		assertEquals("INSERT INTO Test (Derp) VALUES (?)", last.getSQL());
+		assertEquals(ListUtil.createList(5), last.getParameters());
+		assertFalse(stmts.hasNext());
+	}
+	
+	@Test
+	public void testFormatParameterizedBulkInsertStatementsRowTooBig(){
+		Iterator<ParameterizedSQL> stmts = SQLSyntaxUtil.formatParameterizedBulkInsertStatements("Test",
+				ListUtil.createList("Derp"), ListUtil.createList(ListUtil.createList("A long string value"),
+						ListUtil.createList("Another long string")), 10);
+		assertEquals(ListUtil.createList("A long string value"), stmts.next().getParameters());
+		assertEquals(ListUtil.createList("Another long string"), stmts.next().getParameters());
+		assertFalse(stmts.hasNext());
+	}
+	
+	@Test
+	public void testFormatParameterizedBulkInsertStatementsSplitByPlaceholders(){
+		List<List<Object>> rows = new ArrayList<>();
+		for(int i = 0; i < SQLSyntaxUtil.MAX_PLACEHOLDERS + 1; i++){
+			rows.add(ListUtil.createList(i));
+		}
+		Iterator<ParameterizedSQL> stmts = SQLSyntaxUtil.formatParameterizedBulkInsertStatements("Test",
+				ListUtil.createList("Derp"), rows, Long.MAX_VALUE);
+		assertEquals(SQLSyntaxUtil.MAX_PLACEHOLDERS, stmts.next().getParameters().size());
+		assertEquals(ListUtil.createList(SQLSyntaxUtil.MAX_PLACEHOLDERS), stmts.next().getParameters());
+		assertFalse(stmts.hasNext());
+	}
+	
+	@Test
+	public void testFormatParameterizedBulkInsertStatementsEmpty(){
+		Iterator<ParameterizedSQL> stmts = SQLSyntaxUtil.formatParameterizedBulkInsertStatements("Test",
+				ListUtil.createList("Derp"), new ArrayList<List<Object>>(), 1024);
+		assertFalse(stmts.hasNext());
+		try{
+			stmts.next();
+			fail();
+		}catch(NoSuchElementException e){
+			assertNull(e.getMessage());
+		}
+	}
+	
+	@Test
+	public void testEstimateValueSizeNull(){
+		assertEquals(4, SQLSyntaxUtil.estimateValueSize(null));
+	}
+	
+	@Test
+	public void testEstimateValueSizeString(){
+		assertEquals(10, SQLSyntaxUtil.estimateValueSize("test"));
+	}
+	
+	@Test
+	public void testEstimateValueSizeBytes(){
+		assertEquals(8, SQLSyntaxUtil.estimateValueSize(new byte[]{1, 2, 3}));
+	}
+	
+	@Test
+	public void testEstimateValueSizeOther(){
+		assertEquals(5, SQLSyntaxUtil.estimateValueSize(12345));
+		assertEquals(4, SQLSyntaxUtil.estimateValueSize(true));
+	}
+	
+	@Test
+	public void testFormatParameterizedUpdateStatementNoWhere(){
+		ParameterizedSQL updateStmt = SQLSyntaxUtil.formatParameterizedUpdateStatement("Test",
+				ListUtil.createList("Derp", "Plop"), ListUtil.createList("Yep", 42), null, null);
+		assertEquals("UPDATE Test SET Derp = ?, Plop = ?", updateStmt.getSQL());
+		assertEquals(ListUtil.createList("Yep", 42), updateStmt.getParameters());
+	}
+	
+	@Test
+	public void testFormatParameterizedUpdateStatementWithWhere(){
+		ParameterizedSQL updateStmt = SQLSyntaxUtil.formatParameterizedUpdateStatement("Test",
+				ListUtil.createList("Derp", "Plop"), ListUtil.createList("Yep", 42),
+				ListUtil.createList("Test"), ListUtil.createList(true));
+		assertEquals("UPDATE Test SET Derp = ?, Plop = ? WHERE Test = ?", updateStmt.getSQL());
+		assertEquals(ListUtil.createList("Yep", 42, true), updateStmt.getParameters());
+	}
+	
+	@Test
+	public void testFormatParameterizedQueryError(){
+		try{
+			SQLSyntaxUtil.formatParameterizedQuery(ListUtil.createList("Test"), ListUtil.createList("Derp"),
+					ListUtil.createList("Plop"), ListUtil.createList(), false);
+			fail();
+		}catch(IllegalArgumentException e){
+			assertEquals("cols and values must be the same size!", e.getMessage());
+		}
+	}
+	
+	@Test
+	public void testFormatParameterizedQuery(){
+		ParameterizedSQL selectStmt = SQLSyntaxUtil.formatParameterizedQuery(ListUtil.createList("Test"),
+				ListUtil.createList("Derp"), ListUtil.createList("Plop"), ListUtil.createList(42), false);
+		assertEquals("SELECT DISTINCT Derp FROM Test WHERE Plop = ?", selectStmt.getSQL());
+		assertEquals(ListUtil.createList(42), selectStmt.getParameters());
+	}
+	
+	@Test
+	public void testFormatParameterizedQuerySearchTrue(){
+		ParameterizedSQL selectStmt = SQLSyntaxUtil.formatParameterizedQuery(ListUtil.createList("Test"),
+				ListUtil.createList("Derp"), ListUtil.createList("Plop", "Yep"),
+				ListUtil.createList(42, "something"), true);
+		assertEquals("SELECT DISTINCT Derp FROM Test WHERE Plop = ? AND Yep LIKE ?", selectStmt.getSQL());
+		assertEquals(ListUtil.createList(42, "%something%"), selectStmt.getParameters());
 	}
 }
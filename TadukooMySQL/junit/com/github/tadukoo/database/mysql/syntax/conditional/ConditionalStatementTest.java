@@ -4,6 +4,9 @@ import com.github.tadukoo.database.mysql.syntax.reference.ColumnRef;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
@@ -174,4 +177,174 @@ public class ConditionalStatementTest{
 				.build();
 		assertEquals("NOT " + columnName + " = 'yep'", stmt.toString());
 	}
+	
+	@Test
+	public void testToParameterizedString(){
+		List<Object> parameters = new ArrayList<>();
+		assertEquals(columnName + " = ?", stmt.toParameterizedString(parameters));
+		assertEquals(List.of("yep"), parameters);
+	}
+	
+	@Test
+	public void testToParameterizedStringColumnRefValue(){
+		stmt = ConditionalStatement.builder()
+				.column(ColumnRef.builder().columnName(columnName).build())
+				.operator(SQLOperator.NOT_EQUAL)
+				.value(ColumnRef.builder().columnName("Derp").build())
+				.build();
+		List<Object> parameters = new ArrayList<>();
+		assertEquals(columnName + " != Derp", stmt.toParameterizedString(parameters));
+		assertTrue(parameters.isEmpty());
+	}
+	
+	@Test
+	public void testToParameterizedStringNoParameters(){
+		assertEquals(columnName + " = 'yep'", stmt.toParameterizedString(null));
+	}
+	
+	@Test
+	public void testBuilderDefaultEndValue(){
+		assertNull(stmt.getEndValue());
+	}
+	
+	@Test
+	public void testBuilderSetValues(){
+		stmt = ConditionalStatement.builder()
+				.column(ColumnRef.builder().columnName(columnName).build())
+				.operator(SQLOperator.IN)
+				.values(List.of(1, 2, 3))
+				.build();
+		assertEquals(List.of(1, 2, 3), stmt.getValue());
+	}
+	
+	@Test
+	public void testBuilderSetRange(){
+		stmt = ConditionalStatement.builder()
+				.column(ColumnRef.builder().columnName(columnName).build())
+				.operator(SQLOperator.BETWEEN)
+				.range(1, 10)
+				.build();
+		assertEquals(1, stmt.getValue());
+		assertEquals(10, stmt.getEndValue());
+	}
+	
+	@Test
+	public void testBuilderInNotCollection(){
+		try{
+			ConditionalStatement.builder()
+					.column(ColumnRef.builder().columnName(columnName).build())
+					.operator(SQLOperator.IN)
+					.value(5)
+					.build();
+			fail();
+		}catch(IllegalArgumentException e){
+			assertEquals("Encountered the following errors trying to build a ConditionalStatement:\n" +
+					"value must be a non-empty Collection for IN!", e.getMessage());
+		}
+	}
+	
+	@Test
+	public void testBuilderInEmptyCollection(){
+		try{
+			ConditionalStatement.builder()
+					.column(ColumnRef.builder().columnName(columnName).build())
+					.operator(SQLOperator.IN)
+					.values(new ArrayList<>())
+					.build();
+			fail();
+		}catch(IllegalArgumentException e){
+			assertEquals("Encountered the following errors trying to build a ConditionalStatement:\n" +
+					"value must be a non-empty Collection for IN!", e.getMessage());
+		}
+	}
+	
+	@Test
+	public void testBuilderCollectionNotIn(){
+		try{
+			ConditionalStatement.builder()
+					.column(ColumnRef.builder().columnName(columnName).build())
+					.operator(SQLOperator.EQUAL)
+					.values(List.of(1, 2))
+					.build();
+			fail();
+		}catch(IllegalArgumentException e){
+			assertEquals("Encountered the following errors trying to build a ConditionalStatement:\n" +
+					"A Collection value can only be used with IN!", e.getMessage());
+		}
+	}
+	
+	@Test
+	public void testBuilderBetweenMissingEndValue(){
+		try{
+			ConditionalStatement.builder()
+					.column(ColumnRef.builder().columnName(columnName).build())
+					.operator(SQLOperator.BETWEEN)
+					.value(1)
+					.build();
+			fail();
+		}catch(IllegalArgumentException e){
+			assertEquals("Encountered the following errors trying to build a ConditionalStatement:\n" +
+					"endValue is required for BETWEEN!", e.getMessage());
+		}
+	}
+	
+	@Test
+	public void testBuilderEndValueNotBetween(){
+		try{
+			ConditionalStatement.builder()
+					.column(ColumnRef.builder().columnName(columnName).build())
+					.operator(SQLOperator.LESS_THAN)
+					.range(1, 10)
+					.build();
+			fail();
+		}catch(IllegalArgumentException e){
+			assertEquals("Encountered the following errors trying to build a ConditionalStatement:\n" +
+					"endValue can only be used with BETWEEN!", e.getMessage());
+		}
+	}
+	
+	@Test
+	public void testToStringIn(){
+		stmt = ConditionalStatement.builder()
+				.column(ColumnRef.builder().columnName(columnName).build())
+				.operator(SQLOperator.IN)
+				.values(List.of(1, "yep", 3))
+				.build();
+		assertEquals(columnName + " IN (1, 'yep', 3)", stmt.toString());
+	}
+	
+	@Test
+	public void testToParameterizedStringIn(){
+		stmt = ConditionalStatement.builder()
+				.negated()
+				.column(ColumnRef.builder().columnName(columnName).build())
+				.operator(SQLOperator.IN)
+				.values(List.of(1, 2, 3))
+				.build();
+		List<Object> parameters = new ArrayList<>();
+		assertEquals("NOT " + columnName + " IN (?, ?, ?)", stmt.toParameterizedString(parameters));
+		assertEquals(List.of(1, 2, 3), parameters);
+	}
+	
+	@Test
+	public void testToStringBetween(){
+		stmt = ConditionalStatement.builder()
+				.column(ColumnRef.builder().columnName(columnName).build())
+				.operator(SQLOperator.BETWEEN)
+				.range(1, 10)
+				.build();
+		assertEquals(columnName + " BETWEEN 1 AND 10", stmt.toString());
+	}
+	
+	@Test
+	public void testToParameterizedStringBetween(){
+		stmt = ConditionalStatement.builder()
+				.column(ColumnRef.builder().columnName(columnName).build())
+				.operator(SQLOperator.BETWEEN)
+				.range("a", "m")
+				.build();
+		List<Object> parameters = new ArrayList<>();
+		assertEquals(columnName + " BETWEEN ? AND ?", stmt.toParameterizedString(parameters));
+		assertEquals(List.of("a", "m"), parameters);
+	}
 }
@@ -4,8 +4,12 @@ import com.github.tadukoo.database.mysql.syntax.reference.ColumnRef;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.fail;
 
 public class ConditionalTest{
@@ -187,4 +191,144 @@ public class ConditionalTest{
 				.secondCond(cond).build();
 		assertEquals(firstCondStmt.toString() + " AND (" + cond.toString() + ")", cond2.toString());
 	}
+	
+	@Test
+	public void testToParameterizedString(){
+		Conditional cond2 = Conditional.builder().firstCond(cond).operator(SQLConjunctiveOperator.OR)
+				.secondCondStmt(ConditionalStatement.builder()
+						.column(ColumnRef.builder().columnName("Derp").build())
+						.operator(SQLOperator.EQUAL)
+						.value("Plop")
+						.build())
+				.build();
+		List<Object> parameters = new ArrayList<>();
+		assertEquals("(Test = ?) OR Derp = ?", cond2.toParameterizedString(parameters));
+		assertEquals(List.of(5, "Plop"), parameters);
+	}
+	
+	@Test
+	public void testToParameterizedStringSecondIsCond(){
+		Conditional cond2 = Conditional.builder().firstCondStmt(firstCondStmt).operator(SQLConjunctiveOperator.AND)
+				.secondCond(cond).build();
+		List<Object> parameters = new ArrayList<>();
+		assertEquals("Test = ? AND (Test = ?)", cond2.toParameterizedString(parameters));
+		assertEquals(List.of(5, 5), parameters);
+	}
+	
+	@Test
+	public void testAppendTo(){
+		Conditional cond2 = Conditional.builder().firstCond(cond).operator(SQLConjunctiveOperator.OR)
+				.secondCond(cond).build();
+		List<Object> parameters = new ArrayList<>();
+		StringBuilder sb = new StringBuilder("WHERE ");
+		assertSame(sb, cond2.appendTo(sb, parameters));
+		assertEquals("WHERE (Test = ?) OR (Test = ?)", sb.toString());
+		assertEquals(List.of(5, 5), parameters);
+	}
+	
+	@Test
+	public void testAppendToInline(){
+		StringBuilder sb = new StringBuilder("WHERE ");
+		cond.appendTo(sb, null);
+		assertEquals("WHERE Test = 5", sb.toString());
+	}
+	
+	@Test
+	public void testBuilderDefaultConditions(){
+		assertNull(cond.getConditions());
+	}
+	
+	@Test
+	public void testBuilderDefaultConditionStmts(){
+		assertNull(cond.getConditionStmts());
+	}
+	
+	@Test
+	public void testBuilderSetConditions(){
+		Conditional cond2 = Conditional.builder()
+				.conditions(SQLConjunctiveOperator.OR, cond, cond)
+				.build();
+		assertEquals(List.of(cond, cond), cond2.getConditions());
+		assertEquals(SQLConjunctiveOperator.OR, cond2.getOperator());
+		assertNull(cond2.getConditionStmts());
+	}
+	
+	@Test
+	public void testBuilderSetConditionStmts(){
+		Conditional cond2 = Conditional.builder()
+				.conditionStmts(SQLConjunctiveOperator.AND, firstCondStmt, firstCondStmt)
+				.build();
+		assertEquals(List.of(firstCondStmt, firstCondStmt), cond2.getConditionStmts());
+		assertEquals(SQLConjunctiveOperator.AND, cond2.getOperator());
+		assertNull(cond2.getConditions());
+		assertNull(cond2.getFirstCondStmt());
+	}
+	
+	@Test
+	public void testBuilderConditionsMissingOperator(){
+		try{
+			Conditional.builder()
+					.conditionStmts(null, firstCondStmt, firstCondStmt)
+					.build();
+			fail();
+		}catch(IllegalArgumentException e){
+			assertEquals("Encountered the following errors trying to build a Conditional:\n" +
+					"Must specify an operator for a list of conditions!", e.getMessage());
+		}
+	}
+	
+	@Test
+	public void testBuilderConditionsEmpty(){
+		try{
+			Conditional.builder()
+					.conditions(SQLConjunctiveOperator.AND, new ArrayList<>())
+					.build();
+			fail();
+		}catch(IllegalArgumentException e){
+			assertEquals("Encountered the following errors trying to build a Conditional:\n" +
+					"Must specify at least one condition in a list of conditions!", e.getMessage());
+		}
+	}
+	
+	@Test
+	public void testToStringConditionStmts(){
+		Conditional cond2 = Conditional.builder()
+				.conditionStmts(SQLConjunctiveOperator.AND, firstCondStmt, firstCondStmt, firstCondStmt)
+				.build();
+		assertEquals("Test = 5 AND Test = 5 AND Test = 5", cond2.toString());
+	}
+	
+	@Test
+	public void testToStringSingleConditionStmt(){
+		Conditional cond2 = Conditional.builder()
+				.conditionStmts(SQLConjunctiveOperator.AND, firstCondStmt)
+				.build();
+		assertEquals("Test = 5", cond2.toString());
+	}
+	
+	@Test
+	public void testToStringConditions(){
+		Conditional andCond = Conditional.builder()
+				.conditionStmts(SQLConjunctiveOperator.AND, firstCondStmt, firstCondStmt)
+				.build();
+		Conditional cond2 = Conditional.builder()
+				.conditions(SQLConjunctiveOperator.OR, cond, andCond, cond)
+				.build();
+		assertEquals("Test = 5 OR (Test = 5 AND Test = 5) OR Test = 5", cond2.toString());
+	}
+	
+	@Test
+	public void testToParameterizedStringConditionStmts(){
+		ConditionalStatement condStmt2 = ConditionalStatement.builder()
+				.column(ColumnRef.builder().columnName("Derp").build())
+				.operator(SQLOperator.LIKE)
+				.value("%Plop%")
+				.build();
+		Conditional cond2 = Conditional.builder()
+				.conditionStmts(SQLConjunctiveOperator.AND, firstCondStmt, condStmt2)
+				.build();
+		List<Object> parameters = new ArrayList<>();
+		assertEquals("Test = ? AND Derp LIKE ?", cond2.toParameterizedString(parameters));
+		assertEquals(List.of(5, "%Plop%"), parameters);
+	}
 }
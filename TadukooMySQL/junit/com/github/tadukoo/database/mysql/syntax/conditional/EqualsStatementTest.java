@@ -5,6 +5,9 @@ import com.github.tadukoo.database.mysql.syntax.reference.ColumnRef;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
 public class EqualsStatementTest{
@@ -34,4 +37,11 @@ public class EqualsStatementTest{
 		assertEquals(column.toString() + " " + SQLOperator.EQUAL + " " +
 				SQLSyntaxUtil.convertValueToString(value), stmt.toString());
 	}
+	
+	@Test
+	public void testToParameterizedString(){
+		List<Object> parameters = new ArrayList<>();
+		assertEquals(column.toString() + " " + SQLOperator.EQUAL + " ?", stmt.toParameterizedString(parameters));
+		assertEquals(List.of(value), parameters);
+	}
 }
@@ -5,6 +5,7 @@ import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.fail;
 
 public class ColumnRefTest{
@@ -104,4 +105,16 @@ public class ColumnRefTest{
 				.build();
 		assertEquals("Derp." + columnName + " AS \"Derp Test\"", columnRef.toString());
 	}
+	
+	@Test
+	public void testAppendTo(){
+		columnRef = ColumnRef.builder()
+				.tableName("Derp")
+				.columnName(columnName)
+				.alias("Derp Test")
+				.build();
+		StringBuilder sb = new StringBuilder("SELECT ");
+		assertSame(sb, columnRef.appendTo(sb));
+		assertEquals("SELECT Derp." + columnName + " AS \"Derp Test\"", sb.toString());
+	}
 }
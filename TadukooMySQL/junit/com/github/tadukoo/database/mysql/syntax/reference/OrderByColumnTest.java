@@ -0,0 +1,52 @@
+package com.github.tadukoo.database.mysql.syntax.reference;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class OrderByColumnTest{
+	private ColumnRef column;
+	private OrderByColumn orderBy;
+	
+	@BeforeEach
+	public void setup(){
+		column = ColumnRef.builder().columnName("Test").build();
+		orderBy = new OrderByColumn(column, SQLSortOrder.DESC);
+	}
+	
+	@Test
+	public void testGetColumn(){
+		assertEquals(column, orderBy.getColumn());
+	}
+	
+	@Test
+	public void testGetOrder(){
+		assertEquals(SQLSortOrder.DESC, orderBy.getOrder());
+	}
+	
+	@Test
+	public void testDefaultOrder(){
+		orderBy = new OrderByColumn(column);
+		assertEquals(SQLSortOrder.ASC, orderBy.getOrder());
+	}
+	
+	@Test
+	public void testToString(){
+		assertEquals("Test DESC", orderBy.toString());
+	}
+	
+	@Test
+	public void testToStringWithTableNameAndAlias(){
+		orderBy = new OrderByColumn(ColumnRef.builder().tableName("Derp").columnName("Test").alias("Plop").build());
+		assertEquals("Derp.Test ASC", orderBy.toString());
+	}
+	
+	@Test
+	public void testAppendTo(){
+		StringBuilder sb = new StringBuilder("ORDER BY ");
+		assertSame(sb, orderBy.appendTo(sb));
+		assertEquals("ORDER BY Test DESC", sb.toString());
+	}
+}
@@ -0,0 +1,34 @@
+package com.github.tadukoo.database.mysql.syntax.reference;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+public class SQLSortOrderTest{
+	
+	@Test
+	public void testToStringASC(){
+		assertEquals("ASC", SQLSortOrder.ASC.toString());
+	}
+	
+	@Test
+	public void testToStringDESC(){
+		assertEquals("DESC", SQLSortOrder.DESC.toString());
+	}
+	
+	@Test
+	public void testFromStringASC(){
+		assertEquals(SQLSortOrder.ASC, SQLSortOrder.fromString("asc"));
+	}
+	
+	@Test
+	public void testFromStringDESC(){
+		assertEquals(SQLSortOrder.DESC, SQLSortOrder.fromString("DESC"));
+	}
+	
+	@Test
+	public void testFromStringFail(){
+		assertNull(SQLSortOrder.fromString("garbage_string"));
+	}
+}
@@ -5,6 +5,7 @@ import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.fail;
 
 public class TableRefTest{
@@ -53,4 +54,12 @@ public class TableRefTest{
 		tableRef = TableRef.builder().tableName(tableName).alias("Derp").build();
 		assertEquals(tableName + " AS Derp", tableRef.toString());
 	}
+	
+	@Test
+	public void testAppendTo(){
+		tableRef = TableRef.builder().tableName(tableName).alias("Derp").build();
+		StringBuilder sb = new StringBuilder("FROM ");
+		assertSame(sb, tableRef.appendTo(sb));
+		assertEquals("FROM " + tableName + " AS Derp", sb.toString());
+	}
 }
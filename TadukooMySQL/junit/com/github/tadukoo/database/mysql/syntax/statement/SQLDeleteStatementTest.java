@@ -10,6 +10,7 @@ import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.fail;
 
 public class SQLDeleteStatementTest{
@@ -73,4 +74,11 @@ public class SQLDeleteStatementTest{
 		stmt = SQLDeleteStatement.builder().table(table).whereStatement(where).build();
 		assertEquals("DELETE FROM " + table + " WHERE " + where, stmt.toString());
 	}
+	
+	@Test
+	public void testAppendTo(){
+		StringBuilder sb = new StringBuilder();
+		assertSame(sb, stmt.appendTo(sb));
+		assertEquals(stmt.toString(), sb.toString());
+	}
 }
@@ -1,12 +1,18 @@
 package com.github.tadukoo.database.mysql.syntax.statement;
 
 import com.github.tadukoo.database.mysql.syntax.SQLSyntaxUtil;
+import com.github.tadukoo.database.mysql.syntax.conditional.Conditional;
+import com.github.tadukoo.database.mysql.syntax.conditional.ConditionalStatement;
+import com.github.tadukoo.database.mysql.syntax.conditional.EqualsStatement;
+import com.github.tadukoo.database.mysql.syntax.conditional.SQLOperator;
+import com.github.tadukoo.database.mysql.syntax.ParameterizedSQL;
 import com.github.tadukoo.database.mysql.syntax.reference.ColumnRef;
 import com.github.tadukoo.database.mysql.syntax.reference.TableRef;
 import com.github.tadukoo.util.ListUtil;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -136,6 +142,68 @@ public class SQLInsertStatementTest{
 		}
 	}
 	
+	@Test
+	public void testGetRows(){
+		List<List<Object>> rows = stmt.getRows();
+		assertEquals(1, rows.size());
+		assertEquals(ListUtil.createList(value), rows.get(0));
+	}
+	
+	@Test
+	public void testSetRows(){
+		List<List<Object>> rows = ListUtil.createList(ListUtil.createList(value, "test"),
+				ListUtil.createList(value, "test2"));
+		stmt = SQLInsertStatement.builder()
+				.table(table)
+				.rows(rows)
+				.build();
+		assertEquals(rows, stmt.getRows());
+		assertEquals(rows.get(0), stmt.getValues());
+	}
+	
+	@Test
+	public void testBuilderEmptyRows(){
+		try{
+			stmt = SQLInsertStatement.builder()
+					.table(table)
+					.rows(new ArrayList<>())
+					.build();
+			fail();
+		}catch(IllegalArgumentException e){
+			assertEquals("Errors encountered while building SQLInsertStatement: \n" +
+					"rows can't be empty!", e.getMessage());
+		}
+	}
+	
+	@Test
+	public void testBuilderColumnsAndRowSizeMismatch(){
+		try{
+			stmt = SQLInsertStatement.builder()
+					.table(table)
+					.columns(ColumnRef.builder().columnName("Derp").build())
+					.rows(ListUtil.createList(ListUtil.createList(value), ListUtil.createList(value, "test")))
+					.build();
+			fail();
+		}catch(IllegalArgumentException e){
+			assertEquals("Errors encountered while building SQLInsertStatement: \n" +
+					"Number of columns must equal number of values if specified!", e.getMessage());
+		}
+	}
+	
+	@Test
+	public void testBuilderRowSizesMismatch(){
+		try{
+			stmt = SQLInsertStatement.builder()
+					.table(table)
+					.rows(ListUtil.createList(ListUtil.createList(value), ListUtil.createList(value, "test")))
+					.build();
+			fail();
+		}catch(IllegalArgumentException e){
+			assertEquals("Errors encountered while building SQLInsertStatement: \n" +
+					"All rows must have the same number of values!", e.getMessage());
+		}
+	}
+	
 	@Test
 	public void testToString(){
 		assertEquals("INSERT INTO " + table.toString() + " VALUES (" +
@@ -207,4 +275,182 @@ public class SQLInsertStatementTest{
 		assertEquals("INSERT INTO " + table.toString() + " (" + column.toString() + ", " + column2.toString() +
 				") " + selectStmt.toString(), stmt.toString());
 	}
+	
+	@Test
+	public void testToParameterizedSQL(){
+		ColumnRef column = ColumnRef.builder().columnName("Derp").build();
+		ColumnRef column2 = ColumnRef.builder().columnName("Derp2").build();
+		stmt = SQLInsertStatement.builder()
+				.table(table)
+				.columns(column, column2).values(value, "Te'st")
+				.build();
+		ParameterizedSQL sql = stmt.toParameterizedSQL();
+		assertEquals("INSERT INTO Test (Derp, Derp2) VALUES (?, ?)", sql.getSQL());
+		assertEquals(ListUtil.createList(value, "Te'st"), sql.getParameters());
+	}
+	
+	@Test
+	public void testToStringMultipleRows(){
+		ColumnRef column = ColumnRef.builder().columnName("Derp").build();
+		ColumnRef column2 = ColumnRef.builder().columnName("Derp2").build();
+		stmt = SQLInsertStatement.builder()
+				.table(table)
+				.columns(column, column2)
+				.rows(ListUtil.createList(ListUtil.createList(value, true), ListUtil.createList(value, false)))
+				.build();
+		assertEquals("INSERT INTO " + table + " (" + column + ", " + column2 + ") VALUES (" +
+				SQLSyntaxUtil.convertValueToString(value) + ", true), (" +
+				SQLSyntaxUtil.convertValueToString(value) + ", false)", stmt.toString());
+	}
+	
+	@Test
+	public void testToParameterizedSQLMultipleRows(){
+		ColumnRef column = ColumnRef.builder().columnName("Derp").build();
+		ColumnRef column2 = ColumnRef.builder().columnName("Derp2").build();
+		stmt = SQLInsertStatement.builder()
+				.table(table)
+				.columns(column, column2)
+				.rows(ListUtil.createList(ListUtil.createList(value, "Te'st"), ListUtil.createList(value, "Other")))
+				.build();
+		ParameterizedSQL sql = stmt.toParameterizedSQL();
+		assertEquals("INSERT INTO Test (Derp, Derp2) VALUES (?, ?), (?, ?)", sql.getSQL());
+		assertEquals(ListUtil.createList(value, "Te'st", value, "Other"), sql.getParameters());
+	}
+	
+	@Test
+	public void testDefaultUpsertSettings(){
+		assertNull(stmt.getRowAlias());
+		assertEquals(new ArrayList<>(), stmt.getUpdateColumns());
+		assertEquals(new ArrayList<>(), stmt.getUpdateStatements());
+		assertNull(stmt.getKeyColumn());
+	}
+	
+	@Test
+	public void testSetUpsertSettings(){
+		ColumnRef column = ColumnRef.builder().columnName("Derp").build();
+		EqualsStatement updateStmt = new EqualsStatement(column, 5);
+		stmt = SQLInsertStatement.builder()
+				.table(table)
+				.columns(column)
+				.values(value)
+				.rowAlias("new")
+				.onDuplicateKeyUpdate(column)
+				.onDuplicateKeyUpdateStatements(updateStmt)
+				.keyColumn(column)
+				.build();
+		assertEquals("new", stmt.getRowAlias());
+		assertEquals(ListUtil.createList(column), stmt.getUpdateColumns());
+		assertEquals(ListUtil.createList(updateStmt), stmt.getUpdateStatements());
+		assertEquals(column, stmt.getKeyColumn());
+	}
+	
+	@Test
+	public void testBuilderRowAliasWithSelectStmt(){
+		try{
+			stmt = SQLInsertStatement.builder()
+					.table(table)
+					.selectStmt(selectStmt)
+					.rowAlias("new")
+					.build();
+			fail();
+		}catch(IllegalArgumentException e){
+			assertEquals("Errors encountered while building SQLInsertStatement: \n" +
+					"rowAlias can't be used with a select statement!", e.getMessage());
+		}
+	}
+	
+	@Test
+	public void testToStringOnDuplicateKeyUpdate(){
+		ColumnRef column = ColumnRef.builder().columnName("Derp").build();
+		ColumnRef column2 = ColumnRef.builder().columnName("Derp2").build();
+		stmt = SQLInsertStatement.builder()
+				.table(table)
+				.columns(column, column2)
+				.values(value, "Te'st")
+				.onDuplicateKeyUpdate(ListUtil.createList(column, column2))
+				.build();
+		assertEquals("INSERT INTO Test (Derp, Derp2) VALUES (42, 'Te'st') " +
+				"ON DUPLICATE KEY UPDATE Derp = VALUES(Derp), Derp2 = VALUES(Derp2)", stmt.toString());
+	}
+	
+	@Test
+	public void testToStringOnDuplicateKeyUpdateRowAlias(){
+		ColumnRef column = ColumnRef.builder().columnName("Derp").build();
+		stmt = SQLInsertStatement.builder()
+				.table(table)
+				.columns(column)
+				.rows(ListUtil.createList(ListUtil.createList(value), ListUtil.createList(43)))
+				.rowAlias("new")
+				.onDuplicateKeyUpdate(column)
+				.build();
+		assertEquals("INSERT INTO Test (Derp) VALUES (42), (43) AS new ON DUPLICATE KEY UPDATE Derp = new.Derp",
+				stmt.toString());
+	}
+	
+	@Test
+	public void testToParameterizedSQLOnDuplicateKeyUpdateStatements(){
+		ColumnRef column = ColumnRef.builder().columnName("Derp").build();
+		ColumnRef column2 = ColumnRef.builder().columnName("Derp2").build();
+		stmt = SQLInsertStatement.builder()
+				.table(table)
+				.columns(column, column2)
+				.values(value, "Te'st")
+				.onDuplicateKeyUpdate(column2)
+				.onDuplicateKeyUpdateStatements(ListUtil.createList(
+						new EqualsStatement(column, 5)))
+				.build();
+		ParameterizedSQL sql = stmt.toParameterizedSQL();
+		assertEquals("INSERT INTO Test (Derp, Derp2) VALUES (?, ?) " +
+				"ON DUPLICATE KEY UPDATE Derp2 = VALUES(Derp2), Derp = ?", sql.getSQL());
+		assertEquals(ListUtil.createList(value, "Te'st", 5), sql.getParameters());
+	}
+	
+	@Test
+	public void testToStringOnDuplicateKeyUpdateKeyColumn(){
+		ColumnRef idColumn = ColumnRef.builder().columnName("id").build();
+		ColumnRef column = ColumnRef.builder().columnName("Derp").build();
+		stmt = SQLInsertStatement.builder()
+				.table(table)
+				.columns(column)
+				.values(value)
+				.onDuplicateKeyUpdate(column)
+				.keyColumn(idColumn)
+				.build();
+		assertEquals("INSERT INTO Test (Derp) VALUES (42) " +
+				"ON DUPLICATE KEY UPDATE Derp = VALUES(Derp), id = LAST_INSERT_ID(id)", stmt.toString());
+	}
+	
+	@Test
+	public void testToStringKeyColumnOnly(){
+		ColumnRef idColumn = ColumnRef.builder().columnName("id").build();
+		stmt = SQLInsertStatement.builder()
+				.table(table)
+				.columns(idColumn)
+				.values(value)
+				.keyColumn(idColumn)
+				.build();
+		assertEquals("INSERT INTO Test (id) VALUES (42) ON DUPLICATE KEY UPDATE id = LAST_INSERT_ID(id)",
+				stmt.toString());
+	}
+	
+	@Test
+	public void testToParameterizedSQLWithSelectStmt(){
+		selectStmt = SQLSelectStatement.builder()
+				.fromTables(TableRef.builder().tableName("Derp").build())
+				.whereStatement(Conditional.builder()
+						.firstCondStmt(ConditionalStatement.builder()
+								.column(ColumnRef.builder().columnName("Plop").build())
+								.operator(SQLOperator.EQUAL)
+								.value("yep")
+								.build())
+						.build())
+				.build();
+		stmt = SQLInsertStatement.builder()
+				.table(table)
+				.selectStmt(selectStmt)
+				.build();
+		ParameterizedSQL sql = stmt.toParameterizedSQL();
+		assertEquals("INSERT INTO Test SELECT * FROM Derp WHERE Plop = ?", sql.getSQL());
+		assertEquals(ListUtil.createList("yep"), sql.getParameters());
+	}
 }
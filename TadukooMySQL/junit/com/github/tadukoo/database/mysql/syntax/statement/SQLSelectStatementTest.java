@@ -1,19 +1,24 @@
 package com.github.tadukoo.database.mysql.syntax.statement;
 
+import com.github.tadukoo.database.mysql.syntax.ParameterizedSQL;
 import com.github.tadukoo.database.mysql.syntax.conditional.Conditional;
 import com.github.tadukoo.database.mysql.syntax.conditional.ConditionalStatement;
 import com.github.tadukoo.database.mysql.syntax.conditional.SQLOperator;
 import com.github.tadukoo.database.mysql.syntax.reference.ColumnRef;
+import com.github.tadukoo.database.mysql.syntax.reference.OrderByColumn;
+import com.github.tadukoo.database.mysql.syntax.reference.SQLSortOrder;
 import com.github.tadukoo.database.mysql.syntax.reference.TableRef;
 import com.github.tadukoo.util.ListUtil;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
@@ -44,7 +49,7 @@ public class SQLSelectStatementTest{
 				.build();
 		assertTrue(stmt.isDistinct());
 	}
-
+	
 	@Test
 	public void testBuilderDefaultReturnColumns(){
 		assertTrue(ListUtil.isBlank(stmt.getReturnColumns()));
@@ -125,6 +130,46 @@ public class SQLSelectStatementTest{
 		}
 	}
 	
+	@Test
+	public void testBuilderDefaultOrderBy(){
+		assertTrue(stmt.getOrderBy().isEmpty());
+	}
+	
+	@Test
+	public void testBuilderDefaultLimit(){
+		assertNull(stmt.getLimit());
+	}
+	
+	@Test
+	public void testBuilderDefaultOffset(){
+		assertNull(stmt.getOffset());
+	}
+	
+	@Test
+	public void testBuilderSetOrderByLimitOffset(){
+		OrderByColumn orderBy = new OrderByColumn(ColumnRef.builder().columnName("Derp").build());
+		stmt = SQLSelectStatement.builder()
+				.fromTables(fromTable)
+				.orderBy(orderBy)
+				.limit(10)
+				.offset(20)
+				.build();
+		assertEquals(ListUtil.createList(orderBy), stmt.getOrderBy());
+		assertEquals(10L, stmt.getLimit());
+		assertEquals(20L, stmt.getOffset());
+	}
+	
+	@Test
+	public void testBuilderNegativeLimitAndOffset(){
+		try{
+			stmt = SQLSelectStatement.builder().fromTables(fromTable).limit(-1).offset(-2).build();
+			fail();
+		}catch(IllegalArgumentException e){
+			assertEquals("Encountered the following errors trying to build a SQLSelectStatement: \n" +
+					"limit can't be negative!\noffset can't be negative!", e.getMessage());
+		}
+	}
+	
 	@Test
 	public void testToString(){
 		assertEquals("SELECT * FROM " + fromTable.toString(), stmt.toString());
@@ -205,4 +250,90 @@ public class SQLSelectStatementTest{
 						fromTable.toString() + ", " + table2.toString() + " WHERE " + cond.toString(),
 				stmt.toString());
 	}
+	
+	@Test
+	public void testToParameterizedSQL(){
+		Conditional cond = Conditional.builder()
+				.firstCondStmt(ConditionalStatement.builder()
+						.column(ColumnRef.builder().columnName("Derp").build())
+						.operator(SQLOperator.EQUAL)
+						.value("yep")
+						.build())
+				.build();
+		stmt = SQLSelectStatement.builder()
+				.fromTables(fromTable)
+				.whereStatement(cond)
+				.build();
+		ParameterizedSQL sql = stmt.toParameterizedSQL();
+		assertEquals("SELECT * FROM Test WHERE Derp = ?", sql.getSQL());
+		assertEquals(ListUtil.createList("yep"), sql.getParameters());
+	}
+	
+	@Test
+	public void testToParameterizedSQLNoWhere(){
+		ParameterizedSQL sql = stmt.toParameterizedSQL();
+		assertEquals("SELECT * FROM Test", sql.getSQL());
+		assertTrue(sql.getParameters().isEmpty());
+	}
+	
+	@Test
+	public void testAppendTo(){
+		Conditional cond = Conditional.builder()
+				.firstCondStmt(ConditionalStatement.builder()
+						.column(ColumnRef.builder().columnName("Derp").build())
+						.operator(SQLOperator.EQUAL)
+						.value("yep")
+						.build())
+				.build();
+		stmt = SQLSelectStatement.builder()
+				.returnColumns(ColumnRef.builder().columnName("Derp").build())
+				.fromTables(fromTable)
+				.whereStatement(cond)
+				.build();
+		List<Object> parameters = new ArrayList<>();
+		StringBuilder sb = new StringBuilder("(");
+		assertSame(sb, stmt.appendTo(sb, parameters));
+		sb.append(')');
+		assertEquals("(SELECT Derp FROM Test WHERE Derp = ?)", sb.toString());
+		assertEquals(ListUtil.createList("yep"), parameters);
+	}
+	
+	@Test
+	public void testToStringOrderBy(){
+		stmt = SQLSelectStatement.builder()
+				.fromTables(fromTable)
+				.orderBy(new OrderByColumn(ColumnRef.builder().columnName("Derp").build(), SQLSortOrder.DESC),
+						new OrderByColumn(ColumnRef.builder().columnName("Plop").build()))
+				.build();
+		assertEquals("SELECT * FROM Test ORDER BY Derp DESC, Plop ASC", stmt.toString());
+	}
+	
+	@Test
+	public void testToStringLimit(){
+		stmt = SQLSelectStatement.builder()
+				.fromTables(fromTable)
+				.limit(10)
+				.build();
+		assertEquals("SELECT * FROM Test LIMIT 10", stmt.toString());
+	}
+	
+	@Test
+	public void testToParameterizedSQLWhereOrderByLimitOffset(){
+		stmt = SQLSelectStatement.builder()
+				.fromTables(fromTable)
+				.whereStatement(Conditional.builder()
+						.firstCondStmt(ConditionalStatement.builder()
+								.column(ColumnRef.builder().columnName("Derp").build())
+								.operator(SQLOperator.GREATER_THAN)
+								.value(5)
+								.build())
+						.build())
+				.orderBy(new OrderByColumn(ColumnRef.builder().columnName("Derp").build()))
+				.limit(10)
+				.offset(20)
+				.build();
+		ParameterizedSQL sql = stmt.toParameterizedSQL();
+		assertEquals("SELECT * FROM Test WHERE Derp > ? ORDER BY Derp ASC LIMIT 10 OFFSET 20", sql.getSQL());
+		assertEquals(ListUtil.createList(5), sql.getParameters());
+	}
 }
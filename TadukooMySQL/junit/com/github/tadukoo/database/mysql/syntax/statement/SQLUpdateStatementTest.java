@@ -1,5 +1,6 @@
 package com.github.tadukoo.database.mysql.syntax.statement;
 
+import com.github.tadukoo.database.mysql.syntax.ParameterizedSQL;
 import com.github.tadukoo.database.mysql.syntax.conditional.Conditional;
 import com.github.tadukoo.database.mysql.syntax.conditional.ConditionalStatement;
 import com.github.tadukoo.database.mysql.syntax.conditional.EqualsStatement;
@@ -169,4 +170,23 @@ public class SQLUpdateStatementTest{
 		assertEquals("UPDATE " + table + " SET " + setStatement + ", " + setStatement2 + " WHERE " + where,
 				stmt.toString());
 	}
+	
+	@Test
+	public void testToParameterizedSQL(){
+		EqualsStatement setStatement2 = new EqualsStatement(ColumnRef.builder().columnName("Derp2").build(), true);
+		Conditional where = Conditional.builder()
+				.firstCondStmt(ConditionalStatement.builder()
+						.column(ColumnRef.builder().columnName("Something").build())
+						.operator(SQLOperator.NOT_EQUAL)
+						.value(67)
+						.build())
+				.build();
+		stmt = SQLUpdateStatement.builder()
+				.table(table)
+				.setStatements(setStatement, setStatement2).whereStatement(where)
+				.build();
+		ParameterizedSQL sql = stmt.toParameterizedSQL();
+		assertEquals("UPDATE Test SET Derp = ?, Derp2 = ? WHERE Something != ?", sql.getSQL());
+		assertEquals(ListUtil.createList(42, true, 67), sql.getParameters());
+	}
 }
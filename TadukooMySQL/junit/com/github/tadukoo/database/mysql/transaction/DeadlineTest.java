@@ -0,0 +1,76 @@
+package com.github.tadukoo.database.mysql.transaction;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+public class DeadlineTest{
+	
+	@Test
+	public void testNone(){
+		Deadline deadline = Deadline.none();
+		assertFalse(deadline.isBounded());
+		assertNull(deadline.getTimeout());
+		assertNull(deadline.getRemaining());
+		assertFalse(deadline.isExpired());
+		assertTrue(deadline.hasTimeAfter(Duration.ofDays(1000)));
+		assertEquals(0, deadline.getRemainingSeconds());
+	}
+	
+	@Test
+	public void testAfterNull(){
+		assertSame(Deadline.none(), Deadline.after(null));
+	}
+	
+	@Test
+	public void testAfterNegative(){
+		try{
+			Deadline.after(Duration.ofSeconds(-1));
+			fail();
+		}catch(IllegalArgumentException e){
+			assertEquals("timeout can't be negative!", e.getMessage());
+		}
+	}
+	
+	@Test
+	public void testAfter(){
+		Deadline deadline = Deadline.after(Duration.ofMinutes(1));
+		assertTrue(deadline.isBounded());
+		assertEquals(Duration.ofMinutes(1), deadline.getTimeout());
+		assertFalse(deadline.isExpired());
+		assertTrue(deadline.getRemaining().compareTo(Duration.ofMinutes(1)) <= 0);
+		assertTrue(deadline.getRemaining().compareTo(Duration.ofSeconds(50)) > 0);
+	}
+	
+	@Test
+	public void testHasTimeAfter(){
+		Deadline deadline = Deadline.after(Duration.ofMinutes(1));
+		assertTrue(deadline.hasTimeAfter(Duration.ofSeconds(1)));
+		assertFalse(deadline.hasTimeAfter(Duration.ofMinutes(2)));
+	}
+	
+	@Test
+	public void testExpired(){
+		Deadline deadline = Deadline.after(Duration.ZERO);
+		assertTrue(deadline.isExpired());
+		assertEquals(Duration.ZERO, deadline.getRemaining());
+		assertFalse(deadline.hasTimeAfter(Duration.ZERO));
+	}
+	
+	@Test
+	public void testGetRemainingSecondsRoundsUp(){
+		assertEquals(2, Deadline.after(Duration.ofMillis(1500)).getRemainingSeconds());
+	}
+	
+	@Test
+	public void testGetRemainingSecondsAtLeastOne(){
+		assertEquals(1, Deadline.after(Duration.ZERO).getRemainingSeconds());
+	}
+}
@@ -233,4 +233,75 @@ public class InsertAndGetIDTest extends DatabaseConnectionTest{
 				)
 		);
 	}
+	
+	@Test
+	public void testDefaultInsertParameters(){
+		assertNull(insertAndGetID.getInsertParameters());
+	}
+	
+	@Test
+	public void testDefaultSelectParameters(){
+		assertNull(insertAndGetID.getSelectParameters());
+	}
+	
+	@Test
+	public void testParameterizedGetInsertSQL(){
+		insertAndGetID = InsertAndGetID.createParameterizedInsertAndGetID(table, idCol, ListUtil.createList(otherCol),
+				ListUtil.createList(42));
+		assertEquals("INSERT INTO " + table + " (" + otherCol + ") VALUES (?)", insertAndGetID.getInsertSQL());
+		assertEquals(ListUtil.createList(42), insertAndGetID.getInsertParameters());
+	}
+	
+	@Test
+	public void testParameterizedGetSelectSQL(){
+		insertAndGetID = InsertAndGetID.createParameterizedInsertAndGetID(table, idCol, ListUtil.createList(otherCol),
+				ListUtil.createList(42));
+		assertEquals("SELECT DISTINCT " + idCol + " FROM " + table + " WHERE " + otherCol + " = ?",
+				insertAndGetID.getSelectSQL());
+		assertEquals(ListUtil.createList(42), insertAndGetID.getSelectParameters());
+	}
+	
+	@Test
+	public void testParameterizedWrongColValSize(){
+		try{
+			insertAndGetID = InsertAndGetID.createParameterizedInsertAndGetID(table, idCol,
+					ListUtil.createList(otherCol, otherCol), ListUtil.createList(42));
+			fail();
+		}catch(IllegalArgumentException e){
+			assertEquals("Cols and Values don't match up!", e.getMessage());
+		}
+	}
+	
+	@Test
+	public void testExecuteParameterized() throws SQLException{
+		// Setup a table to insert into
+		db.executeTransaction(Updates.createUpdates("Create Test table",
+				null, ListUtil.createList(
+						SQLCreateStatement.builder()
+								.table()
+								.tableName(table)
+								.columns(
+										ColumnDefinition.builder()
+												.columnName(idCol)
+												.integer()
+												.defaultSize()
+												.notNull()
+												.autoIncrement()
+												.primaryKey()
+												.build(),
+										ColumnDefinition.builder()
+												.columnName(otherCol)
+												.integer()
+												.defaultSize()
+												.build()
+								)
+								.build()
+								.toString()
+				)));
+		
+		// Do the insert and get id
+		insertAndGetID = InsertAndGetID.createParameterizedInsertAndGetID(table, idCol, ListUtil.createList(otherCol),
+				ListUtil.createList(42));
+		assertEquals(1, db.executeTransaction(insertAndGetID));
+	}
 }
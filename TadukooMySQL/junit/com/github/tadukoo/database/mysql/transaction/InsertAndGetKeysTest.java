@@ -0,0 +1,198 @@
+package com.github.tadukoo.database.mysql.transaction;
+
+import com.github.tadukoo.database.mysql.connection.FakeConnection;
+import com.github.tadukoo.database.mysql.syntax.ParameterizedSQL;
+import com.github.tadukoo.junit.logger.JUnitEasyLogger;
+import com.github.tadukoo.util.ListUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+public class InsertAndGetKeysTest{
+	private JUnitEasyLogger logger;
+	private FakeConnection fake;
+	private InsertAndGetKeys insert;
+	
+	@BeforeEach
+	public void setup(){
+		logger = new JUnitEasyLogger();
+		fake = new FakeConnection();
+		insert = InsertAndGetKeys.createInsertAndGetKeys("Test", ListUtil.createList("name", "value"),
+				ListUtil.createList("Derp", 42));
+	}
+	
+	@Test
+	public void testDefaultInsertString(){
+		insert = new InsertAndGetKeys(){
+			@Override
+			public List<String> getInsertSQLs(){
+				return null;
+			}
+			
+			@Override
+			public String getTransactionName(){
+				return null;
+			}
+		};
+		assertNull(insert.getInsertString());
+	}
+	
+	@Test
+	public void testDefaultInsertParameters(){
+		insert = new InsertAndGetKeys(){
+			@Override
+			public List<String> getInsertSQLs(){
+				return null;
+			}
+			
+			@Override
+			public String getTransactionName(){
+				return null;
+			}
+		};
+		assertNull(insert.getInsertParameters());
+	}
+	
+	@Test
+	public void testGetTransactionName(){
+		assertEquals("Insert Test and Get Keys", insert.getTransactionName());
+	}
+	
+	@Test
+	public void testGetInsertString(){
+		assertEquals("Executed Insert of Test!", insert.getInsertString());
+	}
+	
+	@Test
+	public void testGetInsertSQLs(){
+		assertEquals(ListUtil.createList("INSERT INTO Test (name, value) VALUES (?, ?)"), insert.getInsertSQLs());
+	}
+	
+	@Test
+	public void testGetInsertParameters(){
+		assertEquals(ListUtil.createList(ListUtil.createList("Derp", 42)), insert.getInsertParameters());
+	}
+	
+	@Test
+	public void testColsAndValuesMismatch(){
+		try{
+			InsertAndGetKeys.createInsertAndGetKeys("Test", ListUtil.createList("name", "value"),
+					ListUtil.createList("Derp"));
+			fail();
+		}catch(IllegalArgumentException e){
+			assertEquals("Cols and Values don't match up!", e.getMessage());
+		}
+	}
+	
+	@Test
+	public void testExecute() throws SQLException{
+		fake.generatedKeys.add(5L);
+		assertEquals(ListUtil.createList(5L), insert.execute(fake.connection, logger));
+		assertEquals(1, fake.prepared.size());
+		assertEquals("INSERT INTO Test (name, value) VALUES (?, ?)", fake.prepared.get(0).sql);
+		assertEquals(Statement.RETURN_GENERATED_KEYS, fake.prepared.get(0).autoGeneratedKeys);
+		assertEquals(1, fake.prepared.get(0).executions);
+		assertTrue(fake.prepared.get(0).closed);
+		assertTrue(fake.prepared.get(0).generatedKeysClosed);
+	}
+	
+	@Test
+	public void testExecuteIntegerKey() throws SQLException{
+		fake.generatedKeys.add(5);
+		assertEquals(ListUtil.createList(5L), insert.execute(fake.connection, logger));
+	}
+	
+	@Test
+	public void testExecuteUnsignedKey() throws SQLException{
+		fake.generatedKeys.add(new BigInteger("18446744073709551615"));
+		List<Long> keys = insert.execute(fake.connection, logger);
+		assertEquals("18446744073709551615", Long.toUnsignedString(keys.get(0)));
+	}
+	
+	@Test
+	public void testExecuteNonNumberKey(){
+		fake.generatedKeys.add("Derp");
+		try{
+			insert.execute(fake.connection, logger);
+			fail();
+		}catch(SQLException e){
+			assertEquals("Generated key Derp is not a number!", e.getMessage());
+			assertTrue(fake.prepared.get(0).closed);
+		}
+	}
+	
+	@Test
+	public void testExecuteNoParameters() throws SQLException{
+		insert = new InsertAndGetKeys(){
+			@Override
+			public List<String> getInsertSQLs(){
+				return ListUtil.createList("INSERT INTO Test (name) VALUES ('Derp')");
+			}
+			
+			@Override
+			public String getTransactionName(){
+				return "Insert Test";
+			}
+		};
+		fake.generatedKeys.add(7L);
+		assertEquals(ListUtil.createList(7L), insert.execute(fake.connection, logger));
+		assertTrue(fake.prepared.isEmpty());
+		assertEquals(1, fake.created.size());
+		assertEquals(ListUtil.createList("INSERT INTO Test (name) VALUES ('Derp')"),
+				fake.created.get(0).executedSQLs);
+		assertEquals(Statement.RETURN_GENERATED_KEYS, fake.created.get(0).autoGeneratedKeys);
+		assertTrue(fake.created.get(0).closed);
+	}
+	
+	@Test
+	public void testExecuteBulk() throws SQLException{
+		insert = InsertAndGetKeys.createBulkInsertAndGetKeys("Test", ListUtil.createList(
+				new ParameterizedSQL("INSERT INTO Test (name) VALUES (?), (?)", ListUtil.createList("A", "B")),
+				new ParameterizedSQL("INSERT INTO Test (name) VALUES (?)", ListUtil.createList("C"))));
+		fake.generatedKeys.add(1L);
+		fake.generatedKeys.add(2L);
+		List<Long> keys = insert.execute(fake.connection, logger);
+		
+		// Each statement in the fake returns both keys
+		assertEquals(ListUtil.createList(1L, 2L, 1L, 2L), keys);
+		assertEquals(2, fake.prepared.size());
+		assertTrue(fake.prepared.get(0).closed);
+		assertTrue(fake.prepared.get(1).closed);
+	}
+	
+	@Test
+	public void testExecuteBadParametersSize(){
+		insert = new InsertAndGetKeys(){
+			@Override
+			public List<String> getInsertSQLs(){
+				return ListUtil.createList("INSERT INTO Test (name) VALUES (?)", "INSERT INTO Test (name) VALUES (?)");
+			}
+			
+			@Override
+			public List<List<Object>> getInsertParameters(){
+				return ListUtil.createList(ListUtil.createList("Derp"));
+			}
+			
+			@Override
+			public String getTransactionName(){
+				return "Insert Test";
+			}
+		};
+		try{
+			insert.execute(fake.connection, logger);
+			fail();
+		}catch(IllegalArgumentException | SQLException e){
+			assertEquals("Must have parameters for all sql statements or pass null parameters list!",
+					e.getMessage());
+		}
+	}
+}
@@ -0,0 +1,111 @@
+package com.github.tadukoo.database.mysql.transaction;
+
+import com.github.tadukoo.database.mysql.connection.FakeConnection;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class InterruptWatcherTest{
+	private FakeConnection fake;
+	private TransactionGuard guard;
+	private InterruptWatcher watcher;
+	
+	@BeforeEach
+	public void setup(){
+		fake = new FakeConnection();
+		guard = new TransactionGuard("Test", Deadline.none());
+		watcher = new InterruptWatcher(Duration.ofMillis(1));
+	}
+	
+	private void waitForNoneWatched(){
+		long end = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+		while(watcher.getNumWatched() != 0 && System.nanoTime() < end){
+			Thread.onSpinWait();
+		}
+	}
+	
+	@Test
+	public void testGetPollInterval(){
+		assertEquals(Duration.ofMillis(1), watcher.getPollInterval());
+	}
+	
+	@Test
+	public void testDefaultPollInterval(){
+		assertEquals(Duration.ofMillis(10), InterruptWatcher.DEFAULT_POLL_INTERVAL);
+	}
+	
+	@Test
+	public void testWatchAndClose(){
+		InterruptWatcher.Watch watch = watcher.watch(guard);
+		assertEquals(1, watcher.getNumWatched());
+		watch.close();
+		assertEquals(0, watcher.getNumWatched());
+		assertFalse(guard.isCancelled());
+	}
+	
+	@Test
+	public void testInterruptCancels(){
+		try(InterruptWatcher.Watch ignored = watcher.watch(guard)){
+			Thread.currentThread().interrupt();
+			waitForNoneWatched();
+			assertTrue(guard.isCancelled());
+		}finally{
+			Thread.interrupted();
+		}
+	}
+	
+	@Test
+	public void testOnlyInterruptedThreadCancelled() throws InterruptedException{
+		TransactionGuard otherGuard = new TransactionGuard("Other", Deadline.none());
+		try(InterruptWatcher.Watch ignored = watcher.watch(otherGuard)){
+			Thread other = new Thread(() -> {
+				watcher.watch(guard);
+				Thread.currentThread().interrupt();
+			});
+			other.start();
+			other.join();
+			long end = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+			while(!guard.isCancelled() && System.nanoTime() < end){
+				Thread.sleep(1);
+			}
+			assertTrue(guard.isCancelled());
+			assertFalse(otherGuard.isCancelled());
+			assertEquals(1, watcher.getNumWatched());
+		}
+	}
+	
+	@Test
+	public void testInterruptCancelsBlockedStatement() throws InterruptedException{
+		fake.blockQueriesUntilCancelled = new CountDownLatch(1);
+		AtomicReference<SQLException> error = new AtomicReference<>();
+		AtomicReference<Thread> ranOn = new AtomicReference<>();
+		Thread caller = new Thread(() -> {
+			ranOn.set(Thread.currentThread());
+			try(InterruptWatcher.Watch ignored = watcher.watch(guard)){
+				guard.guard(fake.connection).prepareStatement("SELECT SLEEP(60)").executeQuery();
+			}catch(SQLException e){
+				error.set(e);
+			}
+		});
+		caller.start();
+		assertTrue(fake.blockQueriesUntilCancelled.await(5, TimeUnit.SECONDS));
+		caller.interrupt();
+		caller.join(5000);
+		assertFalse(caller.isAlive());
+		assertEquals(caller, ranOn.get());
+		assertEquals("Query execution was interrupted", error.get().getMessage());
+		assertTrue(guard.isCancelled());
+		assertEquals(1, fake.prepared.get(0).cancels);
+		waitForNoneWatched();
+		assertEquals(0, watcher.getNumWatched());
+	}
+}
@@ -0,0 +1,231 @@
+package com.github.tadukoo.database.mysql.transaction;
+
+import com.github.tadukoo.database.mysql.breaker.CircuitBreaker;
+import com.github.tadukoo.database.mysql.breaker.CircuitBreakerSettings;
+import com.github.tadukoo.database.mysql.breaker.CircuitState;
+import com.github.tadukoo.database.mysql.connection.ConnectionPoolTimeoutException;
+import com.github.tadukoo.database.mysql.connection.FakeConnection;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+public class TransactionGuardTest{
+	private FakeConnection fake;
+	private TransactionGuard guard;
+	private Connection conn;
+	
+	@BeforeEach
+	public void setup(){
+		fake = new FakeConnection();
+		guard = new TransactionGuard("Test", Deadline.after(Duration.ofMillis(2500)));
+		conn = guard.guard(fake.connection);
+	}
+	
+	@Test
+	public void testGetDeadline(){
+		assertEquals(Duration.ofMillis(2500), guard.getDeadline().getTimeout());
+	}
+	
+	@Test
+	public void testSetsQueryTimeout() throws SQLException{
+		conn.prepareStatement("SELECT 1");
+		assertEquals(3, fake.prepared.get(0).queryTimeout);
+	}
+	
+	@Test
+	public void testNoQueryTimeoutWithoutDeadline() throws SQLException{
+		conn = new TransactionGuard("Test", Deadline.none()).guard(fake.connection);
+		conn.prepareStatement("SELECT 1");
+		assertEquals(0, fake.prepared.get(0).queryTimeout);
+	}
+	
+	@Test
+	public void testGetConnection(){
+		assertSame(fake.connection, guard.getConnection());
+		assertNull(new TransactionGuard("Test", Deadline.none()).getConnection());
+	}
+	
+	@Test
+	public void testDelegates() throws SQLException{
+		conn.commit();
+		assertEquals(1, fake.commits);
+	}
+	
+	@Test
+	public void testCheck() throws SQLException{
+		guard.check();
+		assertFalse(guard.isCancelled());
+	}
+	
+	@Test
+	public void testCancel() throws SQLException{
+		conn.prepareStatement("SELECT 1");
+		conn.prepareStatement("SELECT 2").close();
+		guard.cancel();
+		assertTrue(guard.isCancelled());
+		assertEquals(1, fake.prepared.get(0).cancels);
+		assertEquals(0, fake.prepared.get(1).cancels);
+	}
+	
+	@Test
+	public void testFork(){
+		TransactionGuard fork = guard.fork();
+		assertSame(guard.getDeadline(), fork.getDeadline());
+		assertFalse(fork.isCancelled());
+		assertNull(fork.getHedgeOf());
+	}
+	
+	@Test
+	public void testForkHedge(){
+		TransactionGuard original = guard.fork();
+		TransactionGuard hedge = guard.forkHedge(original);
+		assertSame(guard.getDeadline(), hedge.getDeadline());
+		assertSame(original, hedge.getHedgeOf());
+		guard.cancel();
+		assertTrue(hedge.isCancelled());
+	}
+	
+	@Test
+	public void testCancelCancelsForks(){
+		TransactionGuard fork = guard.fork();
+		guard.cancel();
+		assertTrue(fork.isCancelled());
+	}
+	
+	@Test
+	public void testCancelFork(){
+		TransactionGuard fork = guard.fork();
+		fork.cancel();
+		assertTrue(fork.isCancelled());
+		assertFalse(guard.isCancelled());
+	}
+	
+	@Test
+	public void testForkCancelled(){
+		guard.cancel();
+		assertTrue(guard.fork().isCancelled());
+	}
+	
+	@Test
+	public void testCancelledStopsStatements(){
+		guard.cancel();
+		try{
+			conn.prepareStatement("SELECT 1");
+			fail();
+		}catch(SQLException e){
+			assertEquals("Transaction Test was cancelled", e.getMessage());
+			assertTrue(fake.prepared.isEmpty());
+		}
+	}
+	
+	@Test
+	public void testInterruptedStopsStatements(){
+		Thread.currentThread().interrupt();
+		try{
+			conn.createStatement();
+			fail();
+		}catch(SQLException e){
+			assertEquals("Interrupted while running transaction Test", e.getMessage());
+		}finally{
+			Thread.interrupted();
+		}
+	}
+	
+	@Test
+	public void testExpiredStopsStatements(){
+		conn = new TransactionGuard("Test", Deadline.after(Duration.ZERO)).guard(fake.connection);
+		try{
+			conn.prepareStatement("SELECT 1");
+			fail();
+		}catch(SQLException e){
+			assertTrue(e instanceof SQLTimeoutException);
+			assertEquals("Transaction Test timed out after 0 ms", e.getMessage());
+		}
+	}
+	
+	@Test
+	public void testCheckNoTimeForWait(){
+		SQLException cause = new SQLException("Deadlock");
+		try{
+			guard.check(Duration.ofSeconds(10), cause);
+			fail();
+		}catch(SQLException e){
+			assertTrue(e instanceof SQLTimeoutException);
+			assertEquals("Transaction Test timed out after 2500 ms", e.getMessage());
+			assertSame(cause, e.getCause());
+		}
+	}
+	
+	@Test
+	public void testCheckTimeForWait() throws SQLException{
+		guard.check(Duration.ofMillis(10), new SQLException("Deadlock"));
+	}
+	
+	@Test
+	public void testIsOwnFailureTimeoutWithDeadline(){
+		assertTrue(guard.isOwnFailure(new SQLTimeoutException("Query timed out")));
+	}
+	
+	@Test
+	public void testIsOwnFailureTimeoutWithoutDeadline(){
+		guard = new TransactionGuard("Test", Deadline.none());
+		assertFalse(guard.isOwnFailure(new SQLTimeoutException("Query timed out")));
+	}
+	
+	@Test
+	public void testIsOwnFailureCancelled(){
+		guard.cancel();
+		assertTrue(guard.isOwnFailure(new SQLException("Query execution was interrupted", "70100", 1317)));
+	}
+	
+	@Test
+	public void testIsOwnFailureConnectionError(){
+		assertFalse(guard.isOwnFailure(new SQLException("Could not connect", "08000", 0)));
+	}
+	
+	@Test
+	public void testExpiredDeadlineLeavesBreakerClosed(){
+		CircuitBreaker breaker = new CircuitBreaker(CircuitBreakerSettings.builder().failureThreshold(1).build());
+		guard = new TransactionGuard("Test", Deadline.after(Duration.ZERO));
+		try{
+			guard.guard(fake.connection).prepareStatement("SELECT 1");
+			fail();
+		}catch(SQLException e){
+			guard.recordOutcome(breaker, e);
+			assertEquals(CircuitState.CLOSED, breaker.getState());
+			assertEquals(0, breaker.getConsecutiveFailures());
+		}
+	}
+	
+	@Test
+	public void testPoolTimeoutLeavesBreakerClosed(){
+		CircuitBreaker breaker = new CircuitBreaker(CircuitBreakerSettings.builder().failureThreshold(1).build());
+		guard = new TransactionGuard("Test", Deadline.none());
+		guard.recordOutcome(breaker, new ConnectionPoolTimeoutException("Timed out waiting"));
+		assertEquals(CircuitState.CLOSED, breaker.getState());
+		assertEquals(0, breaker.getConsecutiveFailures());
+	}
+	
+	@Test
+	public void testRecordOutcomeCountsConnectionError(){
+		CircuitBreaker breaker = new CircuitBreaker(CircuitBreakerSettings.builder().failureThreshold(1).build());
+		guard.recordOutcome(breaker, new SQLException("Could not connect", "08000", 0));
+		assertEquals(CircuitState.OPEN, breaker.getState());
+	}
+	
+	@Test
+	public void testRecordOutcomeNoBreaker(){
+		guard.recordOutcome(null, new SQLException("Could not connect", "08000", 0));
+	}
+}
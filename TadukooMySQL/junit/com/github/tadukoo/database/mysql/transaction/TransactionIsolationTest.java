@@ -0,0 +1,30 @@
+package com.github.tadukoo.database.mysql.transaction;
+
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class TransactionIsolationTest{
+	
+	@Test
+	public void testGetJDBCLevelREAD_UNCOMMITTED(){
+		assertEquals(Connection.TRANSACTION_READ_UNCOMMITTED, TransactionIsolation.READ_UNCOMMITTED.getJDBCLevel());
+	}
+	
+	@Test
+	public void testGetJDBCLevelREAD_COMMITTED(){
+		assertEquals(Connection.TRANSACTION_READ_COMMITTED, TransactionIsolation.READ_COMMITTED.getJDBCLevel());
+	}
+	
+	@Test
+	public void testGetJDBCLevelREPEATABLE_READ(){
+		assertEquals(Connection.TRANSACTION_REPEATABLE_READ, TransactionIsolation.REPEATABLE_READ.getJDBCLevel());
+	}
+	
+	@Test
+	public void testGetJDBCLevelSERIALIZABLE(){
+		assertEquals(Connection.TRANSACTION_SERIALIZABLE, TransactionIsolation.SERIALIZABLE.getJDBCLevel());
+	}
+}
@@ -0,0 +1,162 @@
+package com.github.tadukoo.database.mysql.transaction;
+
+import com.github.tadukoo.database.mysql.connection.FakeConnection;
+import com.github.tadukoo.util.logger.EasyLogger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+public class TransactionSettingsTest{
+	private FakeConnection fake;
+	
+	private static SQLTransaction<Object> transaction(boolean readOnly, TransactionIsolation isolation){
+		return new SQLTransaction<>(){
+			@Override
+			public String getTransactionName(){
+				return "Test";
+			}
+			
+			@Override
+			public boolean isReadOnly(){
+				return readOnly;
+			}
+			
+			@Override
+			public TransactionIsolation getIsolation(){
+				return isolation;
+			}
+			
+			@Override
+			public Object execute(Connection conn, EasyLogger logger){
+				return null;
+			}
+		};
+	}
+	
+	@BeforeEach
+	public void setup(){
+		fake = new FakeConnection();
+		fake.autoCommit = false;
+	}
+	
+	@Test
+	public void testApplyDefaults() throws SQLException{
+		TransactionSettings settings = TransactionSettings.apply(fake.connection, new SQLTransaction<>(){
+			@Override
+			public String getTransactionName(){
+				return "Test";
+			}
+			
+			@Override
+			public Object execute(Connection conn, EasyLogger logger){
+				return null;
+			}
+		}, false);
+		assertFalse(fake.readOnly);
+		assertFalse(fake.autoCommit);
+		assertFalse(settings.isAutoCommit());
+		assertFalse(settings.isIsolationChanged());
+		assertEquals(0, fake.settingChanges);
+	}
+	
+	@Test
+	public void testApplyAutoCommit() throws SQLException{
+		TransactionSettings settings = TransactionSettings.apply(fake.connection, transaction(true, null), true);
+		assertTrue(fake.autoCommit);
+		assertTrue(settings.isAutoCommit());
+		assertEquals(2, fake.settingChanges);
+	}
+	
+	@Test
+	public void testApplyAutoCommitAlreadySet() throws SQLException{
+		fake.autoCommit = true;
+		fake.readOnly = true;
+		TransactionSettings.apply(fake.connection, transaction(true, null), true);
+		assertTrue(fake.autoCommit);
+		assertEquals(0, fake.settingChanges);
+	}
+	
+	@Test
+	public void testApplyNoAutoCommitAfterAutoCommit() throws SQLException{
+		fake.autoCommit = true;
+		TransactionSettings settings = TransactionSettings.apply(fake.connection, transaction(false, null), false);
+		assertFalse(fake.autoCommit);
+		assertFalse(settings.isAutoCommit());
+		assertEquals(1, fake.settingChanges);
+	}
+	
+	@Test
+	public void testApplyReadOnly() throws SQLException{
+		TransactionSettings.apply(fake.connection, transaction(true, null), false);
+		assertTrue(fake.readOnly);
+		assertEquals(1, fake.settingChanges);
+	}
+	
+	@Test
+	public void testApplyReadOnlyAlreadySet() throws SQLException{
+		fake.readOnly = true;
+		TransactionSettings.apply(fake.connection, transaction(true, null), false);
+		assertTrue(fake.readOnly);
+		assertEquals(0, fake.settingChanges);
+	}
+	
+	@Test
+	public void testApplyReadWriteAfterReadOnly() throws SQLException{
+		fake.readOnly = true;
+		TransactionSettings.apply(fake.connection, transaction(false, null), false);
+		assertFalse(fake.readOnly);
+		assertEquals(1, fake.settingChanges);
+	}
+	
+	@Test
+	public void testApplyIsolation() throws SQLException{
+		TransactionSettings settings = TransactionSettings.apply(fake.connection,
+				transaction(false, TransactionIsolation.READ_COMMITTED), false);
+		assertEquals(Connection.TRANSACTION_READ_COMMITTED, fake.isolation);
+		assertTrue(settings.isIsolationChanged());
+		assertEquals(1, fake.settingChanges);
+	}
+	
+	@Test
+	public void testApplyIsolationAlreadySet() throws SQLException{
+		TransactionSettings settings = TransactionSettings.apply(fake.connection,
+				transaction(false, TransactionIsolation.REPEATABLE_READ), false);
+		assertFalse(settings.isIsolationChanged());
+		assertEquals(0, fake.settingChanges);
+	}
+	
+	@Test
+	public void testRestore() throws SQLException{
+		TransactionSettings settings = TransactionSettings.apply(fake.connection, true,
+				TransactionIsolation.SERIALIZABLE, false);
+		settings.restore();
+		assertEquals(Connection.TRANSACTION_REPEATABLE_READ, fake.isolation);
+		assertTrue(fake.readOnly);
+		assertEquals(3, fake.settingChanges);
+	}
+	
+	@Test
+	public void testRestoreUnchanged() throws SQLException{
+		TransactionSettings settings = TransactionSettings.apply(fake.connection, false, null, false);
+		settings.restore();
+		assertEquals(0, fake.settingChanges);
+	}
+	
+	@Test
+	public void testApplyIsolationFails(){
+		fake.isolationError = new SQLException("Can't change isolation");
+		try{
+			TransactionSettings.apply(fake.connection, false, TransactionIsolation.SERIALIZABLE, false);
+			fail();
+		}catch(SQLException e){
+			assertEquals("Can't change isolation", e.getMessage());
+		}
+	}
+}
@@ -0,0 +1,196 @@
+package com.github.tadukoo.database.mysql.transaction.query;
+
+import com.github.tadukoo.database.mysql.connection.ConnectionSource;
+import com.github.tadukoo.database.mysql.connection.FakeConnection;
+import com.github.tadukoo.database.mysql.syntax.ParameterizedSQL;
+import com.github.tadukoo.junit.logger.JUnitEasyLogger;
+import com.github.tadukoo.util.ListUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Flow;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+public class QueryPublisherTest{
+	private FakeConnection fake;
+	private int connectionsTaken;
+	private Boolean releasedBroken;
+	private ConnectionSource source;
+	private StreamingQuery<Object> query;
+	private QueryPublisher<Object> publisher;
+	private RecordingSubscriber subscriber;
+	
+	private static class RecordingSubscriber implements Flow.Subscriber<Object>{
+		Flow.Subscription subscription;
+		private final List<Object> items = new ArrayList<>();
+		private boolean completed = false;
+		private Throwable error = null;
+		
+		@Override
+		public void onSubscribe(Flow.Subscription subscription){
+			this.subscription = subscription;
+		}
+		
+		@Override
+		public void onNext(Object item){
+			items.add(item);
+		}
+		
+		@Override
+		public void onError(Throwable throwable){
+			error = throwable;
+		}
+		
+		@Override
+		public void onComplete(){
+			completed = true;
+		}
+	}
+	
+	@BeforeEach
+	public void setup(){
+		fake = new FakeConnection();
+		fake.rows.addAll(ListUtil.createList(1, 2, 3));
+		connectionsTaken = 0;
+		releasedBroken = null;
+		source = new ConnectionSource(){
+			@Override
+			public Connection getConnection(){
+				connectionsTaken++;
+				return fake.connection;
+			}
+			
+			@Override
+			public void releaseConnection(Connection connection, boolean broken){
+				releasedBroken = broken;
+			}
+			
+			@Override
+			public void close(){ }
+		};
+		query = new StreamingQuery<>("Publish Test", new ParameterizedSQL("SELECT id FROM Test", null), 2,
+				resultSet -> resultSet.getObject(1));
+		publisher = new QueryPublisher<>(query, source, new JUnitEasyLogger(), Runnable::run);
+		subscriber = new RecordingSubscriber();
+	}
+	
+	@Test
+	public void testGetQuery(){
+		assertSame(query, publisher.getQuery());
+	}
+	
+	@Test
+	public void testSubscribeDoesNotRunQuery(){
+		publisher.subscribe(subscriber);
+		assertNotNull(subscriber.subscription);
+		assertEquals(0, connectionsTaken);
+	}
+	
+	@Test
+	public void testSubscribeNull(){
+		try{
+			publisher.subscribe(null);
+			fail();
+		}catch(NullPointerException e){
+			assertEquals("subscriber can't be null!", e.getMessage());
+		}
+	}
+	
+	@Test
+	public void testRequestAll(){
+		publisher.subscribe(subscriber);
+		subscriber.subscription.request(Long.MAX_VALUE);
+		assertEquals(ListUtil.createList(1, 2, 3), subscriber.items);
+		assertTrue(subscriber.completed);
+		assertNull(subscriber.error);
+		assertTrue(fake.prepared.get(0).closed);
+		assertFalse(releasedBroken);
+	}
+	
+	@Test
+	public void testRequestInChunks(){
+		publisher.subscribe(subscriber);
+		subscriber.subscription.request(2);
+		assertEquals(ListUtil.createList(1, 2), subscriber.items);
+		assertFalse(subscriber.completed);
+		assertNull(releasedBroken);
+		
+		subscriber.subscription.request(2);
+		assertEquals(ListUtil.createList(1, 2, 3), subscriber.items);
+		assertTrue(subscriber.completed);
+		assertEquals(1, connectionsTaken);
+		assertFalse(releasedBroken);
+	}
+	
+	@Test
+	public void testCancelClosesStatement(){
+		publisher.subscribe(subscriber);
+		subscriber.subscription.request(1);
+		subscriber.subscription.cancel();
+		assertEquals(ListUtil.createList(1), subscriber.items);
+		assertFalse(subscriber.completed);
+		assertTrue(fake.prepared.get(0).closed);
+		assertFalse(releasedBroken);
+		
+		subscriber.subscription.request(1);
+		assertEquals(ListUtil.createList(1), subscriber.items);
+	}
+	
+	@Test
+	public void testBadRequest(){
+		publisher.subscribe(subscriber);
+		subscriber.subscription.request(0);
+		assertTrue(subscriber.error instanceof IllegalArgumentException);
+		assertEquals("Must request a positive number of rows!", subscriber.error.getMessage());
+		assertEquals(0, connectionsTaken);
+	}
+	
+	@Test
+	public void testFailedQuery(){
+		fake.queryError = new SQLException("Bad query");
+		publisher.subscribe(subscriber);
+		subscriber.subscription.request(1);
+		assertEquals("Bad query", subscriber.error.getMessage());
+		assertFalse(subscriber.completed);
+	}
+	
+	@Test
+	public void testFailedRow(){
+		query = new StreamingQuery<>("Publish Test", new ParameterizedSQL("SELECT id FROM Test", null), 2,
+				resultSet -> {
+					throw new SQLException("Bad row");
+				});
+		publisher = new QueryPublisher<>(query, source, new JUnitEasyLogger(), Runnable::run);
+		publisher.subscribe(subscriber);
+		subscriber.subscription.request(1);
+		assertTrue(subscriber.error instanceof SQLException);
+		assertEquals("Bad row", subscriber.error.getMessage());
+		assertTrue(releasedBroken);
+	}
+	
+	@Test
+	public void testRequestFromOnNext(){
+		RecordingSubscriber oneAtATime = new RecordingSubscriber(){
+			@Override
+			public void onNext(Object item){
+				super.onNext(item);
+				subscription.request(1);
+			}
+		};
+		publisher.subscribe(oneAtATime);
+		oneAtATime.subscription.request(1);
+		assertEquals(ListUtil.createList(1, 2, 3), oneAtATime.items);
+		assertTrue(oneAtATime.completed);
+	}
+}
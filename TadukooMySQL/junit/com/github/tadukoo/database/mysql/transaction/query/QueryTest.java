@@ -3,6 +3,10 @@ package com.github.tadukoo.database.mysql.transaction.query;
 import com.github.tadukoo.database.mysql.CommonResultSetConverters;
 import com.github.tadukoo.database.mysql.DatabaseConnectionTest;
 import com.github.tadukoo.database.mysql.syntax.ColumnDefinition;
+import com.github.tadukoo.database.mysql.syntax.ParameterizedSQL;
+import com.github.tadukoo.database.mysql.syntax.conditional.Conditional;
+import com.github.tadukoo.database.mysql.syntax.conditional.ConditionalStatement;
+import com.github.tadukoo.database.mysql.syntax.conditional.SQLOperator;
 import com.github.tadukoo.database.mysql.syntax.reference.ColumnRef;
 import com.github.tadukoo.database.mysql.syntax.reference.TableRef;
 import com.github.tadukoo.database.mysql.syntax.statement.SQLCreateStatement;
@@ -19,6 +23,8 @@ import java.util.List;
 import java.util.logging.Level;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class QueryTest extends DatabaseConnectionTest{
 	private final TableRef table = TableRef.builder()
@@ -47,6 +53,16 @@ public class QueryTest extends DatabaseConnectionTest{
 		assertEquals(sql, query.getTransactionName());
 	}
 	
+	@Test
+	public void testIsReadOnly(){
+		assertTrue(query.isReadOnly());
+	}
+	
+	@Test
+	public void testIsSingleStatement(){
+		assertTrue(query.isSingleStatement());
+	}
+	
 	@Test
 	public void testGetSQL(){
 		assertEquals(sql, query.getSQL());
@@ -87,4 +103,64 @@ public class QueryTest extends DatabaseConnectionTest{
 				new JUnitEasyLogger.JUnitEasyLoggerEntry(Level.INFO, "Finished query " + name, null)),
 				ListUtil.createList(entries.get(entries.size()-2), entries.get(entries.size()-1)));
 	}
+	
+	@Test
+	public void testDefaultParameters(){
+		assertNull(query.getParameters());
+	}
+	
+	@Test
+	public void testParameterizedGetSQL(){
+		query = Query.createQuery(name, new ParameterizedSQL(sql + " WHERE id = ?", ListUtil.createList(42)),
+				CommonResultSetConverters::singleInteger);
+		assertEquals(sql + " WHERE id = ?", query.getSQL());
+	}
+	
+	@Test
+	public void testParameterizedGetParameters(){
+		query = Query.createQuery(name, new ParameterizedSQL(sql + " WHERE id = ?", ListUtil.createList(42)),
+				CommonResultSetConverters::singleInteger);
+		assertEquals(ListUtil.createList(42), query.getParameters());
+	}
+	
+	@Test
+	public void testParameterizedGetTransactionNameBlankName(){
+		query = Query.createQuery(null, new ParameterizedSQL(sql + " WHERE id = ?", ListUtil.createList(42)),
+				CommonResultSetConverters::singleInteger);
+		assertEquals(sql + " WHERE id = ?", query.getTransactionName());
+	}
+	
+	@Test
+	public void testExecuteParameterizedQuery() throws SQLException{
+		// Create a table and put some data in it
+		db.executeTransaction(Updates.createUpdates("Create Table Thing", null,
+				ListUtil.createList(SQLCreateStatement.builder()
+						.table()
+						.tableName("Thing")
+						.columns(ColumnDefinition.builder()
+								.columnName("id")
+								.integer()
+								.defaultSize()
+								.build())
+						.build()
+						.toString())));
+		db.executeTransaction(Updates.createParameterizedUpdates("Insert Things", null, ListUtil.createList(
+				new ParameterizedSQL("INSERT INTO Thing (id) VALUES (?)", ListUtil.createList(42)),
+				new ParameterizedSQL("INSERT INTO Thing (id) VALUES (?)", ListUtil.createList(43)))));
+		
+		// Try to pull out the data
+		query = Query.createQuery(name, SQLSelectStatement.builder()
+						.fromTables(table)
+						.whereStatement(Conditional.builder()
+								.firstCondStmt(ConditionalStatement.builder()
+										.column(ColumnRef.builder().columnName("id").build())
+										.operator(SQLOperator.GREATER_THAN)
+										.value(42)
+										.build())
+								.build())
+						.build()
+						.toParameterizedSQL(),
+				CommonResultSetConverters::singleInteger);
+		assertEquals(43, db.executeTransaction(query));
+	}
 }
@@ -0,0 +1,173 @@
+package com.github.tadukoo.database.mysql.transaction.query;
+
+import com.github.tadukoo.database.mysql.connection.ConnectionSource;
+import com.github.tadukoo.database.mysql.connection.FakeConnection;
+import com.github.tadukoo.database.mysql.connection.FakePreparedStatement;
+import com.github.tadukoo.database.mysql.syntax.ParameterizedSQL;
+import com.github.tadukoo.junit.logger.JUnitEasyLogger;
+import com.github.tadukoo.util.ListUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+public class StreamingQueryTest{
+	private JUnitEasyLogger logger;
+	private FakeConnection fake;
+	private Connection released;
+	private Boolean releasedBroken;
+	private ConnectionSource source;
+	private ParameterizedSQL sql;
+	private StreamingQuery<Object> query;
+	
+	@BeforeEach
+	public void setup(){
+		logger = new JUnitEasyLogger();
+		fake = new FakeConnection();
+		fake.rows.addAll(ListUtil.createList(1, 2, 3));
+		released = null;
+		releasedBroken = null;
+		source = new ConnectionSource(){
+			@Override
+			public Connection getConnection(){
+				return fake.connection;
+			}
+			
+			@Override
+			public void releaseConnection(Connection connection, boolean broken){
+				released = connection;
+				releasedBroken = broken;
+			}
+			
+			@Override
+			public void close(){ }
+		};
+		sql = new ParameterizedSQL("SELECT id FROM Test WHERE id > ?", ListUtil.createList(0));
+		query = new StreamingQuery<>("Stream Test", sql, 2, resultSet -> resultSet.getObject(1));
+	}
+	
+	@Test
+	public void testGetQueryName(){
+		assertEquals("Stream Test", query.getQueryName());
+	}
+	
+	@Test
+	public void testGetQueryNameNoName(){
+		query = new StreamingQuery<>(null, sql, 2, resultSet -> resultSet.getObject(1));
+		assertEquals("SELECT id FROM Test WHERE id > ?", query.getQueryName());
+	}
+	
+	@Test
+	public void testGetSQL(){
+		assertSame(sql, query.getSQL());
+	}
+	
+	@Test
+	public void testGetFetchSize(){
+		assertEquals(2, query.getFetchSize());
+	}
+	
+	@Test
+	public void testBadFetchSize(){
+		try{
+			new StreamingQuery<>("Stream Test", sql, 0, resultSet -> resultSet.getObject(1));
+			fail();
+		}catch(IllegalArgumentException e){
+			assertEquals("fetchSize must be at least 1!", e.getMessage());
+		}
+	}
+	
+	@Test
+	public void testOpen() throws SQLException{
+		List<Object> results;
+		try(Stream<Object> rows = query.open(source, logger)){
+			results = rows.collect(Collectors.toList());
+		}
+		assertEquals(ListUtil.createList(1, 2, 3), results);
+		
+		FakePreparedStatement stmt = fake.prepared.get(0);
+		assertEquals("SELECT id FROM Test WHERE id > ?", stmt.sql);
+		assertEquals(ResultSet.TYPE_FORWARD_ONLY, stmt.resultSetType);
+		assertEquals(2, stmt.fetchSize);
+		assertEquals(1, stmt.executions);
+	}
+	
+	@Test
+	public void testOpenReadOnly() throws SQLException{
+		try(Stream<Object> rows = query.open(source, logger)){
+			assertTrue(fake.readOnly);
+		}
+	}
+	
+	@Test
+	public void testOpenIsLazy() throws SQLException{
+		int[] converted = {0};
+		query = new StreamingQuery<>("Stream Test", sql, 2, resultSet -> {
+			converted[0]++;
+			return resultSet.getObject(1);
+		});
+		try(Stream<Object> rows = query.open(source, logger)){
+			Iterator<Object> iterator = rows.iterator();
+			assertEquals(1, iterator.next());
+			assertEquals(1, converted[0]);
+			assertNull(released);
+		}
+		assertEquals(1, converted[0]);
+	}
+	
+	@Test
+	public void testCloseReleasesConnection() throws SQLException{
+		Stream<Object> rows = query.open(source, logger);
+		assertNull(released);
+		rows.close();
+		
+		FakePreparedStatement stmt = fake.prepared.get(0);
+		assertTrue(stmt.resultSetClosed);
+		assertTrue(stmt.closed);
+		assertEquals(1, fake.rollbacks);
+		assertSame(fake.connection, released);
+		assertFalse(releasedBroken);
+	}
+	
+	@Test
+	public void testFailedRowBreaksConnection() throws SQLException{
+		query = new StreamingQuery<>("Stream Test", sql, 2, resultSet -> {
+			throw new SQLException("Bad row");
+		});
+		try(Stream<Object> rows = query.open(source, logger)){
+			rows.forEach(row -> fail());
+			fail();
+		}catch(IllegalStateException e){
+			assertEquals("Failed to read a row of Stream Test", e.getMessage());
+			assertEquals("Bad row", e.getCause().getMessage());
+		}
+		assertTrue(releasedBroken);
+	}
+	
+	@Test
+	public void testFailedQueryReleasesConnection(){
+		fake.queryError = new SQLException("Bad query");
+		try{
+			query.open(source, logger);
+			fail();
+		}catch(SQLException e){
+			assertEquals("Bad query", e.getMessage());
+			assertTrue(fake.prepared.get(0).closed);
+			assertSame(fake.connection, released);
+			assertFalse(releasedBroken);
+		}
+	}
+}
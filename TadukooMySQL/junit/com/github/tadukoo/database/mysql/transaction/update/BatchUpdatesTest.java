@@ -0,0 +1,209 @@
+package com.github.tadukoo.database.mysql.transaction.update;
+
+import com.github.tadukoo.database.mysql.connection.FakeConnection;
+import com.github.tadukoo.database.mysql.syntax.ParameterizedSQL;
+import com.github.tadukoo.junit.logger.JUnitEasyLogger;
+import com.github.tadukoo.util.ListUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.SQLException;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+public class BatchUpdatesTest{
+	private final String insertSQL = "INSERT INTO Test (id) VALUES (?)";
+	private final String updateSQL = "UPDATE Test SET name = ? WHERE id = ?";
+	private JUnitEasyLogger logger;
+	private FakeConnection fake;
+	private BatchUpdates updates;
+	
+	@BeforeEach
+	public void setup(){
+		logger = new JUnitEasyLogger();
+		fake = new FakeConnection();
+		updates = BatchUpdates.createBatchUpdates("Batch Test",
+				ListUtil.createList("DELETE FROM Test WHERE id = 1", "DELETE FROM Test WHERE id = 2",
+						"DELETE FROM Test WHERE id = 3", "DELETE FROM Test WHERE id = 4",
+						"DELETE FROM Test WHERE id = 5"), 2);
+	}
+	
+	@Test
+	public void testDefaultBatchSize(){
+		updates = new BatchUpdates(){
+			@Override
+			public List<String> getSQLs(){
+				return null;
+			}
+			
+			@Override
+			public String getTransactionName(){
+				return null;
+			}
+		};
+		assertEquals(BatchUpdates.DEFAULT_BATCH_SIZE, updates.getBatchSize());
+		assertEquals(1000, updates.getBatchSize());
+	}
+	
+	@Test
+	public void testDefaultParameters(){
+		assertNull(updates.getParameters());
+	}
+	
+	@Test
+	public void testGetTransactionName(){
+		assertEquals("Batch Test", updates.getTransactionName());
+	}
+	
+	@Test
+	public void testGetSQLs(){
+		List<String> sqls = updates.getSQLs();
+		assertEquals(5, sqls.size());
+		assertEquals("DELETE FROM Test WHERE id = 1", sqls.get(0));
+		assertEquals("DELETE FROM Test WHERE id = 5", sqls.get(4));
+	}
+	
+	@Test
+	public void testGetBatchSize(){
+		assertEquals(2, updates.getBatchSize());
+	}
+	
+	@Test
+	public void testParameterizedGetters(){
+		updates = BatchUpdates.createParameterizedBatchUpdates("Batch Test",
+				ListUtil.createList(new ParameterizedSQL(insertSQL, ListUtil.createList(1)),
+						new ParameterizedSQL(updateSQL, ListUtil.createList("Test", 1))), 50);
+		assertEquals("Batch Test", updates.getTransactionName());
+		assertEquals(ListUtil.createList(insertSQL, updateSQL), updates.getSQLs());
+		assertEquals(ListUtil.createList(ListUtil.createList(1), ListUtil.createList("Test", 1)),
+				updates.getParameters());
+		assertEquals(50, updates.getBatchSize());
+	}
+	
+	@Test
+	public void testExecutePlainBatches() throws SQLException{
+		int[] counts = updates.execute(fake.connection, logger);
+		assertArrayEquals(new int[]{1, 1, 1, 1, 1}, counts);
+		assertEquals(1, fake.created.size());
+		assertTrue(fake.prepared.isEmpty());
+		assertEquals(ListUtil.createList(2, 2, 1), fake.created.get(0).batches);
+		assertEquals(updates.getSQLs(), fake.created.get(0).batchedSQLs);
+		assertTrue(fake.created.get(0).closed);
+	}
+	
+	@Test
+	public void testExecuteSingleBatch() throws SQLException{
+		updates = BatchUpdates.createBatchUpdates("Batch Test", updates.getSQLs(), 1000);
+		int[] counts = updates.execute(fake.connection, logger);
+		assertEquals(5, counts.length);
+		assertEquals(ListUtil.createList(5), fake.created.get(0).batches);
+	}
+	
+	@Test
+	public void testExecuteExactBatches() throws SQLException{
+		updates = BatchUpdates.createBatchUpdates("Batch Test", updates.getSQLs(), 5);
+		updates.execute(fake.connection, logger);
+		assertEquals(ListUtil.createList(5), fake.created.get(0).batches);
+	}
+	
+	@Test
+	public void testExecuteEmpty() throws SQLException{
+		updates = BatchUpdates.createBatchUpdates("Batch Test", ListUtil.createList(), 2);
+		assertEquals(0, updates.execute(fake.connection, logger).length);
+		assertTrue(fake.created.isEmpty());
+		assertTrue(fake.prepared.isEmpty());
+	}
+	
+	@Test
+	public void testExecuteParameterizedSameSQL() throws SQLException{
+		updates = BatchUpdates.createParameterizedBatchUpdates("Batch Test",
+				ListUtil.createList(new ParameterizedSQL(insertSQL, ListUtil.createList(1)),
+						new ParameterizedSQL(insertSQL, ListUtil.createList(2)),
+						new ParameterizedSQL(insertSQL, ListUtil.createList(3))), 2);
+		int[] counts = updates.execute(fake.connection, logger);
+		assertArrayEquals(new int[]{1, 1, 1}, counts);
+		assertEquals(1, fake.prepared.size());
+		assertTrue(fake.created.isEmpty());
+		assertEquals(insertSQL, fake.prepared.get(0).sql);
+		assertEquals(ListUtil.createList(2, 1), fake.prepared.get(0).batches);
+		assertTrue(fake.prepared.get(0).closed);
+	}
+	
+	@Test
+	public void testExecuteParameterizedDifferentSQL() throws SQLException{
+		updates = BatchUpdates.createParameterizedBatchUpdates("Batch Test",
+				ListUtil.createList(new ParameterizedSQL(insertSQL, ListUtil.createList(1)),
+						new ParameterizedSQL(insertSQL, ListUtil.createList(2)),
+						new ParameterizedSQL(updateSQL, ListUtil.createList("Test", 1))), 1000);
+		int[] counts = updates.execute(fake.connection, logger);
+		assertEquals(3, counts.length);
+		assertEquals(2, fake.prepared.size());
+		assertEquals(insertSQL, fake.prepared.get(0).sql);
+		assertEquals(ListUtil.createList(2), fake.prepared.get(0).batches);
+		assertTrue(fake.prepared.get(0).closed);
+		assertEquals(updateSQL, fake.prepared.get(1).sql);
+		assertEquals(ListUtil.createList(1), fake.prepared.get(1).batches);
+		assertTrue(fake.prepared.get(1).closed);
+	}
+	
+	@Test
+	public void testExecuteMixedPlainAndParameterized() throws SQLException{
+		updates = BatchUpdates.createParameterizedBatchUpdates("Batch Test",
+				ListUtil.createList(new ParameterizedSQL("DELETE FROM Test", null),
+						new ParameterizedSQL(insertSQL, ListUtil.createList(1)),
+						new ParameterizedSQL(insertSQL, ListUtil.createList(2)),
+						new ParameterizedSQL("DELETE FROM Test", null)), 1000);
+		int[] counts = updates.execute(fake.connection, logger);
+		assertArrayEquals(new int[]{1, 1, 1, 1}, counts);
+		
+		// The plain statements share one statement, but are sent around the prepared batch
+		assertEquals(1, fake.created.size());
+		assertEquals(ListUtil.createList(1, 1), fake.created.get(0).batches);
+		assertEquals(ListUtil.createList("DELETE FROM Test", "DELETE FROM Test"), fake.created.get(0).batchedSQLs);
+		assertEquals(1, fake.prepared.size());
+		assertEquals(ListUtil.createList(2), fake.prepared.get(0).batches);
+	}
+	
+	@Test
+	public void testExecuteBadParametersSize() throws SQLException{
+		updates = new BatchUpdates(){
+			@Override
+			public List<String> getSQLs(){
+				return ListUtil.createList(insertSQL, insertSQL);
+			}
+			
+			@Override
+			public List<List<Object>> getParameters(){
+				return ListUtil.createList(ListUtil.createList(1));
+			}
+			
+			@Override
+			public String getTransactionName(){
+				return "Batch Test";
+			}
+		};
+		try{
+			updates.execute(fake.connection, logger);
+			fail();
+		}catch(IllegalArgumentException e){
+			assertEquals("Must have parameters for all sql statements or pass null parameters list!",
+					e.getMessage());
+		}
+	}
+	
+	@Test
+	public void testExecuteBadBatchSize() throws SQLException{
+		updates = BatchUpdates.createBatchUpdates("Batch Test", updates.getSQLs(), 0);
+		try{
+			updates.execute(fake.connection, logger);
+			fail();
+		}catch(IllegalArgumentException e){
+			assertEquals("Batch size must be at least 1!", e.getMessage());
+		}
+	}
+}
@@ -1,6 +1,7 @@
 package com.github.tadukoo.database.mysql.transaction.update;
 
 import com.github.tadukoo.database.mysql.Database;
+import com.github.tadukoo.database.mysql.syntax.ParameterizedSQL;
 import com.github.tadukoo.database.mysql.syntax.statement.SQLCreateStatement;
 import com.github.tadukoo.database.mysql.syntax.statement.SQLDropStatement;
 import com.github.tadukoo.junit.logger.JUnitEasyLogger;
@@ -13,6 +14,7 @@ import java.util.List;
 import java.util.logging.Level;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
@@ -50,6 +52,16 @@ public class UpdatesTest{
 		assertEquals("Create Database", updates.getTransactionName());
 	}
 	
+	@Test
+	public void testUpdatesIsNotReadOnly(){
+		assertFalse(updates.isReadOnly());
+	}
+	
+	@Test
+	public void testUpdatesIsNotSingleStatement(){
+		assertFalse(updates.isSingleStatement());
+	}
+	
 	@Test
 	public void testUpdatesGetNames(){
 		List<String> names = updates.getNames();
@@ -177,4 +189,55 @@ public class UpdatesTest{
 			assertEquals("Must have all sql statements named or pass null names list!", e.getMessage());
 		}
 	}
+	
+	@Test
+	public void testUpdatesDefaultParameters(){
+		assertNull(updates.getParameters());
+	}
+	
+	@Test
+	public void testParameterizedUpdatesGetSQLs(){
+		updates = Updates.createParameterizedUpdates("Insert Things", null, ListUtil.createList(
+				new ParameterizedSQL("INSERT INTO Thing (id) VALUES (?)", ListUtil.createList(42)),
+				new ParameterizedSQL("INSERT INTO Thing (id) VALUES (?)", ListUtil.createList(43))));
+		assertEquals(ListUtil.createList("INSERT INTO Thing (id) VALUES (?)", "INSERT INTO Thing (id) VALUES (?)"),
+				updates.getSQLs());
+	}
+	
+	@Test
+	public void testParameterizedUpdatesGetParameters(){
+		updates = Updates.createParameterizedUpdates("Insert Things", null, ListUtil.createList(
+				new ParameterizedSQL("INSERT INTO Thing (id) VALUES (?)", ListUtil.createList(42)),
+				new ParameterizedSQL("INSERT INTO Thing (id) VALUES (?)", ListUtil.createList(43))));
+		assertEquals(ListUtil.createList(ListUtil.createList(42), ListUtil.createList(43)), updates.getParameters());
+	}
+	
+	@Test
+	public void testUpdatesBadParameters() throws SQLException{
+		updates = new Updates(){
+			@Override
+			public List<String> getSQLs(){
+				return ListUtil.createList(createDBString);
+			}
+			
+			@Override
+			public List<List<Object>> getParameters(){
+				return ListUtil.createList(ListUtil.createList(), ListUtil.createList());
+			}
+			
+			@Override
+			public String getTransactionName(){
+				return "Create Database";
+			}
+		};
+		
+		Database db = setupDB();
+		
+		try{
+			db.executeTransaction(updates);
+			fail();
+		}catch(IllegalArgumentException e){
+			assertEquals("Must have parameters for all sql statements or pass null parameters list!", e.getMessage());
+		}
+	}
 }
@@ -1,10 +1,39 @@
 package com.github.tadukoo.database.mysql;
 
+import com.github.tadukoo.database.mysql.breaker.CircuitBreaker;
+import com.github.tadukoo.database.mysql.breaker.CircuitBreakerOpenException;
+import com.github.tadukoo.database.mysql.breaker.CircuitBreakerSettings;
+import com.github.tadukoo.database.mysql.connection.ConnectionPool;
+import com.github.tadukoo.database.mysql.connection.ConnectionPoolSettings;
+import com.github.tadukoo.database.mysql.connection.ConnectionSource;
+import com.github.tadukoo.database.mysql.connection.DirectConnectionSource;
+import com.github.tadukoo.database.mysql.connection.HostStrategy;
+import com.github.tadukoo.database.mysql.connection.LimitedConnectionSource;
+import com.github.tadukoo.database.mysql.connection.LoadBalancedConnectionSource;
+import com.github.tadukoo.database.mysql.connection.MultiHostConnectionSource;
+import com.github.tadukoo.database.mysql.hedge.HedgingSettings;
+import com.github.tadukoo.database.mysql.hedge.ReadHedger;
+import com.github.tadukoo.database.mysql.limit.ConcurrencyLimitExceededException;
+import com.github.tadukoo.database.mysql.limit.ConcurrencyLimiter;
+import com.github.tadukoo.database.mysql.limit.ConcurrencyLimiterSettings;
+import com.github.tadukoo.database.mysql.retry.RetryBudget;
+import com.github.tadukoo.database.mysql.retry.RetryPolicy;
+import com.github.tadukoo.database.mysql.syntax.ParameterizedSQL;
 import com.github.tadukoo.database.mysql.syntax.SQLSyntaxUtil;
 import com.github.tadukoo.database.mysql.transaction.InsertAndGetID;
+import com.github.tadukoo.database.mysql.transaction.InsertAndGetKeys;
+import com.github.tadukoo.database.mysql.transaction.InterruptWatcher;
 import com.github.tadukoo.database.mysql.transaction.query.Query;
+import com.github.tadukoo.database.mysql.transaction.query.QueryPublisher;
+import com.github.tadukoo.database.mysql.transaction.query.StreamingQuery;
+import com.github.tadukoo.database.mysql.transaction.Deadline;
 import com.github.tadukoo.database.mysql.transaction.SQLTransaction;
+import com.github.tadukoo.database.mysql.transaction.TransactionGuard;
+import com.github.tadukoo.database.mysql.transaction.TransactionLane;
+import com.github.tadukoo.database.mysql.transaction.TransactionSettings;
+import com.github.tadukoo.database.mysql.transaction.update.BatchUpdates;
 import com.github.tadukoo.database.mysql.transaction.update.Updates;
+import com.github.tadukoo.util.ListUtil;
 import com.github.tadukoo.util.StringUtil;
 import com.github.tadukoo.util.functional.function.ThrowingFunction;
 import com.github.tadukoo.util.logger.EasyLogger;
@@ -14,10 +43,24 @@ import java.sql.Connection;
 import java.sql.DriverManager;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Function;
+import java.util.stream.Stream;
 
 /**
  * A class used to connect to a MySQL database and make queries, updates, etc. to it.
@@ -26,7 +69,7 @@ import java.util.List;
  * @version Alpha v.0.3
  * @since Alpha v.0.1
  */
-public class Database{
+public class Database implements AutoCloseable{
 	
 	/**
 	 * A Builder to use to build a {@link Database}. It takes the following parameters:
@@ -69,10 +112,104 @@ public class Database{
 	 *         <td>Required, may be the empty string for a blank password</td>
 	 *     </tr>
 	 *     <tr>
+	 *         <td>additionalHost</td>
+	 *         <td>The host (and optionally port) of another server holding the same database, e.g. a standby to fail
+	 *         over to (can be set more than once)</td>
+	 *         <td>Defaults to no additional hosts (only the host is used)</td>
+	 *     </tr>
+	 *     <tr>
+	 *         <td>hostStrategy</td>
+	 *         <td>The {@link HostStrategy} deciding which host to send transactions to when there are additional
+	 *         hosts</td>
+	 *         <td>Defaults to {@link HostStrategy#FAILOVER}</td>
+	 *     </tr>
+	 *     <tr>
+	 *         <td>hostRetryDelay</td>
+	 *         <td>How long a host that couldn't be reached is skipped before it's tried again (when there are
+	 *         additional hosts)</td>
+	 *         <td>Defaults to 30 seconds</td>
+	 *     </tr>
+	 *     <tr>
 	 *         <td>maxAttempts</td>
 	 *         <td>The maximum number of attempts to try a SQL transaction before giving up</td>
 	 *         <td>Defaults to 10</td>
 	 *     </tr>
+	 *     <tr>
+	 *         <td>retryPolicy</td>
+	 *         <td>The {@link RetryPolicy} used to decide whether and when to retry a failed SQL transaction
+	 *         (overrides maxAttempts if set)</td>
+	 *         <td>Defaults to {@link RetryPolicy#defaultPolicy(int)} using maxAttempts</td>
+	 *     </tr>
+	 *     <tr>
+	 *         <td>retryBudget</td>
+	 *         <td>The {@link RetryBudget} capping how many retries are made compared to how many transactions are
+	 *         run (can be shared with other Databases)</td>
+	 *         <td>Defaults to null (retries are only limited by the retry policy)</td>
+	 *     </tr>
+	 *     <tr>
+	 *         <td>circuitBreaker</td>
+	 *         <td>The {@link CircuitBreakerSettings} to use to fail transactions fast while the host (or the read
+	 *         replicas) keep failing</td>
+	 *         <td>Defaults to null (no circuit breaker)</td>
+	 *     </tr>
+	 *     <tr>
+	 *         <td>connectionPool</td>
+	 *         <td>The {@link ConnectionPoolSettings} to use to pool connections between transactions</td>
+	 *         <td>Defaults to null (a new connection is opened for every transaction)</td>
+	 *     </tr>
+	 *     <tr>
+	 *         <td>serverPreparedStatements</td>
+	 *         <td>Whether to have the driver prepare statements on the server rather than client-side</td>
+	 *         <td>Defaults to false</td>
+	 *     </tr>
+	 *     <tr>
+	 *         <td>maxAllowedPacket</td>
+	 *         <td>The largest statement (in bytes) the server accepts, used to split up bulk inserts (should match
+	 *         the server's {@code max_allowed_packet})</td>
+	 *         <td>Defaults to 4 MiB</td>
+	 *     </tr>
+	 *     <tr>
+	 *         <td>transactionTimeout</td>
+	 *         <td>How long a transaction gets to finish, counting all of its attempts (each statement gets the time
+	 *         left as its query timeout) - transactions can set their own with {@link SQLTransaction#getTimeout()}</td>
+	 *         <td>Defaults to null (no timeout)</td>
+	 *     </tr>
+	 *     <tr>
+	 *         <td>autoCommitSingleStatements</td>
+	 *         <td>Whether to run single-statement transactions (like queries) with auto-commit enabled, skipping the
+	 *         separate commit</td>
+	 *         <td>Defaults to false</td>
+	 *     </tr>
+	 *     <tr>
+	 *         <td>readReplica</td>
+	 *         <td>The host (and optionally port) of a read replica to send read-only transactions to (can be set
+	 *         more than once to spread reads over several replicas)</td>
+	 *         <td>Defaults to no replicas (everything goes to the primary host)</td>
+	 *     </tr>
+	 *     <tr>
+	 *         <td>hedgedReads</td>
+	 *         <td>The {@link HedgingSettings} to use to send a duplicate copy of a slow read-only transaction to
+	 *         another read replica, taking whichever copy finishes first (only used with more than one replica)</td>
+	 *         <td>Defaults to null (no hedging)</td>
+	 *     </tr>
+	 *     <tr>
+	 *         <td>concurrencyLimit</td>
+	 *         <td>The {@link ConcurrencyLimiterSettings} to use to cap the number of transactions in flight at once
+	 *         with an adaptive limit</td>
+	 *         <td>Defaults to null (no limit)</td>
+	 *     </tr>
+	 *     <tr>
+	 *         <td>laneLimit</td>
+	 *         <td>The {@link ConcurrencyLimiterSettings} to use to cap the number of transactions in flight at once
+	 *         in a given {@link TransactionLane} (can be set for each lane)</td>
+	 *         <td>Defaults to no limit for every lane</td>
+	 *     </tr>
+	 *     <tr>
+	 *         <td>executor</td>
+	 *         <td>The {@link Executor} to run asynchronous transactions on</td>
+	 *         <td>Defaults to null (a virtual thread per transaction where the JVM supports them, see
+	 *         {@link Database#newDefaultExecutor()})</td>
+	 *     </tr>
 	 * </table>
 	 *
 	 * @author Logan Ferree (Tadukoo)
@@ -85,15 +222,47 @@ public class Database{
 		/** The MySQL host url */
 		private String host;
 		/** The MySQL host port */
-		private int port = 3306;
+		private int port = DEFAULT_PORT;
 		/** The MySQL host database name */
 		private String databaseName = null;
 		/** The MySQL username for connecting to the Database */
 		private String username;
 		/** The MySQL password for connecting to the Database */
 		private String password;
+		/** The addresses (host:port) of the other servers holding the same database */
+		private final List<String> additionalHosts = new ArrayList<>();
+		/** The {@link HostStrategy} deciding which host to send transactions to */
+		private HostStrategy hostStrategy = HostStrategy.FAILOVER;
+		/** How long a host that couldn't be reached is skipped before it's tried again */
+		private Duration hostRetryDelay = MultiHostConnectionSource.DEFAULT_RETRY_DELAY;
 		/** The maximum number of attempts to try a SQL transaction before giving up */
 		private int maxAttempts = 10;
+		/** The {@link RetryPolicy} used to decide whether and when to retry a failed SQL transaction */
+		private RetryPolicy retryPolicy = null;
+		/** The {@link RetryBudget} capping how many retries are made compared to how many transactions are run */
+		private RetryBudget retryBudget = null;
+		/** The {@link CircuitBreakerSettings} to use to fail transactions fast while the host keeps failing */
+		private CircuitBreakerSettings circuitBreaker = null;
+		/** The {@link ConnectionPoolSettings} to use to pool connections between transactions */
+		private ConnectionPoolSettings connectionPool = null;
+		/** Whether to have the driver prepare statements on the server rather than client-side */
+		private boolean serverPreparedStatements = false;
+		/** The largest statement (in bytes) the server accepts, used to split up bulk inserts */
+		private int maxAllowedPacket = DEFAULT_MAX_ALLOWED_PACKET;
+		/** How long a transaction gets to finish, counting all of its attempts */
+		private Duration transactionTimeout = null;
+		/** Whether to run single-statement transactions with auto-commit enabled */
+		private boolean autoCommitSingleStatements = false;
+		/** The addresses (host:port) of the read replicas to send read-only transactions to */
+		private final List<String> readReplicas = new ArrayList<>();
+		/** The {@link HedgingSettings} to use to send duplicate copies of slow read-only transactions */
+		private HedgingSettings hedgedReads = null;
+		/** The {@link ConcurrencyLimiterSettings} to use to cap the number of transactions in flight at once */
+		private ConcurrencyLimiterSettings concurrencyLimit = null;
+		/** The {@link ConcurrencyLimiterSettings} to use to cap the transactions in flight in each lane */
+		private final Map<TransactionLane, ConcurrencyLimiterSettings> laneLimits = new HashMap<>();
+		/** The {@link Executor} to run asynchronous transactions on */
+		private Executor executor = null;
 		
 		/** Not allowed to instantiate outside of Database */
 		private DatabaseBuilder(){ }
@@ -147,6 +316,130 @@ public class Database{
 			return this;
 		}
 		
+		/** {@inheritDoc} */
+		@Override
+		public Build retryPolicy(RetryPolicy retryPolicy){
+			this.retryPolicy = retryPolicy;
+			return this;
+		}
+		
+		/** {@inheritDoc} */
+		@Override
+		public Build retryBudget(RetryBudget retryBudget){
+			this.retryBudget = retryBudget;
+			return this;
+		}
+		
+		/** {@inheritDoc} */
+		@Override
+		public Build circuitBreaker(CircuitBreakerSettings circuitBreaker){
+			this.circuitBreaker = circuitBreaker;
+			return this;
+		}
+		
+		/** {@inheritDoc} */
+		@Override
+		public Build connectionPool(ConnectionPoolSettings connectionPool){
+			this.connectionPool = connectionPool;
+			return this;
+		}
+		
+		/** {@inheritDoc} */
+		@Override
+		public Build serverPreparedStatements(boolean serverPreparedStatements){
+			this.serverPreparedStatements = serverPreparedStatements;
+			return this;
+		}
+		
+		/** {@inheritDoc} */
+		@Override
+		public Build maxAllowedPacket(int maxAllowedPacket){
+			this.maxAllowedPacket = maxAllowedPacket;
+			return this;
+		}
+		
+		/** {@inheritDoc} */
+		@Override
+		public Build transactionTimeout(Duration transactionTimeout){
+			this.transactionTimeout = transactionTimeout;
+			return this;
+		}
+		
+		/** {@inheritDoc} */
+		@Override
+		public Build autoCommitSingleStatements(boolean autoCommitSingleStatements){
+			this.autoCommitSingleStatements = autoCommitSingleStatements;
+			return this;
+		}
+		
+		/** {@inheritDoc} */
+		@Override
+		public Build additionalHost(String host){
+			return additionalHost(host, DEFAULT_PORT);
+		}
+		
+		/** {@inheritDoc} */
+		@Override
+		public Build additionalHost(String host, int port){
+			additionalHosts.add(StringUtil.isNotBlank(host)?host + ":" + port:null);
+			return this;
+		}
+		
+		/** {@inheritDoc} */
+		@Override
+		public Build hostStrategy(HostStrategy hostStrategy){
+			this.hostStrategy = hostStrategy;
+			return this;
+		}
+		
+		/** {@inheritDoc} */
+		@Override
+		public Build hostRetryDelay(Duration hostRetryDelay){
+			this.hostRetryDelay = hostRetryDelay;
+			return this;
+		}
+		
+		/** {@inheritDoc} */
+		@Override
+		public Build readReplica(String host){
+			return readReplica(host, DEFAULT_PORT);
+		}
+		
+		/** {@inheritDoc} */
+		@Override
+		public Build readReplica(String host, int port){
+			readReplicas.add(StringUtil.isNotBlank(host)?host + ":" + port:null);
+			return this;
+		}
+		
+		/** {@inheritDoc} */
+		@Override
+		public Build hedgedReads(HedgingSettings hedgedReads){
+			this.hedgedReads = hedgedReads;
+			return this;
+		}
+		
+		/** {@inheritDoc} */
+		@Override
+		public Build concurrencyLimit(ConcurrencyLimiterSettings concurrencyLimit){
+			this.concurrencyLimit = concurrencyLimit;
+			return this;
+		}
+		
+		/** {@inheritDoc} */
+		@Override
+		public Build laneLimit(TransactionLane lane, ConcurrencyLimiterSettings limit){
+			laneLimits.put(lane, limit);
+			return this;
+		}
+		
+		/** {@inheritDoc} */
+		@Override
+		public Build executor(Executor executor){
+			this.executor = executor;
+			return this;
+		}
+		
 		/**
 		 * Checks for any errors with the set parameters and will throw an IllegalArgumentException
 		 * if any are found
@@ -174,6 +467,41 @@ public class Database{
 				errors.add("password is required! (empty string is allowed for a blank password)");
 			}
 			
+			// maxAllowedPacket must be positive
+			if(maxAllowedPacket < 1){
+				errors.add("maxAllowedPacket must be at least 1!");
+			}
+			
+			// Additional hosts need a host
+			if(additionalHosts.contains(null)){
+				errors.add("additionalHost host is required!");
+			}
+			
+			// hostStrategy is required
+			if(hostStrategy == null){
+				errors.add("hostStrategy is required!");
+			}
+			
+			// hostRetryDelay is required
+			if(hostRetryDelay == null || hostRetryDelay.isNegative()){
+				errors.add("hostRetryDelay is required and can't be negative!");
+			}
+			
+			// transactionTimeout can't be negative
+			if(transactionTimeout != null && transactionTimeout.isNegative()){
+				errors.add("transactionTimeout can't be negative!");
+			}
+			
+			// Read replicas need a host
+			if(readReplicas.contains(null)){
+				errors.add("readReplica host is required!");
+			}
+			
+			// Lane limits must be for an actual lane
+			if(laneLimits.containsKey(null)){
+				errors.add("laneLimit can't be set for a null lane!");
+			}
+			
 			// Report any errors
 			if(!errors.isEmpty()){
 				throw new IllegalArgumentException("Encountered errors in building a Database: \n" +
@@ -186,7 +514,10 @@ public class Database{
 		public Database build(){
 			checkForErrors();
 			
-			return new Database(logger, host, port, databaseName, username, password, maxAttempts);
+			return new Database(logger, host, port, databaseName, username, password, additionalHosts, hostStrategy,
+					hostRetryDelay, retryPolicy != null?retryPolicy:RetryPolicy.defaultPolicy(maxAttempts), retryBudget,
+					circuitBreaker, connectionPool, serverPreparedStatements, maxAllowedPacket, transactionTimeout,
+					autoCommitSingleStatements, readReplicas, hedgedReads, concurrencyLimit, laneLimits, executor);
 		}
 	}
 	
@@ -199,6 +530,19 @@ public class Database{
 		}
 	}
 	
+	/** The default MySQL host port */
+	public static final int DEFAULT_PORT = 3306;
+	/** The default largest statement (in bytes) the server accepts (the lowest default of supported servers) */
+	public static final int DEFAULT_MAX_ALLOWED_PACKET = 4 * 1024 * 1024;
+	/** Room left in each bulk insert statement for the packet header */
+	private static final int BULK_INSERT_OVERHEAD = 1024;
+	/** The default most keys to look up in a single query when querying by keys */
+	public static final int DEFAULT_KEY_CHUNK_SIZE = 1000;
+	/** The default number of rows to have the driver fetch at a time when streaming a query */
+	public static final int DEFAULT_FETCH_SIZE = 1000;
+	/** The default most transactions to run at a time when running several at once */
+	public static final int DEFAULT_MAX_PARALLELISM = 8;
+	
 	/** The {@link EasyLogger logger} to use for logging */
 	private final EasyLogger logger;
 	/** The MySQL host url */
@@ -211,8 +555,46 @@ public class Database{
 	private final String username;
 	/** The MySQL password for connecting to the database */
 	private final String password;
-	/** The maximum number of attempts to try a SQL transaction before giving up */
-	private final int maxAttempts;
+	/** The addresses (host:port) of every server holding the database, starting with the main host */
+	private final List<String> hosts;
+	/** The {@link HostStrategy} deciding which host to send transactions to */
+	private final HostStrategy hostStrategy;
+	/** How long a host that couldn't be reached is skipped before it's tried again */
+	private final Duration hostRetryDelay;
+	/** The {@link RetryPolicy} used to decide whether and when to retry a failed SQL transaction */
+	private final RetryPolicy retryPolicy;
+	/** The {@link RetryBudget} capping how many retries are made compared to how many transactions are run */
+	private final RetryBudget retryBudget;
+	/** Whether to have the driver prepare statements on the server rather than client-side */
+	private final boolean serverPreparedStatements;
+	/** The largest statement (in bytes) the server accepts, used to split up bulk inserts */
+	private final int maxAllowedPacket;
+	/** How long a transaction gets to finish, counting all of its attempts (null for no timeout) */
+	private final Duration transactionTimeout;
+	/** Whether to run single-statement transactions with auto-commit enabled */
+	private final boolean autoCommitSingleStatements;
+	/** The addresses (host:port) of the read replicas that read-only transactions are sent to */
+	private final List<String> readReplicas;
+	/** The {@link ConnectionSource} used to grab connections for transactions */
+	private final ConnectionSource connectionSource;
+	/** The {@link ConnectionSource} used to grab connections for read-only transactions */
+	private final ConnectionSource readConnectionSource;
+	/** The {@link CircuitBreaker} used to fail transactions fast while the host keeps failing (may be null) */
+	private final CircuitBreaker circuitBreaker;
+	/** The {@link CircuitBreaker} used to fail read-only transactions fast while the read replicas keep failing */
+	private final CircuitBreaker readCircuitBreaker;
+	/** The {@link ReadHedger} used to send duplicate copies of slow read-only transactions (may be null) */
+	private final ReadHedger readHedger;
+	/** The {@link ConcurrencyLimiter} used to cap the number of transactions in flight at once (may be null) */
+	private final ConcurrencyLimiter concurrencyLimiter;
+	/** The {@link ConcurrencyLimiter ConcurrencyLimiters} used to cap the transactions in flight in each lane */
+	private final Map<TransactionLane, ConcurrencyLimiter> laneLimiters = new EnumMap<>(TransactionLane.class);
+	/** The {@link Executor} used to run asynchronous transactions */
+	private final Executor executor;
+	/** Whether the {@link #executor} was made by this Database (and so should be shut down when it's closed) */
+	private final boolean ownsExecutor;
+	/** The {@link InterruptWatcher} used to cancel the transactions of interrupted threads */
+	private final InterruptWatcher interruptWatcher = new InterruptWatcher(InterruptWatcher.DEFAULT_POLL_INTERVAL);
 	
 	/**
 	 * Constructs a new Database with the given parameters
@@ -223,18 +605,133 @@ public class Database{
 	 * @param databaseName The MySQL host database name
 	 * @param username The MySQL username for connecting to the database
 	 * @param password The MySQL password for connecting to the database
-	 * @param maxAttempts The maximum number of attempts to try a SQL transaction before giving up
+	 * @param additionalHosts The addresses (host:port) of the other servers holding the same database
+	 * @param hostStrategy The {@link HostStrategy} deciding which host to send transactions to
+	 * @param hostRetryDelay How long a host that couldn't be reached is skipped before it's tried again
+	 * @param retryPolicy The {@link RetryPolicy} used to decide whether and when to retry a failed SQL transaction
+	 * @param retryBudget The {@link RetryBudget} capping how many retries are made compared to how many
+	 *                    transactions are run (may be null for no budget)
+	 * @param circuitBreaker The {@link CircuitBreakerSettings} to use to fail transactions fast while the host keeps
+	 *                       failing (may be null for no circuit breaker)
+	 * @param connectionPool The {@link ConnectionPoolSettings} to use to pool connections between transactions
+	 *                       (may be null to open a new connection for every transaction)
+	 * @param serverPreparedStatements Whether to have the driver prepare statements on the server rather than
+	 *                                 client-side
+	 * @param maxAllowedPacket The largest statement (in bytes) the server accepts, used to split up bulk inserts
+	 * @param transactionTimeout How long a transaction gets to finish, counting all of its attempts (may be null for
+	 *                           no timeout)
+	 * @param autoCommitSingleStatements Whether to run single-statement transactions with auto-commit enabled
+	 * @param readReplicas The addresses (host:port) of the read replicas to send read-only transactions to
+	 * @param hedgedReads The {@link HedgingSettings} to use to send duplicate copies of slow read-only transactions
+	 *                    to another read replica (may be null for no hedging)
+	 * @param concurrencyLimit The {@link ConcurrencyLimiterSettings} to use to cap the number of transactions in
+	 *                         flight at once (may be null for no limit)
+	 * @param laneLimits The {@link ConcurrencyLimiterSettings} to use to cap the number of transactions in flight
+	 *                   at once in each {@link TransactionLane} (lanes that aren't in the map aren't limited)
+	 * @param executor The {@link Executor} used to run asynchronous transactions (may be null to use
+	 *                 {@link #newDefaultExecutor()})
 	 */
 	private Database(
 			EasyLogger logger, String host, int port, String databaseName, String username, String password,
-			int maxAttempts){
+			List<String> additionalHosts, HostStrategy hostStrategy, Duration hostRetryDelay, RetryPolicy retryPolicy,
+			RetryBudget retryBudget, CircuitBreakerSettings circuitBreaker, ConnectionPoolSettings connectionPool,
+			boolean serverPreparedStatements, int maxAllowedPacket, Duration transactionTimeout,
+			boolean autoCommitSingleStatements, List<String> readReplicas, HedgingSettings hedgedReads,
+			ConcurrencyLimiterSettings concurrencyLimit, Map<TransactionLane, ConcurrencyLimiterSettings> laneLimits,
+			Executor executor){
 		this.logger = logger;
 		this.host = host;
 		this.port = port;
 		this.databaseName = databaseName;
 		this.username = username;
 		this.password = password;
-		this.maxAttempts = maxAttempts;
+		this.retryPolicy = retryPolicy;
+		this.retryBudget = retryBudget;
+		this.serverPreparedStatements = serverPreparedStatements;
+		this.maxAllowedPacket = maxAllowedPacket;
+		this.transactionTimeout = transactionTimeout;
+		this.autoCommitSingleStatements = autoCommitSingleStatements;
+		this.readReplicas = List.copyOf(readReplicas);
+		
+		// Send transactions to the host (or pick between the hosts by the strategy if there are additional ones)
+		List<String> allHosts = new ArrayList<>();
+		allHosts.add(host + ":" + port);
+		allHosts.addAll(additionalHosts);
+		this.hosts = List.copyOf(allHosts);
+		this.hostStrategy = hostStrategy;
+		this.hostRetryDelay = hostRetryDelay;
+		List<ConnectionSource> hostSources = new ArrayList<>();
+		for(String address: this.hosts){
+			hostSources.add(createConnectionSource(connectionPool, address));
+		}
+		this.connectionSource = hostSources.size() == 1
+				?hostSources.get(0)
+				:new MultiHostConnectionSource(hostSources, hostStrategy, hostRetryDelay);
+		
+		// Spread read-only transactions over the replicas (or send them to the primary if there aren't any)
+		List<ConnectionSource> replicaSources = new ArrayList<>();
+		for(String replica: this.readReplicas){
+			replicaSources.add(createConnectionSource(connectionPool, replica));
+		}
+		this.readConnectionSource = replicaSources.isEmpty()
+				?connectionSource
+				:new LoadBalancedConnectionSource(replicaSources);
+		
+		// The primary and the read replicas each get their own breaker, so one going down doesn't stop the other
+		this.circuitBreaker = circuitBreaker != null?new CircuitBreaker(circuitBreaker):null;
+		this.readCircuitBreaker = circuitBreaker != null && readConnectionSource != connectionSource
+				?new CircuitBreaker(circuitBreaker)
+				:this.circuitBreaker;
+		this.concurrencyLimiter = concurrencyLimit != null?new ConcurrencyLimiter(concurrencyLimit):null;
+		laneLimits.forEach((lane, limit) -> {
+			if(limit != null){
+				laneLimiters.put(lane, new ConcurrencyLimiter(limit));
+			}
+		});
+		this.ownsExecutor = executor == null;
+		this.executor = executor != null?executor:newDefaultExecutor();
+		
+		// Hedging only helps when there's another replica for the duplicate copy to go to
+		this.readHedger = hedgedReads != null && replicaSources.size() > 1
+				?new ReadHedger(hedgedReads, this.executor)
+				:null;
+	}
+	
+	/**
+	 * Creates the default {@link ExecutorService} for running asynchronous transactions: one that starts a new
+	 * virtual thread for each task when the JVM supports virtual threads, or otherwise one that starts (or reuses)
+	 * a daemon platform thread for each task. Transactions spend most of their time waiting on the server, so
+	 * neither kind needs sizing to the number of transactions in flight.
+	 *
+	 * @return A new {@link ExecutorService} for running asynchronous transactions
+	 */
+	public static ExecutorService newDefaultExecutor(){
+		try{
+			return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+		}catch(ReflectiveOperationException e){
+			// Virtual threads aren't available on this JVM
+			return Executors.newCachedThreadPool(runnable -> {
+				Thread thread = new Thread(runnable, "Database-async");
+				thread.setDaemon(true);
+				return thread;
+			});
+		}
+	}
+	
+	/**
+	 * Creates the {@link ConnectionSource} used to grab connections to the given server
+	 *
+	 * @param connectionPool The {@link ConnectionPoolSettings} to use to pool connections between transactions
+	 *                       (may be null to open a new connection for every transaction)
+	 * @param address The address (host:port) of the server
+	 * @return A {@link ConnectionPool} if connection pooling was set up, otherwise a {@link DirectConnectionSource}
+	 */
+	private ConnectionSource createConnectionSource(ConnectionPoolSettings connectionPool, String address){
+		// When single statements are auto-committed, pooled connections keep whichever auto-commit mode they were
+		// last used in, since every transaction sets the mode it needs
+		return connectionPool != null
+				?new ConnectionPool(connectionPool, () -> createConnection(address), !autoCommitSingleStatements)
+				:new DirectConnectionSource(() -> createConnection(address));
 	}
 	
 	/**
@@ -252,191 +749,1339 @@ public class Database{
 	}
 	
 	/**
-	 * @return The connection URL (includes host, port, databaseName, but not login credentials)
+	 * @return The connection URL for the main host (includes host, port, databaseName, and driver options, but not
+	 * login credentials) - see {@link #getHosts()} for any additional hosts
 	 */
 	public String getConnectionURL(){
+		return getConnectionURL(host + ":" + port);
+	}
+	
+	/**
+	 * @param address The address (host:port) of the server to connect to
+	 * @return The connection URL for the given server (includes the address, databaseName, and driver options, but
+	 * not login credentials)
+	 */
+	private String getConnectionURL(String address){
 		// Put the jdbc MySQL portion on
 		StringBuilder url = new StringBuilder("jdbc:mysql://");
 		
 		// Start with host + port
-		url.append(host).append(":").append(port);
+		url.append(address);
 		
 		// Add database name if we have it
 		if(StringUtil.isNotBlank(databaseName)){
 			url.append('/').append(databaseName);
 		}
 		
+		// Have the driver send read-only to the server (otherwise MariaDB's driver only keeps track of it locally, and
+		// read-only transactions don't actually run read-only)
+		url.append("?assureReadOnly=true");
+		
+		// Have the driver use server-side prepared statements if specified
+		if(serverPreparedStatements){
+			url.append("&useServerPrepStmts=true");
+		}
+		
 		return url.toString();
 	}
 	
 	/**
-	 * @return The maximum number of attempts to try a SQL transaction before giving up
+	 * @return Whether to have the driver prepare statements on the server rather than client-side
 	 */
-	public int getMaxAttempts(){
-		return maxAttempts;
+	public boolean isServerPreparedStatements(){
+		return serverPreparedStatements;
 	}
 	
 	/**
-	 * Creates a {@link Connection} to a MySQL database with the url and login information 
-	 * that was set in the constructor of this Database class.
-	 * 
-	 * @return The Connection that's been created
-	 * @throws SQLException If anything goes wrong
+	 * @return The largest statement (in bytes) the server accepts, used to split up bulk inserts
 	 */
-	private Connection connect() throws SQLException{
-		// Create the connection with the appropriate url and login credentials
-		Connection conn = DriverManager.getConnection(getConnectionURL(), username, password);
-		// Disable auto-commit to allow for transactions
-		conn.setAutoCommit(false);
-		
-		return conn;
+	public int getMaxAllowedPacket(){
+		return maxAllowedPacket;
 	}
 	
 	/**
-	 * Runs a SQL transaction. Will attempt {@link #maxAttempts} times until it works,
-	 * before throwing a {@link SQLException} if it doesn't work in that many attempts. 
-	 * 
-	 * @param <ResultType> The type of result to be returned
-	 * @param transaction The {@link SQLTransaction} to run
-	 * @return The result from the transaction
-	 * @throws SQLException If anything goes wrong
+	 * @return How long a transaction gets to finish, counting all of its attempts, unless it sets its own timeout
+	 * (null for no timeout)
 	 */
-	public <ResultType> ResultType executeTransaction(SQLTransaction<ResultType> transaction) throws SQLException{
-		// Create the connection
-		try(Connection conn = connect()){
-			// boolean to say when to stop - used in case a null result is returned
-			boolean success = false;
-			// Keep track of attempts for when to give up
-			int attempts = 0;
-			
-			// Attempt to grab a result until it works or we hit the max attempts
-			ResultType result = null;
-			while(!success && attempts < maxAttempts){
-				try{
-					result = transaction.execute(conn, logger);
-					conn.commit();
-					success = true;
-				}catch(SQLException e){
-					logger.logError("Failed to execute " + transaction.getTransactionName(), e);
-					attempts++;
-				}
-			}
-			
-			// Throw an exception if it fails
-			if(!success){
-				conn.rollback();
-				String error = "Failed to execute transaction after " + maxAttempts + " attempts";
-				logger.logError(error);
-				throw new SQLException(error);
-			}
-			
-			return result;
-		}
+	public Duration getTransactionTimeout(){
+		return transactionTimeout;
 	}
 	
 	/**
-	 * Executes a sql query after building a {@link Query} object for 
-	 * it from the given pieces. Returns the result of the query.
-	 * 
-	 * @param <ResultType> The type of result to be returned
-	 * @param name The name to use for the query (for debugging purposes - may be null)
-	 * @param sql The sql query string to run
-	 * @param convertFromResultSet The {@link ThrowingFunction} to use to run the query
-	 * @return The result from the query
-	 * @throws SQLException If anything goes wrong
+	 * @return Whether to run single-statement transactions (like queries) with auto-commit enabled, skipping the
+	 * separate commit
 	 */
-	public <ResultType> ResultType executeQuery(String name, String sql, 
-			ThrowingFunction<ResultSet, ResultType, SQLException> convertFromResultSet) throws SQLException{
-		return executeTransaction(Query.createQuery(name, sql, convertFromResultSet));
+	public boolean isAutoCommitSingleStatements(){
+		return autoCommitSingleStatements;
 	}
 	
 	/**
-	 * Executes sql updates and returns if they were a success. This version 
-	 * builds the {@link Updates} object using the given parameters.
-	 *
-	 * @param transactionName The name for the overall transaction
-	 * @param names The names to use for the updates (optional - used for debugging)
-	 * @param sqls The sql update statements to run
-	 * @return If it succeeded or not
-	 * @throws SQLException If anything goes wrong
+	 * @return The maximum number of attempts to try a SQL transaction before giving up
 	 */
-	public boolean executeUpdates(String transactionName, List<String> names, List<String> sqls) throws SQLException{
-		return executeTransaction(Updates.createUpdates(transactionName, names, sqls));
+	public int getMaxAttempts(){
+		return retryPolicy.getMaxAttempts();
 	}
 	
 	/**
-	 * Executes a single sql update and returns if it was a success.
-	 * <br><br>
-	 * This version sends the name and statement to 
-	 * {@link #executeUpdates(String, List, List) the plural version} to create the
-	 * {@link Updates} object.
-	 * 
-	 * @param name The name to use for the update (optional - used for debugging)
-	 * @param sql The sql update statement to run
-	 * @return If it succeeded or not
-	 * @throws SQLException If anything goes wrong
+	 * @return The {@link RetryPolicy} used to decide whether and when to retry a failed SQL transaction
 	 */
-	public boolean executeUpdate(String name, String sql) throws SQLException{
-		return executeUpdates(name, Collections.singletonList(name), Collections.singletonList(sql));
+	public RetryPolicy getRetryPolicy(){
+		return retryPolicy;
 	}
 	
 	/**
-	 * Executes a single sql insert statement.
-	 * <br><br>
-	 * This sends the table, cols, and values to
-	 * {@link SQLSyntaxUtil#formatInsertStatement(String, Collection, Collection)} to create the insert statement
-	 * and then uses {@link #executeUpdate(String, String)} to run it
-	 *
-	 * @param table The name of the table to insert into
-	 * @param cols The names of the columns to insert into
-	 * @param values The values to be inserted
-	 * @throws SQLException If anything goes wrong
+	 * @return The {@link RetryBudget} capping how many retries are made compared to how many transactions are run
+	 * (null if retries are only limited by the retry policy)
 	 */
-	public void insert(String table, Collection<String> cols, Collection<Object> values) throws SQLException{
-		executeUpdate("Insert a " + table, SQLSyntaxUtil.formatInsertStatement(table, cols, values));
+	public RetryBudget getRetryBudget(){
+		return retryBudget;
 	}
 	
 	/**
-	 * Executes a sql insert statement and then performs a query to retrieve an id (useful if the ID is
-	 * auto-incremented).
-	 * <br><br>
-	 * To do this, a {@link InsertAndGetID} transaction object is created using the given parameters
-	 *
-	 * @param table The name of the table to insert into
-	 * @param idColumnName The column name for the ID column
-	 * @param cols The column names for the columns to use in the insert
-	 * @param values The values to be inserted
-	 * @return The ID found from the newly inserted data
-	 * @throws SQLException If anything goes wrong
+	 * @return The {@link ConnectionSource} used to grab connections for transactions (a
+	 * {@link MultiHostConnectionSource} if there are additional hosts, or otherwise a {@link ConnectionPool} if
+	 * connection pooling was set up)
 	 */
-	public Integer insertAndGetID(String table, String idColumnName, Collection<String> cols, Collection<Object> values)
-			throws SQLException{
-		return executeTransaction(InsertAndGetID.createInsertAndGetID(table, idColumnName, cols, values));
+	public ConnectionSource getConnectionSource(){
+		return connectionSource;
 	}
 	
 	/**
-	 * Executes a single sql update statement
-	 * <br><br>
-	 * This sends the table, cols, values, whereCols, and whereValues to
-	 * {@link SQLSyntaxUtil#formatUpdateStatement(String, Collection, Collection, Collection, Collection)} to create
-	 * the update statement and then uses {@link #executeUpdate(String, String)} to run it
-	 *
-	 * @param table The name of the table to be updated
-	 * @param cols The names of the columns to be updated
-	 * @param values The values to use in the update
-	 * @param whereCols The names of the columns for the where statement (can be empty/null)
-	 * @param whereValues The values to use for the where statement (can be empty/null)
-	 * @throws SQLException If anything goes wrong
+	 * @return The addresses (host:port) of every server holding the database, starting with the main host
 	 */
-	public void update(
-			String table, Collection<String> cols, Collection<Object> values,
-			Collection<String> whereCols, Collection<Object> whereValues) throws SQLException{
-		executeUpdate("Update a " + table,
-				SQLSyntaxUtil.formatUpdateStatement(table, cols, values, whereCols, whereValues));
+	public List<String> getHosts(){
+		return hosts;
 	}
 	
-	/*
-	 * Builder interfaces
+	/**
+	 * @return The {@link HostStrategy} deciding which host to send transactions to (only used if there are
+	 * additional hosts)
+	 */
+	public HostStrategy getHostStrategy(){
+		return hostStrategy;
+	}
+	
+	/**
+	 * @return How long a host that couldn't be reached is skipped before it's tried again (only used if there are
+	 * additional hosts)
+	 */
+	public Duration getHostRetryDelay(){
+		return hostRetryDelay;
+	}
+	
+	/**
+	 * @return The addresses (host:port) of the read replicas that read-only transactions are sent to
+	 */
+	public List<String> getReadReplicas(){
+		return readReplicas;
+	}
+	
+	/**
+	 * @return The {@link ConnectionSource} used to grab connections for read-only transactions (a
+	 * {@link LoadBalancedConnectionSource} over the read replicas if there are any, otherwise the same as
+	 * {@link #getConnectionSource()})
+	 */
+	public ConnectionSource getReadConnectionSource(){
+		return readConnectionSource;
+	}
+	
+	/**
+	 * @return The {@link CircuitBreaker} used to fail transactions fast while the host keeps failing (null if there's
+	 * no circuit breaker), which can be used to watch the host's state
+	 */
+	public CircuitBreaker getCircuitBreaker(){
+		return circuitBreaker;
+	}
+	
+	/**
+	 * @return The {@link CircuitBreaker} used to fail read-only transactions fast while the read replicas keep
+	 * failing (the same as {@link #getCircuitBreaker()} if there aren't any read replicas)
+	 */
+	public CircuitBreaker getReadCircuitBreaker(){
+		return readCircuitBreaker;
+	}
+	
+	/**
+	 * @return The {@link ReadHedger} used to send duplicate copies of slow read-only transactions to another read
+	 * replica (null if hedging isn't set or there aren't at least two read replicas), which can be used to watch
+	 * how often reads are hedged through its {@link ReadHedger#getStats() stats}
+	 */
+	public ReadHedger getReadHedger(){
+		return readHedger;
+	}
+	
+	/**
+	 * @return The {@link ConcurrencyLimiter} used to cap the number of transactions in flight at once (null if
+	 * there's no limit), which can be used to watch the current limit and queue depth
+	 */
+	public ConcurrencyLimiter getConcurrencyLimiter(){
+		return concurrencyLimiter;
+	}
+	
+	/**
+	 * @param lane The {@link TransactionLane} to get the limiter for
+	 * @return The {@link ConcurrencyLimiter} used to cap the number of transactions in flight at once in the given
+	 * lane (null if the lane isn't limited)
+	 */
+	public ConcurrencyLimiter getLaneLimiter(TransactionLane lane){
+		return laneLimiters.get(lane);
+	}
+	
+	/**
+	 * @return The {@link Executor} used to run asynchronous transactions
+	 */
+	public Executor getExecutor(){
+		return executor;
+	}
+	
+	/**
+	 * Creates a brand new {@link Connection} to the given MySQL server with the database name and login
+	 * information that was set in the constructor of this Database class.
+	 * 
+	 * @param address The address (host:port) of the server to connect to
+	 * @return The Connection that's been created
+	 * @throws SQLException If anything goes wrong
+	 */
+	private Connection createConnection(String address) throws SQLException{
+		// Create the connection with the appropriate url and login credentials
+		return DriverManager.getConnection(getConnectionURL(address), username, password);
+	}
+	
+	/**
+	 * Picks the {@link ConnectionSource} to grab connections from for the given transaction: the read replicas if
+	 * it's {@link SQLTransaction#isReadOnly() read-only} and there are any, or otherwise the primary. Connections
+	 * from either have auto-commit disabled.
+	 * 
+	 * @param transaction The {@link SQLTransaction} the connection is for
+	 * @return The {@link ConnectionSource} to grab the connection from
+	 */
+	private ConnectionSource sourceFor(SQLTransaction<?> transaction){
+		return transaction.isReadOnly()?readConnectionSource:connectionSource;
+	}
+	
+	/**
+	 * Closes this Database, closing any pooled connections it's holding on to and shutting down its default
+	 * {@link Executor} (one given to the builder is left alone)
+	 */
+	@Override
+	public void close(){
+		connectionSource.close();
+		if(readConnectionSource != connectionSource){
+			readConnectionSource.close();
+		}
+		if(ownsExecutor){
+			((ExecutorService) executor).shutdown();
+		}
+	}
+	
+	/**
+	 * Runs a SQL transaction. If an attempt fails, it is rolled back and the {@link RetryPolicy} decides whether
+	 * to try it again (after waiting for the policy's backoff, and on a fresh connection if the policy says to).
+	 * Throws a {@link SQLException} if the transaction fails in a way that can't be retried or if it doesn't work
+	 * within the policy's max attempts.
+	 * <br><br>
+	 * The transaction runs in its own {@link SQLTransaction#getLane() lane}. If that lane has a limit, the
+	 * transaction first waits to be let in by the lane's {@link ConcurrencyLimiter}, and then by the overall one if a
+	 * concurrency limit is set (throwing a {@link ConcurrencyLimitExceededException} if it isn't let in). How long
+	 * it takes and whether it fails due to overload feed back into both limits.
+	 * <br><br>
+	 * If the transaction has a timeout (its own or this Database's), every attempt has to fit within it: each
+	 * statement gets the time left as its query timeout, and once there's no time left for another attempt a
+	 * {@link java.sql.SQLTimeoutException} is thrown instead of retrying. The transaction runs on the calling thread
+	 * while an {@link InterruptWatcher} watches it, so interrupting the calling thread cancels the statement the
+	 * transaction is running (with {@link java.sql.Statement#cancel()}) and stops it from being retried.
+	 * <br><br>
+	 * If a retry budget is set, a failed attempt is only retried while the {@link RetryBudget} has room for it. If a
+	 * circuit breaker is set, each attempt first checks the {@link CircuitBreaker} for the host it's going to (the
+	 * read replicas for read-only transactions), and a {@link CircuitBreakerOpenException} is thrown without trying
+	 * the host if it keeps failing.
+	 * <br><br>
+	 * If hedged reads are set and there are at least two read replicas, a read-only transaction that's
+	 * {@link SQLTransaction#isHedgeable() hedgeable} and is taking longer than the {@link ReadHedger}'s hedge delay
+	 * gets a duplicate copy sent to another replica, and whichever copy finishes first is used (with the other
+	 * cancelled). Each copy goes through the concurrency limits on its own.
+	 * 
+	 * @param <ResultType> The type of result to be returned
+	 * @param transaction The {@link SQLTransaction} to run
+	 * @return The result from the transaction
+	 * @throws SQLException If anything goes wrong
+	 */
+	public <ResultType> ResultType executeTransaction(SQLTransaction<ResultType> transaction) throws SQLException{
+		return executeTransaction(transaction.getLane(), transaction);
+	}
+	
+	/**
+	 * Runs a SQL transaction in the given {@link TransactionLane} instead of its own lane. See
+	 * {@link #executeTransaction(SQLTransaction)} for details.
+	 * 
+	 * @param <ResultType> The type of result to be returned
+	 * @param lane The {@link TransactionLane} to run the transaction in
+	 * @param transaction The {@link SQLTransaction} to run
+	 * @return The result from the transaction
+	 * @throws SQLException If anything goes wrong
+	 */
+	public <ResultType> ResultType executeTransaction(
+			TransactionLane lane, SQLTransaction<ResultType> transaction) throws SQLException{
+		TransactionGuard guard = guardFor(transaction);
+		try(InterruptWatcher.Watch ignored = interruptWatcher.watch(guard)){
+			return executeTransaction(lane, transaction, guard);
+		}
+	}
+	
+	/**
+	 * Runs a SQL transaction in the given {@link TransactionLane}, kept in check by the given
+	 * {@link TransactionGuard}. See {@link #executeTransaction(SQLTransaction)} for details.
+	 * 
+	 * @param <ResultType> The type of result to be returned
+	 * @param lane The {@link TransactionLane} to run the transaction in
+	 * @param transaction The {@link SQLTransaction} to run
+	 * @param guard The {@link TransactionGuard} used to enforce the transaction's deadline and cancel it
+	 * @return The result from the transaction
+	 * @throws SQLException If anything goes wrong
+	 */
+	private <ResultType> ResultType executeTransaction(
+			TransactionLane lane, SQLTransaction<ResultType> transaction, TransactionGuard guard) throws SQLException{
+		if(readHedger != null && transaction.isReadOnly() && transaction.isHedgeable()){
+			return readHedger.execute(guard, copyGuard -> runInLane(lane, transaction, copyGuard));
+		}
+		return runInLane(lane, transaction, guard);
+	}
+	
+	/**
+	 * Runs a SQL transaction under the limits of the given {@link TransactionLane} and this Database's
+	 * concurrency limit
+	 * 
+	 * @param <ResultType> The type of result to be returned
+	 * @param lane The {@link TransactionLane} to run the transaction in
+	 * @param transaction The {@link SQLTransaction} to run
+	 * @param guard The {@link TransactionGuard} used to enforce the transaction's deadline and cancel it
+	 * @return The result from the transaction
+	 * @throws SQLException If anything goes wrong
+	 */
+	private <ResultType> ResultType runInLane(
+			TransactionLane lane, SQLTransaction<ResultType> transaction, TransactionGuard guard) throws SQLException{
+		return runLimited(laneLimiters.get(lane), transaction,
+				laneTransaction -> runLimited(concurrencyLimiter, laneTransaction,
+						limitedTransaction -> runTransaction(limitedTransaction, guard)));
+	}
+	
+	/**
+	 * Makes the {@link TransactionGuard} for the given transaction, with a {@link Deadline} of the transaction's
+	 * own timeout (or this Database's transaction timeout if it doesn't have one) from now
+	 * 
+	 * @param transaction The {@link SQLTransaction} about to run
+	 * @return The {@link TransactionGuard} to use for the transaction
+	 */
+	private TransactionGuard guardFor(SQLTransaction<?> transaction){
+		Duration timeout = transaction.getTimeout() != null?transaction.getTimeout():transactionTimeout;
+		return new TransactionGuard(transaction.getTransactionName(), Deadline.after(timeout));
+	}
+	
+	/**
+	 * Runs a SQL transaction once the given {@link ConcurrencyLimiter} lets it in, then reports how it went back to
+	 * the limiter
+	 * 
+	 * @param <ResultType> The type of result to be returned
+	 * @param limiter The {@link ConcurrencyLimiter} to wait on (may be null to run the transaction right away)
+	 * @param transaction The {@link SQLTransaction} to run
+	 * @param run The function used to run the transaction once it's let in
+	 * @return The result from the transaction
+	 * @throws SQLException If anything goes wrong
+	 */
+	private static <ResultType> ResultType runLimited(
+			ConcurrencyLimiter limiter, SQLTransaction<ResultType> transaction,
+			ThrowingFunction<SQLTransaction<ResultType>, ResultType, SQLException> run) throws SQLException{
+		if(limiter == null){
+			return run.apply(transaction);
+		}
+		
+		// Wait to be let in under the limit, then report how the transaction went
+		limiter.acquire();
+		long start = System.nanoTime();
+		boolean overloaded = false;
+		try{
+			return run.apply(transaction);
+		}catch(SQLException e){
+			overloaded = ConcurrencyLimiter.isOverloadError(e);
+			throw e;
+		}finally{
+			limiter.release(System.nanoTime() - start, overloaded);
+		}
+	}
+	
+	/**
+	 * Runs a SQL transaction, retrying it as the {@link RetryPolicy} says to as long as the
+	 * {@link TransactionGuard} lets it keep going. See {@link #executeTransaction(SQLTransaction)} for details.
+	 * 
+	 * @param <ResultType> The type of result to be returned
+	 * @param transaction The {@link SQLTransaction} to run
+	 * @param guard The {@link TransactionGuard} used to enforce the transaction's deadline and cancel it
+	 * @return The result from the transaction
+	 * @throws SQLException If anything goes wrong
+	 */
+	private <ResultType> ResultType runTransaction(
+			SQLTransaction<ResultType> transaction, TransactionGuard guard) throws SQLException{
+		// Make sure there's still time (e.g. after waiting on a concurrency limit)
+		guard.check();
+		if(retryBudget != null){
+			retryBudget.recordTransaction();
+		}
+		
+		// Grab a connection (from a read replica if the transaction only reads), unless the host keeps failing
+		ConnectionSource source = sourceFor(transaction);
+		CircuitBreaker breaker = transaction.isReadOnly()?readCircuitBreaker:circuitBreaker;
+		Connection conn = connect(source, breaker, guard);
+		TransactionSettings settings = null;
+		boolean broken = true;
+		try{
+			// Put the connection into the auto-commit mode, read-only mode, and isolation level the transaction needs
+			boolean autoCommit = autoCommitSingleStatements && transaction.isSingleStatement();
+			settings = TransactionSettings.apply(conn, transaction, autoCommit);
+			
+			// Keep track of attempts for when to give up
+			int attempts = 0;
+			SQLException lastError;
+			
+			// Attempt to grab a result until it works or the retry policy says to give up
+			while(true){
+				attempts++;
+				try{
+					ResultType result = transaction.execute(guard.guard(conn), logger);
+					if(!autoCommit){
+						conn.commit();
+					}
+					broken = false;
+					guard.recordOutcome(breaker, null);
+					return result;
+				}catch(SQLException e){
+					logger.logError("Failed to execute " + transaction.getTransactionName(), e);
+					lastError = e;
+					guard.recordOutcome(breaker, e);
+				}
+				
+				// Undo anything the failed attempt did (if that fails, the connection is no good)
+				boolean rolledBack = autoCommit || rollback(conn);
+				if(attempts >= retryPolicy.getMaxAttempts() || !retryPolicy.isRetryable(lastError)){
+					break;
+				}
+				
+				// Don't retry if the retry budget is used up (so an outage doesn't multiply the load)
+				if(retryBudget != null && !retryBudget.tryRetry()){
+					logger.logError("Not retrying " + transaction.getTransactionName() +
+							" because the retry budget is used up");
+					break;
+				}
+				
+				// Wait before trying again (as long as there's time left to try again and it wasn't cancelled)
+				Duration backoff = retryPolicy.getBackoff(attempts);
+				try{
+					guard.check(backoff, lastError);
+				}catch(SQLException e){
+					logger.logError(e.getMessage());
+					throw e;
+				}
+				backoff(backoff);
+				
+				// Switch to a fresh connection if needed (either way, only if the host isn't failing)
+				if(!rolledBack || retryPolicy.shouldReconnect(lastError)){
+					source.releaseConnection(conn, true);
+					conn = null;
+					conn = connect(source, breaker, guard);
+					settings = TransactionSettings.apply(conn, transaction, autoCommit);
+				}else if(breaker != null){
+					breaker.acquire();
+				}
+			}
+			
+			// Throw an exception since it failed
+			String error = "Failed to execute transaction after " + attempts + (attempts == 1?" attempt":" attempts");
+			logger.logError(error);
+			throw new SQLException(error, lastError);
+		}finally{
+			// Hand the connection back (a failed transaction's connection isn't trusted for reuse, and neither is
+			// one whose isolation level couldn't be put back)
+			if(conn != null){
+				if(!broken && !restoreSettings(settings)){
+					broken = true;
+				}
+				source.releaseConnection(conn, broken);
+			}
+		}
+	}
+	
+	/**
+	 * Grabs a {@link Connection} from the given {@link ConnectionSource}, as long as the given {@link CircuitBreaker}
+	 * lets it through. A failure to connect is recorded with the breaker (unless it's the transaction's own, see
+	 * {@link TransactionGuard#recordOutcome(CircuitBreaker, SQLException)}). If the transaction is a hedged read's
+	 * duplicate copy, it's sent to a different read replica than the copy it's hedging.
+	 * 
+	 * @param source The {@link ConnectionSource} to grab the connection from
+	 * @param breaker The {@link CircuitBreaker} for the source (may be null for no circuit breaker)
+	 * @param guard The {@link TransactionGuard} for the transaction the connection is for
+	 * @return The {@link Connection} that was grabbed
+	 * @throws SQLException If the breaker is open or the connection can't be grabbed
+	 */
+	private static Connection connect(
+			ConnectionSource source, CircuitBreaker breaker, TransactionGuard guard) throws SQLException{
+		if(breaker != null){
+			breaker.acquire();
+		}
+		try{
+			// Don't send a hedge to the replica that's being slow with the copy it's hedging
+			if(guard.getHedgeOf() != null && source instanceof LoadBalancedConnectionSource balancedSource){
+				return balancedSource.getConnection(balancedSource.getSourceOf(guard.getHedgeOf().getConnection()));
+			}
+			return source.getConnection();
+		}catch(SQLException e){
+			guard.recordOutcome(breaker, e);
+			throw e;
+		}
+	}
+	
+	/**
+	 * Runs a SQL transaction on this Database's {@link Executor} using {@link #executeTransaction(SQLTransaction)},
+	 * so many independent transactions can be in flight at once without the caller managing threads. If the
+	 * transaction fails, the returned future completes exceptionally with the {@link SQLException}. Cancelling the
+	 * future cancels the statement the transaction is running (with {@link java.sql.Statement#cancel()}) and stops
+	 * it from being retried.
+	 *
+	 * @param <ResultType> The type of result to be returned
+	 * @param transaction The {@link SQLTransaction} to run
+	 * @return A {@link CompletableFuture} for the result from the transaction
+	 */
+	public <ResultType> CompletableFuture<ResultType> executeTransactionAsync(SQLTransaction<ResultType> transaction){
+		CompletableFuture<ResultType> future = new CompletableFuture<>();
+		TransactionGuard guard = guardFor(transaction);
+		future.whenComplete((result, error) -> {
+			if(future.isCancelled()){
+				guard.cancel();
+			}
+		});
+		try{
+			executor.execute(() -> {
+				try{
+					future.complete(executeTransaction(transaction.getLane(), transaction, guard));
+				}catch(SQLException | RuntimeException e){
+					future.completeExceptionally(e);
+				}
+			});
+		}catch(RejectedExecutionException e){
+			future.completeExceptionally(e);
+		}
+		return future;
+	}
+	
+	/**
+	 * Runs several independent SQL transactions at once (at most {@link #DEFAULT_MAX_PARALLELISM} at a time), each
+	 * on its own connection, failing fast if any of them fail. See
+	 * {@link #executeAll(Collection, int, FanOutFailurePolicy)} for details.
+	 *
+	 * @param <ResultType> The type of result returned by the transactions
+	 * @param transactions The {@link SQLTransaction SQLTransactions} to run
+	 * @return The results of the transactions, in the same order as the transactions
+	 * @throws SQLException If any of the transactions fail
+	 */
+	public <ResultType> List<ResultType> executeAll(
+			Collection<? extends SQLTransaction<? extends ResultType>> transactions) throws SQLException{
+		return executeAll(transactions, DEFAULT_MAX_PARALLELISM, FanOutFailurePolicy.FAIL_FAST);
+	}
+	
+	/**
+	 * Runs several independent SQL transactions at once using a {@link TransactionFanOut} on this Database's
+	 * {@link Executor}. Each transaction is run (and retried) as in {@link #executeTransaction(SQLTransaction)} on
+	 * its own connection, so the transactions shouldn't depend on each other. With a connection pool, a
+	 * maxParallelism above the pool's max size just leaves some transactions waiting on a connection.
+	 *
+	 * @param <ResultType> The type of result returned by the transactions
+	 * @param transactions The {@link SQLTransaction SQLTransactions} to run
+	 * @param maxParallelism The most transactions to run at a time
+	 * @param failurePolicy The {@link FanOutFailurePolicy} deciding what to do when a transaction fails
+	 * @return The results of the transactions, in the same order as the transactions
+	 * @throws SQLException If any of the transactions fail (see {@link FanOutFailurePolicy})
+	 */
+	public <ResultType> List<ResultType> executeAll(
+			Collection<? extends SQLTransaction<? extends ResultType>> transactions, int maxParallelism,
+			FanOutFailurePolicy failurePolicy) throws SQLException{
+		return new TransactionFanOut(executor, maxParallelism, failurePolicy).executeAll(transactions,
+				this::executeTransaction);
+	}
+	
+	/**
+	 * Rolls back the current transaction on the given {@link Connection}
+	 * 
+	 * @param conn The {@link Connection} to roll back
+	 * @return Whether the rollback worked
+	 */
+	private boolean rollback(Connection conn){
+		try{
+			conn.rollback();
+			return true;
+		}catch(SQLException e){
+			logger.logError("Failed to rollback transaction", e);
+			return false;
+		}
+	}
+	
+	/**
+	 * Puts back any connection settings that only applied to the transaction that just ran
+	 * 
+	 * @param settings The {@link TransactionSettings} that were applied for the transaction
+	 * @return Whether the settings were put back
+	 */
+	private boolean restoreSettings(TransactionSettings settings){
+		try{
+			settings.restore();
+			return true;
+		}catch(SQLException e){
+			logger.logError("Failed to restore connection settings", e);
+			return false;
+		}
+	}
+	
+	/**
+	 * Waits for the given backoff before a transaction is retried
+	 * 
+	 * @param backoff How long to wait
+	 * @throws SQLException If interrupted while waiting
+	 */
+	private void backoff(Duration backoff) throws SQLException{
+		try{
+			Thread.sleep(backoff.toMillis(), (int) (backoff.toNanos() % 1_000_000));
+		}catch(InterruptedException e){
+			Thread.currentThread().interrupt();
+			throw new SQLException("Interrupted while waiting to retry transaction", e);
+		}
+	}
+	
+	/**
+	 * Executes a sql query after building a {@link Query} object for 
+	 * it from the given pieces. Returns the result of the query.
+	 * 
+	 * @param <ResultType> The type of result to be returned
+	 * @param name The name to use for the query (for debugging purposes - may be null)
+	 * @param sql The sql query string to run
+	 * @param convertFromResultSet The {@link ThrowingFunction} to use to run the query
+	 * @return The result from the query
+	 * @throws SQLException If anything goes wrong
+	 */
+	public <ResultType> ResultType executeQuery(String name, String sql, 
+			ThrowingFunction<ResultSet, ResultType, SQLException> convertFromResultSet) throws SQLException{
+		return executeTransaction(Query.createQuery(name, sql, convertFromResultSet));
+	}
+	
+	/**
+	 * Executes a sql query after building a {@link Query} object for it from the given pieces. The query is run as
+	 * a {@link java.sql.PreparedStatement} with the values bound to its placeholders. Returns the result of the
+	 * query.
+	 *
+	 * @param <ResultType> The type of result to be returned
+	 * @param name The name to use for the query (for debugging purposes - may be null)
+	 * @param sql The {@link ParameterizedSQL sql query} to run
+	 * @param convertFromResultSet The {@link ThrowingFunction} to use to run the query
+	 * @return The result from the query
+	 * @throws SQLException If anything goes wrong
+	 */
+	public <ResultType> ResultType executeQuery(String name, ParameterizedSQL sql,
+			ThrowingFunction<ResultSet, ResultType, SQLException> convertFromResultSet) throws SQLException{
+		return executeTransaction(Query.createQuery(name, sql, convertFromResultSet));
+	}
+	
+	/**
+	 * Executes a sql query asynchronously after building a {@link Query} object for it from the given pieces. See
+	 * {@link #executeTransactionAsync(SQLTransaction)} for details.
+	 *
+	 * @param <ResultType> The type of result to be returned
+	 * @param name The name to use for the query (for debugging purposes - may be null)
+	 * @param sql The sql query string to run
+	 * @param convertFromResultSet The {@link ThrowingFunction} to use to run the query
+	 * @return A {@link CompletableFuture} for the result from the query
+	 */
+	public <ResultType> CompletableFuture<ResultType> executeQueryAsync(
+			String name, String sql, ThrowingFunction<ResultSet, ResultType, SQLException> convertFromResultSet){
+		return executeTransactionAsync(Query.createQuery(name, sql, convertFromResultSet));
+	}
+	
+	/**
+	 * Executes a sql query asynchronously after building a {@link Query} object for it from the given pieces. The
+	 * query is run as a {@link java.sql.PreparedStatement} with the values bound to its placeholders. See
+	 * {@link #executeTransactionAsync(SQLTransaction)} for details.
+	 *
+	 * @param <ResultType> The type of result to be returned
+	 * @param name The name to use for the query (for debugging purposes - may be null)
+	 * @param sql The {@link ParameterizedSQL sql query} to run
+	 * @param convertFromResultSet The {@link ThrowingFunction} to use to run the query
+	 * @return A {@link CompletableFuture} for the result from the query
+	 */
+	public <ResultType> CompletableFuture<ResultType> executeQueryAsync(
+			String name, ParameterizedSQL sql,
+			ThrowingFunction<ResultSet, ResultType, SQLException> convertFromResultSet){
+		return executeTransactionAsync(Query.createQuery(name, sql, convertFromResultSet));
+	}
+	
+	/**
+	 * Runs a sql query as a {@link StreamingQuery}, having the driver fetch {@link #DEFAULT_FETCH_SIZE} rows at a
+	 * time, and returns its rows as a lazily read {@link Stream}. See
+	 * {@link #streamQuery(String, ParameterizedSQL, int, ThrowingFunction)} for details.
+	 *
+	 * @param <ResultType> The type of result to be returned for each row
+	 * @param name The name to use for the query (for debugging purposes - may be null)
+	 * @param sql The {@link ParameterizedSQL sql query} to run
+	 * @param convertRow The {@link ThrowingFunction} to use to convert the current row of the {@link ResultSet}
+	 * @return A {@link Stream} of the converted rows, which must be closed when done with it
+	 * @throws SQLException If the query can't be run
+	 */
+	public <ResultType> Stream<ResultType> streamQuery(
+			String name, ParameterizedSQL sql, ThrowingFunction<ResultSet, ResultType, SQLException> convertRow)
+			throws SQLException{
+		return streamQuery(name, sql, DEFAULT_FETCH_SIZE, convertRow);
+	}
+	
+	/**
+	 * Runs a sql query as a {@link StreamingQuery} and returns its rows as a lazily read {@link Stream}. The driver
+	 * only fetches fetchSize rows from the server at a time and each row is converted as the {@link Stream} reaches
+	 * it, so a query can read through a table too big to hold in memory.
+	 * <br><br>
+	 * The query holds on to its connection until the {@link Stream} is closed, so it should always be used in a
+	 * try-with-resources block. It isn't retried if it fails, and a failure while reading the rows is thrown as an
+	 * {@link IllegalStateException} with the {@link SQLException} as its cause. Like other queries, it's run on a
+	 * read replica if any are set up, in the {@link TransactionLane#INTERACTIVE interactive lane} (see
+	 * {@link #streamQuery(TransactionLane, String, ParameterizedSQL, int, ThrowingFunction)} to use another lane).
+	 *
+	 * @param <ResultType> The type of result to be returned for each row
+	 * @param name The name to use for the query (for debugging purposes - may be null)
+	 * @param sql The {@link ParameterizedSQL sql query} to run
+	 * @param fetchSize The number of rows to have the driver fetch from the server at a time
+	 * @param convertRow The {@link ThrowingFunction} to use to convert the current row of the {@link ResultSet}
+	 * @return A {@link Stream} of the converted rows, which must be closed when done with it
+	 * @throws SQLException If the query can't be run
+	 */
+	public <ResultType> Stream<ResultType> streamQuery(
+			String name, ParameterizedSQL sql, int fetchSize,
+			ThrowingFunction<ResultSet, ResultType, SQLException> convertRow) throws SQLException{
+		return streamQuery(TransactionLane.INTERACTIVE, name, sql, fetchSize, convertRow);
+	}
+	
+	/**
+	 * Runs a sql query as a {@link StreamingQuery} in the given {@link TransactionLane} and returns its rows as a
+	 * lazily read {@link Stream}. See {@link #streamQuery(String, ParameterizedSQL, int, ThrowingFunction)} for
+	 * details.
+	 * <br><br>
+	 * Since the query holds its connection for as long as the {@link Stream} is open, it holds its place under the
+	 * lane's limit and the concurrency limit (and has been let through by the read replicas' circuit breaker) until
+	 * the {@link Stream} is closed - see {@link LimitedConnectionSource}. This keeps a long export in the
+	 * {@link TransactionLane#BATCH batch lane} from taking every connection. The transaction timeout bounds running
+	 * the query, but not how long the rows take to be read.
+	 *
+	 * @param <ResultType> The type of result to be returned for each row
+	 * @param lane The {@link TransactionLane} to run the query in
+	 * @param name The name to use for the query (for debugging purposes - may be null)
+	 * @param sql The {@link ParameterizedSQL sql query} to run
+	 * @param fetchSize The number of rows to have the driver fetch from the server at a time
+	 * @param convertRow The {@link ThrowingFunction} to use to convert the current row of the {@link ResultSet}
+	 * @return A {@link Stream} of the converted rows, which must be closed when done with it
+	 * @throws SQLException If the query can't be run
+	 */
+	public <ResultType> Stream<ResultType> streamQuery(
+			TransactionLane lane, String name, ParameterizedSQL sql, int fetchSize,
+			ThrowingFunction<ResultSet, ResultType, SQLException> convertRow) throws SQLException{
+		StreamingQuery<ResultType> query = new StreamingQuery<>(name, sql, fetchSize, convertRow);
+		return query.open(streamingSourceFor(lane, query), logger);
+	}
+	
+	/**
+	 * Makes the {@link ConnectionSource} for a {@link StreamingQuery}, which holds its place under the limits for
+	 * as long as it has a connection
+	 * 
+	 * @param lane The {@link TransactionLane} the query runs in
+	 * @param query The {@link StreamingQuery} about to run
+	 * @return A {@link LimitedConnectionSource} over the read replicas (or the primary if there aren't any)
+	 */
+	private LimitedConnectionSource streamingSourceFor(TransactionLane lane, StreamingQuery<?> query){
+		return new LimitedConnectionSource(readConnectionSource,
+				Arrays.asList(laneLimiters.get(lane), concurrencyLimiter), readCircuitBreaker, query.getQueryName(),
+				transactionTimeout);
+	}
+	
+	/**
+	 * Runs a sql query as a {@link StreamingQuery} and hands each of its rows to the given handler in turn, without
+	 * holding more than fetchSize rows in memory at a time. The handler returns whether to keep going, so the rest
+	 * of the rows can be skipped once it has what it needs.
+	 *
+	 * @param name The name to use for the query (for debugging purposes - may be null)
+	 * @param sql The {@link ParameterizedSQL sql query} to run
+	 * @param fetchSize The number of rows to have the driver fetch from the server at a time
+	 * @param handleRow The {@link ThrowingFunction} to handle the current row of the {@link ResultSet}, returning
+	 *                  whether to move on to the next row
+	 * @return The number of rows that were handled
+	 * @throws SQLException If anything goes wrong
+	 */
+	public long forEachRow(
+			String name, ParameterizedSQL sql, int fetchSize,
+			ThrowingFunction<ResultSet, Boolean, SQLException> handleRow) throws SQLException{
+		long rows = 0;
+		try(Stream<Boolean> handled = streamQuery(name, sql, fetchSize, handleRow)){
+			Iterator<Boolean> iterator = handled.iterator();
+			while(iterator.hasNext()){
+				rows++;
+				if(!Boolean.TRUE.equals(iterator.next())){
+					break;
+				}
+			}
+		}catch(IllegalStateException e){
+			if(e.getCause() instanceof SQLException sqlException){
+				throw sqlException;
+			}
+			throw e;
+		}
+		return rows;
+	}
+	
+	/**
+	 * Creates a {@link Flow.Publisher} for the rows of a sql query, having the driver fetch
+	 * {@link #DEFAULT_FETCH_SIZE} rows at a time. See
+	 * {@link #publishQuery(String, ParameterizedSQL, int, ThrowingFunction, Executor)} for details.
+	 *
+	 * @param <ResultType> The type of result to be published for each row
+	 * @param name The name to use for the query (for debugging purposes - may be null)
+	 * @param sql The {@link ParameterizedSQL sql query} to run
+	 * @param convertRow The {@link ThrowingFunction} to use to convert the current row of the {@link ResultSet}
+	 * @param executor The {@link Executor} to run the query and read its rows on
+	 * @return A {@link Flow.Publisher} of the converted rows
+	 */
+	public <ResultType> Flow.Publisher<ResultType> publishQuery(
+			String name, ParameterizedSQL sql, ThrowingFunction<ResultSet, ResultType, SQLException> convertRow,
+			Executor executor){
+		return publishQuery(name, sql, DEFAULT_FETCH_SIZE, convertRow, executor);
+	}
+	
+	/**
+	 * Creates a {@link Flow.Publisher} for the rows of a sql query, using a {@link QueryPublisher}. Each subscriber
+	 * gets its own run of the query as a {@link StreamingQuery}, started on the given {@link Executor} when it first
+	 * requests rows. Rows are only read as they're requested, so a slow subscriber throttles the reading, and
+	 * cancelling closes the statement and hands back the connection. Like
+	 * {@link #streamQuery(TransactionLane, String, ParameterizedSQL, int, ThrowingFunction)}, each run holds its
+	 * place under the limits of the {@link TransactionLane#INTERACTIVE interactive lane} while it has a connection
+	 * (see {@link #publishQuery(TransactionLane, String, ParameterizedSQL, int, ThrowingFunction, Executor)} to use
+	 * another lane).
+	 *
+	 * @param <ResultType> The type of result to be published for each row
+	 * @param name The name to use for the query (for debugging purposes - may be null)
+	 * @param sql The {@link ParameterizedSQL sql query} to run
+	 * @param fetchSize The number of rows to have the driver fetch from the server at a time
+	 * @param convertRow The {@link ThrowingFunction} to use to convert the current row of the {@link ResultSet}
+	 * @param executor The {@link Executor} to run the query and read its rows on
+	 * @return A {@link Flow.Publisher} of the converted rows
+	 */
+	public <ResultType> Flow.Publisher<ResultType> publishQuery(
+			String name, ParameterizedSQL sql, int fetchSize,
+			ThrowingFunction<ResultSet, ResultType, SQLException> convertRow, Executor executor){
+		return publishQuery(TransactionLane.INTERACTIVE, name, sql, fetchSize, convertRow, executor);
+	}
+	
+	/**
+	 * Creates a {@link Flow.Publisher} for the rows of a sql query run in the given {@link TransactionLane}. See
+	 * {@link #publishQuery(String, ParameterizedSQL, int, ThrowingFunction, Executor)} for details.
+	 *
+	 * @param <ResultType> The type of result to be published for each row
+	 * @param lane The {@link TransactionLane} to run the query in
+	 * @param name The name to use for the query (for debugging purposes - may be null)
+	 * @param sql The {@link ParameterizedSQL sql query} to run
+	 * @param fetchSize The number of rows to have the driver fetch from the server at a time
+	 * @param convertRow The {@link ThrowingFunction} to use to convert the current row of the {@link ResultSet}
+	 * @param executor The {@link Executor} to run the query and read its rows on
+	 * @return A {@link Flow.Publisher} of the converted rows
+	 */
+	public <ResultType> Flow.Publisher<ResultType> publishQuery(
+			TransactionLane lane, String name, ParameterizedSQL sql, int fetchSize,
+			ThrowingFunction<ResultSet, ResultType, SQLException> convertRow, Executor executor){
+		StreamingQuery<ResultType> query = new StreamingQuery<>(name, sql, fetchSize, convertRow);
+		return new QueryPublisher<>(query, streamingSourceFor(lane, query), logger, executor);
+	}
+	
+	/**
+	 * Finds all the rows of the given table whose key column is one of the given keys, using
+	 * {@code WHERE keyColumn IN (...)} queries of at most {@link #DEFAULT_KEY_CHUNK_SIZE} keys each, and returns the
+	 * combined results of the queries.
+	 *
+	 * @param <ResultType> The type of result to be returned for each row
+	 * @param table The name of the table to query
+	 * @param returnColumns The names of the columns to be returned
+	 * @param keyColumn The name of the key column to look up the rows by
+	 * @param keys The keys of the rows to find
+	 * @param convertFromResultSet The {@link ThrowingFunction} to use to convert the rows of each query
+	 * @return The results of all the queries, in the order the queries were run (rows aren't necessarily in the same
+	 * order as the keys, and keys with no matching row have no result)
+	 * @throws SQLException If anything goes wrong
+	 */
+	public <ResultType> List<ResultType> queryByKeys(
+			String table, Collection<String> returnColumns, String keyColumn, Collection<?> keys,
+			ThrowingFunction<ResultSet, List<ResultType>, SQLException> convertFromResultSet) throws SQLException{
+		return queryByKeys(table, returnColumns, keyColumn, keys, DEFAULT_KEY_CHUNK_SIZE, convertFromResultSet);
+	}
+	
+	/**
+	 * Finds all the rows of the given table whose key column is one of the given keys, using
+	 * {@code WHERE keyColumn IN (...)} queries of at most chunkSize keys each, and returns the combined results of
+	 * the queries. This takes one query per chunk rather than one query per key.
+	 * <br><br>
+	 * The queries are made using
+	 * {@link SQLSyntaxUtil#formatParameterizedKeyQueries(String, Collection, String, Collection, int)} and are each
+	 * run using {@link #executeQuery(String, ParameterizedSQL, ThrowingFunction)}
+	 *
+	 * @param <ResultType> The type of result to be returned for each row
+	 * @param table The name of the table to query
+	 * @param returnColumns The names of the columns to be returned
+	 * @param keyColumn The name of the key column to look up the rows by
+	 * @param keys The keys of the rows to find
+	 * @param chunkSize The most keys to look up in a single query
+	 * @param convertFromResultSet The {@link ThrowingFunction} to use to convert the rows of each query
+	 * @return The results of all the queries, in the order the queries were run (rows aren't necessarily in the same
+	 * order as the keys, and keys with no matching row have no result)
+	 * @throws SQLException If anything goes wrong
+	 */
+	public <ResultType> List<ResultType> queryByKeys(
+			String table, Collection<String> returnColumns, String keyColumn, Collection<?> keys, int chunkSize,
+			ThrowingFunction<ResultSet, List<ResultType>, SQLException> convertFromResultSet) throws SQLException{
+		List<ResultType> results = new ArrayList<>(keys.size());
+		for(ParameterizedSQL query: SQLSyntaxUtil.formatParameterizedKeyQueries(
+				table, returnColumns, keyColumn, keys, chunkSize)){
+			results.addAll(executeQuery("Query " + table + " by " + keyColumn, query, convertFromResultSet));
+		}
+		return results;
+	}
+	
+	/**
+	 * Reads a single page of rows from the given table using keyset ("seek") pagination: the first pageSize rows
+	 * (sorted by the key column) whose key is after the given last seen key. The query is made using
+	 * {@link SQLSyntaxUtil#formatParameterizedKeysetQuery(String, Collection, String, Object, int)}.
+	 *
+	 * @param <ResultType> The type of result to be returned for each row
+	 * @param table The name of the table to query
+	 * @param returnColumns The names of the columns to be returned
+	 * @param keyColumn The name of the (indexed and unique) key column to page by
+	 * @param lastSeenKey The key of the last row of the previous page (or null for the first page)
+	 * @param pageSize The most rows to return in the page
+	 * @param convertFromResultSet The {@link ThrowingFunction} to use to convert the rows of the page
+	 * @return The results of the page
+	 * @throws SQLException If anything goes wrong
+	 */
+	public <ResultType> List<ResultType> queryPageAfterKey(
+			String table, Collection<String> returnColumns, String keyColumn, Object lastSeenKey, int pageSize,
+			ThrowingFunction<ResultSet, List<ResultType>, SQLException> convertFromResultSet) throws SQLException{
+		return executeQuery("Query page of " + table,
+				SQLSyntaxUtil.formatParameterizedKeysetQuery(table, returnColumns, keyColumn, lastSeenKey, pageSize),
+				convertFromResultSet);
+	}
+	
+	/**
+	 * Creates a {@link KeysetPager} to read through the given table one page at a time, sorted by the key column.
+	 * Each page is read using {@link #executeQuery(String, ParameterizedSQL, ThrowingFunction)}.
+	 *
+	 * @param <ResultType> The type of result to be returned for each row
+	 * @param table The name of the table to page through
+	 * @param returnColumns The names of the columns to be returned
+	 * @param keyColumn The name of the (indexed and unique) key column to page by
+	 * @param pageSize The most rows to return in a page
+	 * @param convertFromResultSet The {@link ThrowingFunction} to use to convert the rows of each page
+	 * @param getKey The function used to grab the key of a result (to know where the next page starts)
+	 * @return A {@link KeysetPager} starting at the beginning of the table
+	 */
+	public <ResultType> KeysetPager<ResultType> pageByKey(
+			String table, Collection<String> returnColumns, String keyColumn, int pageSize,
+			ThrowingFunction<ResultSet, List<ResultType>, SQLException> convertFromResultSet,
+			Function<ResultType, Object> getKey){
+		return new KeysetPager<>(sql -> executeQuery("Query page of " + table, sql, convertFromResultSet),
+				table, returnColumns, keyColumn, pageSize, getKey);
+	}
+	
+	/**
+	 * Executes sql updates and returns if they were a success. This version 
+	 * builds the {@link Updates} object using the given parameters.
+	 *
+	 * @param transactionName The name for the overall transaction
+	 * @param names The names to use for the updates (optional - used for debugging)
+	 * @param sqls The sql update statements to run
+	 * @return If it succeeded or not
+	 * @throws SQLException If anything goes wrong
+	 */
+	public boolean executeUpdates(String transactionName, List<String> names, List<String> sqls) throws SQLException{
+		return executeTransaction(Updates.createUpdates(transactionName, names, sqls));
+	}
+	
+	/**
+	 * Executes sql updates and returns if they were a success. This version builds the {@link Updates} object
+	 * using the given parameters, and runs each update as a {@link java.sql.PreparedStatement} with the values
+	 * bound to its placeholders.
+	 *
+	 * @param transactionName The name for the overall transaction
+	 * @param names The names to use for the updates (optional - used for debugging)
+	 * @param sqls The {@link ParameterizedSQL sql update statements} to run
+	 * @return If it succeeded or not
+	 * @throws SQLException If anything goes wrong
+	 */
+	public boolean executeParameterizedUpdates(String transactionName, List<String> names, List<ParameterizedSQL> sqls)
+			throws SQLException{
+		return executeTransaction(Updates.createParameterizedUpdates(transactionName, names, sqls));
+	}
+	
+	/**
+	 * Executes sql updates using JDBC batching, so that up to batchSize statements are sent to the server at once
+	 * instead of one at a time. This version builds the {@link BatchUpdates} object using the given parameters.
+	 *
+	 * @param transactionName The name for the overall transaction
+	 * @param sqls The sql update statements to run
+	 * @param batchSize The maximum number of statements to send to the server at once
+	 * @return The update counts of each statement, in the same order as the statements
+	 * @throws SQLException If anything goes wrong
+	 */
+	public int[] executeBatchUpdates(String transactionName, List<String> sqls, int batchSize) throws SQLException{
+		return executeTransaction(BatchUpdates.createBatchUpdates(transactionName, sqls, batchSize));
+	}
+	
+	/**
+	 * Executes sql updates using JDBC batching, so that up to batchSize statements are sent to the server at once
+	 * instead of one at a time. Consecutive statements with the same sql are sent as a single batched
+	 * {@link java.sql.PreparedStatement} with the values bound to its placeholders. This version builds the
+	 * {@link BatchUpdates} object using the given parameters.
+	 *
+	 * @param transactionName The name for the overall transaction
+	 * @param sqls The {@link ParameterizedSQL sql update statements} to run
+	 * @param batchSize The maximum number of statements to send to the server at once
+	 * @return The update counts of each statement, in the same order as the statements
+	 * @throws SQLException If anything goes wrong
+	 */
+	public int[] executeParameterizedBatchUpdates(String transactionName, List<ParameterizedSQL> sqls, int batchSize)
+			throws SQLException{
+		return executeTransaction(BatchUpdates.createParameterizedBatchUpdates(transactionName, sqls, batchSize));
+	}
+	
+	/**
+	 * Executes a single sql update and returns if it was a success.
+	 * <br><br>
+	 * This version sends the name and statement to 
+	 * {@link #executeUpdates(String, List, List) the plural version} to create the
+	 * {@link Updates} object.
+	 * 
+	 * @param name The name to use for the update (optional - used for debugging)
+	 * @param sql The sql update statement to run
+	 * @return If it succeeded or not
+	 * @throws SQLException If anything goes wrong
+	 */
+	public boolean executeUpdate(String name, String sql) throws SQLException{
+		return executeUpdates(name, Collections.singletonList(name), Collections.singletonList(sql));
+	}
+	
+	/**
+	 * Executes a single sql update and returns if it was a success.
+	 * <br><br>
+	 * This version sends the name and statement to
+	 * {@link #executeParameterizedUpdates(String, List, List) the plural version} to create the
+	 * {@link Updates} object.
+	 *
+	 * @param name The name to use for the update (optional - used for debugging)
+	 * @param sql The {@link ParameterizedSQL sql update statement} to run
+	 * @return If it succeeded or not
+	 * @throws SQLException If anything goes wrong
+	 */
+	public boolean executeUpdate(String name, ParameterizedSQL sql) throws SQLException{
+		return executeParameterizedUpdates(name, Collections.singletonList(name), Collections.singletonList(sql));
+	}
+	
+	/**
+	 * Executes a single sql insert statement.
+	 * <br><br>
+	 * This sends the table, cols, and values to
+	 * {@link SQLSyntaxUtil#formatParameterizedInsertStatement(String, Collection, Collection)} to create the insert
+	 * statement and then uses {@link #executeUpdate(String, ParameterizedSQL)} to run it (so the values are bound
+	 * rather than inlined in the SQL)
+	 *
+	 * @param table The name of the table to insert into
+	 * @param cols The names of the columns to insert into
+	 * @param values The values to be inserted
+	 * @throws SQLException If anything goes wrong
+	 */
+	public void insert(String table, Collection<String> cols, Collection<Object> values) throws SQLException{
+		executeUpdate("Insert a " + table, SQLSyntaxUtil.formatParameterizedInsertStatement(table, cols, values));
+	}
+	
+	/**
+	 * Inserts many rows using multi-row insert statements ({@code INSERT INTO ... VALUES (...), (...), ...}).
+	 * The rows are split into chunks that fit under the {@link #getMaxAllowedPacket() max allowed packet}, and
+	 * each chunk is committed as its own transaction (so the rows are only read through once).
+	 * <br><br>
+	 * This sends the rows to {@link #bulkInsert(String, Collection, Iterable, boolean) the full version}
+	 *
+	 * @param table The name of the table to insert into
+	 * @param cols The names of the columns to insert into
+	 * @param rows The rows of values to be inserted
+	 * @return The number of rows inserted
+	 * @throws SQLException If anything goes wrong
+	 */
+	public int bulkInsert(String table, Collection<String> cols, Iterable<? extends Collection<Object>> rows)
+			throws SQLException{
+		return bulkInsert(table, cols, rows, false);
+	}
+	
+	/**
+	 * Inserts many rows using multi-row insert statements ({@code INSERT INTO ... VALUES (...), (...), ...}).
+	 * The rows are split into chunks that fit under the {@link #getMaxAllowedPacket() max allowed packet} (and
+	 * the server's limit on placeholders) using
+	 * {@link SQLSyntaxUtil#formatParameterizedBulkInsertStatements(String, Collection, Iterable, long)}. The
+	 * chunks are run using {@link #executeParameterizedBatchUpdates(String, List, int)}.
+	 *
+	 * @param table The name of the table to insert into
+	 * @param cols The names of the columns to insert into
+	 * @param rows The rows of values to be inserted
+	 * @param allAtOnce Whether to commit all the chunks in a single transaction (true), or to commit each chunk as
+	 *                  its own transaction (false - a failure leaves the earlier chunks inserted)
+	 * @return The number of rows inserted
+	 * @throws SQLException If anything goes wrong
+	 */
+	public int bulkInsert(
+			String table, Collection<String> cols, Iterable<? extends Collection<Object>> rows, boolean allAtOnce)
+			throws SQLException{
+		// Split the rows into statements that fit in a packet
+		return executeBulkInsert(table, SQLSyntaxUtil.formatParameterizedBulkInsertStatements(table, cols, rows,
+				maxAllowedPacket - BULK_INSERT_OVERHEAD), allAtOnce);
+	}
+	
+	/**
+	 * Inserts many rows using multi-row insert statements, updating the given columns of any rows that already
+	 * exist instead ({@code ON DUPLICATE KEY UPDATE column = VALUES(column)}). The rows are split up and run the
+	 * same way as {@link #bulkInsert(String, Collection, Iterable, boolean)}, but using
+	 * {@link SQLSyntaxUtil#formatParameterizedBulkUpsertStatements(String, Collection, Iterable, Collection, long)}
+	 * <br><br>
+	 * Note that the server counts each inserted row once and each updated row twice in the result (and rows that
+	 * already had the same values don't count)
+	 *
+	 * @param table The name of the table to insert into
+	 * @param cols The names of the columns to insert into
+	 * @param rows The rows of values to be inserted
+	 * @param updateCols The names of the columns to update if a row already exists
+	 * @param allAtOnce Whether to commit all the chunks in a single transaction (true), or to commit each chunk as
+	 *                  its own transaction (false - a failure leaves the earlier chunks upserted)
+	 * @return The number of affected rows, as reported by the server
+	 * @throws SQLException If anything goes wrong
+	 */
+	public int bulkUpsert(
+			String table, Collection<String> cols, Iterable<? extends Collection<Object>> rows,
+			Collection<String> updateCols, boolean allAtOnce) throws SQLException{
+		// Split the rows into statements that fit in a packet
+		return executeBulkInsert(table, SQLSyntaxUtil.formatParameterizedBulkUpsertStatements(table, cols, rows,
+				updateCols, maxAllowedPacket - BULK_INSERT_OVERHEAD), allAtOnce);
+	}
+	
+	/**
+	 * Runs the given bulk insert statements
+	 *
+	 * @param table The name of the table being inserted into
+	 * @param chunks The multi-row insert statements to run
+	 * @param allAtOnce Whether to commit all the chunks in a single transaction (true), or to commit each chunk as
+	 *                  its own transaction (false)
+	 * @return The number of affected rows
+	 * @throws SQLException If anything goes wrong
+	 */
+	private int executeBulkInsert(String table, Iterator<ParameterizedSQL> chunks, boolean allAtOnce)
+			throws SQLException{
+		// Run all the chunks together if specified
+		if(allAtOnce){
+			List<ParameterizedSQL> allChunks = new ArrayList<>();
+			chunks.forEachRemaining(allChunks::add);
+			return executeBulkInsert(table, allChunks);
+		}
+		
+		// Otherwise run each chunk as it's made
+		int affected = 0;
+		while(chunks.hasNext()){
+			affected += executeBulkInsert(table, ListUtil.createList(chunks.next()));
+		}
+		return affected;
+	}
+	
+	/**
+	 * Runs the given bulk insert statements as a single transaction
+	 *
+	 * @param table The name of the table being inserted into
+	 * @param chunks The multi-row insert statements to run
+	 * @return The number of affected rows
+	 * @throws SQLException If anything goes wrong
+	 */
+	private int executeBulkInsert(String table, List<ParameterizedSQL> chunks) throws SQLException{
+		if(chunks.isEmpty()){
+			return 0;
+		}
+		int[] updateCounts = executeParameterizedBatchUpdates("Bulk insert into " + table, chunks,
+				BatchUpdates.DEFAULT_BATCH_SIZE);
+		int inserted = 0;
+		for(int updateCount: updateCounts){
+			inserted += updateCount;
+		}
+		return inserted;
+	}
+	
+	/**
+	 * Executes a sql insert statement and returns the id the server generated for it (useful if the ID is
+	 * auto-incremented).
+	 *
+	 * @param table The name of the table to insert into
+	 * @param idColumnName The column name for the ID column (unused)
+	 * @param cols The column names for the columns to use in the insert
+	 * @param values The values to be inserted
+	 * @return The ID of the newly inserted data
+	 * @throws SQLException If anything goes wrong
+	 * @throws ArithmeticException If the ID doesn't fit in an Integer
+	 * @deprecated The ID is read from the key the server generated, so the ID column isn't needed - use
+	 * {@link #insertAndGetID(String, Collection, Collection)} instead
+	 */
+	@Deprecated
+	public Integer insertAndGetID(String table, String idColumnName, Collection<String> cols, Collection<Object> values)
+			throws SQLException{
+		return insertAndGetID(table, cols, values);
+	}
+	
+	/**
+	 * Executes a sql insert statement and returns the id the server generated for it (useful if the ID is
+	 * auto-incremented).
+	 * <br><br>
+	 * This uses {@link #insertAndGetKey(String, Collection, Collection)} to read the generated key, rather than
+	 * querying for the new row (use an {@link InsertAndGetID} transaction for that instead)
+	 *
+	 * @param table The name of the table to insert into
+	 * @param cols The column names for the columns to use in the insert
+	 * @param values The values to be inserted
+	 * @return The ID of the newly inserted data
+	 * @throws SQLException If anything goes wrong
+	 * @throws ArithmeticException If the ID doesn't fit in an Integer
+	 */
+	public Integer insertAndGetID(String table, Collection<String> cols, Collection<Object> values)
+			throws SQLException{
+		return Math.toIntExact(insertAndGetKey(table, cols, values));
+	}
+	
+	/**
+	 * Executes a sql insert statement and returns the key the server generated for it (e.g. an auto-incremented
+	 * id), as read from {@link java.sql.Statement#getGeneratedKeys()}.
+	 * <br><br>
+	 * To do this, an {@link InsertAndGetKeys} transaction object is created using the given parameters
+	 *
+	 * @param table The name of the table to insert into
+	 * @param cols The column names for the columns to use in the insert
+	 * @param values The values to be inserted
+	 * @return The generated key of the newly inserted data
+	 * @throws SQLException If anything goes wrong (including the server not generating a key)
+	 */
+	public long insertAndGetKey(String table, Collection<String> cols, Collection<Object> values) throws SQLException{
+		List<Long> keys = executeTransaction(InsertAndGetKeys.createInsertAndGetKeys(table, cols, values));
+		if(keys.isEmpty()){
+			throw new SQLException("No key was generated for the insert into " + table);
+		}
+		return keys.get(0);
+	}
+	
+	/**
+	 * Executes a sql insert statement that updates the given columns if the row already exists instead
+	 * ({@code ON DUPLICATE KEY UPDATE column = VALUES(column)}), and returns the key the server reported, as read
+	 * from {@link java.sql.Statement#getGeneratedKeys()}. The server only reports the key of an inserted row this
+	 * way - use {@link #upsertAndGetKey(String, Collection, Collection, Collection, String)} with the key column to
+	 * get the key of an updated row too.
+	 * <br><br>
+	 * To do this, an {@link InsertAndGetKeys} transaction object is created using the given parameters
+	 *
+	 * @param table The name of the table to insert into
+	 * @param cols The column names for the columns to use in the insert
+	 * @param values The values to be inserted
+	 * @param updateCols The names of the columns to update if the row already exists
+	 * @return The generated key of the inserted row, or null if the server didn't report one (e.g. the table has no
+	 * auto-incremented column)
+	 * @throws SQLException If anything goes wrong
+	 */
+	public Long upsertAndGetKey(
+			String table, Collection<String> cols, Collection<Object> values, Collection<String> updateCols)
+			throws SQLException{
+		return upsertAndGetKey(table, cols, values, updateCols, null);
+	}
+	
+	/**
+	 * Executes a sql insert statement that updates the given columns if the row already exists instead
+	 * ({@code ON DUPLICATE KEY UPDATE column = VALUES(column)}), and returns the key of the inserted or updated
+	 * row. The key column is also set to {@code LAST_INSERT_ID(keyColumn)} when the row already exists, so that
+	 * the server reports the existing row's key from {@link java.sql.Statement#getGeneratedKeys()} (whether the row
+	 * was matched by its key or by another unique key).
+	 * <br><br>
+	 * To do this, an {@link InsertAndGetKeys} transaction object is created using the given parameters
+	 *
+	 * @param table The name of the table to insert into
+	 * @param cols The column names for the columns to use in the insert
+	 * @param values The values to be inserted
+	 * @param updateCols The names of the columns to update if the row already exists
+	 * @param keyCol The name of the auto-incremented key column (may be null to only get the key of an inserted
+	 *               row)
+	 * @return The key of the inserted or updated row, or null if the server didn't report one (e.g. the table has
+	 * no auto-incremented column)
+	 * @throws SQLException If anything goes wrong
+	 */
+	public Long upsertAndGetKey(
+			String table, Collection<String> cols, Collection<Object> values, Collection<String> updateCols,
+			String keyCol) throws SQLException{
+		// Check that we have the same amount of cols and values
+		if(cols.size() != values.size()){
+			throw new IllegalArgumentException("Cols and Values don't match up!");
+		}
+		
+		List<Long> keys = executeTransaction(InsertAndGetKeys.createBulkInsertAndGetKeys(table, ListUtil.createList(
+				SQLSyntaxUtil.formatParameterizedUpsertStatement(table, cols, ListUtil.createList(values),
+						updateCols, keyCol))));
+		return keys.isEmpty()?null:keys.get(0);
+	}
+	
+	/**
+	 * Inserts many rows using multi-row insert statements (split up the same way as
+	 * {@link #bulkInsert(String, Collection, Iterable, boolean)}) in a single transaction, and returns the keys
+	 * the server generated for all of them.
+	 * <br><br>
+	 * To do this, an {@link InsertAndGetKeys} transaction object is created using the given parameters
+	 *
+	 * @param table The name of the table to insert into
+	 * @param cols The names of the columns to insert into
+	 * @param rows The rows of values to be inserted
+	 * @return The generated keys of the newly inserted rows, in the same order as the rows
+	 * @throws SQLException If anything goes wrong
+	 */
+	public List<Long> bulkInsertAndGetKeys(
+			String table, Collection<String> cols, Iterable<? extends Collection<Object>> rows) throws SQLException{
+		List<ParameterizedSQL> inserts = new ArrayList<>();
+		SQLSyntaxUtil.formatParameterizedBulkInsertStatements(table, cols, rows,
+				maxAllowedPacket - BULK_INSERT_OVERHEAD).forEachRemaining(inserts::add);
+		if(inserts.isEmpty()){
+			return new ArrayList<>();
+		}
+		return executeTransaction(InsertAndGetKeys.createBulkInsertAndGetKeys(table, inserts));
+	}
+	
+	/**
+	 * Executes a single sql update statement
+	 * <br><br>
+	 * This sends the table, cols, values, whereCols, and whereValues to
+	 * {@link SQLSyntaxUtil#formatParameterizedUpdateStatement(String, Collection, Collection, Collection, Collection)}
+	 * to create the update statement and then uses {@link #executeUpdate(String, ParameterizedSQL)} to run it (so
+	 * the values are bound rather than inlined in the SQL)
+	 *
+	 * @param table The name of the table to be updated
+	 * @param cols The names of the columns to be updated
+	 * @param values The values to use in the update
+	 * @param whereCols The names of the columns for the where statement (can be empty/null)
+	 * @param whereValues The values to use for the where statement (can be empty/null)
+	 * @throws SQLException If anything goes wrong
+	 */
+	public void update(
+			String table, Collection<String> cols, Collection<Object> values,
+			Collection<String> whereCols, Collection<Object> whereValues) throws SQLException{
+		executeUpdate("Update a " + table,
+				SQLSyntaxUtil.formatParameterizedUpdateStatement(table, cols, values, whereCols, whereValues));
+	}
+	
+	/*
+	 * Builder interfaces
 	 */
 	
 	/**
@@ -517,9 +2162,146 @@ public class Database{
 	}
 	
 	/**
-	 * The building part of building a {@link Database}
+	 * The optional settings and building part of building a {@link Database}
 	 */
 	public interface Build{
+		/**
+		 * @param retryPolicy The {@link RetryPolicy} used to decide whether and when to retry a failed SQL
+		 *                    transaction (overrides maxAttempts)
+		 * @return this, to continue building
+		 */
+		Build retryPolicy(RetryPolicy retryPolicy);
+		
+		/**
+		 * @param retryBudget The {@link RetryBudget} capping how many retries are made compared to how many
+		 *                    transactions are run (pass null to only limit retries by the retry policy). The same
+		 *                    budget can be given to several Databases to share it.
+		 * @return this, to continue building
+		 */
+		Build retryBudget(RetryBudget retryBudget);
+		
+		/**
+		 * @param circuitBreaker The {@link CircuitBreakerSettings} to use to fail transactions fast while the host
+		 *                       (or the read replicas) keep failing (pass null for no circuit breaker)
+		 * @return this, to continue building
+		 */
+		Build circuitBreaker(CircuitBreakerSettings circuitBreaker);
+		
+		/**
+		 * @param connectionPool The {@link ConnectionPoolSettings} to use to pool connections between
+		 *                       transactions (pass null to open a new connection for every transaction)
+		 * @return this, to continue building
+		 */
+		Build connectionPool(ConnectionPoolSettings connectionPool);
+		
+		/**
+		 * @param serverPreparedStatements Whether to have the driver prepare statements on the server rather than
+		 *                                 client-side (pairs well with the statement cache of a connection pool,
+		 *                                 since the server only has to parse each cached statement once)
+		 * @return this, to continue building
+		 */
+		Build serverPreparedStatements(boolean serverPreparedStatements);
+		
+		/**
+		 * @param maxAllowedPacket The largest statement (in bytes) the server accepts, used to split up bulk
+		 *                         inserts (should match the server's {@code max_allowed_packet})
+		 * @return this, to continue building
+		 */
+		Build maxAllowedPacket(int maxAllowedPacket);
+		
+		/**
+		 * @param executor The {@link Executor} to run asynchronous transactions on (pass null to use
+		 *                 {@link Database#newDefaultExecutor()}, which is shut down when the Database is closed)
+		 * @return this, to continue building
+		 */
+		Build executor(Executor executor);
+		
+		/**
+		 * @param concurrencyLimit The {@link ConcurrencyLimiterSettings} to use to cap the number of transactions
+		 *                         in flight at once with an adaptive limit (pass null for no limit)
+		 * @return this, to continue building
+		 */
+		Build concurrencyLimit(ConcurrencyLimiterSettings concurrencyLimit);
+		
+		/**
+		 * Adds another server holding the same database (on the default port), e.g. a standby to fail over to
+		 *
+		 * @param host The additional host's url
+		 * @return this, to continue building
+		 */
+		Build additionalHost(String host);
+		
+		/**
+		 * Adds another server holding the same database, e.g. a standby to fail over to
+		 *
+		 * @param host The additional host's url
+		 * @param port The additional host's port
+		 * @return this, to continue building
+		 */
+		Build additionalHost(String host, int port);
+		
+		/**
+		 * @param hostStrategy The {@link HostStrategy} deciding which host to send transactions to when there are
+		 *                     additional hosts
+		 * @return this, to continue building
+		 */
+		Build hostStrategy(HostStrategy hostStrategy);
+		
+		/**
+		 * @param hostRetryDelay How long a host that couldn't be reached is skipped before it's tried again (when
+		 *                       there are additional hosts)
+		 * @return this, to continue building
+		 */
+		Build hostRetryDelay(Duration hostRetryDelay);
+		
+		/**
+		 * Adds a read replica (on the default port) to send read-only transactions to
+		 *
+		 * @param host The read replica's host url
+		 * @return this, to continue building
+		 */
+		Build readReplica(String host);
+		
+		/**
+		 * Adds a read replica to send read-only transactions to
+		 *
+		 * @param host The read replica's host url
+		 * @param port The read replica's host port
+		 * @return this, to continue building
+		 */
+		Build readReplica(String host, int port);
+		
+		/**
+		 * @param autoCommitSingleStatements Whether to run single-statement transactions (like queries) with
+		 *                                   auto-commit enabled, skipping the separate commit
+		 * @return this, to continue building
+		 */
+		Build autoCommitSingleStatements(boolean autoCommitSingleStatements);
+		
+		/**
+		 * @param transactionTimeout How long a transaction gets to finish, counting all of its attempts (pass null
+		 *                           for no timeout)
+		 * @return this, to continue building
+		 */
+		Build transactionTimeout(Duration transactionTimeout);
+		
+		/**
+		 * @param hedgedReads The {@link HedgingSettings} to use to send a duplicate copy of a slow read-only
+		 *                    transaction to another read replica, taking whichever copy finishes first (pass null
+		 *                    for no hedging). Only used when there are at least two read replicas.
+		 * @return this, to continue building
+		 */
+		Build hedgedReads(HedgingSettings hedgedReads);
+		
+		/**
+		 * @param lane The {@link TransactionLane} to set the limit for
+		 * @param limit The {@link ConcurrencyLimiterSettings} to use to cap the number of transactions in flight at
+		 *              once in the lane (pass null for no limit). For a fixed quota, set the same initial, min, and
+		 *              max limit.
+		 * @return this, to continue building
+		 */
+		Build laneLimit(TransactionLane lane, ConcurrencyLimiterSettings limit);
+		
 		/**
 		 * Builds a new {@link Database} with the set parameters
 		 *
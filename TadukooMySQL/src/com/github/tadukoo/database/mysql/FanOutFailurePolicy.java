@@ -0,0 +1,14 @@
+package com.github.tadukoo.database.mysql;
+
+/**
+ * Fan Out Failure Policy decides what a {@link TransactionFanOut} does when one of its transactions fails
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.3
+ */
+public enum FanOutFailurePolicy{
+	/** Stop starting new transactions and report the first failure right away */
+	FAIL_FAST,
+	/** Run every transaction, then report all the failures together */
+	COLLECT_ERRORS
+}
@@ -0,0 +1,133 @@
+package com.github.tadukoo.database.mysql;
+
+import com.github.tadukoo.database.mysql.syntax.ParameterizedSQL;
+import com.github.tadukoo.database.mysql.syntax.SQLSyntaxUtil;
+import com.github.tadukoo.util.functional.function.ThrowingFunction;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Keyset Pager is used to read through a table one page at a time using keyset ("seek") pagination. Each page is
+ * the next pageSize rows sorted by a key column, found using {@code WHERE key > lastSeenKey LIMIT pageSize} (see
+ * {@link SQLSyntaxUtil#formatParameterizedKeysetQuery(String, Collection, String, Object, int)}), so only one page
+ * is ever held in memory and later pages are as cheap to find as the first one.
+ * <br><br>
+ * The key column should be unique and indexed (e.g. the primary key). Rows inserted behind the last seen key
+ * while paging won't be seen.
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.3
+ * @param <ResultType> The type of result for each row
+ */
+public class KeysetPager<ResultType>{
+	
+	/** The function used to run a page query and convert its rows */
+	private final ThrowingFunction<ParameterizedSQL, List<ResultType>, SQLException> runQuery;
+	/** The name of the table to page through */
+	private final String table;
+	/** The names of the columns to be returned */
+	private final Collection<String> returnColumns;
+	/** The name of the key column to page by */
+	private final String keyColumn;
+	/** The most rows to return in a page */
+	private final int pageSize;
+	/** The function used to grab the key of a result */
+	private final Function<ResultType, Object> getKey;
+	/** The key of the last row of the last page (null if no page has been read yet) */
+	private Object lastSeenKey;
+	/** Whether there may be another page to read */
+	private boolean hasNextPage = true;
+	
+	/**
+	 * Constructs a new KeysetPager using the given parameters, starting at the beginning of the table
+	 *
+	 * @param runQuery The function used to run a page query and convert its rows
+	 * @param table The name of the table to page through
+	 * @param returnColumns The names of the columns to be returned
+	 * @param keyColumn The name of the key column to page by
+	 * @param pageSize The most rows to return in a page
+	 * @param getKey The function used to grab the key of a result
+	 */
+	public KeysetPager(
+			ThrowingFunction<ParameterizedSQL, List<ResultType>, SQLException> runQuery,
+			String table, Collection<String> returnColumns, String keyColumn, int pageSize,
+			Function<ResultType, Object> getKey){
+		this(runQuery, table, returnColumns, keyColumn, pageSize, getKey, null);
+	}
+	
+	/**
+	 * Constructs a new KeysetPager using the given parameters, starting after the given key
+	 *
+	 * @param runQuery The function used to run a page query and convert its rows
+	 * @param table The name of the table to page through
+	 * @param returnColumns The names of the columns to be returned
+	 * @param keyColumn The name of the key column to page by
+	 * @param pageSize The most rows to return in a page
+	 * @param getKey The function used to grab the key of a result
+	 * @param lastSeenKey The key to start after (null to start at the beginning of the table)
+	 */
+	public KeysetPager(
+			ThrowingFunction<ParameterizedSQL, List<ResultType>, SQLException> runQuery,
+			String table, Collection<String> returnColumns, String keyColumn, int pageSize,
+			Function<ResultType, Object> getKey, Object lastSeenKey){
+		if(pageSize < 1){
+			throw new IllegalArgumentException("pageSize must be at least 1!");
+		}
+		this.runQuery = runQuery;
+		this.table = table;
+		this.returnColumns = returnColumns;
+		this.keyColumn = keyColumn;
+		this.pageSize = pageSize;
+		this.getKey = getKey;
+		this.lastSeenKey = lastSeenKey;
+	}
+	
+	/**
+	 * @return The most rows to return in a page
+	 */
+	public int getPageSize(){
+		return pageSize;
+	}
+	
+	/**
+	 * @return The key of the last row of the last page (can be used to pick up paging later on)
+	 */
+	public Object getLastSeenKey(){
+		return lastSeenKey;
+	}
+	
+	/**
+	 * @return Whether there may be another page to read (false once a page comes back smaller than the page size)
+	 */
+	public boolean hasNextPage(){
+		return hasNextPage;
+	}
+	
+	/**
+	 * Reads the next page of results
+	 *
+	 * @return The results of the next page (empty if there are no more rows)
+	 * @throws SQLException If anything goes wrong
+	 */
+	public List<ResultType> nextPage() throws SQLException{
+		if(!hasNextPage){
+			return new ArrayList<>();
+		}
+		
+		// Run the query for the page
+		List<ResultType> page = runQuery.apply(SQLSyntaxUtil.formatParameterizedKeysetQuery(
+				table, returnColumns, keyColumn, lastSeenKey, pageSize));
+		
+		// Track where we left off, and if there can be more pages
+		if(!page.isEmpty()){
+			lastSeenKey = getKey.apply(page.get(page.size() - 1));
+		}
+		hasNextPage = page.size() >= pageSize;
+		
+		return page;
+	}
+}
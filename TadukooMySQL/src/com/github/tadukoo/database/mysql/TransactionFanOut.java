@@ -0,0 +1,160 @@
+package com.github.tadukoo.database.mysql;
+
+import com.github.tadukoo.database.mysql.transaction.SQLTransaction;
+import com.github.tadukoo.util.functional.function.ThrowingFunction;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Transaction Fan Out is used to run several independent {@link SQLTransaction SQLTransactions} at once, so the
+ * time they take together is closer to the slowest one than to the sum of all of them. At most maxParallelism
+ * transactions run at a time (each on its own connection), using workers on the given {@link Executor} that each
+ * take the next transaction that hasn't been started yet. The results are returned in the same order as the
+ * transactions, and the {@link FanOutFailurePolicy} decides what happens when one of them fails.
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.3
+ */
+public class TransactionFanOut{
+	
+	/** The {@link Executor} to run the transactions on */
+	private final Executor executor;
+	/** The most transactions to run at a time */
+	private final int maxParallelism;
+	/** The {@link FanOutFailurePolicy} deciding what to do when a transaction fails */
+	private final FanOutFailurePolicy failurePolicy;
+	
+	/**
+	 * Constructs a new TransactionFanOut using the given parameters
+	 *
+	 * @param executor The {@link Executor} to run the transactions on
+	 * @param maxParallelism The most transactions to run at a time
+	 * @param failurePolicy The {@link FanOutFailurePolicy} deciding what to do when a transaction fails
+	 */
+	public TransactionFanOut(Executor executor, int maxParallelism, FanOutFailurePolicy failurePolicy){
+		if(maxParallelism < 1){
+			throw new IllegalArgumentException("maxParallelism must be at least 1!");
+		}
+		this.executor = executor;
+		this.maxParallelism = maxParallelism;
+		this.failurePolicy = failurePolicy;
+	}
+	
+	/**
+	 * @return The most transactions to run at a time
+	 */
+	public int getMaxParallelism(){
+		return maxParallelism;
+	}
+	
+	/**
+	 * @return The {@link FanOutFailurePolicy} deciding what to do when a transaction fails
+	 */
+	public FanOutFailurePolicy getFailurePolicy(){
+		return failurePolicy;
+	}
+	
+	/**
+	 * Runs the given transactions at once (at most maxParallelism at a time) and returns their results in the same
+	 * order as the transactions.
+	 * <br><br>
+	 * With {@link FanOutFailurePolicy#FAIL_FAST}, the first failure stops any more transactions from being started
+	 * and is thrown right away (transactions that are already running are left to finish on their own). With
+	 * {@link FanOutFailurePolicy#COLLECT_ERRORS}, every transaction is run and then a single {@link SQLException}
+	 * is thrown if any of them failed, caused by the first failure with the rest added as suppressed exceptions.
+	 *
+	 * @param <ResultType> The type of result returned by the transactions
+	 * @param transactions The {@link SQLTransaction SQLTransactions} to run
+	 * @param executeTransaction The function used to run a single transaction
+	 * @return The results of the transactions, in the same order as the transactions
+	 * @throws SQLException If a transaction fails (see above) or if interrupted while waiting
+	 */
+	public <ResultType> List<ResultType> executeAll(
+			Collection<? extends SQLTransaction<? extends ResultType>> transactions,
+			ThrowingFunction<SQLTransaction<? extends ResultType>, ResultType, SQLException> executeTransaction)
+			throws SQLException{
+		List<SQLTransaction<? extends ResultType>> toRun = new ArrayList<>(transactions);
+		int numTransactions = toRun.size();
+		Object[] results = new Object[numTransactions];
+		Exception[] errors = new Exception[numTransactions];
+		AtomicInteger nextIndex = new AtomicInteger();
+		AtomicReference<Exception> firstError = new AtomicReference<>();
+		CompletableFuture<Void> failedFast = new CompletableFuture<>();
+		boolean failFast = failurePolicy == FanOutFailurePolicy.FAIL_FAST;
+		
+		// Start the workers, which each keep taking the next transaction until there are none left
+		int numWorkers = Math.min(maxParallelism, numTransactions);
+		CompletableFuture<?>[] workers = new CompletableFuture<?>[numWorkers];
+		for(int i = 0; i < numWorkers; i++){
+			workers[i] = CompletableFuture.runAsync(() -> {
+				int index;
+				while((index = nextIndex.getAndIncrement()) < numTransactions){
+					if(failFast && firstError.get() != null){
+						return;
+					}
+					try{
+						results[index] = executeTransaction.apply(toRun.get(index));
+					}catch(SQLException | RuntimeException e){
+						errors[index] = e;
+						if(firstError.compareAndSet(null, e) && failFast){
+							failedFast.complete(null);
+						}
+					}
+				}
+			}, executor);
+		}
+		
+		// Wait for all the workers to finish (or the first failure if failing fast)
+		CompletableFuture<Void> allDone = CompletableFuture.allOf(workers);
+		try{
+			CompletableFuture.anyOf(allDone, failedFast).get();
+		}catch(InterruptedException e){
+			Thread.currentThread().interrupt();
+			throw new SQLException("Interrupted while waiting for transactions", e);
+		}catch(ExecutionException e){
+			throw new IllegalStateException("Failed to run transactions", e.getCause());
+		}
+		
+		// Report any failures
+		if(firstError.get() != null){
+			if(failFast){
+				throw asSQLException(firstError.get());
+			}
+			List<Exception> failures = Arrays.stream(errors).filter(error -> error != null).toList();
+			SQLException error = new SQLException("Failed to execute " + failures.size() + " of " +
+					numTransactions + " transactions", failures.get(0));
+			for(Exception failure: failures.subList(1, failures.size())){
+				error.addSuppressed(failure);
+			}
+			throw error;
+		}
+		
+		// Return the results in order
+		List<ResultType> resultList = new ArrayList<>(numTransactions);
+		for(Object result: results){
+			@SuppressWarnings("unchecked")
+			ResultType typedResult = (ResultType) result;
+			resultList.add(typedResult);
+		}
+		return resultList;
+	}
+	
+	/**
+	 * Converts the given failure of a transaction to a {@link SQLException} to be thrown
+	 *
+	 * @param error The failure of a transaction
+	 * @return The failure itself if it's a {@link SQLException}, otherwise a {@link SQLException} caused by it
+	 */
+	private static SQLException asSQLException(Exception error){
+		return error instanceof SQLException sqlError?sqlError:new SQLException(error.getMessage(), error);
+	}
+}
@@ -0,0 +1,214 @@
+package com.github.tadukoo.database.mysql.breaker;
+
+import com.github.tadukoo.database.mysql.connection.ConnectionPoolTimeoutException;
+import com.github.tadukoo.database.mysql.retry.SQLExceptionClassifier;
+
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Circuit Breaker stops transactions from being sent to a database host that keeps failing, so an outage fails fast
+ * instead of every caller waiting on (and retrying) connections that won't work. It is configured using
+ * {@link CircuitBreakerSettings}.
+ * <br><br>
+ * The breaker starts {@link CircuitState#CLOSED closed}, letting everything through. Once failureThreshold
+ * transactions in a row fail due to a lost connection or a timeout (see {@link #isTripError(SQLException)}), it
+ * {@link CircuitState#OPEN opens} and {@link #acquire()} throws a {@link CircuitBreakerOpenException} right away.
+ * After the open duration it goes {@link CircuitState#HALF_OPEN half-open} and lets a few probes through: the first
+ * probe to work closes it again, and a probe that fails opens it for another open duration. If the probes never
+ * report back (e.g. their transaction threw something unexpected), new probes are let through after another open
+ * duration.
+ * <br><br>
+ * A transaction that fails for reasons of its own (e.g. it was cancelled or ran out of time) says nothing about the
+ * host, so it should be recorded with {@link #recordInconclusive()} rather than as a failure.
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.3
+ */
+public class CircuitBreaker{
+	
+	/** The {@link CircuitBreakerSettings settings} for this breaker */
+	private final CircuitBreakerSettings settings;
+	/** The lock guarding the state of the breaker */
+	private final ReentrantLock lock = new ReentrantLock();
+	/** The {@link CircuitState state} the breaker is in */
+	private CircuitState state = CircuitState.CLOSED;
+	/** The number of connection or timeout failures in a row */
+	private int consecutiveFailures = 0;
+	/** The {@link System#nanoTime()} when the breaker last opened or went half-open */
+	private long stateChangedAt = 0;
+	/** The number of probes let through since the breaker went half-open */
+	private int probes = 0;
+	
+	/**
+	 * Constructs a new {@link CircuitBreaker} with the given settings, starting closed
+	 *
+	 * @param settings The {@link CircuitBreakerSettings settings} for this breaker
+	 */
+	public CircuitBreaker(CircuitBreakerSettings settings){
+		this.settings = settings;
+	}
+	
+	/**
+	 * @return The {@link CircuitBreakerSettings settings} for this breaker
+	 */
+	public CircuitBreakerSettings getSettings(){
+		return settings;
+	}
+	
+	/**
+	 * @return The {@link CircuitState state} the breaker is in (an open breaker whose open duration has passed
+	 * shows as {@link CircuitState#HALF_OPEN half-open})
+	 */
+	public CircuitState getState(){
+		lock.lock();
+		try{
+			if(state == CircuitState.OPEN && hasWaited(System.nanoTime())){
+				return CircuitState.HALF_OPEN;
+			}
+			return state;
+		}finally{
+			lock.unlock();
+		}
+	}
+	
+	/**
+	 * @return The number of connection or timeout failures in a row
+	 */
+	public int getConsecutiveFailures(){
+		lock.lock();
+		try{
+			return consecutiveFailures;
+		}finally{
+			lock.unlock();
+		}
+	}
+	
+	/**
+	 * Checks that a transaction can be sent to the host. Every successful call should be followed by a call to
+	 * {@link #record(SQLException)} once it's known whether the host worked.
+	 *
+	 * @throws CircuitBreakerOpenException If the breaker is open, or half-open with all its probes already out
+	 */
+	public void acquire() throws CircuitBreakerOpenException{
+		lock.lock();
+		try{
+			long now = System.nanoTime();
+			
+			// Go half-open once the breaker's been open long enough
+			if(state == CircuitState.OPEN){
+				if(!hasWaited(now)){
+					long remaining = settings.getOpenDuration().toNanos() - (now - stateChangedAt);
+					throw new CircuitBreakerOpenException("Circuit breaker is open after " + consecutiveFailures +
+							(consecutiveFailures == 1?" failure":" failures") + " in a row, failing fast for another " +
+							TimeUnit.NANOSECONDS.toMillis(remaining) + " ms");
+				}
+				changeState(CircuitState.HALF_OPEN, now);
+			}
+			
+			// Only let a few probes through at once (starting over if they never reported back)
+			if(state == CircuitState.HALF_OPEN){
+				if(probes >= settings.getHalfOpenProbes()){
+					if(!hasWaited(now)){
+						throw new CircuitBreakerOpenException("Circuit breaker is half-open and already probing " +
+								"the host with " + probes + (probes == 1?" transaction":" transactions"));
+					}
+					changeState(CircuitState.HALF_OPEN, now);
+				}
+				probes++;
+			}
+		}finally{
+			lock.unlock();
+		}
+	}
+	
+	/**
+	 * Records how a transaction let through by {@link #acquire()} went: a failure that's a sign the host is down
+	 * (see {@link #isTripError(SQLException)}) counts towards opening the breaker, and anything else shows the host
+	 * is working
+	 *
+	 * @param error The {@link SQLException} the transaction failed with (null if it worked)
+	 */
+	public void record(SQLException error){
+		lock.lock();
+		try{
+			if(error != null && isTripError(error)){
+				consecutiveFailures++;
+				if(state == CircuitState.HALF_OPEN ||
+						(state == CircuitState.CLOSED && consecutiveFailures >= settings.getFailureThreshold())){
+					changeState(CircuitState.OPEN, System.nanoTime());
+				}
+			}else{
+				consecutiveFailures = 0;
+				state = CircuitState.CLOSED;
+			}
+		}finally{
+			lock.unlock();
+		}
+	}
+	
+	/**
+	 * Records that a transaction let through by {@link #acquire()} didn't find out whether the host is working (e.g.
+	 * it was cancelled or ran out of its own time), so it counts neither for nor against the host. If it was a probe,
+	 * another probe is let through in its place.
+	 */
+	public void recordInconclusive(){
+		lock.lock();
+		try{
+			if(state == CircuitState.HALF_OPEN && probes > 0){
+				probes--;
+			}
+		}finally{
+			lock.unlock();
+		}
+	}
+	
+	/**
+	 * Moves the breaker to the given state (must be called while holding the lock)
+	 *
+	 * @param newState The {@link CircuitState} to move to
+	 * @param now The current {@link System#nanoTime()}
+	 */
+	private void changeState(CircuitState newState, long now){
+		state = newState;
+		stateChangedAt = now;
+		probes = 0;
+	}
+	
+	/**
+	 * Checks if the open duration has passed since the breaker last changed state (must be called while holding the
+	 * lock)
+	 *
+	 * @param now The current {@link System#nanoTime()}
+	 * @return Whether the open duration has passed
+	 */
+	private boolean hasWaited(long now){
+		return now - stateChangedAt >= settings.getOpenDuration().toNanos();
+	}
+	
+	/**
+	 * Checks if the given {@link SQLException} suggests the host is down: a lost or refused connection, or a timeout
+	 * (other than waiting on a busy connection pool, see {@link ConnectionPoolTimeoutException})
+	 *
+	 * @param e The {@link SQLException} to check
+	 * @return Whether the exception counts towards opening the breaker
+	 */
+	public static boolean isTripError(SQLException e){
+		return SQLExceptionClassifier.isConnectionError(e) ||
+				(SQLExceptionClassifier.isTimeoutError(e) && !isPoolTimeout(e));
+	}
+	
+	/**
+	 * @param e The {@link SQLException} to check
+	 * @return Whether the exception (or one of its causes) is from timing out waiting on a connection pool
+	 */
+	public static boolean isPoolTimeout(SQLException e){
+		for(Throwable t = e; t != null; t = t.getCause()){
+			if(t instanceof ConnectionPoolTimeoutException){
+				return true;
+			}
+		}
+		return false;
+	}
+}
@@ -0,0 +1,22 @@
+package com.github.tadukoo.database.mysql.breaker;
+
+import java.sql.SQLTransientConnectionException;
+
+/**
+ * Circuit Breaker Open Exception is thrown by a {@link CircuitBreaker} when a transaction isn't let through because
+ * the host keeps failing. The transaction was never started, so it's safe to try it again once the host is back.
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.3
+ */
+public class CircuitBreakerOpenException extends SQLTransientConnectionException{
+	
+	/**
+	 * Constructs a new {@link CircuitBreakerOpenException} with the given message
+	 *
+	 * @param message The message explaining why the transaction wasn't let through
+	 */
+	public CircuitBreakerOpenException(String message){
+		super(message);
+	}
+}
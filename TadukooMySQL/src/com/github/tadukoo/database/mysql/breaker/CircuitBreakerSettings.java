@@ -0,0 +1,174 @@
+package com.github.tadukoo.database.mysql.breaker;
+
+import com.github.tadukoo.util.StringUtil;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Circuit Breaker Settings holds the settings used to configure a {@link CircuitBreaker}
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.3
+ */
+public class CircuitBreakerSettings{
+	
+	/**
+	 * A builder used to build {@link CircuitBreakerSettings}. It takes the following parameters:
+	 *
+	 * <table>
+	 *     <caption>Circuit Breaker Settings Parameters</caption>
+	 *     <tr>
+	 *         <th>Parameter</th>
+	 *         <th>Description</th>
+	 *         <th>Default or Required</th>
+	 *     </tr>
+	 *     <tr>
+	 *         <td>failureThreshold</td>
+	 *         <td>The number of connection or timeout failures in a row that opens the breaker</td>
+	 *         <td>Defaults to 5</td>
+	 *     </tr>
+	 *     <tr>
+	 *         <td>openDuration</td>
+	 *         <td>How long the breaker stays open (failing transactions right away) before probing the host
+	 *         again</td>
+	 *         <td>Defaults to 30 seconds</td>
+	 *     </tr>
+	 *     <tr>
+	 *         <td>halfOpenProbes</td>
+	 *         <td>The most transactions let through at once to probe whether the host is back</td>
+	 *         <td>Defaults to 1</td>
+	 *     </tr>
+	 * </table>
+	 *
+	 * @author Logan Ferree (Tadukoo)
+	 * @version Alpha v.0.3
+	 */
+	public static class CircuitBreakerSettingsBuilder{
+		/** The number of connection or timeout failures in a row that opens the breaker */
+		private int failureThreshold = 5;
+		/** How long the breaker stays open before probing the host again */
+		private Duration openDuration = Duration.ofSeconds(30);
+		/** The most transactions let through at once to probe whether the host is back */
+		private int halfOpenProbes = 1;
+		
+		/** Not allowed to instantiate outside {@link CircuitBreakerSettings} */
+		private CircuitBreakerSettingsBuilder(){ }
+		
+		/**
+		 * @param failureThreshold The number of connection or timeout failures in a row that opens the breaker
+		 * @return this, to continue building
+		 */
+		public CircuitBreakerSettingsBuilder failureThreshold(int failureThreshold){
+			this.failureThreshold = failureThreshold;
+			return this;
+		}
+		
+		/**
+		 * @param openDuration How long the breaker stays open (failing transactions right away) before probing the
+		 * host again
+		 * @return this, to continue building
+		 */
+		public CircuitBreakerSettingsBuilder openDuration(Duration openDuration){
+			this.openDuration = openDuration;
+			return this;
+		}
+		
+		/**
+		 * @param halfOpenProbes The most transactions let through at once to probe whether the host is back
+		 * @return this, to continue building
+		 */
+		public CircuitBreakerSettingsBuilder halfOpenProbes(int halfOpenProbes){
+			this.halfOpenProbes = halfOpenProbes;
+			return this;
+		}
+		
+		/**
+		 * Checks for any errors in the set parameters and throws an IllegalArgumentException if any are found
+		 */
+		private void checkForErrors(){
+			List<String> errors = new ArrayList<>();
+			
+			// failureThreshold must be positive
+			if(failureThreshold < 1){
+				errors.add("failureThreshold must be at least 1!");
+			}
+			
+			// openDuration is required
+			if(openDuration == null || openDuration.isNegative()){
+				errors.add("openDuration is required and can't be negative!");
+			}
+			
+			// halfOpenProbes must be positive (or the breaker could never close again)
+			if(halfOpenProbes < 1){
+				errors.add("halfOpenProbes must be at least 1!");
+			}
+			
+			// Report any errors
+			if(!errors.isEmpty()){
+				throw new IllegalArgumentException("Encountered errors in building CircuitBreakerSettings: \n" +
+						StringUtil.buildStringWithNewLines(errors));
+			}
+		}
+		
+		/**
+		 * Builds new {@link CircuitBreakerSettings} using the set parameters after checking for errors
+		 *
+		 * @return The newly built {@link CircuitBreakerSettings}
+		 */
+		public CircuitBreakerSettings build(){
+			checkForErrors();
+			
+			return new CircuitBreakerSettings(failureThreshold, openDuration, halfOpenProbes);
+		}
+	}
+	
+	/** The number of connection or timeout failures in a row that opens the breaker */
+	private final int failureThreshold;
+	/** How long the breaker stays open before probing the host again */
+	private final Duration openDuration;
+	/** The most transactions let through at once to probe whether the host is back */
+	private final int halfOpenProbes;
+	
+	/**
+	 * Constructs new {@link CircuitBreakerSettings} using the given parameters
+	 *
+	 * @param failureThreshold The number of connection or timeout failures in a row that opens the breaker
+	 * @param openDuration How long the breaker stays open before probing the host again
+	 * @param halfOpenProbes The most transactions let through at once to probe whether the host is back
+	 */
+	private CircuitBreakerSettings(int failureThreshold, Duration openDuration, int halfOpenProbes){
+		this.failureThreshold = failureThreshold;
+		this.openDuration = openDuration;
+		this.halfOpenProbes = halfOpenProbes;
+	}
+	
+	/**
+	 * @return A new {@link CircuitBreakerSettingsBuilder builder} to use to build {@link CircuitBreakerSettings}
+	 */
+	public static CircuitBreakerSettingsBuilder builder(){
+		return new CircuitBreakerSettingsBuilder();
+	}
+	
+	/**
+	 * @return The number of connection or timeout failures in a row that opens the breaker
+	 */
+	public int getFailureThreshold(){
+		return failureThreshold;
+	}
+	
+	/**
+	 * @return How long the breaker stays open (failing transactions right away) before probing the host again
+	 */
+	public Duration getOpenDuration(){
+		return openDuration;
+	}
+	
+	/**
+	 * @return The most transactions let through at once to probe whether the host is back
+	 */
+	public int getHalfOpenProbes(){
+		return halfOpenProbes;
+	}
+}
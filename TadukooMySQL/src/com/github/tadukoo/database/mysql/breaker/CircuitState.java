@@ -0,0 +1,16 @@
+package com.github.tadukoo.database.mysql.breaker;
+
+/**
+ * Circuit State is the state a {@link CircuitBreaker} is in
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.3
+ */
+public enum CircuitState{
+	/** The host is working, so transactions are let through */
+	CLOSED,
+	/** The host kept failing, so transactions fail right away without being tried */
+	OPEN,
+	/** The host failed a while ago, so a few transactions are let through to probe whether it's back */
+	HALF_OPEN
+}
@@ -0,0 +1,5 @@
+/**
+ * Contains {@link com.github.tadukoo.database.mysql.breaker.CircuitBreaker CircuitBreaker} and related classes used
+ * to stop sending transactions to a database host that keeps failing
+ */
+package com.github.tadukoo.database.mysql.breaker;
\ No newline at end of file
@@ -0,0 +1,23 @@
+package com.github.tadukoo.database.mysql.connection;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * Connection Factory is used to open a brand new {@link Connection} to a MySQL database (e.g. using
+ * {@link java.sql.DriverManager})
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.3
+ */
+@FunctionalInterface
+public interface ConnectionFactory{
+	
+	/**
+	 * Opens a new {@link Connection}
+	 *
+	 * @return The newly opened {@link Connection}
+	 * @throws SQLException If anything goes wrong
+	 */
+	Connection createConnection() throws SQLException;
+}
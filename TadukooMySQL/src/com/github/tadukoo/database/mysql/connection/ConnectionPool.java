@@ -0,0 +1,474 @@
+package com.github.tadukoo.database.mysql.connection;
+
+import com.github.tadukoo.util.AutoCloseableUtil;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Connection Pool is a {@link ConnectionSource} that keeps {@link Connection Connections} open between
+ * transactions so that each transaction doesn't have to pay for a brand new connection. It is configured
+ * using {@link ConnectionPoolSettings}.
+ * <br><br>
+ * Connections are handed out with auto-commit disabled, and are rolled back when handed back so that the next
+ * borrower gets a clean connection. A pool can instead be set to leave auto-commit however the last borrower left
+ * it, for callers that set the mode they need on every borrow (saving a round trip each time it doesn't change).
+ * Idle connections above the minimum size are closed after the idle timeout, and connections are retired once they
+ * pass the max lifetime.
+ * <br><br>
+ * Unless disabled in the settings, each connection gets its own {@link StatementCache}, so prepared statements
+ * stay open across transactions for as long as the connection stays in the pool.
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.3
+ */
+public class ConnectionPool implements ConnectionSource{
+	
+	/**
+	 * Pooled Connection holds a {@link Connection} in the pool along with some timing information about it
+	 */
+	private static class PooledConnection{
+		/** The actual {@link Connection} */
+		private final Connection connection;
+		/** The {@link System#nanoTime()} when the connection was opened */
+		private final long createdAt;
+		/** The {@link System#nanoTime()} when the connection was last handed back to the pool */
+		private long lastReleasedAt;
+		
+		/**
+		 * Constructs a new {@link PooledConnection} for the given {@link Connection}
+		 *
+		 * @param connection The actual {@link Connection}
+		 */
+		private PooledConnection(Connection connection){
+			this.connection = connection;
+			this.createdAt = System.nanoTime();
+			this.lastReleasedAt = createdAt;
+		}
+	}
+	
+	/** The {@link ConnectionPoolSettings settings} for this pool */
+	private final ConnectionPoolSettings settings;
+	/** The {@link ConnectionFactory} used to open new {@link Connection Connections} */
+	private final ConnectionFactory connectionFactory;
+	/** Whether to disable auto-commit on connections handed back with it enabled */
+	private final boolean resetAutoCommit;
+	/** The {@link StatementCacheStats} shared by the {@link StatementCache StatementCaches} of this pool */
+	private final StatementCacheStats statementCacheStats = new StatementCacheStats();
+	/** The lock guarding the state of the pool */
+	private final ReentrantLock lock = new ReentrantLock();
+	/** Signalled whenever a connection is handed back or a slot in the pool frees up */
+	private final Condition connectionAvailable = lock.newCondition();
+	/** Connections waiting in the pool to be used, most recently used first */
+	private final Deque<PooledConnection> idleConnections = new ArrayDeque<>();
+	/** Connections that are currently handed out */
+	private final Map<Connection, PooledConnection> borrowedConnections = new IdentityHashMap<>();
+	/** The number of connections currently open (or being opened) by this pool */
+	private int totalConnections = 0;
+	/** Whether this pool has been closed */
+	private boolean closed = false;
+	
+	/**
+	 * Constructs a new {@link ConnectionPool} with the given parameters. No connections are opened until they're
+	 * needed (or until {@link #warmUp()} is called).
+	 *
+	 * @param settings The {@link ConnectionPoolSettings settings} for this pool
+	 * @param connectionFactory The {@link ConnectionFactory} used to open new {@link Connection Connections}
+	 */
+	public ConnectionPool(ConnectionPoolSettings settings, ConnectionFactory connectionFactory){
+		this(settings, connectionFactory, true);
+	}
+	
+	/**
+	 * Constructs a new {@link ConnectionPool} with the given parameters. No connections are opened until they're
+	 * needed (or until {@link #warmUp()} is called).
+	 *
+	 * @param settings The {@link ConnectionPoolSettings settings} for this pool
+	 * @param connectionFactory The {@link ConnectionFactory} used to open new {@link Connection Connections}
+	 * @param resetAutoCommit Whether to disable auto-commit on connections handed back with it enabled (if false,
+	 *                        borrowers are responsible for setting the auto-commit mode they need)
+	 */
+	public ConnectionPool(
+			ConnectionPoolSettings settings, ConnectionFactory connectionFactory, boolean resetAutoCommit){
+		this.settings = settings;
+		this.connectionFactory = connectionFactory;
+		this.resetAutoCommit = resetAutoCommit;
+	}
+	
+	/**
+	 * @return The {@link ConnectionPoolSettings settings} for this pool
+	 */
+	public ConnectionPoolSettings getSettings(){
+		return settings;
+	}
+	
+	/**
+	 * @return Whether auto-commit is disabled on connections handed back with it enabled
+	 */
+	public boolean isResetAutoCommit(){
+		return resetAutoCommit;
+	}
+	
+	/**
+	 * @return The {@link StatementCacheStats} for the prepared statements cached on this pool's connections
+	 */
+	public StatementCacheStats getStatementCacheStats(){
+		return statementCacheStats;
+	}
+	
+	/**
+	 * @return The number of connections currently open by this pool (both idle and handed out)
+	 */
+	public int getTotalConnections(){
+		lock.lock();
+		try{
+			return totalConnections;
+		}finally{
+			lock.unlock();
+		}
+	}
+	
+	/**
+	 * @return The number of connections waiting in the pool to be used
+	 */
+	public int getIdleConnections(){
+		lock.lock();
+		try{
+			return idleConnections.size();
+		}finally{
+			lock.unlock();
+		}
+	}
+	
+	/**
+	 * @return The number of connections that are currently handed out
+	 */
+	public int getBorrowedConnections(){
+		lock.lock();
+		try{
+			return borrowedConnections.size();
+		}finally{
+			lock.unlock();
+		}
+	}
+	
+	/**
+	 * Opens connections until the pool has at least {@link ConnectionPoolSettings#getMinSize() minSize}
+	 * connections
+	 *
+	 * @throws SQLException If anything goes wrong in opening connections
+	 */
+	public void warmUp() throws SQLException{
+		while(true){
+			// Reserve a slot for a new connection if we're below the minimum
+			lock.lock();
+			try{
+				if(closed || totalConnections >= settings.getMinSize()){
+					return;
+				}
+				totalConnections++;
+			}finally{
+				lock.unlock();
+			}
+			
+			// Open the connection and put it in the pool
+			PooledConnection pooled = openConnection();
+			lock.lock();
+			try{
+				idleConnections.addLast(pooled);
+				connectionAvailable.signal();
+			}finally{
+				lock.unlock();
+			}
+		}
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public Connection getConnection() throws SQLException{
+		long deadline = System.nanoTime() + settings.getBorrowTimeout().toNanos();
+		
+		while(true){
+			PooledConnection pooled = null;
+			boolean openNew = false;
+			List<PooledConnection> evicted = new ArrayList<>();
+			
+			lock.lock();
+			try{
+				while(pooled == null && !openNew){
+					if(closed){
+						throw new SQLException("Connection pool is closed");
+					}
+					
+					// Clear out stale connections before picking one
+					evictStaleConnections(evicted);
+					
+					pooled = idleConnections.pollFirst();
+					if(pooled == null){
+						if(totalConnections < settings.getMaxSize()){
+							// Reserve a slot for a new connection
+							totalConnections++;
+							openNew = true;
+						}else{
+							// Wait for a connection to be handed back
+							long remaining = deadline - System.nanoTime();
+							if(remaining <= 0){
+								throw new ConnectionPoolTimeoutException("Timed out waiting for a connection " +
+										"from the pool after " + settings.getBorrowTimeout().toMillis() + " ms");
+							}
+							try{
+								connectionAvailable.awaitNanos(remaining);
+							}catch(InterruptedException e){
+								Thread.currentThread().interrupt();
+								throw new SQLException("Interrupted while waiting for a connection from the pool", e);
+							}
+						}
+					}
+				}
+			}finally{
+				lock.unlock();
+				closeConnections(evicted);
+			}
+			
+			// Open a new connection or make sure the idle one is still usable
+			if(openNew){
+				pooled = openConnection();
+			}else if(!isUsable(pooled)){
+				discard(pooled);
+				continue;
+			}
+			
+			lock.lock();
+			try{
+				borrowedConnections.put(pooled.connection, pooled);
+			}finally{
+				lock.unlock();
+			}
+			return pooled.connection;
+		}
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public void releaseConnection(Connection connection, boolean broken){
+		PooledConnection pooled;
+		lock.lock();
+		try{
+			pooled = borrowedConnections.remove(connection);
+		}finally{
+			lock.unlock();
+		}
+		
+		// If it's not one of ours, just close it
+		if(pooled == null){
+			AutoCloseableUtil.closeQuietly(connection);
+			return;
+		}
+		
+		// Reset the connection so the next borrower gets a clean one
+		boolean reusable = !broken && !isExpired(pooled, System.nanoTime()) && reset(pooled.connection);
+		
+		lock.lock();
+		try{
+			if(reusable && !closed){
+				pooled.lastReleasedAt = System.nanoTime();
+				idleConnections.addFirst(pooled);
+			}else{
+				reusable = false;
+				totalConnections--;
+			}
+			connectionAvailable.signal();
+		}finally{
+			lock.unlock();
+		}
+		
+		if(!reusable){
+			AutoCloseableUtil.closeQuietly(connection);
+		}
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public void evictIdleConnections(){
+		List<PooledConnection> toClose;
+		lock.lock();
+		try{
+			toClose = new ArrayList<>(idleConnections);
+			totalConnections -= idleConnections.size();
+			idleConnections.clear();
+			connectionAvailable.signalAll();
+		}finally{
+			lock.unlock();
+		}
+		closeConnections(toClose);
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public void close(){
+		List<PooledConnection> toClose;
+		lock.lock();
+		try{
+			closed = true;
+			toClose = new ArrayList<>(idleConnections);
+			totalConnections -= idleConnections.size();
+			idleConnections.clear();
+			connectionAvailable.signalAll();
+		}finally{
+			lock.unlock();
+		}
+		
+		// Borrowed connections will be closed when they're handed back
+		closeConnections(toClose);
+	}
+	
+	/**
+	 * Opens a new {@link Connection} for a slot that's already been reserved in {@link #totalConnections}
+	 *
+	 * @return The newly opened {@link PooledConnection}
+	 * @throws SQLException If anything goes wrong
+	 */
+	private PooledConnection openConnection() throws SQLException{
+		Connection conn = null;
+		try{
+			conn = connectionFactory.createConnection();
+			conn.setAutoCommit(false);
+			
+			// Wrap the connection in a statement cache if it's enabled
+			if(settings.getStatementCacheSize() > 0){
+				conn = new StatementCache(conn, settings.getStatementCacheSize(), statementCacheStats).getConnection();
+			}
+			return new PooledConnection(conn);
+		}catch(SQLException | RuntimeException e){
+			// Free up the reserved slot
+			AutoCloseableUtil.closeQuietly(conn);
+			lock.lock();
+			try{
+				totalConnections--;
+				connectionAvailable.signal();
+			}finally{
+				lock.unlock();
+			}
+			throw e;
+		}
+	}
+	
+	/**
+	 * Removes connections from the idle pool that have passed the max lifetime, or that have been idle for longer
+	 * than the idle timeout (while keeping at least the minimum number of connections). Must be called while
+	 * holding the {@link #lock}.
+	 *
+	 * @param evicted A List to add the removed connections to, so they can be closed outside the lock
+	 */
+	private void evictStaleConnections(List<PooledConnection> evicted){
+		long now = System.nanoTime();
+		long idleTimeout = settings.getIdleTimeout().toNanos();
+		
+		// Least recently used connections are at the end of the deque
+		Iterator<PooledConnection> it = idleConnections.descendingIterator();
+		while(it.hasNext()){
+			PooledConnection pooled = it.next();
+			boolean idleTooLong = idleTimeout > 0 && now - pooled.lastReleasedAt > idleTimeout &&
+					totalConnections > settings.getMinSize();
+			if(idleTooLong || isExpired(pooled, now)){
+				it.remove();
+				totalConnections--;
+				evicted.add(pooled);
+			}
+		}
+	}
+	
+	/**
+	 * @param pooled The {@link PooledConnection} to check
+	 * @param now The current {@link System#nanoTime()}
+	 * @return Whether the given connection has passed the max lifetime
+	 */
+	private boolean isExpired(PooledConnection pooled, long now){
+		long maxLifetime = settings.getMaxLifetime().toNanos();
+		return maxLifetime > 0 && now - pooled.createdAt > maxLifetime;
+	}
+	
+	/**
+	 * Checks if the given idle connection can be handed out
+	 *
+	 * @param pooled The {@link PooledConnection} to check
+	 * @return Whether the connection is usable
+	 */
+	private boolean isUsable(PooledConnection pooled){
+		if(isExpired(pooled, System.nanoTime())){
+			return false;
+		}
+		if(!settings.isValidateOnBorrow()){
+			return true;
+		}
+		try{
+			int timeoutSeconds = (int) Math.max(1,
+					TimeUnit.MILLISECONDS.toSeconds(settings.getValidationTimeout().toMillis()));
+			return pooled.connection.isValid(timeoutSeconds);
+		}catch(SQLException e){
+			return false;
+		}
+	}
+	
+	/**
+	 * Rolls back anything left over on the given connection and makes sure auto-commit is disabled (unless this
+	 * pool leaves auto-commit to its borrowers, in which case there's nothing to roll back)
+	 *
+	 * @param conn The {@link Connection} to reset
+	 * @return Whether the reset worked (if not, the connection shouldn't be reused)
+	 */
+	private boolean reset(Connection conn){
+		try{
+			if(conn.isClosed()){
+				return false;
+			}
+			if(conn.getAutoCommit()){
+				if(resetAutoCommit){
+					conn.setAutoCommit(false);
+				}
+			}else{
+				conn.rollback();
+			}
+			return true;
+		}catch(SQLException e){
+			return false;
+		}
+	}
+	
+	/**
+	 * Removes the given connection (that's not in the idle pool) from the pool and closes it
+	 *
+	 * @param pooled The {@link PooledConnection} to be discarded
+	 */
+	private void discard(PooledConnection pooled){
+		lock.lock();
+		try{
+			totalConnections--;
+			connectionAvailable.signal();
+		}finally{
+			lock.unlock();
+		}
+		AutoCloseableUtil.closeQuietly(pooled.connection);
+	}
+	
+	/**
+	 * Closes the given connections quietly
+	 *
+	 * @param connections The {@link PooledConnection PooledConnections} to be closed
+	 */
+	private static void closeConnections(List<PooledConnection> connections){
+		for(PooledConnection pooled: connections){
+			AutoCloseableUtil.closeQuietly(pooled.connection);
+		}
+	}
+}
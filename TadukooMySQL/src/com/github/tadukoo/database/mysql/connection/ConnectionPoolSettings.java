@@ -0,0 +1,329 @@
+package com.github.tadukoo.database.mysql.connection;
+
+import com.github.tadukoo.util.StringUtil;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Connection Pool Settings holds the settings used to configure a {@link ConnectionPool}
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.3
+ */
+public class ConnectionPoolSettings{
+	
+	/**
+	 * A builder used to build {@link ConnectionPoolSettings}. It takes the following parameters:
+	 *
+	 * <table>
+	 *     <caption>Connection Pool Settings Parameters</caption>
+	 *     <tr>
+	 *         <th>Parameter</th>
+	 *         <th>Description</th>
+	 *         <th>Default or Required</th>
+	 *     </tr>
+	 *     <tr>
+	 *         <td>minSize</td>
+	 *         <td>The minimum number of connections to keep open in the pool</td>
+	 *         <td>Defaults to 0</td>
+	 *     </tr>
+	 *     <tr>
+	 *         <td>maxSize</td>
+	 *         <td>The maximum number of connections the pool may have open at once</td>
+	 *         <td>Defaults to 10</td>
+	 *     </tr>
+	 *     <tr>
+	 *         <td>idleTimeout</td>
+	 *         <td>How long a connection may sit idle in the pool before it's closed (only applies to
+	 *         connections above minSize)</td>
+	 *         <td>Defaults to 10 minutes</td>
+	 *     </tr>
+	 *     <tr>
+	 *         <td>maxLifetime</td>
+	 *         <td>How long a connection may live before it's retired</td>
+	 *         <td>Defaults to 30 minutes</td>
+	 *     </tr>
+	 *     <tr>
+	 *         <td>validateOnBorrow</td>
+	 *         <td>Whether to check that a connection is still alive before handing it out</td>
+	 *         <td>Defaults to true</td>
+	 *     </tr>
+	 *     <tr>
+	 *         <td>validationTimeout</td>
+	 *         <td>How long to wait on the validation check of a connection</td>
+	 *         <td>Defaults to 5 seconds</td>
+	 *     </tr>
+	 *     <tr>
+	 *         <td>borrowTimeout</td>
+	 *         <td>How long to wait for a connection when the pool is at maxSize and all are in use</td>
+	 *         <td>Defaults to 30 seconds</td>
+	 *     </tr>
+	 *     <tr>
+	 *         <td>statementCacheSize</td>
+	 *         <td>The number of prepared statements to keep open on each connection (0 to disable caching)</td>
+	 *         <td>Defaults to 250</td>
+	 *     </tr>
+	 * </table>
+	 *
+	 * @author Logan Ferree (Tadukoo)
+	 * @version Alpha v.0.3
+	 */
+	public static class ConnectionPoolSettingsBuilder{
+		/** The minimum number of connections to keep open in the pool */
+		private int minSize = 0;
+		/** The maximum number of connections the pool may have open at once */
+		private int maxSize = 10;
+		/** How long a connection may sit idle in the pool before it's closed */
+		private Duration idleTimeout = Duration.ofMinutes(10);
+		/** How long a connection may live before it's retired */
+		private Duration maxLifetime = Duration.ofMinutes(30);
+		/** Whether to check that a connection is still alive before handing it out */
+		private boolean validateOnBorrow = true;
+		/** How long to wait on the validation check of a connection */
+		private Duration validationTimeout = Duration.ofSeconds(5);
+		/** How long to wait for a connection when the pool is at maxSize and all are in use */
+		private Duration borrowTimeout = Duration.ofSeconds(30);
+		/** The number of prepared statements to keep open on each connection (0 to disable caching) */
+		private int statementCacheSize = 250;
+		
+		/** Not allowed to instantiate outside {@link ConnectionPoolSettings} */
+		private ConnectionPoolSettingsBuilder(){ }
+		
+		/**
+		 * @param minSize The minimum number of connections to keep open in the pool
+		 * @return this, to continue building
+		 */
+		public ConnectionPoolSettingsBuilder minSize(int minSize){
+			this.minSize = minSize;
+			return this;
+		}
+		
+		/**
+		 * @param maxSize The maximum number of connections the pool may have open at once
+		 * @return this, to continue building
+		 */
+		public ConnectionPoolSettingsBuilder maxSize(int maxSize){
+			this.maxSize = maxSize;
+			return this;
+		}
+		
+		/**
+		 * @param idleTimeout How long a connection may sit idle in the pool before it's closed
+		 * @return this, to continue building
+		 */
+		public ConnectionPoolSettingsBuilder idleTimeout(Duration idleTimeout){
+			this.idleTimeout = idleTimeout;
+			return this;
+		}
+		
+		/**
+		 * @param maxLifetime How long a connection may live before it's retired
+		 * @return this, to continue building
+		 */
+		public ConnectionPoolSettingsBuilder maxLifetime(Duration maxLifetime){
+			this.maxLifetime = maxLifetime;
+			return this;
+		}
+		
+		/**
+		 * @param validateOnBorrow Whether to check that a connection is still alive before handing it out
+		 * @return this, to continue building
+		 */
+		public ConnectionPoolSettingsBuilder validateOnBorrow(boolean validateOnBorrow){
+			this.validateOnBorrow = validateOnBorrow;
+			return this;
+		}
+		
+		/**
+		 * @param validationTimeout How long to wait on the validation check of a connection
+		 * @return this, to continue building
+		 */
+		public ConnectionPoolSettingsBuilder validationTimeout(Duration validationTimeout){
+			this.validationTimeout = validationTimeout;
+			return this;
+		}
+		
+		/**
+		 * @param borrowTimeout How long to wait for a connection when the pool is at maxSize and all are in use
+		 * @return this, to continue building
+		 */
+		public ConnectionPoolSettingsBuilder borrowTimeout(Duration borrowTimeout){
+			this.borrowTimeout = borrowTimeout;
+			return this;
+		}
+		
+		/**
+		 * @param statementCacheSize The number of prepared statements to keep open on each connection
+		 * (0 to disable caching)
+		 * @return this, to continue building
+		 */
+		public ConnectionPoolSettingsBuilder statementCacheSize(int statementCacheSize){
+			this.statementCacheSize = statementCacheSize;
+			return this;
+		}
+		
+		/**
+		 * Checks for any errors in the set parameters and throws an IllegalArgumentException if any are found
+		 */
+		private void checkForErrors(){
+			List<String> errors = new ArrayList<>();
+			
+			// minSize can't be negative
+			if(minSize < 0){
+				errors.add("minSize can't be negative!");
+			}
+			
+			// maxSize must be positive and at least minSize
+			if(maxSize < 1){
+				errors.add("maxSize must be at least 1!");
+			}else if(maxSize < minSize){
+				errors.add("maxSize can't be less than minSize!");
+			}
+			
+			// The durations are all required
+			if(idleTimeout == null || idleTimeout.isNegative()){
+				errors.add("idleTimeout is required and can't be negative!");
+			}
+			if(maxLifetime == null || maxLifetime.isNegative()){
+				errors.add("maxLifetime is required and can't be negative!");
+			}
+			if(validationTimeout == null || validationTimeout.isNegative()){
+				errors.add("validationTimeout is required and can't be negative!");
+			}
+			if(borrowTimeout == null || borrowTimeout.isNegative()){
+				errors.add("borrowTimeout is required and can't be negative!");
+			}
+			
+			// statementCacheSize can't be negative
+			if(statementCacheSize < 0){
+				errors.add("statementCacheSize can't be negative!");
+			}
+			
+			// Report any errors
+			if(!errors.isEmpty()){
+				throw new IllegalArgumentException("Encountered errors in building ConnectionPoolSettings: \n" +
+						StringUtil.buildStringWithNewLines(errors));
+			}
+		}
+		
+		/**
+		 * Builds new {@link ConnectionPoolSettings} using the set parameters after checking for errors
+		 *
+		 * @return The newly built {@link ConnectionPoolSettings}
+		 */
+		public ConnectionPoolSettings build(){
+			checkForErrors();
+			
+			return new ConnectionPoolSettings(minSize, maxSize, idleTimeout, maxLifetime,
+					validateOnBorrow, validationTimeout, borrowTimeout, statementCacheSize);
+		}
+	}
+	
+	/** The minimum number of connections to keep open in the pool */
+	private final int minSize;
+	/** The maximum number of connections the pool may have open at once */
+	private final int maxSize;
+	/** How long a connection may sit idle in the pool before it's closed */
+	private final Duration idleTimeout;
+	/** How long a connection may live before it's retired */
+	private final Duration maxLifetime;
+	/** Whether to check that a connection is still alive before handing it out */
+	private final boolean validateOnBorrow;
+	/** How long to wait on the validation check of a connection */
+	private final Duration validationTimeout;
+	/** How long to wait for a connection when the pool is at maxSize and all are in use */
+	private final Duration borrowTimeout;
+	/** The number of prepared statements to keep open on each connection (0 to disable caching) */
+	private final int statementCacheSize;
+	
+	/**
+	 * Constructs new {@link ConnectionPoolSettings} using the given parameters
+	 *
+	 * @param minSize The minimum number of connections to keep open in the pool
+	 * @param maxSize The maximum number of connections the pool may have open at once
+	 * @param idleTimeout How long a connection may sit idle in the pool before it's closed
+	 * @param maxLifetime How long a connection may live before it's retired
+	 * @param validateOnBorrow Whether to check that a connection is still alive before handing it out
+	 * @param validationTimeout How long to wait on the validation check of a connection
+	 * @param borrowTimeout How long to wait for a connection when the pool is at maxSize and all are in use
+	 * @param statementCacheSize The number of prepared statements to keep open on each connection
+	 * (0 to disable caching)
+	 */
+	private ConnectionPoolSettings(
+			int minSize, int maxSize, Duration idleTimeout, Duration maxLifetime,
+			boolean validateOnBorrow, Duration validationTimeout, Duration borrowTimeout, int statementCacheSize){
+		this.minSize = minSize;
+		this.maxSize = maxSize;
+		this.idleTimeout = idleTimeout;
+		this.maxLifetime = maxLifetime;
+		this.validateOnBorrow = validateOnBorrow;
+		this.validationTimeout = validationTimeout;
+		this.borrowTimeout = borrowTimeout;
+		this.statementCacheSize = statementCacheSize;
+	}
+	
+	/**
+	 * @return A new {@link ConnectionPoolSettingsBuilder builder} to use to build {@link ConnectionPoolSettings}
+	 */
+	public static ConnectionPoolSettingsBuilder builder(){
+		return new ConnectionPoolSettingsBuilder();
+	}
+	
+	/**
+	 * @return The minimum number of connections to keep open in the pool
+	 */
+	public int getMinSize(){
+		return minSize;
+	}
+	
+	/**
+	 * @return The maximum number of connections the pool may have open at once
+	 */
+	public int getMaxSize(){
+		return maxSize;
+	}
+	
+	/**
+	 * @return How long a connection may sit idle in the pool before it's closed
+	 */
+	public Duration getIdleTimeout(){
+		return idleTimeout;
+	}
+	
+	/**
+	 * @return How long a connection may live before it's retired
+	 */
+	public Duration getMaxLifetime(){
+		return maxLifetime;
+	}
+	
+	/**
+	 * @return Whether to check that a connection is still alive before handing it out
+	 */
+	public boolean isValidateOnBorrow(){
+		return validateOnBorrow;
+	}
+	
+	/**
+	 * @return How long to wait on the validation check of a connection
+	 */
+	public Duration getValidationTimeout(){
+		return validationTimeout;
+	}
+	
+	/**
+	 * @return How long to wait for a connection when the pool is at maxSize and all are in use
+	 */
+	public Duration getBorrowTimeout(){
+		return borrowTimeout;
+	}
+	
+	/**
+	 * @return The number of prepared statements to keep open on each connection (0 to disable caching)
+	 */
+	public int getStatementCacheSize(){
+		return statementCacheSize;
+	}
+}
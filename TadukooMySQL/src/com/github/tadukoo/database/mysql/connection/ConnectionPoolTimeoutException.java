@@ -0,0 +1,23 @@
+package com.github.tadukoo.database.mysql.connection;
+
+import java.sql.SQLTimeoutException;
+
+/**
+ * Connection Pool Timeout Exception is thrown by a {@link ConnectionPool} when no connection is handed back in time
+ * for a transaction waiting on the pool. It's a sign the pool is busy, not that the host is down, so it isn't
+ * counted against the host by a {@link com.github.tadukoo.database.mysql.breaker.CircuitBreaker}.
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.3
+ */
+public class ConnectionPoolTimeoutException extends SQLTimeoutException{
+	
+	/**
+	 * Constructs a new {@link ConnectionPoolTimeoutException} with the given message
+	 *
+	 * @param message The message explaining how long the transaction waited
+	 */
+	public ConnectionPoolTimeoutException(String message){
+		super(message);
+	}
+}
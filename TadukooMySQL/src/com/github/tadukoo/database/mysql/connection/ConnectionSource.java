@@ -0,0 +1,43 @@
+package com.github.tadukoo.database.mysql.connection;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * Connection Source is used to hand out {@link Connection Connections} for transactions and to take them back
+ * once a transaction is done with them
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.3
+ */
+public interface ConnectionSource extends AutoCloseable{
+	
+	/**
+	 * Grabs a {@link Connection} to use for a transaction. The {@link Connection} will have auto-commit disabled
+	 * (unless the source was set up to leave auto-commit to its callers, see {@link ConnectionPool}).
+	 *
+	 * @return A {@link Connection} to use
+	 * @throws SQLException If anything goes wrong
+	 */
+	Connection getConnection() throws SQLException;
+	
+	/**
+	 * Hands back a {@link Connection} that was grabbed from {@link #getConnection()}
+	 *
+	 * @param connection The {@link Connection} to hand back
+	 * @param broken Whether the {@link Connection} is known to be broken and should not be used again
+	 */
+	void releaseConnection(Connection connection, boolean broken);
+	
+	/**
+	 * Closes any idle {@link Connection Connections} this source is holding on to for later, e.g. because the host
+	 * they're connected to went down. Sources that don't hold on to connections have nothing to do.
+	 */
+	default void evictIdleConnections(){ }
+	
+	/**
+	 * Closes this source and any {@link Connection Connections} it is holding on to
+	 */
+	@Override
+	void close();
+}
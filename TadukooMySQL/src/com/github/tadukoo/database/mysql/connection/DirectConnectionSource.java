@@ -0,0 +1,50 @@
+package com.github.tadukoo.database.mysql.connection;
+
+import com.github.tadukoo.util.AutoCloseableUtil;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * Direct Connection Source is a {@link ConnectionSource} that opens a brand new {@link Connection} for every
+ * transaction and closes it when it's handed back
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.3
+ */
+public class DirectConnectionSource implements ConnectionSource{
+	/** The {@link ConnectionFactory} used to open new {@link Connection Connections} */
+	private final ConnectionFactory connectionFactory;
+	
+	/**
+	 * Constructs a new {@link DirectConnectionSource} using the given {@link ConnectionFactory}
+	 *
+	 * @param connectionFactory The {@link ConnectionFactory} used to open new {@link Connection Connections}
+	 */
+	public DirectConnectionSource(ConnectionFactory connectionFactory){
+		this.connectionFactory = connectionFactory;
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public Connection getConnection() throws SQLException{
+		// Create the connection
+		Connection conn = connectionFactory.createConnection();
+		// Disable auto-commit to allow for transactions
+		conn.setAutoCommit(false);
+		
+		return conn;
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public void releaseConnection(Connection connection, boolean broken){
+		AutoCloseableUtil.closeQuietly(connection);
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public void close(){
+		// Nothing is held on to, so nothing to close
+	}
+}
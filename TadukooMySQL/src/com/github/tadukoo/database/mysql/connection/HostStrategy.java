@@ -0,0 +1,17 @@
+package com.github.tadukoo.database.mysql.connection;
+
+/**
+ * Host Strategy decides which host a {@link MultiHostConnectionSource} grabs a connection from when there are several
+ * hosts. Whatever the strategy, hosts that recently couldn't be reached are skipped while any other host is up.
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.3
+ */
+public enum HostStrategy{
+	/** Always use the first host that's up, in the order given (so the primary is used again once it's back) */
+	FAILOVER,
+	/** Keep using the same host until it can't be reached, then move on to the next one in order and stay there */
+	SEQUENTIAL,
+	/** Take turns between the hosts that are up */
+	LOAD_BALANCE
+}
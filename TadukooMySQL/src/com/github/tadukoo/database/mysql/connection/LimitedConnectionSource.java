@@ -0,0 +1,152 @@
+package com.github.tadukoo.database.mysql.connection;
+
+import com.github.tadukoo.database.mysql.breaker.CircuitBreaker;
+import com.github.tadukoo.database.mysql.limit.ConcurrencyLimiter;
+import com.github.tadukoo.database.mysql.transaction.Deadline;
+import com.github.tadukoo.database.mysql.transaction.TransactionGuard;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Limited Connection Source is a {@link ConnectionSource} that holds a transaction's place under its limits for as
+ * long as each {@link Connection} it hands out is in use. It's used for work that holds a connection for longer than
+ * a single call (like streaming the rows of a query), so that work still counts towards the limits:
+ * <ul>
+ *     <li>Each {@link ConcurrencyLimiter} (e.g. the lane's and then the overall one) lets the connection in before
+ *     it's grabbed, and is released once it's handed back</li>
+ *     <li>The {@link CircuitBreaker} is checked before the connection is grabbed, and told whether grabbing it
+ *     worked</li>
+ *     <li>Each connection is guarded by its own {@link TransactionGuard}, so its statements get the time left
+ *     before the timeout as their query timeout</li>
+ * </ul>
+ * How long a connection is held is up to whoever's reading from it, so it isn't reported to the limiters as
+ * latency (only whether grabbing the connection failed due to overload is, see
+ * {@link ConcurrencyLimiter#releaseWithoutSample()}).
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.3
+ */
+public class LimitedConnectionSource implements ConnectionSource{
+	
+	/** The {@link ConnectionSource} to grab the actual connections from */
+	private final ConnectionSource source;
+	/** The {@link ConcurrencyLimiter ConcurrencyLimiters} to hold a place under, in the order they're waited on */
+	private final List<ConcurrencyLimiter> limiters;
+	/** The {@link CircuitBreaker} to check before grabbing a connection (may be null) */
+	private final CircuitBreaker breaker;
+	/** The name of the work the connections are used for (used for the guards) */
+	private final String name;
+	/** How long the work gets from grabbing a connection (may be null for no timeout) */
+	private final Duration timeout;
+	/** The actual connection behind each guarded connection currently handed out */
+	private final Map<Connection, Connection> connections = Collections.synchronizedMap(new IdentityHashMap<>());
+	
+	/**
+	 * Constructs a new {@link LimitedConnectionSource} using the given parameters
+	 *
+	 * @param source The {@link ConnectionSource} to grab the actual connections from
+	 * @param limiters The {@link ConcurrencyLimiter ConcurrencyLimiters} to hold a place under, in the order they're
+	 *                 waited on (nulls are skipped)
+	 * @param breaker The {@link CircuitBreaker} to check before grabbing a connection (may be null)
+	 * @param name The name of the work the connections are used for (used for the guards)
+	 * @param timeout How long the work gets from grabbing a connection (may be null for no timeout)
+	 */
+	public LimitedConnectionSource(
+			ConnectionSource source, List<ConcurrencyLimiter> limiters, CircuitBreaker breaker, String name,
+			Duration timeout){
+		this.source = source;
+		this.limiters = limiters.stream().filter(Objects::nonNull).toList();
+		this.breaker = breaker;
+		this.name = name;
+		this.timeout = timeout;
+	}
+	
+	/**
+	 * @return The {@link ConnectionSource} the actual connections are grabbed from
+	 */
+	public ConnectionSource getSource(){
+		return source;
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public Connection getConnection() throws SQLException{
+		// Wait to be let in by each limiter
+		TransactionGuard guard = new TransactionGuard(name, Deadline.after(timeout));
+		List<ConcurrencyLimiter> acquired = new ArrayList<>();
+		Connection conn;
+		try{
+			for(ConcurrencyLimiter limiter: limiters){
+				limiter.acquire();
+				acquired.add(limiter);
+			}
+			
+			// Grab the connection, unless the host keeps failing
+			if(breaker != null){
+				breaker.acquire();
+			}
+			try{
+				conn = source.getConnection();
+			}catch(SQLException e){
+				guard.recordOutcome(breaker, e);
+				throw e;
+			}
+			guard.recordOutcome(breaker, null);
+		}catch(SQLException e){
+			release(acquired, ConcurrencyLimiter.isOverloadError(e));
+			throw e;
+		}
+		
+		// Keep the connection's statements to the timeout
+		Connection guarded = guard.guard(conn);
+		connections.put(guarded, conn);
+		return guarded;
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public void releaseConnection(Connection connection, boolean broken){
+		Connection conn = connections.remove(connection);
+		if(conn != null){
+			source.releaseConnection(conn, broken);
+			release(limiters, false);
+		}
+	}
+	
+	/**
+	 * Releases the given {@link ConcurrencyLimiter ConcurrencyLimiters}, only adjusting their limits if grabbing the
+	 * connection failed due to overload
+	 *
+	 * @param acquired The {@link ConcurrencyLimiter ConcurrencyLimiters} to release
+	 * @param overloaded Whether grabbing the connection failed in a way that suggests the database is overloaded
+	 */
+	private static void release(List<ConcurrencyLimiter> acquired, boolean overloaded){
+		for(ConcurrencyLimiter limiter: acquired){
+			if(overloaded){
+				limiter.release(0, true);
+			}else{
+				limiter.releaseWithoutSample();
+			}
+		}
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public void evictIdleConnections(){
+		source.evictIdleConnections();
+	}
+	
+	/**
+	 * Does nothing, since the actual {@link ConnectionSource} belongs to whoever made this one
+	 */
+	@Override
+	public void close(){ }
+}
@@ -0,0 +1,118 @@
+package com.github.tadukoo.database.mysql.connection;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Load Balanced Connection Source is a {@link ConnectionSource} that spreads transactions over several other
+ * {@link ConnectionSource ConnectionSources} (e.g. one for each read replica) by taking turns between them. If a
+ * source fails to give a {@link Connection}, the next one is tried, so one replica being down doesn't fail
+ * transactions while others are still up. Each connection is handed back to the source it came from. A source can
+ * be left out when grabbing a connection (see {@link #getConnection(ConnectionSource)}), e.g. so that a hedged read's
+ * duplicate copy doesn't go to the same replica as the slow copy it's hedging.
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.3
+ */
+public class LoadBalancedConnectionSource implements ConnectionSource{
+	/** The {@link ConnectionSource ConnectionSources} to spread transactions over */
+	private final List<ConnectionSource> sources;
+	/** Used to pick which source to try first for the next connection */
+	private final AtomicInteger next = new AtomicInteger();
+	/** The source each connection currently handed out came from */
+	private final Map<Connection, ConnectionSource> sourcesByConnection =
+			Collections.synchronizedMap(new IdentityHashMap<>());
+	
+	/**
+	 * Constructs a new {@link LoadBalancedConnectionSource} over the given {@link ConnectionSource ConnectionSources}
+	 *
+	 * @param sources The {@link ConnectionSource ConnectionSources} to spread transactions over
+	 */
+	public LoadBalancedConnectionSource(List<ConnectionSource> sources){
+		if(sources == null || sources.isEmpty()){
+			throw new IllegalArgumentException("sources must contain at least one ConnectionSource!");
+		}
+		this.sources = List.copyOf(sources);
+	}
+	
+	/**
+	 * @return The {@link ConnectionSource ConnectionSources} to spread transactions over
+	 */
+	public List<ConnectionSource> getSources(){
+		return sources;
+	}
+	
+	/**
+	 * @param connection A {@link Connection} handed out by this source
+	 * @return The {@link ConnectionSource} the connection came from (null if it isn't currently handed out)
+	 */
+	public ConnectionSource getSourceOf(Connection connection){
+		return sourcesByConnection.get(connection);
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public Connection getConnection() throws SQLException{
+		return getConnection(null);
+	}
+	
+	/**
+	 * Grabs a {@link Connection} from any of the sources except the given one, taking turns between them as usual
+	 * 
+	 * @param excluding The {@link ConnectionSource} not to grab the connection from (may be null to allow any)
+	 * @return The {@link Connection} that was grabbed
+	 * @throws SQLException If none of the other sources can give a connection
+	 */
+	public Connection getConnection(ConnectionSource excluding) throws SQLException{
+		int start = Math.floorMod(next.getAndIncrement(), sources.size());
+		SQLException lastError = null;
+		
+		// Take the next source in turn, falling back to the ones after it if it fails
+		for(int i = 0; i < sources.size(); i++){
+			ConnectionSource source = sources.get((start + i) % sources.size());
+			if(source == excluding){
+				continue;
+			}
+			try{
+				Connection conn = source.getConnection();
+				sourcesByConnection.put(conn, source);
+				return conn;
+			}catch(SQLException e){
+				if(lastError != null){
+					e.addSuppressed(lastError);
+				}
+				lastError = e;
+			}
+		}
+		if(lastError == null){
+			throw new SQLException("No ConnectionSource to grab a connection from besides the excluded one");
+		}
+		throw lastError;
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public void releaseConnection(Connection connection, boolean broken){
+		ConnectionSource source = sourcesByConnection.remove(connection);
+		if(source != null){
+			source.releaseConnection(connection, broken);
+		}
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public void evictIdleConnections(){
+		sources.forEach(ConnectionSource::evictIdleConnections);
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public void close(){
+		sources.forEach(ConnectionSource::close);
+	}
+}
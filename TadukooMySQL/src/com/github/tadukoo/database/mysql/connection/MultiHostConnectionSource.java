@@ -0,0 +1,230 @@
+package com.github.tadukoo.database.mysql.connection;
+
+import com.github.tadukoo.database.mysql.breaker.CircuitBreaker;
+import com.github.tadukoo.database.mysql.breaker.CircuitBreakerOpenException;
+import com.github.tadukoo.database.mysql.breaker.CircuitBreakerSettings;
+import com.github.tadukoo.database.mysql.breaker.CircuitState;
+import com.github.tadukoo.database.mysql.retry.SQLExceptionClassifier;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Multi Host Connection Source is a {@link ConnectionSource} over several hosts holding the same database (e.g. a
+ * primary and its standby), with one {@link ConnectionSource} for each host. The {@link HostStrategy} decides which
+ * host to try first, and if a host can't be reached the next one is tried, so new transactions are sent to another
+ * host without restarting anything.
+ * <br><br>
+ * The health of each host is tracked with its own {@link CircuitBreaker}: once a host fails to give a connection due
+ * to a lost or refused connection (see {@link SQLExceptionClassifier#isConnectionError(SQLException)}), it's marked
+ * down and skipped for the retry delay. Other failures (like timing out waiting on a busy connection pool) don't
+ * mark it down. Marking a host down closes the idle connections its source is holding on to, and connections to it
+ * that are handed back while it's down are thrown away. After the retry delay, one transaction is let through to see
+ * if the host is back. If every host is down, they're all tried anyway (in the strategy's order) rather than failing
+ * without trying.
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.3
+ */
+public class MultiHostConnectionSource implements ConnectionSource{
+	/** The default time a host that couldn't be reached is skipped before it's tried again */
+	public static final Duration DEFAULT_RETRY_DELAY = Duration.ofSeconds(30);
+	
+	/** The {@link ConnectionSource ConnectionSources} for each host, in order */
+	private final List<ConnectionSource> sources;
+	/** The {@link HostStrategy} deciding which host to try first */
+	private final HostStrategy strategy;
+	/** How long a host that couldn't be reached is skipped before it's tried again */
+	private final Duration retryDelay;
+	/** The {@link CircuitBreaker CircuitBreakers} tracking the health of each host */
+	private final List<CircuitBreaker> health = new ArrayList<>();
+	/** The index of the host in use (for {@link HostStrategy#SEQUENTIAL}) or whose turn is next */
+	private final AtomicInteger next = new AtomicInteger();
+	/** The index of the host each connection currently handed out came from */
+	private final Map<Connection, Integer> hostsByConnection = Collections.synchronizedMap(new IdentityHashMap<>());
+	
+	/**
+	 * Constructs a new {@link MultiHostConnectionSource} over the given {@link ConnectionSource ConnectionSources},
+	 * using the {@link #DEFAULT_RETRY_DELAY default retry delay}
+	 *
+	 * @param sources The {@link ConnectionSource ConnectionSources} for each host, in order
+	 * @param strategy The {@link HostStrategy} deciding which host to try first
+	 */
+	public MultiHostConnectionSource(List<ConnectionSource> sources, HostStrategy strategy){
+		this(sources, strategy, DEFAULT_RETRY_DELAY);
+	}
+	
+	/**
+	 * Constructs a new {@link MultiHostConnectionSource} over the given {@link ConnectionSource ConnectionSources}
+	 *
+	 * @param sources The {@link ConnectionSource ConnectionSources} for each host, in order
+	 * @param strategy The {@link HostStrategy} deciding which host to try first
+	 * @param retryDelay How long a host that couldn't be reached is skipped before it's tried again
+	 */
+	public MultiHostConnectionSource(List<ConnectionSource> sources, HostStrategy strategy, Duration retryDelay){
+		if(sources == null || sources.isEmpty()){
+			throw new IllegalArgumentException("sources must contain at least one ConnectionSource!");
+		}
+		if(strategy == null){
+			throw new IllegalArgumentException("strategy is required!");
+		}
+		if(retryDelay == null || retryDelay.isNegative()){
+			throw new IllegalArgumentException("retryDelay is required and can't be negative!");
+		}
+		this.sources = List.copyOf(sources);
+		this.strategy = strategy;
+		this.retryDelay = retryDelay;
+		
+		// A single failure marks a host down, and one transaction at a time checks if it's back
+		CircuitBreakerSettings healthSettings = CircuitBreakerSettings.builder()
+				.failureThreshold(1)
+				.openDuration(retryDelay)
+				.halfOpenProbes(1)
+				.build();
+		for(int i = 0; i < this.sources.size(); i++){
+			health.add(new CircuitBreaker(healthSettings));
+		}
+	}
+	
+	/**
+	 * @return The {@link ConnectionSource ConnectionSources} for each host, in order
+	 */
+	public List<ConnectionSource> getSources(){
+		return sources;
+	}
+	
+	/**
+	 * @return The {@link HostStrategy} deciding which host to try first
+	 */
+	public HostStrategy getStrategy(){
+		return strategy;
+	}
+	
+	/**
+	 * @return How long a host that couldn't be reached is skipped before it's tried again
+	 */
+	public Duration getRetryDelay(){
+		return retryDelay;
+	}
+	
+	/**
+	 * @return The {@link CircuitState health} of each host, in order ({@link CircuitState#CLOSED} for a host that's
+	 * up, {@link CircuitState#OPEN} for one that's down, and {@link CircuitState#HALF_OPEN} for one that's due to be
+	 * checked)
+	 */
+	public List<CircuitState> getHostStates(){
+		return health.stream().map(CircuitBreaker::getState).toList();
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public Connection getConnection() throws SQLException{
+		int numHosts = sources.size();
+		int start = switch(strategy){
+			case FAILOVER -> 0;
+			case SEQUENTIAL -> Math.floorMod(next.get(), numHosts);
+			case LOAD_BALANCE -> Math.floorMod(next.getAndIncrement(), numHosts);
+		};
+		List<Integer> downHosts = new ArrayList<>();
+		SQLException lastError = null;
+		
+		// Try the hosts that are up in the strategy's order
+		for(int i = 0; i < numHosts; i++){
+			int host = (start + i) % numHosts;
+			try{
+				health.get(host).acquire();
+			}catch(CircuitBreakerOpenException e){
+				downHosts.add(host);
+				continue;
+			}
+			try{
+				return connect(host);
+			}catch(SQLException e){
+				lastError = addFailure(e, lastError);
+			}
+		}
+		
+		// Fall back to the hosts that are down in case any of them are back
+		for(int host: downHosts){
+			try{
+				return connect(host);
+			}catch(SQLException e){
+				lastError = addFailure(e, lastError);
+			}
+		}
+		throw lastError;
+	}
+	
+	/**
+	 * Grabs a {@link Connection} from the given host and records how it went with the host's health
+	 *
+	 * @param host The index of the host to grab the connection from
+	 * @return The {@link Connection} that was grabbed
+	 * @throws SQLException If the connection can't be grabbed
+	 */
+	private Connection connect(int host) throws SQLException{
+		ConnectionSource source = sources.get(host);
+		CircuitBreaker hostHealth = health.get(host);
+		try{
+			Connection conn = source.getConnection();
+			hostHealth.record(null);
+			hostsByConnection.put(conn, host);
+			if(strategy == HostStrategy.SEQUENTIAL){
+				next.set(host);
+			}
+			return conn;
+		}catch(SQLException e){
+			// Only a lost or refused connection means the host is down (not e.g. waiting too long on its pool), and
+			// then its idle connections are thrown away
+			hostHealth.record(SQLExceptionClassifier.isConnectionError(e)?e:null);
+			if(hostHealth.getState() == CircuitState.OPEN){
+				source.evictIdleConnections();
+			}
+			throw e;
+		}
+	}
+	
+	/**
+	 * Adds the given failure to grab a connection to the failures so far
+	 *
+	 * @param error The failure to grab a connection from a host
+	 * @param lastError The failure from the host tried before it (may be null)
+	 * @return The given failure, with the earlier failure added as a suppressed exception
+	 */
+	private static SQLException addFailure(SQLException error, SQLException lastError){
+		if(lastError != null){
+			error.addSuppressed(lastError);
+		}
+		return error;
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public void releaseConnection(Connection connection, boolean broken){
+		Integer host = hostsByConnection.remove(connection);
+		if(host != null){
+			// Don't keep connections to a host that's down (one that's due to be checked may be back)
+			boolean down = health.get(host).getState() == CircuitState.OPEN;
+			sources.get(host).releaseConnection(connection, broken || down);
+		}
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public void evictIdleConnections(){
+		sources.forEach(ConnectionSource::evictIdleConnections);
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public void close(){
+		sources.forEach(ConnectionSource::close);
+	}
+}
@@ -0,0 +1,271 @@
+package com.github.tadukoo.database.mysql.connection;
+
+import com.github.tadukoo.util.AutoCloseableUtil;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Statement Cache keeps {@link PreparedStatement PreparedStatements} open on a single {@link Connection} so that
+ * running the same SQL again doesn't have to prepare it again. Statements are keyed by their SQL text, and the
+ * least recently used one is closed once the cache is full.
+ * <br><br>
+ * The cache is used through {@link #getConnection()}, which wraps the actual connection so that
+ * {@link Connection#prepareStatement(String)} grabs statements from the cache, and closing one of those statements
+ * hands it back to the cache instead. This means transactions don't need to know about the cache at all. Like the
+ * {@link Connection} itself, this should only be used by one thread at a time.
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.3
+ */
+public class StatementCache implements AutoCloseable{
+	
+	/**
+	 * Cached Statement holds a {@link PreparedStatement} in the cache along with whether it's currently handed out
+	 */
+	private static class CachedStatement{
+		/** The actual {@link PreparedStatement} */
+		private final PreparedStatement statement;
+		/** Whether the statement is currently handed out */
+		private boolean inUse = false;
+		/** Whether the statement has been removed from the cache (and should be closed once handed back) */
+		private boolean evicted = false;
+		
+		/**
+		 * Constructs a new {@link CachedStatement} for the given {@link PreparedStatement}
+		 *
+		 * @param statement The actual {@link PreparedStatement}
+		 */
+		private CachedStatement(PreparedStatement statement){
+			this.statement = statement;
+		}
+	}
+	
+	/** The actual {@link Connection} statements are prepared on */
+	private final Connection connection;
+	/** The maximum number of statements to keep in the cache */
+	private final int maxSize;
+	/** The {@link StatementCacheStats} to record hits, misses, and evictions in */
+	private final StatementCacheStats stats;
+	/** The cached statements by SQL text, least recently used first */
+	private final Map<String, CachedStatement> statements;
+	/** The wrapped {@link Connection} that uses this cache */
+	private final Connection cachingConnection;
+	
+	/**
+	 * Constructs a new {@link StatementCache} for the given {@link Connection}
+	 *
+	 * @param connection The actual {@link Connection} statements are prepared on
+	 * @param maxSize The maximum number of statements to keep in the cache
+	 * @param stats The {@link StatementCacheStats} to record hits, misses, and evictions in
+	 */
+	public StatementCache(Connection connection, int maxSize, StatementCacheStats stats){
+		this.connection = connection;
+		this.maxSize = maxSize;
+		this.stats = stats;
+		this.statements = new LinkedHashMap<>(16, 0.75f, true){
+			/** {@inheritDoc} */
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, CachedStatement> eldest){
+				if(size() <= StatementCache.this.maxSize){
+					return false;
+				}
+				evict(eldest.getValue());
+				return true;
+			}
+		};
+		this.cachingConnection = (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+				new Class<?>[]{Connection.class}, this::invokeOnConnection);
+	}
+	
+	/**
+	 * @return A {@link Connection} that wraps the actual connection and grabs its
+	 * {@link PreparedStatement PreparedStatements} from this cache
+	 */
+	public Connection getConnection(){
+		return cachingConnection;
+	}
+	
+	/**
+	 * @return The maximum number of statements to keep in the cache
+	 */
+	public int getMaxSize(){
+		return maxSize;
+	}
+	
+	/**
+	 * @return The number of statements currently in the cache
+	 */
+	public int size(){
+		return statements.size();
+	}
+	
+	/**
+	 * Grabs a {@link PreparedStatement} for the given SQL from the cache, or prepares a new one and caches it. If the
+	 * cached statement is already handed out (e.g. the same SQL is used twice in one transaction), a separate
+	 * uncached statement is prepared instead.
+	 *
+	 * @param sql The SQL text to prepare
+	 * @return The {@link PreparedStatement} to use (closing it hands it back to the cache)
+	 * @throws SQLException If anything goes wrong in preparing the statement
+	 */
+	public PreparedStatement prepareStatement(String sql) throws SQLException{
+		CachedStatement cached = statements.get(sql);
+		
+		// Throw out the cached statement if the driver closed it on us
+		if(cached != null && !cached.inUse && cached.statement.isClosed()){
+			statements.remove(sql);
+			cached = null;
+		}
+		
+		if(cached == null){
+			// Prepare a new statement and cache it
+			stats.recordMiss();
+			cached = new CachedStatement(connection.prepareStatement(sql));
+			statements.put(sql, cached);
+		}else if(cached.inUse){
+			// Already handed out, so this one won't be cached
+			stats.recordMiss();
+			return connection.prepareStatement(sql);
+		}else{
+			stats.recordHit();
+		}
+		
+		cached.inUse = true;
+		return wrapStatement(sql, cached);
+	}
+	
+	/**
+	 * Closes all the statements in the cache (but not the {@link Connection})
+	 */
+	@Override
+	public void close(){
+		List<CachedStatement> toClose = new ArrayList<>(statements.values());
+		statements.clear();
+		for(CachedStatement cached: toClose){
+			cached.evicted = true;
+			if(!cached.inUse){
+				AutoCloseableUtil.closeQuietly(cached.statement);
+			}
+		}
+	}
+	
+	/**
+	 * Handles a statement being pushed out of the cache, closing it unless it's still handed out
+	 *
+	 * @param cached The {@link CachedStatement} that was pushed out
+	 */
+	private void evict(CachedStatement cached){
+		stats.recordEviction();
+		cached.evicted = true;
+		if(!cached.inUse){
+			AutoCloseableUtil.closeQuietly(cached.statement);
+		}
+	}
+	
+	/**
+	 * Handles a cached statement being closed by whoever it was handed out to. The statement is reset for the next
+	 * user (clearing its parameters, any batch that was never executed, and its query timeout), or closed for real
+	 * if it was pushed out of the cache in the meantime (or can't be reset).
+	 *
+	 * @param sql The SQL text of the statement
+	 * @param cached The {@link CachedStatement} being handed back
+	 */
+	private void release(String sql, CachedStatement cached){
+		cached.inUse = false;
+		if(!cached.evicted){
+			try{
+				cached.statement.clearParameters();
+				// Don't let rows batched by a transaction that failed before executing them be sent by the next one
+				cached.statement.clearBatch();
+				// Don't let one transaction's query timeout carry over to the next
+				if(cached.statement.getQueryTimeout() != 0){
+					cached.statement.setQueryTimeout(0);
+				}
+				return;
+			}catch(SQLException e){
+				statements.remove(sql, cached);
+			}
+		}
+		AutoCloseableUtil.closeQuietly(cached.statement);
+	}
+	
+	/**
+	 * Wraps the given cached statement so that closing it hands it back to the cache
+	 *
+	 * @param sql The SQL text of the statement
+	 * @param cached The {@link CachedStatement} to wrap
+	 * @return The wrapped {@link PreparedStatement}
+	 */
+	private PreparedStatement wrapStatement(String sql, CachedStatement cached){
+		boolean[] closed = new boolean[]{false};
+		return (PreparedStatement) Proxy.newProxyInstance(PreparedStatement.class.getClassLoader(),
+				new Class<?>[]{PreparedStatement.class}, (proxy, method, args) -> switch(method.getName()){
+					case "close" -> {
+						if(!closed[0]){
+							closed[0] = true;
+							release(sql, cached);
+						}
+						yield null;
+					}
+					case "isClosed" -> closed[0];
+					case "getConnection" -> cachingConnection;
+					case "hashCode" -> System.identityHashCode(proxy);
+					case "equals" -> proxy == args[0];
+					default -> {
+						if(closed[0]){
+							throw new SQLException("Statement is closed");
+						}
+						yield invoke(cached.statement, method, args);
+					}
+				});
+	}
+	
+	/**
+	 * Handles a method call on the {@link #getConnection() caching connection}
+	 *
+	 * @param proxy The caching connection
+	 * @param method The method that was called
+	 * @param args The arguments to the method
+	 * @return The result of the method
+	 * @throws Throwable Whatever the actual connection throws
+	 */
+	private Object invokeOnConnection(Object proxy, Method method, Object[] args) throws Throwable{
+		return switch(method.getName()){
+			case "prepareStatement" -> args.length == 1?prepareStatement((String) args[0]):
+					invoke(connection, method, args);
+			case "close" -> {
+				close();
+				yield invoke(connection, method, args);
+			}
+			case "hashCode" -> System.identityHashCode(proxy);
+			case "equals" -> proxy == args[0];
+			default -> invoke(connection, method, args);
+		};
+	}
+	
+	/**
+	 * Calls the given method on the given target, unwrapping any exception it throws
+	 *
+	 * @param target The object to call the method on
+	 * @param method The method to call
+	 * @param args The arguments to the method
+	 * @return The result of the method
+	 * @throws Throwable Whatever the method throws
+	 */
+	private static Object invoke(Object target, Method method, Object[] args) throws Throwable{
+		try{
+			return method.invoke(target, args);
+		}catch(InvocationTargetException e){
+			throw e.getCause();
+		}
+	}
+}
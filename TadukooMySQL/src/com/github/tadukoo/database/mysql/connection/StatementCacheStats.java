@@ -0,0 +1,61 @@
+package com.github.tadukoo.database.mysql.connection;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Statement Cache Stats keeps track of how well {@link StatementCache StatementCaches} are doing. A single
+ * instance is shared by all the caches in a {@link ConnectionPool} so the numbers cover the whole pool.
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.3
+ */
+public class StatementCacheStats{
+	/** The number of times a statement was found in the cache */
+	private final LongAdder hits = new LongAdder();
+	/** The number of times a statement had to be prepared */
+	private final LongAdder misses = new LongAdder();
+	/** The number of statements removed from the cache to make room for others */
+	private final LongAdder evictions = new LongAdder();
+	
+	/**
+	 * Records that a statement was found in the cache
+	 */
+	public void recordHit(){
+		hits.increment();
+	}
+	
+	/**
+	 * Records that a statement had to be prepared
+	 */
+	public void recordMiss(){
+		misses.increment();
+	}
+	
+	/**
+	 * Records that a statement was removed from the cache to make room for others
+	 */
+	public void recordEviction(){
+		evictions.increment();
+	}
+	
+	/**
+	 * @return The number of times a statement was found in the cache
+	 */
+	public long getHits(){
+		return hits.sum();
+	}
+	
+	/**
+	 * @return The number of times a statement had to be prepared
+	 */
+	public long getMisses(){
+		return misses.sum();
+	}
+	
+	/**
+	 * @return The number of statements removed from the cache to make room for others
+	 */
+	public long getEvictions(){
+		return evictions.sum();
+	}
+}
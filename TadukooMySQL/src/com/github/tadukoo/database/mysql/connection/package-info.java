@@ -0,0 +1,5 @@
+/**
+ * Contains {@link com.github.tadukoo.database.mysql.connection.ConnectionSource ConnectionSource} and its
+ * implementations, used by a {@link com.github.tadukoo.database.mysql.Database Database} to obtain connections
+ */
+package com.github.tadukoo.database.mysql.connection;
\ No newline at end of file
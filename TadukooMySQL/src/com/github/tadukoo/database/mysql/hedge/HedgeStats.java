@@ -0,0 +1,70 @@
+package com.github.tadukoo.database.mysql.hedge;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Hedge Stats keeps track of how often a {@link ReadHedger} sends duplicate copies of reads (hedges), and how often
+ * those copies finish first
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.3
+ */
+public class HedgeStats{
+	/** The number of reads run */
+	private final LongAdder reads = new LongAdder();
+	/** The number of duplicate copies of reads sent */
+	private final LongAdder hedges = new LongAdder();
+	/** The number of duplicate copies that finished before the original read */
+	private final LongAdder hedgeWins = new LongAdder();
+	
+	/**
+	 * Records that a read was run
+	 */
+	public void recordRead(){
+		reads.increment();
+	}
+	
+	/**
+	 * Records that a duplicate copy of a read was sent
+	 */
+	public void recordHedge(){
+		hedges.increment();
+	}
+	
+	/**
+	 * Records that a duplicate copy of a read finished before the original read
+	 */
+	public void recordHedgeWin(){
+		hedgeWins.increment();
+	}
+	
+	/**
+	 * @return The number of reads run
+	 */
+	public long getReads(){
+		return reads.sum();
+	}
+	
+	/**
+	 * @return The number of duplicate copies of reads sent
+	 */
+	public long getHedges(){
+		return hedges.sum();
+	}
+	
+	/**
+	 * @return The number of duplicate copies that finished before the original read
+	 */
+	public long getHedgeWins(){
+		return hedgeWins.sum();
+	}
+	
+	/**
+	 * @return The fraction of reads that had a duplicate copy sent (0 if no reads have been run), i.e. the extra
+	 * load hedging puts on the read replicas
+	 */
+	public double getHedgeRate(){
+		long numReads = getReads();
+		return numReads == 0?0:(double) getHedges() / numReads;
+	}
+}
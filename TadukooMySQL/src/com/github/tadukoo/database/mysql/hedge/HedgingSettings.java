@@ -0,0 +1,210 @@
+package com.github.tadukoo.database.mysql.hedge;
+
+import com.github.tadukoo.util.StringUtil;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Hedging Settings holds the settings used to configure a {@link ReadHedger}
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.3
+ */
+public class HedgingSettings{
+	
+	/**
+	 * A builder used to build {@link HedgingSettings}. It takes the following parameters:
+	 *
+	 * <table>
+	 *     <caption>Hedging Settings Parameters</caption>
+	 *     <tr>
+	 *         <th>Parameter</th>
+	 *         <th>Description</th>
+	 *         <th>Default or Required</th>
+	 *     </tr>
+	 *     <tr>
+	 *         <td>percentile</td>
+	 *         <td>The percentile of recent read latencies to wait for before sending a duplicate copy of a read
+	 *         (e.g. 0.95 to hedge about the slowest 5% of reads)</td>
+	 *         <td>Defaults to 0.95</td>
+	 *     </tr>
+	 *     <tr>
+	 *         <td>sampleSize</td>
+	 *         <td>The number of recent read latencies the percentile is taken from</td>
+	 *         <td>Defaults to 1000</td>
+	 *     </tr>
+	 *     <tr>
+	 *         <td>minSamples</td>
+	 *         <td>The number of read latencies needed before the percentile is used (the initial delay is used
+	 *         until then)</td>
+	 *         <td>Defaults to 20</td>
+	 *     </tr>
+	 *     <tr>
+	 *         <td>initialDelay</td>
+	 *         <td>How long to wait before sending a duplicate copy of a read until there are enough latencies to
+	 *         take the percentile from</td>
+	 *         <td>Defaults to 50 milliseconds</td>
+	 *     </tr>
+	 * </table>
+	 *
+	 * @author Logan Ferree (Tadukoo)
+	 * @version Alpha v.0.3
+	 */
+	public static class HedgingSettingsBuilder{
+		/** The percentile of recent read latencies to wait for before sending a duplicate copy of a read */
+		private double percentile = 0.95;
+		/** The number of recent read latencies the percentile is taken from */
+		private int sampleSize = 1000;
+		/** The number of read latencies needed before the percentile is used */
+		private int minSamples = 20;
+		/** How long to wait before sending a duplicate copy of a read until the percentile is used */
+		private Duration initialDelay = Duration.ofMillis(50);
+		
+		/** Not allowed to instantiate outside {@link HedgingSettings} */
+		private HedgingSettingsBuilder(){ }
+		
+		/**
+		 * @param percentile The percentile of recent read latencies to wait for before sending a duplicate copy of
+		 * a read (e.g. 0.95 to hedge about the slowest 5% of reads)
+		 * @return this, to continue building
+		 */
+		public HedgingSettingsBuilder percentile(double percentile){
+			this.percentile = percentile;
+			return this;
+		}
+		
+		/**
+		 * @param sampleSize The number of recent read latencies the percentile is taken from
+		 * @return this, to continue building
+		 */
+		public HedgingSettingsBuilder sampleSize(int sampleSize){
+			this.sampleSize = sampleSize;
+			return this;
+		}
+		
+		/**
+		 * @param minSamples The number of read latencies needed before the percentile is used (the initial delay is
+		 * used until then)
+		 * @return this, to continue building
+		 */
+		public HedgingSettingsBuilder minSamples(int minSamples){
+			this.minSamples = minSamples;
+			return this;
+		}
+		
+		/**
+		 * @param initialDelay How long to wait before sending a duplicate copy of a read until there are enough
+		 * latencies to take the percentile from
+		 * @return this, to continue building
+		 */
+		public HedgingSettingsBuilder initialDelay(Duration initialDelay){
+			this.initialDelay = initialDelay;
+			return this;
+		}
+		
+		/**
+		 * Checks for any errors in the set parameters and throws an IllegalArgumentException if any are found
+		 */
+		private void checkForErrors(){
+			List<String> errors = new ArrayList<>();
+			
+			// percentile must be an actual percentile
+			if(!(percentile > 0 && percentile < 1)){
+				errors.add("percentile must be between 0 and 1!");
+			}
+			
+			// The sample counts must be positive and in order
+			if(sampleSize < 1){
+				errors.add("sampleSize must be at least 1!");
+			}
+			if(minSamples < 1 || minSamples > sampleSize){
+				errors.add("minSamples must be between 1 and sampleSize!");
+			}
+			
+			// initialDelay is required
+			if(initialDelay == null || initialDelay.isNegative()){
+				errors.add("initialDelay is required and can't be negative!");
+			}
+			
+			// Report any errors
+			if(!errors.isEmpty()){
+				throw new IllegalArgumentException("Encountered errors in building HedgingSettings: \n" +
+						StringUtil.buildStringWithNewLines(errors));
+			}
+		}
+		
+		/**
+		 * Builds new {@link HedgingSettings} using the set parameters after checking for errors
+		 *
+		 * @return The newly built {@link HedgingSettings}
+		 */
+		public HedgingSettings build(){
+			checkForErrors();
+			
+			return new HedgingSettings(percentile, sampleSize, minSamples, initialDelay);
+		}
+	}
+	
+	/** The percentile of recent read latencies to wait for before sending a duplicate copy of a read */
+	private final double percentile;
+	/** The number of recent read latencies the percentile is taken from */
+	private final int sampleSize;
+	/** The number of read latencies needed before the percentile is used */
+	private final int minSamples;
+	/** How long to wait before sending a duplicate copy of a read until the percentile is used */
+	private final Duration initialDelay;
+	
+	/**
+	 * Constructs new {@link HedgingSettings} using the given parameters
+	 *
+	 * @param percentile The percentile of recent read latencies to wait for before sending a duplicate copy of a
+	 * read
+	 * @param sampleSize The number of recent read latencies the percentile is taken from
+	 * @param minSamples The number of read latencies needed before the percentile is used
+	 * @param initialDelay How long to wait before sending a duplicate copy of a read until the percentile is used
+	 */
+	private HedgingSettings(double percentile, int sampleSize, int minSamples, Duration initialDelay){
+		this.percentile = percentile;
+		this.sampleSize = sampleSize;
+		this.minSamples = minSamples;
+		this.initialDelay = initialDelay;
+	}
+	
+	/**
+	 * @return A new {@link HedgingSettingsBuilder builder} to use to build {@link HedgingSettings}
+	 */
+	public static HedgingSettingsBuilder builder(){
+		return new HedgingSettingsBuilder();
+	}
+	
+	/**
+	 * @return The percentile of recent read latencies to wait for before sending a duplicate copy of a read
+	 */
+	public double getPercentile(){
+		return percentile;
+	}
+	
+	/**
+	 * @return The number of recent read latencies the percentile is taken from
+	 */
+	public int getSampleSize(){
+		return sampleSize;
+	}
+	
+	/**
+	 * @return The number of read latencies needed before the percentile is used
+	 */
+	public int getMinSamples(){
+		return minSamples;
+	}
+	
+	/**
+	 * @return How long to wait before sending a duplicate copy of a read until there are enough latencies to take
+	 * the percentile from
+	 */
+	public Duration getInitialDelay(){
+		return initialDelay;
+	}
+}
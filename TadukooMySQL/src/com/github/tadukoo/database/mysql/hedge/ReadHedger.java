@@ -0,0 +1,241 @@
+package com.github.tadukoo.database.mysql.hedge;
+
+import com.github.tadukoo.database.mysql.transaction.TransactionGuard;
+import com.github.tadukoo.util.functional.function.ThrowingFunction;
+
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Read Hedger cuts the tail latency of reads by hedging them: if a read hasn't finished within the hedge delay, a
+ * duplicate copy is sent (e.g. to another read replica) and whichever copy finishes first wins, with the other one
+ * cancelled. The duplicate copy runs under a guard that knows which copy it's hedging (see
+ * {@link TransactionGuard#getHedgeOf()}), so that it can be sent somewhere other than the slow copy. It is configured
+ * using {@link HedgingSettings}.
+ * <br><br>
+ * The hedge delay is a percentile of how long recent reads took (so with the 95th percentile, about the slowest 5%
+ * of reads are hedged), with an initial delay used until enough reads have been seen. Both copies run on the given
+ * {@link Executor}, which needs room for two tasks per read on top of the caller (the default virtual thread
+ * executor always has). How often reads are hedged is kept in the {@link HedgeStats}.
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.3
+ */
+public class ReadHedger{
+	
+	/** The {@link HedgingSettings settings} for this hedger */
+	private final HedgingSettings settings;
+	/** The {@link Executor} to run the copies of reads on */
+	private final Executor executor;
+	/** The {@link HedgeStats} keeping track of how often reads are hedged */
+	private final HedgeStats stats = new HedgeStats();
+	/** The most recent read latencies (in nanoseconds), used as a ring buffer (guarded by synchronizing on this) */
+	private final long[] latencies;
+	/** The number of read latencies recorded */
+	private long numLatencies = 0;
+	/** The hedge delay (in nanoseconds) as of the last time it was worked out */
+	private long hedgeDelay;
+	/** The number of read latencies recorded when the hedge delay was last worked out */
+	private long hedgeDelayUpdatedAt = 0;
+	
+	/**
+	 * Constructs a new {@link ReadHedger} with the given settings, starting with the initial delay
+	 *
+	 * @param settings The {@link HedgingSettings settings} for this hedger
+	 * @param executor The {@link Executor} to run the copies of reads on
+	 */
+	public ReadHedger(HedgingSettings settings, Executor executor){
+		this.settings = settings;
+		this.executor = executor;
+		this.latencies = new long[settings.getSampleSize()];
+		this.hedgeDelay = settings.getInitialDelay().toNanos();
+	}
+	
+	/**
+	 * @return The {@link HedgingSettings settings} for this hedger
+	 */
+	public HedgingSettings getSettings(){
+		return settings;
+	}
+	
+	/**
+	 * @return The {@link HedgeStats} keeping track of how often reads are hedged
+	 */
+	public HedgeStats getStats(){
+		return stats;
+	}
+	
+	/**
+	 * @return The number of read latencies recorded
+	 */
+	public synchronized long getNumLatencies(){
+		return numLatencies;
+	}
+	
+	/**
+	 * Records how long a read took, to be used in working out the hedge delay
+	 *
+	 * @param latencyNanos How long the read took (in nanoseconds)
+	 */
+	public synchronized void recordLatency(long latencyNanos){
+		latencies[(int) (numLatencies % latencies.length)] = latencyNanos;
+		numLatencies++;
+	}
+	
+	/**
+	 * @return How long to wait for a read before sending a duplicate copy of it: the percentile of recent read
+	 * latencies, or the initial delay if there haven't been enough reads yet
+	 */
+	public synchronized Duration getHedgeDelay(){
+		// Sorting the latencies on every read would be wasteful, so only work it out again once 1% of them are new
+		if(numLatencies >= settings.getMinSamples() &&
+				numLatencies - hedgeDelayUpdatedAt >= Math.max(1, latencies.length / 100)){
+			long[] sorted = Arrays.copyOf(latencies, (int) Math.min(numLatencies, latencies.length));
+			Arrays.sort(sorted);
+			int index = (int) Math.ceil(settings.getPercentile() * sorted.length) - 1;
+			hedgeDelay = sorted[Math.max(0, index)];
+			hedgeDelayUpdatedAt = numLatencies;
+		}
+		return Duration.ofNanos(hedgeDelay);
+	}
+	
+	/**
+	 * Runs a read, hedging it if it takes longer than the {@link #getHedgeDelay() hedge delay}. Each copy of the
+	 * read runs under its own {@link TransactionGuard#fork() fork} of the given guard, so the copy that loses can
+	 * be cancelled (and cancelling the given guard cancels both). If both copies fail, the original's failure is
+	 * thrown, with the duplicate's added as a suppressed exception.
+	 *
+	 * @param <ResultType> The type of result returned by the read
+	 * @param guard The {@link TransactionGuard} for the read
+	 * @param run The function used to run one copy of the read under the given guard
+	 * @return The result of whichever copy of the read finished first
+	 * @throws SQLException If the read fails or if interrupted while waiting
+	 */
+	public <ResultType> ResultType execute(
+			TransactionGuard guard, ThrowingFunction<TransactionGuard, ResultType, SQLException> run)
+			throws SQLException{
+		stats.recordRead();
+		Duration delay = getHedgeDelay();
+		long start = System.nanoTime();
+		
+		// Send the read, keeping track of how long it takes when it works (only once, since it may still finish
+		// after losing to the hedge)
+		TransactionGuard originalGuard = guard.fork();
+		CompletableFuture<ResultType> original = start(run, originalGuard);
+		AtomicBoolean originalRecorded = new AtomicBoolean(false);
+		Runnable recordOriginal = () -> {
+			if(originalRecorded.compareAndSet(false, true)){
+				recordLatency(System.nanoTime() - start);
+			}
+		};
+		original.thenRun(recordOriginal);
+		
+		// Wait up to the hedge delay for it
+		try{
+			return original.get(delay.toNanos(), TimeUnit.NANOSECONDS);
+		}catch(TimeoutException e){
+			// Hedge it below
+		}catch(InterruptedException e){
+			originalGuard.cancel();
+			Thread.currentThread().interrupt();
+			throw new SQLException("Interrupted while waiting for read", e);
+		}catch(ExecutionException e){
+			throw asSQLException(e.getCause());
+		}
+		
+		// Send a duplicate copy, and take whichever finishes first (cancelling the other)
+		stats.recordHedge();
+		TransactionGuard hedgeGuard = guard.forkHedge(originalGuard);
+		CompletableFuture<ResultType> hedge = start(run, hedgeGuard);
+		CompletableFuture<CompletableFuture<ResultType>> winner = new CompletableFuture<>();
+		original.thenRun(() -> winner.complete(original));
+		hedge.thenRun(() -> winner.complete(hedge));
+		
+		// Fail if both copies fail
+		CompletableFuture.allOf(original, hedge).whenComplete((ignored, error) -> {
+			if(!winner.isDone()){
+				SQLException failure = asSQLException(failureOf(original));
+				failure.addSuppressed(failureOf(hedge));
+				winner.completeExceptionally(failure);
+			}
+		});
+		
+		try{
+			CompletableFuture<ResultType> won = winner.get();
+			if(won == original){
+				hedgeGuard.cancel();
+			}else{
+				stats.recordHedgeWin();
+				originalGuard.cancel();
+				
+				// The original took at least this long
+				recordOriginal.run();
+			}
+			return won.join();
+		}catch(InterruptedException e){
+			originalGuard.cancel();
+			hedgeGuard.cancel();
+			Thread.currentThread().interrupt();
+			throw new SQLException("Interrupted while waiting for read", e);
+		}catch(ExecutionException e){
+			throw asSQLException(e.getCause());
+		}
+	}
+	
+	/**
+	 * Starts a copy of a read on the {@link #executor}
+	 *
+	 * @param <ResultType> The type of result returned by the read
+	 * @param run The function used to run one copy of the read under the given guard
+	 * @param guard The {@link TransactionGuard} for this copy of the read
+	 * @return A {@link CompletableFuture} for the result of this copy of the read
+	 */
+	private <ResultType> CompletableFuture<ResultType> start(
+			ThrowingFunction<TransactionGuard, ResultType, SQLException> run, TransactionGuard guard){
+		CompletableFuture<ResultType> future = new CompletableFuture<>();
+		try{
+			executor.execute(() -> {
+				try{
+					future.complete(run.apply(guard));
+				}catch(SQLException | RuntimeException e){
+					future.completeExceptionally(e);
+				}
+			});
+		}catch(RejectedExecutionException e){
+			future.completeExceptionally(e);
+		}
+		return future;
+	}
+	
+	/**
+	 * @param future A {@link CompletableFuture} that's known to have failed
+	 * @return What the future failed with
+	 */
+	private static Throwable failureOf(CompletableFuture<?> future){
+		try{
+			future.join();
+			throw new IllegalStateException("Expected the future to have failed");
+		}catch(CompletionException e){
+			return e.getCause();
+		}
+	}
+	
+	/**
+	 * Converts the given failure of a read to a {@link SQLException} to be thrown
+	 *
+	 * @param error The failure of a read
+	 * @return The failure itself if it's a {@link SQLException}, otherwise a {@link SQLException} caused by it
+	 */
+	private static SQLException asSQLException(Throwable error){
+		return error instanceof SQLException sqlError?sqlError:new SQLException(error.getMessage(), error);
+	}
+}
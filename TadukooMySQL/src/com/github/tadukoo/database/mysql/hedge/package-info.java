@@ -0,0 +1,5 @@
+/**
+ * Contains {@link com.github.tadukoo.database.mysql.hedge.ReadHedger ReadHedger} and related classes used to cut
+ * the tail latency of reads by sending a duplicate copy to another read replica when one is slow
+ */
+package com.github.tadukoo.database.mysql.hedge;
\ No newline at end of file
@@ -0,0 +1,23 @@
+package com.github.tadukoo.database.mysql.limit;
+
+import java.sql.SQLTransientException;
+
+/**
+ * Concurrency Limit Exceeded Exception is thrown by a {@link ConcurrencyLimiter} when a transaction isn't let in,
+ * either because too many transactions are already waiting or because it waited too long. The transaction was never
+ * started, so it's safe to try it again later.
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.3
+ */
+public class ConcurrencyLimitExceededException extends SQLTransientException{
+	
+	/**
+	 * Constructs a new {@link ConcurrencyLimitExceededException} with the given message
+	 *
+	 * @param message The message explaining why the transaction wasn't let in
+	 */
+	public ConcurrencyLimitExceededException(String message){
+		super(message);
+	}
+}
@@ -0,0 +1,189 @@
+package com.github.tadukoo.database.mysql.limit;
+
+import com.github.tadukoo.database.mysql.retry.SQLExceptionClassifier;
+
+import java.sql.SQLException;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Concurrency Limiter caps the number of transactions in flight at once, using a limit that adapts to how the
+ * database is coping. It is configured using {@link ConcurrencyLimiterSettings}.
+ * <br><br>
+ * The limit follows AIMD (additive increase, multiplicative decrease): each transaction that finishes quickly while
+ * the limit is at least half used grows the limit by {@code 1 / limit} (so about 1 per limit's worth of
+ * transactions), and each transaction that's slower than the slow latency or fails due to overload (see
+ * {@link #isOverloadError(SQLException)}) multiplies the limit by the backoff ratio. When the database slows down,
+ * fewer transactions are let in instead of more piling on.
+ * <br><br>
+ * Transactions over the limit wait in a queue (first come, first served) for up to the queue timeout. If the queue
+ * is full or the wait times out, a {@link ConcurrencyLimitExceededException} is thrown.
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.3
+ */
+public class ConcurrencyLimiter{
+	
+	/** The {@link ConcurrencyLimiterSettings settings} for this limiter */
+	private final ConcurrencyLimiterSettings settings;
+	/** The lock guarding the state of the limiter */
+	private final ReentrantLock lock = new ReentrantLock();
+	/** Signalled whenever a transaction finishes or the limit changes */
+	private final Condition permitAvailable = lock.newCondition();
+	/** The current limit (kept fractional so it can grow by less than 1 at a time) */
+	private double limit;
+	/** The number of transactions currently in flight */
+	private int inFlight = 0;
+	/** The number of transactions waiting to be let in */
+	private int waiting = 0;
+	
+	/**
+	 * Constructs a new {@link ConcurrencyLimiter} with the given settings, starting at the initial limit
+	 *
+	 * @param settings The {@link ConcurrencyLimiterSettings settings} for this limiter
+	 */
+	public ConcurrencyLimiter(ConcurrencyLimiterSettings settings){
+		this.settings = settings;
+		this.limit = settings.getInitialLimit();
+	}
+	
+	/**
+	 * @return The {@link ConcurrencyLimiterSettings settings} for this limiter
+	 */
+	public ConcurrencyLimiterSettings getSettings(){
+		return settings;
+	}
+	
+	/**
+	 * @return The number of transactions currently allowed in flight at once
+	 */
+	public int getLimit(){
+		lock.lock();
+		try{
+			return (int) limit;
+		}finally{
+			lock.unlock();
+		}
+	}
+	
+	/**
+	 * @return The number of transactions currently in flight
+	 */
+	public int getInFlight(){
+		lock.lock();
+		try{
+			return inFlight;
+		}finally{
+			lock.unlock();
+		}
+	}
+	
+	/**
+	 * @return The number of transactions waiting to be let in
+	 */
+	public int getQueueDepth(){
+		lock.lock();
+		try{
+			return waiting;
+		}finally{
+			lock.unlock();
+		}
+	}
+	
+	/**
+	 * Waits until a transaction can be let in under the limit. Every successful call must be followed by a call to
+	 * {@link #release(long, boolean)} (or {@link #releaseWithoutSample()}) once the transaction is done.
+	 *
+	 * @throws ConcurrencyLimitExceededException If the queue is full or the wait times out
+	 * @throws SQLException If interrupted while waiting
+	 */
+	public void acquire() throws SQLException{
+		lock.lock();
+		try{
+			// Go right in if there's room and nobody's ahead in line
+			if(waiting == 0 && inFlight < (int) limit){
+				inFlight++;
+				return;
+			}
+			
+			// Reject right away if the queue is full
+			if(waiting >= settings.getMaxQueueSize()){
+				throw new ConcurrencyLimitExceededException("Rejected transaction: " + waiting +
+						" transactions are already waiting on the concurrency limit of " + (int) limit);
+			}
+			
+			// Wait in line for room under the limit
+			waiting++;
+			try{
+				long remaining = settings.getQueueTimeout().toNanos();
+				while(inFlight >= (int) limit){
+					if(remaining <= 0){
+						throw new ConcurrencyLimitExceededException("Timed out waiting on the concurrency limit " +
+								"after " + settings.getQueueTimeout().toMillis() + " ms");
+					}
+					remaining = permitAvailable.awaitNanos(remaining);
+				}
+				inFlight++;
+			}catch(InterruptedException e){
+				Thread.currentThread().interrupt();
+				throw new SQLException("Interrupted while waiting on the concurrency limit", e);
+			}finally{
+				waiting--;
+			}
+		}finally{
+			lock.unlock();
+		}
+	}
+	
+	/**
+	 * Marks a transaction let in by {@link #acquire()} as done, and adjusts the limit based on how it went
+	 *
+	 * @param latencyNanos How long the transaction took (in nanoseconds)
+	 * @param overloaded Whether the transaction failed in a way that suggests the database is overloaded
+	 */
+	public void release(long latencyNanos, boolean overloaded){
+		lock.lock();
+		try{
+			int inFlightBefore = inFlight;
+			inFlight--;
+			
+			if(overloaded || latencyNanos > settings.getSlowLatency().toNanos()){
+				// Back off
+				limit = Math.max(settings.getMinLimit(), limit * settings.getBackoffRatio());
+			}else if(inFlightBefore * 2 >= limit){
+				// Only grow the limit if it's actually being used
+				limit = Math.min(settings.getMaxLimit(), limit + 1 / limit);
+			}
+			
+			permitAvailable.signalAll();
+		}finally{
+			lock.unlock();
+		}
+	}
+	
+	/**
+	 * Marks a transaction let in by {@link #acquire()} as done without adjusting the limit, for when how long it took
+	 * says nothing about how the database is coping (e.g. a connection held for as long as its caller wanted)
+	 */
+	public void releaseWithoutSample(){
+		lock.lock();
+		try{
+			inFlight--;
+			permitAvailable.signalAll();
+		}finally{
+			lock.unlock();
+		}
+	}
+	
+	/**
+	 * Checks if the given {@link SQLException} suggests the database is overloaded: lock contention, a lost or
+	 * refused connection, or a timeout (e.g. waiting on a connection from the pool)
+	 *
+	 * @param e The {@link SQLException} to check
+	 * @return Whether the exception is a sign of overload
+	 */
+	public static boolean isOverloadError(SQLException e){
+		return SQLExceptionClassifier.isLockContentionError(e) || SQLExceptionClassifier.isConnectionError(e) ||
+				SQLExceptionClassifier.isTimeoutError(e);
+	}
+}
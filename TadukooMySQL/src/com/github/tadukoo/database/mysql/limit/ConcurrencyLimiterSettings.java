@@ -0,0 +1,300 @@
+package com.github.tadukoo.database.mysql.limit;
+
+import com.github.tadukoo.util.StringUtil;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Concurrency Limiter Settings holds the settings used to configure a {@link ConcurrencyLimiter}
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.3
+ */
+public class ConcurrencyLimiterSettings{
+	
+	/**
+	 * A builder used to build {@link ConcurrencyLimiterSettings}. It takes the following parameters:
+	 *
+	 * <table>
+	 *     <caption>Concurrency Limiter Settings Parameters</caption>
+	 *     <tr>
+	 *         <th>Parameter</th>
+	 *         <th>Description</th>
+	 *         <th>Default or Required</th>
+	 *     </tr>
+	 *     <tr>
+	 *         <td>initialLimit</td>
+	 *         <td>The number of transactions allowed in flight at once to start with</td>
+	 *         <td>Defaults to 20</td>
+	 *     </tr>
+	 *     <tr>
+	 *         <td>minLimit</td>
+	 *         <td>The lowest the limit can shrink to</td>
+	 *         <td>Defaults to 1</td>
+	 *     </tr>
+	 *     <tr>
+	 *         <td>maxLimit</td>
+	 *         <td>The highest the limit can grow to</td>
+	 *         <td>Defaults to 200</td>
+	 *     </tr>
+	 *     <tr>
+	 *         <td>backoffRatio</td>
+	 *         <td>What the limit is multiplied by when a transaction is slow or fails due to overload</td>
+	 *         <td>Defaults to 0.9</td>
+	 *     </tr>
+	 *     <tr>
+	 *         <td>slowLatency</td>
+	 *         <td>How long a transaction can take before it's treated as a sign of overload</td>
+	 *         <td>Defaults to 1 second</td>
+	 *     </tr>
+	 *     <tr>
+	 *         <td>maxQueueSize</td>
+	 *         <td>The most transactions that can wait to be let in when the limit is reached (0 to reject them
+	 *         right away)</td>
+	 *         <td>Defaults to 100</td>
+	 *     </tr>
+	 *     <tr>
+	 *         <td>queueTimeout</td>
+	 *         <td>How long a transaction can wait to be let in before it's rejected</td>
+	 *         <td>Defaults to 5 seconds</td>
+	 *     </tr>
+	 * </table>
+	 *
+	 * @author Logan Ferree (Tadukoo)
+	 * @version Alpha v.0.3
+	 */
+	public static class ConcurrencyLimiterSettingsBuilder{
+		/** The number of transactions allowed in flight at once to start with */
+		private int initialLimit = 20;
+		/** The lowest the limit can shrink to */
+		private int minLimit = 1;
+		/** The highest the limit can grow to */
+		private int maxLimit = 200;
+		/** What the limit is multiplied by when a transaction is slow or fails due to overload */
+		private double backoffRatio = 0.9;
+		/** How long a transaction can take before it's treated as a sign of overload */
+		private Duration slowLatency = Duration.ofSeconds(1);
+		/** The most transactions that can wait to be let in when the limit is reached */
+		private int maxQueueSize = 100;
+		/** How long a transaction can wait to be let in before it's rejected */
+		private Duration queueTimeout = Duration.ofSeconds(5);
+		
+		/** Not allowed to instantiate outside {@link ConcurrencyLimiterSettings} */
+		private ConcurrencyLimiterSettingsBuilder(){ }
+		
+		/**
+		 * @param initialLimit The number of transactions allowed in flight at once to start with
+		 * @return this, to continue building
+		 */
+		public ConcurrencyLimiterSettingsBuilder initialLimit(int initialLimit){
+			this.initialLimit = initialLimit;
+			return this;
+		}
+		
+		/**
+		 * @param minLimit The lowest the limit can shrink to
+		 * @return this, to continue building
+		 */
+		public ConcurrencyLimiterSettingsBuilder minLimit(int minLimit){
+			this.minLimit = minLimit;
+			return this;
+		}
+		
+		/**
+		 * @param maxLimit The highest the limit can grow to
+		 * @return this, to continue building
+		 */
+		public ConcurrencyLimiterSettingsBuilder maxLimit(int maxLimit){
+			this.maxLimit = maxLimit;
+			return this;
+		}
+		
+		/**
+		 * @param backoffRatio What the limit is multiplied by when a transaction is slow or fails due to overload
+		 * @return this, to continue building
+		 */
+		public ConcurrencyLimiterSettingsBuilder backoffRatio(double backoffRatio){
+			this.backoffRatio = backoffRatio;
+			return this;
+		}
+		
+		/**
+		 * @param slowLatency How long a transaction can take before it's treated as a sign of overload
+		 * @return this, to continue building
+		 */
+		public ConcurrencyLimiterSettingsBuilder slowLatency(Duration slowLatency){
+			this.slowLatency = slowLatency;
+			return this;
+		}
+		
+		/**
+		 * @param maxQueueSize The most transactions that can wait to be let in when the limit is reached
+		 * (0 to reject them right away)
+		 * @return this, to continue building
+		 */
+		public ConcurrencyLimiterSettingsBuilder maxQueueSize(int maxQueueSize){
+			this.maxQueueSize = maxQueueSize;
+			return this;
+		}
+		
+		/**
+		 * @param queueTimeout How long a transaction can wait to be let in before it's rejected
+		 * @return this, to continue building
+		 */
+		public ConcurrencyLimiterSettingsBuilder queueTimeout(Duration queueTimeout){
+			this.queueTimeout = queueTimeout;
+			return this;
+		}
+		
+		/**
+		 * Checks for any errors in the set parameters and throws an IllegalArgumentException if any are found
+		 */
+		private void checkForErrors(){
+			List<String> errors = new ArrayList<>();
+			
+			// The limits must be positive and in order
+			if(minLimit < 1){
+				errors.add("minLimit must be at least 1!");
+			}
+			if(maxLimit < minLimit){
+				errors.add("maxLimit can't be less than minLimit!");
+			}
+			if(initialLimit < minLimit || initialLimit > maxLimit){
+				errors.add("initialLimit must be between minLimit and maxLimit!");
+			}
+			
+			// backoffRatio must actually shrink the limit
+			if(!(backoffRatio > 0 && backoffRatio < 1)){
+				errors.add("backoffRatio must be between 0 and 1!");
+			}
+			
+			// The durations are both required
+			if(slowLatency == null || slowLatency.isNegative()){
+				errors.add("slowLatency is required and can't be negative!");
+			}
+			if(queueTimeout == null || queueTimeout.isNegative()){
+				errors.add("queueTimeout is required and can't be negative!");
+			}
+			
+			// maxQueueSize can't be negative
+			if(maxQueueSize < 0){
+				errors.add("maxQueueSize can't be negative!");
+			}
+			
+			// Report any errors
+			if(!errors.isEmpty()){
+				throw new IllegalArgumentException("Encountered errors in building ConcurrencyLimiterSettings: \n" +
+						StringUtil.buildStringWithNewLines(errors));
+			}
+		}
+		
+		/**
+		 * Builds new {@link ConcurrencyLimiterSettings} using the set parameters after checking for errors
+		 *
+		 * @return The newly built {@link ConcurrencyLimiterSettings}
+		 */
+		public ConcurrencyLimiterSettings build(){
+			checkForErrors();
+			
+			return new ConcurrencyLimiterSettings(initialLimit, minLimit, maxLimit, backoffRatio, slowLatency,
+					maxQueueSize, queueTimeout);
+		}
+	}
+	
+	/** The number of transactions allowed in flight at once to start with */
+	private final int initialLimit;
+	/** The lowest the limit can shrink to */
+	private final int minLimit;
+	/** The highest the limit can grow to */
+	private final int maxLimit;
+	/** What the limit is multiplied by when a transaction is slow or fails due to overload */
+	private final double backoffRatio;
+	/** How long a transaction can take before it's treated as a sign of overload */
+	private final Duration slowLatency;
+	/** The most transactions that can wait to be let in when the limit is reached */
+	private final int maxQueueSize;
+	/** How long a transaction can wait to be let in before it's rejected */
+	private final Duration queueTimeout;
+	
+	/**
+	 * Constructs new {@link ConcurrencyLimiterSettings} using the given parameters
+	 *
+	 * @param initialLimit The number of transactions allowed in flight at once to start with
+	 * @param minLimit The lowest the limit can shrink to
+	 * @param maxLimit The highest the limit can grow to
+	 * @param backoffRatio What the limit is multiplied by when a transaction is slow or fails due to overload
+	 * @param slowLatency How long a transaction can take before it's treated as a sign of overload
+	 * @param maxQueueSize The most transactions that can wait to be let in when the limit is reached
+	 * @param queueTimeout How long a transaction can wait to be let in before it's rejected
+	 */
+	private ConcurrencyLimiterSettings(
+			int initialLimit, int minLimit, int maxLimit, double backoffRatio, Duration slowLatency,
+			int maxQueueSize, Duration queueTimeout){
+		this.initialLimit = initialLimit;
+		this.minLimit = minLimit;
+		this.maxLimit = maxLimit;
+		this.backoffRatio = backoffRatio;
+		this.slowLatency = slowLatency;
+		this.maxQueueSize = maxQueueSize;
+		this.queueTimeout = queueTimeout;
+	}
+	
+	/**
+	 * @return A new {@link ConcurrencyLimiterSettingsBuilder builder} to use to build
+	 * {@link ConcurrencyLimiterSettings}
+	 */
+	public static ConcurrencyLimiterSettingsBuilder builder(){
+		return new ConcurrencyLimiterSettingsBuilder();
+	}
+	
+	/**
+	 * @return The number of transactions allowed in flight at once to start with
+	 */
+	public int getInitialLimit(){
+		return initialLimit;
+	}
+	
+	/**
+	 * @return The lowest the limit can shrink to
+	 */
+	public int getMinLimit(){
+		return minLimit;
+	}
+	
+	/**
+	 * @return The highest the limit can grow to
+	 */
+	public int getMaxLimit(){
+		return maxLimit;
+	}
+	
+	/**
+	 * @return What the limit is multiplied by when a transaction is slow or fails due to overload
+	 */
+	public double getBackoffRatio(){
+		return backoffRatio;
+	}
+	
+	/**
+	 * @return How long a transaction can take before it's treated as a sign of overload
+	 */
+	public Duration getSlowLatency(){
+		return slowLatency;
+	}
+	
+	/**
+	 * @return The most transactions that can wait to be let in when the limit is reached
+	 */
+	public int getMaxQueueSize(){
+		return maxQueueSize;
+	}
+	
+	/**
+	 * @return How long a transaction can wait to be let in before it's rejected
+	 */
+	public Duration getQueueTimeout(){
+		return queueTimeout;
+	}
+}
@@ -0,0 +1,5 @@
+/**
+ * Contains {@link com.github.tadukoo.database.mysql.limit.ConcurrencyLimiter ConcurrencyLimiter} and related classes
+ * used to limit how many transactions are run against the database at once
+ */
+package com.github.tadukoo.database.mysql.limit;
\ No newline at end of file
@@ -1,8 +1,10 @@
 package com.github.tadukoo.database.mysql.pojo;
 
 import com.github.tadukoo.database.mysql.Database;
+import com.github.tadukoo.database.mysql.KeysetPager;
 import com.github.tadukoo.database.mysql.syntax.ColumnDefinition;
 import com.github.tadukoo.database.mysql.syntax.ForeignKeyConstraint;
+import com.github.tadukoo.database.mysql.syntax.ParameterizedSQL;
 import com.github.tadukoo.database.mysql.syntax.SQLSyntaxUtil;
 import com.github.tadukoo.database.mysql.syntax.reference.ColumnRef;
 import com.github.tadukoo.database.mysql.syntax.statement.SQLCreateStatement;
@@ -183,7 +185,7 @@ public interface DatabasePojo extends MappedPojo{
 	 */
 	default void retrieveValues(Database database, Object idColumnValue, boolean retrieveSubPojos) throws SQLException{
 		database.executeQuery("Retrieve " + getTableName(),
-				SQLSyntaxUtil.formatQuery(ListUtil.createList(getTableName()), getColumnDefKeys(),
+				SQLSyntaxUtil.formatParameterizedQuery(ListUtil.createList(getTableName()), getColumnDefKeys(),
 						ListUtil.createList(getIDColumnName()), ListUtil.createList(idColumnValue), false),
 				getResultSetFunc());
 		
@@ -215,6 +217,57 @@ public interface DatabasePojo extends MappedPojo{
 		}
 	}
 	
+	/**
+	 * Retrieves the pojos with the given ids from the given {@link Database}, looking them up using
+	 * {@link Database#DEFAULT_KEY_CHUNK_SIZE} ids per query. SubPojos are not retrieved.
+	 *
+	 * @param database The {@link Database} to retrieve the pojos from
+	 * @param clazz The {@link DatabasePojo} class to use for the returned pojos
+	 * @param ids The ID column values of the pojos to retrieve
+	 * @param <P> The {@link DatabasePojo} class to use for the returned pojos
+	 * @return The pojos that were found (not necessarily in the same order as the ids)
+	 * @throws SQLException If anything goes wrong in retrieving the pojos
+	 */
+	default <P extends DatabasePojo> List<P> retrieveByIDs(Database database, Class<P> clazz, Collection<?> ids)
+			throws SQLException{
+		return retrieveByIDs(database, clazz, ids, Database.DEFAULT_KEY_CHUNK_SIZE);
+	}
+	
+	/**
+	 * Retrieves the pojos with the given ids from the given {@link Database}, using
+	 * {@link Database#queryByKeys(String, Collection, String, Collection, int, ThrowingFunction)} to look them up
+	 * with one query per chunk of ids rather than one query per id. SubPojos are not retrieved.
+	 *
+	 * @param database The {@link Database} to retrieve the pojos from
+	 * @param clazz The {@link DatabasePojo} class to use for the returned pojos
+	 * @param ids The ID column values of the pojos to retrieve
+	 * @param chunkSize The most ids to look up in a single query
+	 * @param <P> The {@link DatabasePojo} class to use for the returned pojos
+	 * @return The pojos that were found (not necessarily in the same order as the ids)
+	 * @throws SQLException If anything goes wrong in retrieving the pojos
+	 */
+	default <P extends DatabasePojo> List<P> retrieveByIDs(
+			Database database, Class<P> clazz, Collection<?> ids, int chunkSize) throws SQLException{
+		return database.queryByKeys(getTableName(), getColumnDefKeys(), getIDColumnName(), ids, chunkSize,
+				getResultSetListFunc(clazz));
+	}
+	
+	/**
+	 * Creates a {@link KeysetPager} to read through the pojos of this type in the given {@link Database} one page at
+	 * a time, sorted by their ids. SubPojos are not retrieved.
+	 *
+	 * @param database The {@link Database} to retrieve the pojos from
+	 * @param clazz The {@link DatabasePojo} class to use for the returned pojos
+	 * @param pageSize The most pojos to return in a page
+	 * @param <P> The {@link DatabasePojo} class to use for the returned pojos
+	 * @return A {@link KeysetPager} starting at the first pojo
+	 */
+	default <P extends DatabasePojo> KeysetPager<P> pageByID(Database database, Class<P> clazz, int pageSize){
+		String idColumnName = getIDColumnName();
+		return database.pageByKey(getTableName(), getColumnDefKeys(), idColumnName, pageSize,
+				getResultSetListFunc(clazz), pojo -> pojo.getItem(idColumnName));
+	}
+	
 	/**
 	 * @return A {@link ThrowingFunction} to use to extract a single {@link DatabasePojo} from a {@link ResultSet}
 	 */
@@ -264,6 +317,51 @@ public interface DatabasePojo extends MappedPojo{
 		};
 	}
 	
+	/**
+	 * Stores the values from this {@link DatabasePojo} into the given {@link Database} in a single round trip,
+	 * inserting a new row or updating the existing row if one with the same id (or another unique key) is already
+	 * there ({@code INSERT ... ON DUPLICATE KEY UPDATE}). Unlike {@link #storeValues(Database, boolean)}, this
+	 * doesn't need to know whether the row exists yet. SubPojos are not stored.
+	 *
+	 * @param database The {@link Database} to store values in
+	 * @return The ID of the inserted or updated row (as reported by the server, or else the numeric ID this pojo
+	 * already had; null if neither is available), which is also set on this pojo if it didn't have one yet (an ID
+	 * that was already set is kept)
+	 * @throws SQLException If anything goes wrong in storing values
+	 */
+	default Integer upsert(Database database) throws SQLException{
+		List<String> updateColumns = getColumnDefKeys().stream()
+				.filter(colDefKey -> !StringUtil.equalsIgnoreCase(colDefKey, getIDColumnName()))
+				.collect(Collectors.toList());
+		List<String> columns = new ArrayList<>(updateColumns);
+		List<Object> values = columns.stream().map(this::getItem).collect(Collectors.toList());
+		
+		// Include the id if we have it, so that the existing row is found
+		Object id = getItem(getIDColumnName());
+		if(id != null){
+			columns.add(0, getIDColumnName());
+			values.add(0, id);
+		}
+		
+		// Grab the id of the upserted row (the server reports an existing row's id through LAST_INSERT_ID)
+		Long key = database.upsertAndGetKey(getTableName(), columns, values, updateColumns, getIDColumnName());
+		Integer upsertedID;
+		if(key != null){
+			upsertedID = Math.toIntExact(key);
+		}else if(id instanceof Number numberID){
+			// Fall back to the id we already had (e.g. the table has no auto-incremented column)
+			upsertedID = Math.toIntExact(numberID.longValue());
+		}else{
+			return null;
+		}
+		
+		// Keep the id we already had
+		if(id == null){
+			setItem(getIDColumnName(), upsertedID);
+		}
+		return upsertedID;
+	}
+	
 	/**
 	 * Stores the values from this {@link DatabasePojo} into the given {@link Database}. Specifying storeSubPojos
 	 * will also store values on any subPojos stored in this pojo
@@ -281,7 +379,7 @@ public interface DatabasePojo extends MappedPojo{
 		Object id = getItem(getIDColumnName());
 		Integer newID = null;
 		if(id == null){
-			newID = database.insertAndGetID(getTableName(), getIDColumnName(), columnDefKeys, values);
+			newID = database.insertAndGetID(getTableName(), columnDefKeys, values);
 			setItem(getIDColumnName(), newID);
 		}else{
 			database.update(getTableName(), columnDefKeys, values,
@@ -389,7 +487,8 @@ public interface DatabasePojo extends MappedPojo{
 		}
 		
 		// Form the query and run it
-		String sql = SQLSyntaxUtil.formatQuery(tables, columnsToReturn, columnDefsToUse, valuesToUse, true);
+		ParameterizedSQL sql = SQLSyntaxUtil.formatParameterizedQuery(tables, columnsToReturn, columnDefsToUse,
+				valuesToUse, true);
 		return database.executeQuery("Search for " + clazz.getName(), sql, getResultSetListFunc(clazz));
 	}
 }
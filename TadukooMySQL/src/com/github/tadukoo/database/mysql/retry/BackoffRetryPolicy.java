@@ -0,0 +1,392 @@
+package com.github.tadukoo.database.mysql.retry;
+
+import com.github.tadukoo.util.StringUtil;
+
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Backoff Retry Policy is a {@link RetryPolicy} that only retries errors that are likely to go away on their own
+ * (lock contention and lost connections by default, see {@link SQLExceptionClassifier}), waiting an exponentially
+ * growing, jittered amount of time between attempts. A fresh connection is used after a connection error.
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.3
+ */
+public class BackoffRetryPolicy implements RetryPolicy{
+	
+	/**
+	 * A builder used to build a {@link BackoffRetryPolicy}. It takes the following parameters:
+	 *
+	 * <table>
+	 *     <caption>Backoff Retry Policy Parameters</caption>
+	 *     <tr>
+	 *         <th>Parameter</th>
+	 *         <th>Description</th>
+	 *         <th>Default or Required</th>
+	 *     </tr>
+	 *     <tr>
+	 *         <td>maxAttempts</td>
+	 *         <td>The maximum number of attempts to try a transaction before giving up</td>
+	 *         <td>Defaults to 10</td>
+	 *     </tr>
+	 *     <tr>
+	 *         <td>initialBackoff</td>
+	 *         <td>How long to wait after the first failed attempt</td>
+	 *         <td>Defaults to 50 milliseconds</td>
+	 *     </tr>
+	 *     <tr>
+	 *         <td>maxBackoff</td>
+	 *         <td>The longest to ever wait between attempts</td>
+	 *         <td>Defaults to 2 seconds</td>
+	 *     </tr>
+	 *     <tr>
+	 *         <td>multiplier</td>
+	 *         <td>How much the wait grows by after each failed attempt</td>
+	 *         <td>Defaults to 2</td>
+	 *     </tr>
+	 *     <tr>
+	 *         <td>jitter</td>
+	 *         <td>The fraction (0 to 1) of the wait that is randomized, so that callers that failed together
+	 *         don't all retry together</td>
+	 *         <td>Defaults to 0.5</td>
+	 *     </tr>
+	 *     <tr>
+	 *         <td>retryLockContention</td>
+	 *         <td>Whether to retry deadlocks and lock wait timeouts</td>
+	 *         <td>Defaults to true</td>
+	 *     </tr>
+	 *     <tr>
+	 *         <td>retryConnectionErrors</td>
+	 *         <td>Whether to retry errors from the connection being lost</td>
+	 *         <td>Defaults to true</td>
+	 *     </tr>
+	 *     <tr>
+	 *         <td>reconnectOnConnectionErrors</td>
+	 *         <td>Whether to use a fresh connection after the connection was lost</td>
+	 *         <td>Defaults to true</td>
+	 *     </tr>
+	 *     <tr>
+	 *         <td>retryableErrorCodes</td>
+	 *         <td>Any extra MySQL error codes that should be retried</td>
+	 *         <td>Defaults to an empty Set</td>
+	 *     </tr>
+	 * </table>
+	 *
+	 * @author Logan Ferree (Tadukoo)
+	 * @version Alpha v.0.3
+	 */
+	public static class BackoffRetryPolicyBuilder{
+		/** The maximum number of attempts to try a transaction before giving up */
+		private int maxAttempts = 10;
+		/** How long to wait after the first failed attempt */
+		private Duration initialBackoff = Duration.ofMillis(50);
+		/** The longest to ever wait between attempts */
+		private Duration maxBackoff = Duration.ofSeconds(2);
+		/** How much the wait grows by after each failed attempt */
+		private double multiplier = 2;
+		/** The fraction (0 to 1) of the wait that is randomized */
+		private double jitter = 0.5;
+		/** Whether to retry deadlocks and lock wait timeouts */
+		private boolean retryLockContention = true;
+		/** Whether to retry errors from the connection being lost */
+		private boolean retryConnectionErrors = true;
+		/** Whether to use a fresh connection after the connection was lost */
+		private boolean reconnectOnConnectionErrors = true;
+		/** Any extra MySQL error codes that should be retried */
+		private Set<Integer> retryableErrorCodes = new HashSet<>();
+		
+		/** Not allowed to instantiate outside {@link BackoffRetryPolicy} */
+		private BackoffRetryPolicyBuilder(){ }
+		
+		/**
+		 * @param maxAttempts The maximum number of attempts to try a transaction before giving up
+		 * @return this, to continue building
+		 */
+		public BackoffRetryPolicyBuilder maxAttempts(int maxAttempts){
+			this.maxAttempts = maxAttempts;
+			return this;
+		}
+		
+		/**
+		 * @param initialBackoff How long to wait after the first failed attempt
+		 * @return this, to continue building
+		 */
+		public BackoffRetryPolicyBuilder initialBackoff(Duration initialBackoff){
+			this.initialBackoff = initialBackoff;
+			return this;
+		}
+		
+		/**
+		 * @param maxBackoff The longest to ever wait between attempts
+		 * @return this, to continue building
+		 */
+		public BackoffRetryPolicyBuilder maxBackoff(Duration maxBackoff){
+			this.maxBackoff = maxBackoff;
+			return this;
+		}
+		
+		/**
+		 * @param multiplier How much the wait grows by after each failed attempt
+		 * @return this, to continue building
+		 */
+		public BackoffRetryPolicyBuilder multiplier(double multiplier){
+			this.multiplier = multiplier;
+			return this;
+		}
+		
+		/**
+		 * @param jitter The fraction (0 to 1) of the wait that is randomized
+		 * @return this, to continue building
+		 */
+		public BackoffRetryPolicyBuilder jitter(double jitter){
+			this.jitter = jitter;
+			return this;
+		}
+		
+		/**
+		 * @param retryLockContention Whether to retry deadlocks and lock wait timeouts
+		 * @return this, to continue building
+		 */
+		public BackoffRetryPolicyBuilder retryLockContention(boolean retryLockContention){
+			this.retryLockContention = retryLockContention;
+			return this;
+		}
+		
+		/**
+		 * @param retryConnectionErrors Whether to retry errors from the connection being lost
+		 * @return this, to continue building
+		 */
+		public BackoffRetryPolicyBuilder retryConnectionErrors(boolean retryConnectionErrors){
+			this.retryConnectionErrors = retryConnectionErrors;
+			return this;
+		}
+		
+		/**
+		 * @param reconnectOnConnectionErrors Whether to use a fresh connection after the connection was lost
+		 * @return this, to continue building
+		 */
+		public BackoffRetryPolicyBuilder reconnectOnConnectionErrors(boolean reconnectOnConnectionErrors){
+			this.reconnectOnConnectionErrors = reconnectOnConnectionErrors;
+			return this;
+		}
+		
+		/**
+		 * @param retryableErrorCodes Any extra MySQL error codes that should be retried
+		 * @return this, to continue building
+		 */
+		public BackoffRetryPolicyBuilder retryableErrorCodes(Set<Integer> retryableErrorCodes){
+			this.retryableErrorCodes = retryableErrorCodes;
+			return this;
+		}
+		
+		/**
+		 * @param retryableErrorCodes Any extra MySQL error codes that should be retried
+		 * @return this, to continue building
+		 */
+		public BackoffRetryPolicyBuilder retryableErrorCodes(Integer ... retryableErrorCodes){
+			this.retryableErrorCodes = new HashSet<>(List.of(retryableErrorCodes));
+			return this;
+		}
+		
+		/**
+		 * Checks for any errors in the set parameters and throws an IllegalArgumentException if any are found
+		 */
+		private void checkForErrors(){
+			List<String> errors = new ArrayList<>();
+			
+			// maxAttempts must be positive
+			if(maxAttempts < 1){
+				errors.add("maxAttempts must be at least 1!");
+			}
+			
+			// backoffs are required
+			if(initialBackoff == null || initialBackoff.isNegative()){
+				errors.add("initialBackoff is required and can't be negative!");
+			}
+			if(maxBackoff == null || maxBackoff.isNegative()){
+				errors.add("maxBackoff is required and can't be negative!");
+			}
+			
+			// multiplier can't shrink the backoff
+			if(multiplier < 1){
+				errors.add("multiplier must be at least 1!");
+			}
+			
+			// jitter is a fraction
+			if(jitter < 0 || jitter > 1){
+				errors.add("jitter must be between 0 and 1!");
+			}
+			
+			// retryableErrorCodes is required (but may be empty)
+			if(retryableErrorCodes == null){
+				errors.add("retryableErrorCodes is required (but may be empty)!");
+			}
+			
+			// Report any errors
+			if(!errors.isEmpty()){
+				throw new IllegalArgumentException("Encountered errors in building a BackoffRetryPolicy: \n" +
+						StringUtil.buildStringWithNewLines(errors));
+			}
+		}
+		
+		/**
+		 * Builds a new {@link BackoffRetryPolicy} using the set parameters after checking for errors
+		 *
+		 * @return The newly built {@link BackoffRetryPolicy}
+		 */
+		public BackoffRetryPolicy build(){
+			checkForErrors();
+			
+			return new BackoffRetryPolicy(maxAttempts, initialBackoff, maxBackoff, multiplier, jitter,
+					retryLockContention, retryConnectionErrors, reconnectOnConnectionErrors, retryableErrorCodes);
+		}
+	}
+	
+	/** The maximum number of attempts to try a transaction before giving up */
+	private final int maxAttempts;
+	/** How long to wait after the first failed attempt */
+	private final Duration initialBackoff;
+	/** The longest to ever wait between attempts */
+	private final Duration maxBackoff;
+	/** How much the wait grows by after each failed attempt */
+	private final double multiplier;
+	/** The fraction (0 to 1) of the wait that is randomized */
+	private final double jitter;
+	/** Whether to retry deadlocks and lock wait timeouts */
+	private final boolean retryLockContention;
+	/** Whether to retry errors from the connection being lost */
+	private final boolean retryConnectionErrors;
+	/** Whether to use a fresh connection after the connection was lost */
+	private final boolean reconnectOnConnectionErrors;
+	/** Any extra MySQL error codes that should be retried */
+	private final Set<Integer> retryableErrorCodes;
+	
+	/**
+	 * Constructs a new {@link BackoffRetryPolicy} using the given parameters
+	 *
+	 * @param maxAttempts The maximum number of attempts to try a transaction before giving up
+	 * @param initialBackoff How long to wait after the first failed attempt
+	 * @param maxBackoff The longest to ever wait between attempts
+	 * @param multiplier How much the wait grows by after each failed attempt
+	 * @param jitter The fraction (0 to 1) of the wait that is randomized
+	 * @param retryLockContention Whether to retry deadlocks and lock wait timeouts
+	 * @param retryConnectionErrors Whether to retry errors from the connection being lost
+	 * @param reconnectOnConnectionErrors Whether to use a fresh connection after the connection was lost
+	 * @param retryableErrorCodes Any extra MySQL error codes that should be retried
+	 */
+	private BackoffRetryPolicy(
+			int maxAttempts, Duration initialBackoff, Duration maxBackoff, double multiplier, double jitter,
+			boolean retryLockContention, boolean retryConnectionErrors, boolean reconnectOnConnectionErrors,
+			Set<Integer> retryableErrorCodes){
+		this.maxAttempts = maxAttempts;
+		this.initialBackoff = initialBackoff;
+		this.maxBackoff = maxBackoff;
+		this.multiplier = multiplier;
+		this.jitter = jitter;
+		this.retryLockContention = retryLockContention;
+		this.retryConnectionErrors = retryConnectionErrors;
+		this.reconnectOnConnectionErrors = reconnectOnConnectionErrors;
+		this.retryableErrorCodes = retryableErrorCodes;
+	}
+	
+	/**
+	 * @return A new {@link BackoffRetryPolicyBuilder builder} to use to build a {@link BackoffRetryPolicy}
+	 */
+	public static BackoffRetryPolicyBuilder builder(){
+		return new BackoffRetryPolicyBuilder();
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public int getMaxAttempts(){
+		return maxAttempts;
+	}
+	
+	/**
+	 * @return How long to wait after the first failed attempt
+	 */
+	public Duration getInitialBackoff(){
+		return initialBackoff;
+	}
+	
+	/**
+	 * @return The longest to ever wait between attempts
+	 */
+	public Duration getMaxBackoff(){
+		return maxBackoff;
+	}
+	
+	/**
+	 * @return How much the wait grows by after each failed attempt
+	 */
+	public double getMultiplier(){
+		return multiplier;
+	}
+	
+	/**
+	 * @return The fraction (0 to 1) of the wait that is randomized
+	 */
+	public double getJitter(){
+		return jitter;
+	}
+	
+	/**
+	 * @return Whether to retry deadlocks and lock wait timeouts
+	 */
+	public boolean isRetryLockContention(){
+		return retryLockContention;
+	}
+	
+	/**
+	 * @return Whether to retry errors from the connection being lost
+	 */
+	public boolean isRetryConnectionErrors(){
+		return retryConnectionErrors;
+	}
+	
+	/**
+	 * @return Whether to use a fresh connection after the connection was lost
+	 */
+	public boolean isReconnectOnConnectionErrors(){
+		return reconnectOnConnectionErrors;
+	}
+	
+	/**
+	 * @return Any extra MySQL error codes that should be retried
+	 */
+	public Set<Integer> getRetryableErrorCodes(){
+		return retryableErrorCodes;
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public boolean isRetryable(SQLException e){
+		return (retryLockContention && SQLExceptionClassifier.isLockContentionError(e)) ||
+				(retryConnectionErrors && SQLExceptionClassifier.isConnectionError(e)) ||
+				retryableErrorCodes.contains(e.getErrorCode());
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public boolean shouldReconnect(SQLException e){
+		return reconnectOnConnectionErrors && SQLExceptionClassifier.isConnectionError(e);
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public Duration getBackoff(int failedAttempts){
+		// Grow the backoff exponentially, capping it at the max backoff
+		double backoff = initialBackoff.toNanos() * Math.pow(multiplier, Math.max(0, failedAttempts - 1));
+		backoff = Math.min(backoff, maxBackoff.toNanos());
+		
+		// Randomize the jitter portion of the backoff
+		backoff -= backoff * jitter * ThreadLocalRandom.current().nextDouble();
+		return Duration.ofNanos((long) backoff);
+	}
+}
@@ -0,0 +1,96 @@
+package com.github.tadukoo.database.mysql.retry;
+
+/**
+ * Retry Budget caps how many retries are made compared to how many transactions are run, so a failing database
+ * doesn't get hit with several times the usual load by every transaction retrying. It can be shared by several
+ * {@link com.github.tadukoo.database.mysql.Database Databases} to give them one budget.
+ * <br><br>
+ * The budget is a token bucket: each transaction run adds retryRatio tokens (up to maxTokens), and each retry
+ * takes one whole token. When there isn't a whole token left, failed transactions aren't retried. The bucket
+ * starts full, so up to maxTokens retries can be made in a burst before the ratio applies.
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.3
+ */
+public class RetryBudget{
+	/** The default number of retries allowed per transaction run */
+	public static final double DEFAULT_RETRY_RATIO = 0.1;
+	/** The default most tokens the budget can hold */
+	public static final int DEFAULT_MAX_TOKENS = 10;
+	
+	/** The number of retries allowed per transaction run */
+	private final double retryRatio;
+	/** The most tokens the budget can hold (and so the most retries that can be made in a burst) */
+	private final int maxTokens;
+	/** The number of tokens in the budget */
+	private double tokens;
+	
+	/**
+	 * Constructs a new {@link RetryBudget} using the {@link #DEFAULT_RETRY_RATIO default retry ratio} and
+	 * {@link #DEFAULT_MAX_TOKENS default max tokens}
+	 */
+	public RetryBudget(){
+		this(DEFAULT_RETRY_RATIO, DEFAULT_MAX_TOKENS);
+	}
+	
+	/**
+	 * Constructs a new {@link RetryBudget} using the given parameters, starting full
+	 *
+	 * @param retryRatio The number of retries allowed per transaction run (e.g. 0.1 for 1 retry per 10
+	 *                   transactions)
+	 * @param maxTokens The most tokens the budget can hold (and so the most retries that can be made in a burst)
+	 */
+	public RetryBudget(double retryRatio, int maxTokens){
+		if(!(retryRatio >= 0)){
+			throw new IllegalArgumentException("retryRatio can't be negative!");
+		}
+		if(maxTokens < 1){
+			throw new IllegalArgumentException("maxTokens must be at least 1!");
+		}
+		this.retryRatio = retryRatio;
+		this.maxTokens = maxTokens;
+		this.tokens = maxTokens;
+	}
+	
+	/**
+	 * @return The number of retries allowed per transaction run
+	 */
+	public double getRetryRatio(){
+		return retryRatio;
+	}
+	
+	/**
+	 * @return The most tokens the budget can hold (and so the most retries that can be made in a burst)
+	 */
+	public int getMaxTokens(){
+		return maxTokens;
+	}
+	
+	/**
+	 * @return The number of tokens in the budget (retries can be made while there's at least 1)
+	 */
+	public synchronized double getTokens(){
+		return tokens;
+	}
+	
+	/**
+	 * Adds a transaction's share of retries to the budget. Should be called once for each transaction run (not for
+	 * each attempt).
+	 */
+	public synchronized void recordTransaction(){
+		tokens = Math.min(maxTokens, tokens + retryRatio);
+	}
+	
+	/**
+	 * Takes a retry out of the budget if there's room for one
+	 *
+	 * @return Whether the retry can be made
+	 */
+	public synchronized boolean tryRetry(){
+		if(tokens < 1){
+			return false;
+		}
+		tokens--;
+		return true;
+	}
+}
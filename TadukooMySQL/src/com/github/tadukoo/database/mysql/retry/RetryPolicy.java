@@ -0,0 +1,51 @@
+package com.github.tadukoo.database.mysql.retry;
+
+import java.sql.SQLException;
+import java.time.Duration;
+
+/**
+ * Retry Policy is used by a {@link com.github.tadukoo.database.mysql.Database Database} to decide whether a
+ * failed transaction should be tried again, how long to wait before doing so, and whether a fresh connection
+ * should be used for the next attempt. The transaction is always rolled back before it's tried again.
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.3
+ */
+public interface RetryPolicy{
+	
+	/**
+	 * @return The maximum number of attempts to try a transaction before giving up
+	 */
+	int getMaxAttempts();
+	
+	/**
+	 * @param e The {@link SQLException} that caused an attempt to fail
+	 * @return Whether the transaction should be tried again after this failure
+	 */
+	boolean isRetryable(SQLException e);
+	
+	/**
+	 * @param e The {@link SQLException} that caused an attempt to fail
+	 * @return Whether a fresh connection should be used for the next attempt
+	 */
+	boolean shouldReconnect(SQLException e);
+	
+	/**
+	 * @param failedAttempts The number of attempts that have failed so far (starting at 1)
+	 * @return How long to wait before the next attempt
+	 */
+	Duration getBackoff(int failedAttempts);
+	
+	/**
+	 * Creates the default {@link RetryPolicy}, which is a {@link BackoffRetryPolicy} using its default settings
+	 * and the given max attempts
+	 *
+	 * @param maxAttempts The maximum number of attempts to try a transaction before giving up
+	 * @return The default {@link RetryPolicy}
+	 */
+	static RetryPolicy defaultPolicy(int maxAttempts){
+		return BackoffRetryPolicy.builder()
+				.maxAttempts(maxAttempts)
+				.build();
+	}
+}
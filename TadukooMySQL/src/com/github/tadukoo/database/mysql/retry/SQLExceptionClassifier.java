@@ -0,0 +1,99 @@
+package com.github.tadukoo.database.mysql.retry;
+
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.util.Set;
+
+/**
+ * SQL Exception Classifier provides utilities for classifying {@link SQLException SQLExceptions} thrown by
+ * MySQL/MariaDB, based on their vendor error codes and SQL states.
+ * <br><br>
+ * The MariaDB driver doesn't reliably pick the {@link SQLException} subclass for a server error (e.g. a missing
+ * database can show up as a {@link java.sql.SQLTransientConnectionException}), so the error code and SQL state
+ * are used instead of the exception type.
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.3
+ */
+public class SQLExceptionClassifier{
+	/** MySQL error code for a deadlock being found (ER_LOCK_DEADLOCK) */
+	public static final int DEADLOCK = 1213;
+	/** MySQL error code for a lock wait timing out (ER_LOCK_WAIT_TIMEOUT) */
+	public static final int LOCK_WAIT_TIMEOUT = 1205;
+	/** MySQL error code for too many connections (ER_CON_COUNT_ERROR) */
+	public static final int TOO_MANY_CONNECTIONS = 1040;
+	/** MySQL error code for the server shutting down (ER_SERVER_SHUTDOWN) */
+	public static final int SERVER_SHUTDOWN = 1053;
+	/** MySQL error code for the connection being killed (ER_CONNECTION_KILLED) */
+	public static final int CONNECTION_KILLED = 1927;
+	/** MySQL client error code for the server having gone away (CR_SERVER_GONE_ERROR) */
+	public static final int SERVER_GONE = 2006;
+	/** MySQL client error code for the connection to the server being lost (CR_SERVER_LOST) */
+	public static final int SERVER_LOST = 2013;
+	
+	/** The error codes that mean a transaction was rolled back due to lock contention */
+	public static final Set<Integer> LOCK_CONTENTION_ERROR_CODES = Set.of(DEADLOCK, LOCK_WAIT_TIMEOUT);
+	/** The error codes that mean the connection to the server is gone or unusable */
+	public static final Set<Integer> CONNECTION_ERROR_CODES = Set.of(TOO_MANY_CONNECTIONS, SERVER_SHUTDOWN,
+			CONNECTION_KILLED, SERVER_GONE, SERVER_LOST);
+	/** The SQL state class for connection exceptions */
+	public static final String CONNECTION_SQL_STATE_CLASS = "08";
+	/** The SQL state for a serialization failure (e.g. a deadlock) */
+	public static final String SERIALIZATION_FAILURE_SQL_STATE = "40001";
+	
+	/** Not allowed to instantiate SQLExceptionClassifier */
+	private SQLExceptionClassifier(){ }
+	
+	/**
+	 * Checks if the given {@link SQLException} (or anything in its cause chain) is due to lock contention, i.e.
+	 * a deadlock or a lock wait timeout
+	 *
+	 * @param e The {@link SQLException} to check
+	 * @return Whether the exception was caused by lock contention
+	 */
+	public static boolean isLockContentionError(SQLException e){
+		for(Throwable t = e; t != null; t = t.getCause()){
+			if(t instanceof SQLException sqlE && (LOCK_CONTENTION_ERROR_CODES.contains(sqlE.getErrorCode()) ||
+					SERIALIZATION_FAILURE_SQL_STATE.equals(sqlE.getSQLState()))){
+				return true;
+			}
+		}
+		return false;
+	}
+	
+	/**
+	 * Checks if the given {@link SQLException} (or anything in its cause chain) is due to the connection to the
+	 * server being lost or unusable
+	 *
+	 * @param e The {@link SQLException} to check
+	 * @return Whether the exception was caused by a connection problem
+	 */
+	public static boolean isConnectionError(SQLException e){
+		for(Throwable t = e; t != null; t = t.getCause()){
+			if(t instanceof SQLException sqlE){
+				String sqlState = sqlE.getSQLState();
+				if(CONNECTION_ERROR_CODES.contains(sqlE.getErrorCode()) ||
+						(sqlState != null && sqlState.startsWith(CONNECTION_SQL_STATE_CLASS))){
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+	
+	/**
+	 * Checks if the given {@link SQLException} (or anything in its cause chain) is a {@link SQLTimeoutException},
+	 * e.g. a statement hitting its query timeout or waiting too long on a connection
+	 *
+	 * @param e The {@link SQLException} to check
+	 * @return Whether the exception was caused by a timeout
+	 */
+	public static boolean isTimeoutError(SQLException e){
+		for(Throwable t = e; t != null; t = t.getCause()){
+			if(t instanceof SQLTimeoutException){
+				return true;
+			}
+		}
+		return false;
+	}
+}
@@ -0,0 +1,5 @@
+/**
+ * Contains {@link com.github.tadukoo.database.mysql.retry.RetryPolicy RetryPolicy} and related classes used to
+ * decide if and when a failed transaction should be tried again
+ */
+package com.github.tadukoo.database.mysql.retry;
\ No newline at end of file
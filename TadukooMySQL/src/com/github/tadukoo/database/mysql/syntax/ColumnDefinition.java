@@ -737,9 +737,18 @@ public class ColumnDefinition{
 	/** {@inheritDoc} */
 	@Override
 	public String toString(){
+		return appendTo(new StringBuilder()).toString();
+	}
+	
+	/**
+	 * Appends the text of this column definition to the given StringBuilder
+	 *
+	 * @param colDef The StringBuilder to append to
+	 * @return The given StringBuilder, to continue appending
+	 */
+	public StringBuilder appendTo(StringBuilder colDef){
 		// Start with columnName and dataType
-		StringBuilder colDef = new StringBuilder(columnName);
-		colDef.append(' ').append(dataType);
+		colDef.append(columnName).append(' ').append(dataType);
 		
 		// Check if we have size
 		if(size != null){
@@ -787,7 +796,7 @@ public class ColumnDefinition{
 			colDef.append(" PRIMARY KEY");
 		}
 		
-		return colDef.toString();
+		return colDef;
 	}
 	
 	/*
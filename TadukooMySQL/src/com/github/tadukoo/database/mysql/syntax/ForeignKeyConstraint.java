@@ -300,7 +300,17 @@ public class ForeignKeyConstraint{
 	/** {@inheritDoc} */
 	@Override
 	public String toString(){
-		StringBuilder constraint = new StringBuilder("FOREIGN KEY ");
+		return appendTo(new StringBuilder()).toString();
+	}
+	
+	/**
+	 * Appends the text of this constraint to the given StringBuilder
+	 *
+	 * @param constraint The StringBuilder to append to
+	 * @return The given StringBuilder, to continue appending
+	 */
+	public StringBuilder appendTo(StringBuilder constraint){
+		constraint.append("FOREIGN KEY ");
 		
 		// Add columns
 		constraint.append('(');
@@ -333,7 +343,7 @@ public class ForeignKeyConstraint{
 			constraint.append(" ON UPDATE ").append(onUpdateOption);
 		}
 		
-		return constraint.toString();
+		return constraint;
 	}
 	
 	/**
@@ -0,0 +1,49 @@
+package com.github.tadukoo.database.mysql.syntax;
+
+import java.util.List;
+
+/**
+ * Parameterized SQL holds the text of a MySQL statement that uses {@code ?} placeholders in place of its values,
+ * along with the values to be bound to those placeholders (in order) when it's run as a
+ * {@link java.sql.PreparedStatement}.
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.3
+ */
+public class ParameterizedSQL{
+	/** The SQL text, using {@code ?} placeholders for the values */
+	private final String sql;
+	/** The values to be bound to the placeholders, in order */
+	private final List<Object> parameters;
+	
+	/**
+	 * Constructs a new {@link ParameterizedSQL} using the given parameters
+	 *
+	 * @param sql The SQL text, using {@code ?} placeholders for the values
+	 * @param parameters The values to be bound to the placeholders, in order
+	 */
+	public ParameterizedSQL(String sql, List<Object> parameters){
+		this.sql = sql;
+		this.parameters = parameters;
+	}
+	
+	/**
+	 * @return The SQL text, using {@code ?} placeholders for the values
+	 */
+	public String getSQL(){
+		return sql;
+	}
+	
+	/**
+	 * @return The values to be bound to the placeholders, in order
+	 */
+	public List<Object> getParameters(){
+		return parameters;
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public String toString(){
+		return sql;
+	}
+}
@@ -6,6 +6,8 @@ import com.github.tadukoo.database.mysql.syntax.conditional.EqualsStatement;
 import com.github.tadukoo.database.mysql.syntax.conditional.SQLConjunctiveOperator;
 import com.github.tadukoo.database.mysql.syntax.conditional.SQLOperator;
 import com.github.tadukoo.database.mysql.syntax.reference.ColumnRef;
+import com.github.tadukoo.database.mysql.syntax.reference.OrderByColumn;
+import com.github.tadukoo.database.mysql.syntax.reference.SQLSortOrder;
 import com.github.tadukoo.database.mysql.syntax.reference.TableRef;
 import com.github.tadukoo.database.mysql.syntax.statement.SQLInsertStatement;
 import com.github.tadukoo.database.mysql.syntax.statement.SQLSelectStatement;
@@ -13,16 +15,20 @@ import com.github.tadukoo.database.mysql.syntax.statement.SQLUpdateStatement;
 import com.github.tadukoo.util.ByteUtil;
 import com.github.tadukoo.util.StringUtil;
 
+import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.sql.Date;
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Time;
 import java.sql.Timestamp;
+import java.sql.Types;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
+import java.util.NoSuchElementException;
 import java.util.stream.Collectors;
 
 /**
@@ -33,6 +39,9 @@ import java.util.stream.Collectors;
  */
 public class SQLSyntaxUtil{
 	
+	/** The most {@code ?} placeholders MySQL allows in a single prepared statement */
+	public static final int MAX_PLACEHOLDERS = 65535;
+	
 	/** Not allowed to instantiate SQLSyntaxUtil */
 	private SQLSyntaxUtil(){ }
 	
@@ -43,21 +52,128 @@ public class SQLSyntaxUtil{
 	 * @return The string representing the given value
 	 */
 	public static String convertValueToString(Object value){
+		return appendValue(new StringBuilder(), value).toString();
+	}
+	
+	/**
+	 * Appends the string to use for the given value in MySQL to the given StringBuilder
+	 *
+	 * @param sb The StringBuilder to append to
+	 * @param value The object to convert
+	 * @return The given StringBuilder, to continue appending
+	 */
+	public static StringBuilder appendValue(StringBuilder sb, Object value){
 		if(value instanceof String s){
-			return "'" + s + "'";
+			return sb.append('\'').append(s).append('\'');
 		}else if(value instanceof Integer i){
-			return i.toString();
+			return sb.append(i.intValue());
 		}else if(value instanceof Boolean b){
-			return b.toString();
+			return sb.append(b.booleanValue());
 		}else if(value instanceof byte[] b){
-			return "0x" + ByteUtil.toHex(b);
+			return sb.append("0x").append(ByteUtil.toHex(b));
+		}else if(value instanceof Character ||
+				value instanceof Time || value instanceof Date || value instanceof Timestamp){
+			return sb.append('\'').append(value).append('\'');
 		}else{
-			String str = value.toString();
-			if(value instanceof Character ||
-					value instanceof Time || value instanceof Date || value instanceof Timestamp){
-				str = "'" + str + "'";
-			}
-			return str;
+			return sb.append(value.toString());
+		}
+	}
+	
+	/**
+	 * Converts the given value into the text to use for it in a MySQL statement. If a parameters List is given, this
+	 * will be a {@code ?} placeholder and the value is added to the parameters to be bound later. {@link ColumnRef}
+	 * values (e.g. for joins) are references rather than data, so those always stay inline.
+	 *
+	 * @param value The value to convert
+	 * @param parameters The List to add the value to (or null to use {@link #convertValueToString(Object)} instead)
+	 * @return The text to use for the given value
+	 */
+	public static String convertValueToPlaceholder(Object value, List<Object> parameters){
+		if(parameters == null || value instanceof ColumnRef){
+			return convertValueToString(value);
+		}
+		parameters.add(value);
+		return "?";
+	}
+	
+	/**
+	 * Appends the text to use for the given value in a MySQL statement to the given StringBuilder. This works the
+	 * same as {@link #convertValueToPlaceholder(Object, List)}, but without building a String for the value.
+	 *
+	 * @param sb The StringBuilder to append to
+	 * @param value The value to convert
+	 * @param parameters The List to add the value to (or null to use {@link #appendValue(StringBuilder, Object)}
+	 * instead)
+	 * @return The given StringBuilder, to continue appending
+	 */
+	public static StringBuilder appendValueOrPlaceholder(StringBuilder sb, Object value, List<Object> parameters){
+		if(value instanceof ColumnRef columnRef){
+			return columnRef.appendTo(sb);
+		}else if(parameters == null){
+			return appendValue(sb, value);
+		}
+		parameters.add(value);
+		return sb.append('?');
+	}
+	
+	/**
+	 * Binds the given value to the placeholder at the given index of the given {@link PreparedStatement}, using
+	 * the typed setter that matches the type of the value
+	 *
+	 * @param stmt The {@link PreparedStatement} to bind the value to
+	 * @param index The index of the placeholder (starting at 1)
+	 * @param value The value to be bound (may be null)
+	 * @throws SQLException If anything goes wrong
+	 */
+	public static void bindValue(PreparedStatement stmt, int index, Object value) throws SQLException{
+		if(value == null){
+			stmt.setNull(index, Types.NULL);
+		}else if(value instanceof String s){
+			stmt.setString(index, s);
+		}else if(value instanceof Integer i){
+			stmt.setInt(index, i);
+		}else if(value instanceof Long l){
+			stmt.setLong(index, l);
+		}else if(value instanceof Short s){
+			stmt.setShort(index, s);
+		}else if(value instanceof Byte b){
+			stmt.setByte(index, b);
+		}else if(value instanceof Boolean b){
+			stmt.setBoolean(index, b);
+		}else if(value instanceof byte[] b){
+			stmt.setBytes(index, b);
+		}else if(value instanceof Character c){
+			stmt.setString(index, c.toString());
+		}else if(value instanceof Float f){
+			stmt.setFloat(index, f);
+		}else if(value instanceof Double d){
+			stmt.setDouble(index, d);
+		}else if(value instanceof BigDecimal d){
+			stmt.setBigDecimal(index, d);
+		}else if(value instanceof BigInteger i){
+			stmt.setBigDecimal(index, new BigDecimal(i));
+		}else if(value instanceof Date d){
+			stmt.setDate(index, d);
+		}else if(value instanceof Time t){
+			stmt.setTime(index, t);
+		}else if(value instanceof Timestamp t){
+			stmt.setTimestamp(index, t);
+		}else{
+			stmt.setObject(index, value);
+		}
+	}
+	
+	/**
+	 * Binds all the given values to the placeholders of the given {@link PreparedStatement}, in order
+	 *
+	 * @param stmt The {@link PreparedStatement} to bind the values to
+	 * @param values The values to be bound (in the same order as the placeholders)
+	 * @throws SQLException If anything goes wrong
+	 */
+	public static void bindValues(PreparedStatement stmt, List<Object> values) throws SQLException{
+		int index = 1;
+		for(Object value: values){
+			bindValue(stmt, index++, value);
 		}
 	}
 	
@@ -173,35 +289,29 @@ public class SQLSyntaxUtil{
 	 * @param columnNames The names of the columns to use in the {@link Conditional}
 	 * @param values The values to use in the {@link Conditional}
 	 * @param search Whether to consider this a search or not
-	 * @return The {@link Conditional} that was made from the parameters
+	 * @return The {@link Conditional} that was made from the parameters (null if there are no values)
 	 */
 	public static Conditional makeConditional(Collection<String> columnNames, Collection<Object> values, boolean search){
-		if(values.size() == 1){
+		if(values.isEmpty()){
+			// No conditions means no where clause
+			return null;
+		}else if(values.size() == 1){
 			return Conditional.builder()
 					.firstCondStmt(makeConditionalStmt(search, columnNames.iterator().next(), values.iterator().next()))
 					.build();
 		}else{
-			Conditional cond = null;
-			// Iterate over the columnNames and values
+			// Make a statement for each of the columnNames and values
+			List<ConditionalStatement> condStmts = new ArrayList<>(values.size());
 			Iterator<String> colIt = columnNames.iterator();
 			Iterator<Object> valIt = values.iterator();
 			while(colIt.hasNext()){
-				ConditionalStatement condStmt = makeConditionalStmt(search, colIt.next(), valIt.next());
-				if(cond == null){
-					// If this is the first one, build a new conditional with just the first statement
-					cond = Conditional.builder()
-							.firstCondStmt(condStmt)
-							.build();
-				}else{
-					// If we already started the conditional, and this statement with the existing conditional
-					cond = Conditional.builder()
-							.firstCond(cond)
-							.operator(SQLConjunctiveOperator.AND)
-							.secondCondStmt(condStmt)
-							.build();
-				}
+				condStmts.add(makeConditionalStmt(search, colIt.next(), valIt.next()));
 			}
-			return cond;
+			
+			// Join all the statements with AND in a single conditional
+			return Conditional.builder()
+					.conditionStmts(SQLConjunctiveOperator.AND, condStmts)
+					.build();
 		}
 	}
 	
@@ -214,18 +324,206 @@ public class SQLSyntaxUtil{
 	 * @return The SQL text for the insert statement
 	 */
 	public static String formatInsertStatement(String table, Collection<String> columnNames, Collection<Object> values){
+		return makeInsertStatement(table, columnNames, values).toString();
+	}
+	
+	/**
+	 * Creates an Insert statement for the given parameters, using {@code ?} placeholders for the values
+	 *
+	 * @param table The name of the table to insert into
+	 * @param columnNames The names of the columns to insert into
+	 * @param values The values to insert into the columns
+	 * @return The {@link ParameterizedSQL} for the insert statement
+	 */
+	public static ParameterizedSQL formatParameterizedInsertStatement(
+			String table, Collection<String> columnNames, Collection<Object> values){
+		return makeInsertStatement(table, columnNames, values).toParameterizedSQL();
+	}
+	
+	/**
+	 * Creates a multi-row Insert statement for the given parameters, using {@code ?} placeholders for the values
+	 *
+	 * @param table The name of the table to insert into
+	 * @param columnNames The names of the columns to insert into
+	 * @param rows The rows of values to insert into the columns
+	 * @return The {@link ParameterizedSQL} for the insert statement
+	 */
+	public static ParameterizedSQL formatParameterizedBulkInsertStatement(
+			String table, Collection<String> columnNames, Collection<? extends Collection<Object>> rows){
+		return formatParameterizedUpsertStatement(table, columnNames, rows, null);
+	}
+	
+	/**
+	 * Creates a multi-row Insert statement for the given parameters, using {@code ?} placeholders for the values,
+	 * that updates the given columns of any rows that already exist instead
+	 * ({@code ON DUPLICATE KEY UPDATE column = VALUES(column)})
+	 *
+	 * @param table The name of the table to insert into
+	 * @param columnNames The names of the columns to insert into
+	 * @param rows The rows of values to insert into the columns
+	 * @param updateColumnNames The names of the columns to update if a row already exists (may be null/empty for a
+	 * plain insert)
+	 * @return The {@link ParameterizedSQL} for the upsert statement
+	 */
+	public static ParameterizedSQL formatParameterizedUpsertStatement(
+			String table, Collection<String> columnNames, Collection<? extends Collection<Object>> rows,
+			Collection<String> updateColumnNames){
+		return formatParameterizedUpsertStatement(table, columnNames, rows, updateColumnNames, null);
+	}
+	
+	/**
+	 * Creates a multi-row Insert statement for the given parameters, using {@code ?} placeholders for the values,
+	 * that updates the given columns of any rows that already exist instead
+	 * ({@code ON DUPLICATE KEY UPDATE column = VALUES(column)}). If a key column is given, it's also set to
+	 * {@code LAST_INSERT_ID(keyColumn)} so that the server reports the key of an existing row as the generated key.
+	 *
+	 * @param table The name of the table to insert into
+	 * @param columnNames The names of the columns to insert into
+	 * @param rows The rows of values to insert into the columns
+	 * @param updateColumnNames The names of the columns to update if a row already exists (may be null/empty for a
+	 * plain insert)
+	 * @param keyColumnName The name of the auto-incremented key column to report the key of an existing row for
+	 * (may be null to only report the keys of inserted rows)
+	 * @return The {@link ParameterizedSQL} for the upsert statement
+	 */
+	public static ParameterizedSQL formatParameterizedUpsertStatement(
+			String table, Collection<String> columnNames, Collection<? extends Collection<Object>> rows,
+			Collection<String> updateColumnNames, String keyColumnName){
+		return SQLInsertStatement.builder()
+				.table(TableRef.builder().tableName(table).build())
+				.columns(makeColumnRefs(columnNames))
+				.rows(rows.stream().<List<Object>>map(ArrayList::new).collect(Collectors.toList()))
+				.onDuplicateKeyUpdate(updateColumnNames != null?makeColumnRefs(updateColumnNames):new ArrayList<>())
+				.keyColumn(StringUtil.isNotBlank(keyColumnName)?makeColumnRef(keyColumnName):null)
+				.build()
+				.toParameterizedSQL();
+	}
+	
+	/**
+	 * Splits the given rows up into multi-row Insert statements (using {@code ?} placeholders for the values),
+	 * where each statement is kept under the given size (as estimated by {@link #estimateValueSize(Object)}) and
+	 * under {@link #MAX_PLACEHOLDERS}. The statements are built lazily as the returned {@link Iterator} is used, so
+	 * the rows are only read through once and don't all need to be in memory. A single row that's too big on its
+	 * own still gets its own statement.
+	 *
+	 * @param table The name of the table to insert into
+	 * @param columnNames The names of the columns to insert into
+	 * @param rows The rows of values to insert into the columns
+	 * @param maxStatementSize The most bytes each statement should take up
+	 * @return An {@link Iterator} of the {@link ParameterizedSQL} for each insert statement
+	 */
+	public static Iterator<ParameterizedSQL> formatParameterizedBulkInsertStatements(
+			String table, Collection<String> columnNames, Iterable<? extends Collection<Object>> rows,
+			long maxStatementSize){
+		return formatParameterizedBulkUpsertStatements(table, columnNames, rows, null, maxStatementSize);
+	}
+	
+	/**
+	 * Splits the given rows up into multi-row Insert statements the same way as
+	 * {@link #formatParameterizedBulkInsertStatements(String, Collection, Iterable, long)}, where each statement
+	 * updates the given columns of any rows that already exist instead (see
+	 * {@link #formatParameterizedUpsertStatement(String, Collection, Collection, Collection)})
+	 *
+	 * @param table The name of the table to insert into
+	 * @param columnNames The names of the columns to insert into
+	 * @param rows The rows of values to insert into the columns
+	 * @param updateColumnNames The names of the columns to update if a row already exists (may be null/empty for a
+	 * plain insert)
+	 * @param maxStatementSize The most bytes each statement should take up
+	 * @return An {@link Iterator} of the {@link ParameterizedSQL} for each upsert statement
+	 */
+	public static Iterator<ParameterizedSQL> formatParameterizedBulkUpsertStatements(
+			String table, Collection<String> columnNames, Iterable<? extends Collection<Object>> rows,
+			Collection<String> updateColumnNames, long maxStatementSize){
+		// Figure out the limits for each statement
+		long updateSize = updateColumnNames == null || updateColumnNames.isEmpty()?0:
+				" ON DUPLICATE KEY UPDATE ".length() +
+						updateColumnNames.stream().mapToLong(col -> 2L * col.length() + 13).sum();
+		long baseSize = "INSERT INTO  () VALUES ".length() + table.length() + updateSize +
+				columnNames.stream().mapToLong(col -> col.length() + 2).sum();
+		int maxRows = Math.max(1, MAX_PLACEHOLDERS / Math.max(1, columnNames.size()));
+		Iterator<? extends Collection<Object>> rowIterator = rows.iterator();
+		
+		return new Iterator<>(){
+			/** A row that didn't fit in the last statement, to start the next one */
+			private Collection<Object> leftoverRow = null;
+			
+			/** {@inheritDoc} */
+			@Override
+			public boolean hasNext(){
+				return leftoverRow != null || rowIterator.hasNext();
+			}
+			
+			/** {@inheritDoc} */
+			@Override
+			public ParameterizedSQL next(){
+				if(!hasNext()){
+					throw new NoSuchElementException();
+				}
+				
+				// Add rows until the next one doesn't fit
+				List<Collection<Object>> chunk = new ArrayList<>();
+				long chunkSize = baseSize;
+				while(hasNext()){
+					Collection<Object> row = leftoverRow != null?leftoverRow:rowIterator.next();
+					leftoverRow = null;
+					
+					// Each value also needs a comma and space, and each row needs parentheses, comma, and space
+					long rowSize = 4;
+					for(Object value: row){
+						rowSize += estimateValueSize(value) + 2;
+					}
+					if(!chunk.isEmpty() && (chunkSize + rowSize > maxStatementSize || chunk.size() >= maxRows)){
+						leftoverRow = row;
+						break;
+					}
+					chunk.add(row);
+					chunkSize += rowSize;
+				}
+				return formatParameterizedUpsertStatement(table, columnNames, chunk, updateColumnNames);
+			}
+		};
+	}
+	
+	/**
+	 * Estimates how many bytes the given value takes up when sent to the server in a statement. This is meant to
+	 * be on the safe side (e.g. Strings are counted as if every character needed escaping) so that statements can
+	 * be kept under the server's {@code max_allowed_packet}.
+	 *
+	 * @param value The value to estimate the size of
+	 * @return The estimated size of the value in bytes
+	 */
+	public static long estimateValueSize(Object value){
+		if(value == null){
+			return 4;
+		}else if(value instanceof String s){
+			return 2L * s.length() + 2;
+		}else if(value instanceof byte[] b){
+			return 2L * b.length + 2;
+		}else{
+			return convertValueToString(value).length();
+		}
+	}
+	
+	/**
+	 * Builds a {@link SQLInsertStatement} for the given parameters
+	 *
+	 * @param table The name of the table to insert into
+	 * @param columnNames The names of the columns to insert into
+	 * @param values The values to insert into the columns
+	 * @return The {@link SQLInsertStatement} that was built
+	 */
+	private static SQLInsertStatement makeInsertStatement(
+			String table, Collection<String> columnNames, Collection<Object> values){
 		// Convert the columns to ColumnRefs
 		List<ColumnRef> columns = makeColumnRefs(columnNames);
 		
 		// Build the insert statement
-		SQLInsertStatement insertStmt = SQLInsertStatement.builder()
+		return SQLInsertStatement.builder()
 				.table(TableRef.builder().tableName(table).build())
 				.columns(columns)
 				.values(values.toArray())
 				.build();
-		
-		// Return the insert statement string
-		return insertStmt.toString();
 	}
 	
 	/**
@@ -241,6 +539,38 @@ public class SQLSyntaxUtil{
 	public static String formatUpdateStatement(
 			String table, Collection<String> columnNames, Collection<Object> values,
 			Collection<String> whereColNames, Collection<Object> whereValues){
+		return makeUpdateStatement(table, columnNames, values, whereColNames, whereValues).toString();
+	}
+	
+	/**
+	 * Creates an Update statement for the given parameters, using {@code ?} placeholders for the values
+	 *
+	 * @param table The name of the table to update
+	 * @param columnNames The names of the columns to be updated
+	 * @param values The values to be updated
+	 * @param whereColNames The names of the columns for the where statement
+	 * @param whereValues The values for the where statement
+	 * @return The {@link ParameterizedSQL} for the update statement
+	 */
+	public static ParameterizedSQL formatParameterizedUpdateStatement(
+			String table, Collection<String> columnNames, Collection<Object> values,
+			Collection<String> whereColNames, Collection<Object> whereValues){
+		return makeUpdateStatement(table, columnNames, values, whereColNames, whereValues).toParameterizedSQL();
+	}
+	
+	/**
+	 * Builds a {@link SQLUpdateStatement} for the given parameters
+	 *
+	 * @param table The name of the table to update
+	 * @param columnNames The names of the columns to be updated
+	 * @param values The values to be updated
+	 * @param whereColNames The names of the columns for the where statement
+	 * @param whereValues The values for the where statement
+	 * @return The {@link SQLUpdateStatement} that was built
+	 */
+	private static SQLUpdateStatement makeUpdateStatement(
+			String table, Collection<String> columnNames, Collection<Object> values,
+			Collection<String> whereColNames, Collection<Object> whereValues){
 		// Convert the columns to ColumnRefs
 		List<ColumnRef> columns = makeColumnRefs(columnNames);
 		
@@ -258,16 +588,12 @@ public class SQLSyntaxUtil{
 				.setStatements(setStmts);
 		
 		// Add the where statement if we have it
-		SQLUpdateStatement updateStmt;
 		if(whereValues == null || whereValues.isEmpty()){
-			updateStmt = updateStmtStart.build();
+			return updateStmtStart.build();
 		}else{
-				updateStmt = updateStmtStart.whereStatement(makeConditional(whereColNames, whereValues, false))
+			return updateStmtStart.whereStatement(makeConditional(whereColNames, whereValues, false))
 					.build();
 		}
-		
-		// Return the update statement string
-		return updateStmt.toString();
 	}
 	
 	/**
@@ -283,6 +609,125 @@ public class SQLSyntaxUtil{
 	public static String formatQuery(
 			Collection<String> tables, Collection<String> returnColumns, Collection<String> cols,
 			Collection<Object> values, boolean search){
+		return makeSelectStatement(tables, returnColumns, cols, values, search).toString();
+	}
+	
+	/**
+	 * Creates a Select statement for the given parameters, using {@code ?} placeholders for the values
+	 *
+	 * @param tables The name of the tables to select from
+	 * @param returnColumns The names of the columns to be returned
+	 * @param cols The names of the columns to include in the where query
+	 * @param values The values for the columns in the where query
+	 * @param search Whether this is a search (to do LIKE %value% for string values instead of equals)
+	 * @return The {@link ParameterizedSQL} for the select statement
+	 */
+	public static ParameterizedSQL formatParameterizedQuery(
+			Collection<String> tables, Collection<String> returnColumns, Collection<String> cols,
+			Collection<Object> values, boolean search){
+		return makeSelectStatement(tables, returnColumns, cols, values, search).toParameterizedSQL();
+	}
+	
+	/**
+	 * Creates Select statements that find all the rows of a table whose key column is one of the given keys, using
+	 * {@code WHERE keyColumn IN (?, ?, ...)}. The keys are split up into chunks of at most chunkSize keys, with one
+	 * statement per chunk.
+	 *
+	 * @param table The name of the table to select from
+	 * @param returnColumns The names of the columns to be returned
+	 * @param keyColumn The name of the key column to look up the rows by
+	 * @param keys The keys of the rows to find
+	 * @param chunkSize The most keys to use in a single statement
+	 * @return The {@link ParameterizedSQL} for each of the select statements (empty if there are no keys)
+	 */
+	public static List<ParameterizedSQL> formatParameterizedKeyQueries(
+			String table, Collection<String> returnColumns, String keyColumn, Collection<?> keys, int chunkSize){
+		// Chunk size must fit in a single statement
+		if(chunkSize < 1 || chunkSize > MAX_PLACEHOLDERS){
+			throw new IllegalArgumentException("chunkSize must be between 1 and " + MAX_PLACEHOLDERS + "!");
+		}
+		
+		// Convert the table and columns into references to be shared by all the statements
+		TableRef fromTable = TableRef.builder().tableName(table).build();
+		List<ColumnRef> returnCols = makeColumnRefs(returnColumns);
+		ColumnRef keyCol = makeColumnRef(keyColumn);
+		
+		// Make a statement for each chunk of keys
+		List<ParameterizedSQL> queries = new ArrayList<>();
+		Iterator<?> keyIt = keys.iterator();
+		while(keyIt.hasNext()){
+			List<Object> chunk = new ArrayList<>(Math.min(chunkSize, keys.size()));
+			while(keyIt.hasNext() && chunk.size() < chunkSize){
+				chunk.add(keyIt.next());
+			}
+			queries.add(SQLSelectStatement.builder()
+					.returnColumns(returnCols)
+					.fromTables(fromTable)
+					.whereStatement(Conditional.builder()
+							.firstCondStmt(ConditionalStatement.builder()
+									.column(keyCol)
+									.operator(SQLOperator.IN)
+									.values(chunk)
+									.build())
+							.build())
+					.build()
+					.toParameterizedSQL());
+		}
+		return queries;
+	}
+	
+	/**
+	 * Creates a Select statement for a single page of keyset ("seek") pagination over a table: the first pageSize
+	 * rows (sorted by the key column) whose key is after the last key seen, using
+	 * {@code WHERE keyColumn > ? ORDER BY keyColumn ASC LIMIT pageSize}. Unlike using an offset, the server can seek
+	 * straight to the page using the key column's index, however deep into the table the page is.
+	 *
+	 * @param table The name of the table to select from
+	 * @param returnColumns The names of the columns to be returned
+	 * @param keyColumn The name of the (indexed and unique) key column to page by
+	 * @param lastSeenKey The key of the last row of the previous page (or null for the first page)
+	 * @param pageSize The most rows to return in the page
+	 * @return The {@link ParameterizedSQL} for the select statement
+	 */
+	public static ParameterizedSQL formatParameterizedKeysetQuery(
+			String table, Collection<String> returnColumns, String keyColumn, Object lastSeenKey, int pageSize){
+		// Start the select statement
+		ColumnRef keyCol = makeColumnRef(keyColumn);
+		SQLSelectStatement.WhereStatementAndBuild selectStart = SQLSelectStatement.builder()
+				.returnColumns(makeColumnRefs(returnColumns))
+				.fromTables(TableRef.builder().tableName(table).build());
+		
+		// Only look after the last seen key if we have one
+		SQLSelectStatement.OrderByAndBuild selectOrderBy = selectStart;
+		if(lastSeenKey != null){
+			selectOrderBy = selectStart.whereStatement(Conditional.builder()
+					.firstCondStmt(ConditionalStatement.builder()
+							.column(keyCol)
+							.operator(SQLOperator.GREATER_THAN)
+							.value(lastSeenKey)
+							.build())
+					.build());
+		}
+		
+		return selectOrderBy.orderBy(new OrderByColumn(keyCol, SQLSortOrder.ASC))
+				.limit(pageSize)
+				.build()
+				.toParameterizedSQL();
+	}
+	
+	/**
+	 * Builds a {@link SQLSelectStatement} for the given parameters
+	 *
+	 * @param tables The name of the tables to select from
+	 * @param returnColumns The names of the columns to be returned
+	 * @param cols The names of the columns to include in the where query
+	 * @param values The values for the columns in the where query
+	 * @param search Whether this is a search (to do LIKE %value% for string values instead of equals)
+	 * @return The {@link SQLSelectStatement} that was built
+	 */
+	private static SQLSelectStatement makeSelectStatement(
+			Collection<String> tables, Collection<String> returnColumns, Collection<String> cols,
+			Collection<Object> values, boolean search){
 		// Cols and Values must be the same size
 		if(cols.size() != values.size()){
 			throw new IllegalArgumentException("cols and values must be the same size!");
@@ -302,14 +747,11 @@ public class SQLSyntaxUtil{
 		Conditional cond = makeConditional(cols, values, search);
 		
 		// Build the select statement
-		SQLSelectStatement selectStmt = SQLSelectStatement.builder()
+		return SQLSelectStatement.builder()
 				.distinct()
 				.returnColumns(returnCols)
 				.fromTables(fromTables)
 				.whereStatement(cond)
 				.build();
-		
-		// Return the select statement string
-		return selectStmt.toString();
 	}
 }
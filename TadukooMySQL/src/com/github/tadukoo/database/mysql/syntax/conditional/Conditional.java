@@ -1,12 +1,15 @@
 package com.github.tadukoo.database.mysql.syntax.conditional;
 
+import com.github.tadukoo.util.ListUtil;
 import com.github.tadukoo.util.StringUtil;
 
 import java.util.ArrayList;
 import java.util.List;
 
 /**
- * Conditional represents a (potentially complex) conditional in MySQL
+ * Conditional represents a (potentially complex) conditional in MySQL. It's either one or two conditions joined
+ * by an operator, or a flat list of conditions all joined by the same operator (e.g. {@code A AND B AND C}), which
+ * avoids deeply nesting conditionals when there are a lot of conditions.
  *
  * @author Logan Ferree (Tadukoo)
  * @version Alpha v.0.3
@@ -53,6 +56,18 @@ public class Conditional{
 	 *         is used instead or if there's only one condition)</td>
 	 *         <td>Defaults to null</td>
 	 *     </tr>
+	 *     <tr>
+	 *         <td>conditions</td>
+	 *         <td>A list of {@link Conditional Conditionals} to all be joined by the operator (used instead of the
+	 *         first and second conditions)</td>
+	 *         <td>Defaults to null</td>
+	 *     </tr>
+	 *     <tr>
+	 *         <td>conditionStmts</td>
+	 *         <td>A list of {@link ConditionalStatement ConditionalStatements} to all be joined by the operator
+	 *         (used instead of the first and second conditions)</td>
+	 *         <td>Defaults to null</td>
+	 *     </tr>
 	 * </table>
 	 *
 	 * @author Logan Ferree (Tadukoo)
@@ -71,6 +86,10 @@ public class Conditional{
 		/** The second {@link ConditionalStatement} involved (it may be null if either a {@link Conditional} is used
 		 * instead or if there's only one condition) */
 		private ConditionalStatement secondCondStmt;
+		/** A list of {@link Conditional Conditionals} to all be joined by the operator */
+		private List<Conditional> conditions;
+		/** A list of {@link ConditionalStatement ConditionalStatements} to all be joined by the operator */
+		private List<ConditionalStatement> conditionStmts;
 		
 		/** Not allowed to instantiate outside Conditional */
 		private ConditionalBuilder(){ }
@@ -87,6 +106,30 @@ public class Conditional{
 			return this;
 		}
 		
+		/** {@inheritDoc} */
+		public Build conditions(SQLConjunctiveOperator operator, List<Conditional> conditions){
+			this.operator = operator;
+			this.conditions = conditions;
+			return this;
+		}
+		
+		/** {@inheritDoc} */
+		public Build conditions(SQLConjunctiveOperator operator, Conditional ... conditions){
+			return conditions(operator, ListUtil.createList(conditions));
+		}
+		
+		/** {@inheritDoc} */
+		public Build conditionStmts(SQLConjunctiveOperator operator, List<ConditionalStatement> conditionStmts){
+			this.operator = operator;
+			this.conditionStmts = conditionStmts;
+			return this;
+		}
+		
+		/** {@inheritDoc} */
+		public Build conditionStmts(SQLConjunctiveOperator operator, ConditionalStatement ... conditionStmts){
+			return conditionStmts(operator, ListUtil.createList(conditionStmts));
+		}
+		
 		/** {@inheritDoc} */
 		public SecondCondition operator(SQLConjunctiveOperator operator){
 			this.operator = operator;
@@ -111,24 +154,34 @@ public class Conditional{
 		private void checkForErrors(){
 			List<String> errors = new ArrayList<>();
 			
-			// Must specify either firstCond or firstCondStmt
-			if(firstCond == null && firstCondStmt == null){
-				errors.add("Must specify either firstCond or firstCondStmt!");
-			}
-			
-			// Can't specify a single conditional by itself
-			if(firstCond != null && secondCond == null && secondCondStmt == null){
-				errors.add("Can't specify a single conditional - that's already a conditional");
-			}
-			
-			// Must specify operator if it's two conditions
-			if((secondCond != null || secondCondStmt != null) && operator == null){
-				errors.add("Must specify an operator if you have two conditions!");
-			}
-			
-			// Can't specify operator if there's only one condition
-			if(secondCond == null && secondCondStmt == null && operator != null){
-				errors.add("Can't specify operator with only one condition!");
+			if(conditions != null || conditionStmts != null){
+				// A list of conditions just needs an operator and at least one condition
+				if(operator == null){
+					errors.add("Must specify an operator for a list of conditions!");
+				}
+				if(ListUtil.isBlank(conditions) && ListUtil.isBlank(conditionStmts)){
+					errors.add("Must specify at least one condition in a list of conditions!");
+				}
+			}else{
+				// Must specify either firstCond or firstCondStmt
+				if(firstCond == null && firstCondStmt == null){
+					errors.add("Must specify either firstCond or firstCondStmt!");
+				}
+				
+				// Can't specify a single conditional by itself
+				if(firstCond != null && secondCond == null && secondCondStmt == null){
+					errors.add("Can't specify a single conditional - that's already a conditional");
+				}
+				
+				// Must specify operator if it's two conditions
+				if((secondCond != null || secondCondStmt != null) && operator == null){
+					errors.add("Must specify an operator if you have two conditions!");
+				}
+				
+				// Can't specify operator if there's only one condition
+				if(secondCond == null && secondCondStmt == null && operator != null){
+					errors.add("Can't specify operator with only one condition!");
+				}
 			}
 			
 			// Report any errors
@@ -142,7 +195,8 @@ public class Conditional{
 		public Conditional build(){
 			checkForErrors();
 			
-			return new Conditional(firstCond, firstCondStmt, operator, secondCond, secondCondStmt);
+			return new Conditional(firstCond, firstCondStmt, operator, secondCond, secondCondStmt,
+					conditions, conditionStmts);
 		}
 	}
 	
@@ -158,6 +212,10 @@ public class Conditional{
 	/** The second {@link ConditionalStatement} involved (it may be null if either a {@link Conditional} is used
 	 * instead or if there's only one condition) */
 	private final ConditionalStatement secondCondStmt;
+	/** A list of {@link Conditional Conditionals} to all be joined by the operator (may be null) */
+	private final List<Conditional> conditions;
+	/** A list of {@link ConditionalStatement ConditionalStatements} to all be joined by the operator (may be null) */
+	private final List<ConditionalStatement> conditionStmts;
 	
 	/**
 	 * Constructs a new Conditional using the given parameters
@@ -167,15 +225,21 @@ public class Conditional{
 	 * @param operator The {@link SQLConjunctiveOperator operator} for the conditional
 	 * @param secondCond The second {@link Conditional} involved
 	 * @param secondCondStmt The second {@link ConditionalStatement} involved
+	 * @param conditions A list of {@link Conditional Conditionals} to all be joined by the operator
+	 * @param conditionStmts A list of {@link ConditionalStatement ConditionalStatements} to all be joined by the
+	 * operator
 	 */
 	private Conditional(
 			Conditional firstCond, ConditionalStatement firstCondStmt, SQLConjunctiveOperator operator,
-			Conditional secondCond, ConditionalStatement secondCondStmt){
+			Conditional secondCond, ConditionalStatement secondCondStmt,
+			List<Conditional> conditions, List<ConditionalStatement> conditionStmts){
 		this.firstCond = firstCond;
 		this.firstCondStmt = firstCondStmt;
 		this.operator = operator;
 		this.secondCond = secondCond;
 		this.secondCondStmt = secondCondStmt;
+		this.conditions = conditions;
+		this.conditionStmts = conditionStmts;
 	}
 	
 	/**
@@ -225,10 +289,72 @@ public class Conditional{
 		return secondCondStmt;
 	}
 	
+	/**
+	 * @return A list of {@link Conditional Conditionals} to all be joined by the operator (it may be null if this
+	 * isn't a list of conditionals)
+	 */
+	public List<Conditional> getConditions(){
+		return conditions;
+	}
+	
+	/**
+	 * @return A list of {@link ConditionalStatement ConditionalStatements} to all be joined by the operator (it may
+	 * be null if this isn't a list of conditional statements)
+	 */
+	public List<ConditionalStatement> getConditionStmts(){
+		return conditionStmts;
+	}
+	
 	/** {@inheritDoc} */
 	@Override
 	public String toString(){
-		StringBuilder conditional = new StringBuilder();
+		return toParameterizedString(null);
+	}
+	
+	/**
+	 * Builds the text of this conditional with {@code ?} placeholders in place of the values, for use in a
+	 * {@link java.sql.PreparedStatement}
+	 *
+	 * @param parameters The List to add the values to in order (or null to put the values inline instead)
+	 * @return The text of this conditional
+	 */
+	public String toParameterizedString(List<Object> parameters){
+		return appendTo(new StringBuilder(), parameters).toString();
+	}
+	
+	/**
+	 * Appends the text of this conditional to the given StringBuilder
+	 *
+	 * @param conditional The StringBuilder to append to
+	 * @param parameters The List to add the values to in order (or null to put the values inline instead)
+	 * @return The given StringBuilder, to continue appending
+	 */
+	public StringBuilder appendTo(StringBuilder conditional, List<Object> parameters){
+		// Lists of conditions are joined flat by the operator
+		if(ListUtil.isNotBlank(conditionStmts)){
+			for(int i = 0; i < conditionStmts.size(); i++){
+				if(i != 0){
+					conditional.append(' ').append(operator).append(' ');
+				}
+				conditionStmts.get(i).appendTo(conditional, parameters);
+			}
+			return conditional;
+		}else if(ListUtil.isNotBlank(conditions)){
+			for(int i = 0; i < conditions.size(); i++){
+				if(i != 0){
+					conditional.append(' ').append(operator).append(' ');
+				}
+				
+				// A conditional that joins conditions itself needs parentheses
+				Conditional cond = conditions.get(i);
+				if(cond.operator != null){
+					cond.appendTo(conditional.append('('), parameters).append(')');
+				}else{
+					cond.appendTo(conditional, parameters);
+				}
+			}
+			return conditional;
+		}
 		
 		// Determine if we have a second condition and if first and second are conditionals or conditional statements
 		boolean haveSecondCond = secondCond != null || secondCondStmt != null;
@@ -240,7 +366,11 @@ public class Conditional{
 			conditional.append('(');
 		}
 		// Add first condition
-		conditional.append(firstIsCond?firstCond.toString():firstCondStmt.toString());
+		if(firstIsCond){
+			firstCond.appendTo(conditional, parameters);
+		}else{
+			firstCondStmt.appendTo(conditional, parameters);
+		}
 		if(haveSecondCond && firstIsCond){
 			conditional.append(')');
 		}
@@ -248,18 +378,18 @@ public class Conditional{
 		// Add second condition if we have it
 		if(haveSecondCond){
 			// Add the operator
-			conditional.append(" ").append(operator.toString()).append(" ");
+			conditional.append(' ').append(operator).append(' ');
 			
 			// If the second condition is a conditional, it needs parentheses
 			if(secondIsCond){
-				conditional.append('(').append(secondCond).append(')');
+				secondCond.appendTo(conditional.append('('), parameters).append(')');
 			}else{
-				conditional.append(secondCondStmt);
+				secondCondStmt.appendTo(conditional, parameters);
 			}
 		}
 		
-		// Return the string we built
-		return conditional.toString();
+		// Return the builder we appended to
+		return conditional;
 	}
 	
 	/*
@@ -283,6 +413,35 @@ public class Conditional{
 		 * @return this, to continue building
 		 */
 		OperatorOrBuild firstCondStmt(ConditionalStatement firstCondStmt);
+		
+		/**
+		 * @param operator The {@link SQLConjunctiveOperator operator} to join all the conditions with
+		 * @param conditions A list of {@link Conditional Conditionals} to all be joined by the operator
+		 * @return this, to continue building
+		 */
+		Build conditions(SQLConjunctiveOperator operator, List<Conditional> conditions);
+		
+		/**
+		 * @param operator The {@link SQLConjunctiveOperator operator} to join all the conditions with
+		 * @param conditions {@link Conditional Conditionals} to all be joined by the operator
+		 * @return this, to continue building
+		 */
+		Build conditions(SQLConjunctiveOperator operator, Conditional ... conditions);
+		
+		/**
+		 * @param operator The {@link SQLConjunctiveOperator operator} to join all the conditions with
+		 * @param conditionStmts A list of {@link ConditionalStatement ConditionalStatements} to all be joined by the
+		 * operator
+		 * @return this, to continue building
+		 */
+		Build conditionStmts(SQLConjunctiveOperator operator, List<ConditionalStatement> conditionStmts);
+		
+		/**
+		 * @param operator The {@link SQLConjunctiveOperator operator} to join all the conditions with
+		 * @param conditionStmts {@link ConditionalStatement ConditionalStatements} to all be joined by the operator
+		 * @return this, to continue building
+		 */
+		Build conditionStmts(SQLConjunctiveOperator operator, ConditionalStatement ... conditionStmts);
 	}
 	
 	/**
@@ -301,7 +460,7 @@ public class Conditional{
 	 * The {@link SQLConjunctiveOperator Operator} or building part of building a {@link Conditional}
 	 */
 	public interface OperatorOrBuild extends Operator, Build{
-	
+		
 	}
 	
 	/**
@@ -5,6 +5,7 @@ import com.github.tadukoo.database.mysql.syntax.reference.ColumnRef;
 import com.github.tadukoo.util.StringUtil;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -43,9 +44,16 @@ public class ConditionalStatement{
 	 *     </tr>
 	 *     <tr>
 	 *         <td>value</td>
-	 *         <td>The value of the statement</td>
+	 *         <td>The value of the statement (a non-empty {@link Collection} of values for {@link SQLOperator#IN IN},
+	 *         or the start of the range for {@link SQLOperator#BETWEEN BETWEEN})</td>
 	 *         <td>Required</td>
 	 *     </tr>
+	 *     <tr>
+	 *         <td>endValue</td>
+	 *         <td>The end of the range for {@link SQLOperator#BETWEEN BETWEEN} (set along with value using
+	 *         range)</td>
+	 *         <td>Required for BETWEEN, otherwise not allowed</td>
+	 *     </tr>
 	 * </table>
 	 *
 	 * @author Logan Ferree (Tadukoo)
@@ -60,6 +68,8 @@ public class ConditionalStatement{
 		private SQLOperator operator = null;
 		/** the value of the statement */
 		private Object value = null;
+		/** The end of the range for {@link SQLOperator#BETWEEN BETWEEN} */
+		private Object endValue = null;
 		
 		/** Not allowed to instantiate outside ConditionalStatement */
 		private ConditionStatementBuilder(){ }
@@ -94,6 +104,19 @@ public class ConditionalStatement{
 			return this;
 		}
 		
+		/** {@inheritDoc} */
+		public Build values(Collection<?> values){
+			this.value = values;
+			return this;
+		}
+		
+		/** {@inheritDoc} */
+		public Build range(Object value, Object endValue){
+			this.value = value;
+			this.endValue = endValue;
+			return this;
+		}
+		
 		/**
 		 * Checks for any errors in the set parameters
 		 */
@@ -115,6 +138,24 @@ public class ConditionalStatement{
 				errors.add("value is required!");
 			}
 			
+			// IN needs a non-empty collection of values, and only IN can use a collection
+			if(operator == SQLOperator.IN){
+				if(!(value instanceof Collection<?> values) || values.isEmpty()){
+					errors.add("value must be a non-empty Collection for IN!");
+				}
+			}else if(value instanceof Collection){
+				errors.add("A Collection value can only be used with IN!");
+			}
+			
+			// BETWEEN needs an end value, and only BETWEEN can use one
+			if(operator == SQLOperator.BETWEEN){
+				if(endValue == null){
+					errors.add("endValue is required for BETWEEN!");
+				}
+			}else if(endValue != null){
+				errors.add("endValue can only be used with BETWEEN!");
+			}
+			
 			// report any errors
 			if(!errors.isEmpty()){
 				throw new IllegalArgumentException("Encountered the following errors trying to build a " +
@@ -126,7 +167,7 @@ public class ConditionalStatement{
 		public ConditionalStatement build(){
 			checkForErrors();
 			
-			return new ConditionalStatement(negated, column, operator, value);
+			return new ConditionalStatement(negated, column, operator, value, endValue);
 		}
 	}
 	
@@ -138,6 +179,8 @@ public class ConditionalStatement{
 	private final SQLOperator operator;
 	/** The value of this statement */
 	private final Object value;
+	/** The end of the range for {@link SQLOperator#BETWEEN BETWEEN} (null for other operators) */
+	private final Object endValue;
 	
 	/**
 	 * Constructs a new conditional statement with the given parameters
@@ -146,12 +189,15 @@ public class ConditionalStatement{
 	 * @param column The column of the statement
 	 * @param operator The operator of the statement
 	 * @param value The value of the statement
+	 * @param endValue The end of the range for {@link SQLOperator#BETWEEN BETWEEN}
 	 */
-	private ConditionalStatement(boolean negated, ColumnRef column, SQLOperator operator, Object value){
+	private ConditionalStatement(
+			boolean negated, ColumnRef column, SQLOperator operator, Object value, Object endValue){
 		this.negated = negated;
 		this.column = column;
 		this.operator = operator;
 		this.value = value;
+		this.endValue = endValue;
 	}
 	
 	/**
@@ -189,11 +235,59 @@ public class ConditionalStatement{
 		return value;
 	}
 	
+	/**
+	 * @return The end of the range for {@link SQLOperator#BETWEEN BETWEEN} (null for other operators)
+	 */
+	public Object getEndValue(){
+		return endValue;
+	}
+	
 	/** {@inheritDoc} */
 	@Override
 	public String toString(){
-		return (negated?"NOT ":"") + column.toString() + " " + operator.toString() + " " +
-				SQLSyntaxUtil.convertValueToString(value);
+		return toParameterizedString(null);
+	}
+	
+	/**
+	 * Builds the text of this statement with a {@code ?} placeholder in place of the value, for use in a
+	 * {@link java.sql.PreparedStatement}
+	 *
+	 * @param parameters The List to add the value to (or null to put the value inline instead)
+	 * @return The text of this statement
+	 */
+	public String toParameterizedString(List<Object> parameters){
+		return appendTo(new StringBuilder(), parameters).toString();
+	}
+	
+	/**
+	 * Appends the text of this statement to the given StringBuilder
+	 *
+	 * @param statement The StringBuilder to append to
+	 * @param parameters The List to add the value(s) to (or null to put the value(s) inline instead)
+	 * @return The given StringBuilder, to continue appending
+	 */
+	public StringBuilder appendTo(StringBuilder statement, List<Object> parameters){
+		if(negated){
+			statement.append("NOT ");
+		}
+		column.appendTo(statement).append(' ').append(operator).append(' ');
+		
+		if(operator == SQLOperator.IN){
+			// IN has a list of values in parentheses
+			statement.append('(');
+			for(Object inValue: (Collection<?>) value){
+				SQLSyntaxUtil.appendValueOrPlaceholder(statement, inValue, parameters).append(", ");
+			}
+			// Remove last unnecessary comma
+			statement.delete(statement.length() - 2, statement.length());
+			return statement.append(')');
+		}else if(operator == SQLOperator.BETWEEN){
+			// BETWEEN has the start and end of the range
+			SQLSyntaxUtil.appendValueOrPlaceholder(statement, value, parameters).append(" AND ");
+			return SQLSyntaxUtil.appendValueOrPlaceholder(statement, endValue, parameters);
+		}else{
+			return SQLSyntaxUtil.appendValueOrPlaceholder(statement, value, parameters);
+		}
 	}
 	
 	/*
@@ -244,6 +338,19 @@ public class ConditionalStatement{
 		 * @return this, to continue building
 		 */
 		Build value(Object value);
+		
+		/**
+		 * @param values The values to check the column against (for {@link SQLOperator#IN IN})
+		 * @return this, to continue building
+		 */
+		Build values(Collection<?> values);
+		
+		/**
+		 * @param value The start of the range (for {@link SQLOperator#BETWEEN BETWEEN})
+		 * @param endValue The end of the range (for {@link SQLOperator#BETWEEN BETWEEN})
+		 * @return this, to continue building
+		 */
+		Build range(Object value, Object endValue);
 	}
 	
 	/**
@@ -3,6 +3,8 @@ package com.github.tadukoo.database.mysql.syntax.conditional;
 import com.github.tadukoo.database.mysql.syntax.SQLSyntaxUtil;
 import com.github.tadukoo.database.mysql.syntax.reference.ColumnRef;
 
+import java.util.List;
+
 /**
  * EqualsStatement represents a simple MySQL equals statement
  *
@@ -44,6 +46,29 @@ public class EqualsStatement{
 	/** {@inheritDoc} */
 	@Override
 	public String toString(){
-		return column.toString() + " " + SQLOperator.EQUAL + " " + SQLSyntaxUtil.convertValueToString(value);
+		return toParameterizedString(null);
+	}
+	
+	/**
+	 * Builds the text of this statement with a {@code ?} placeholder in place of the value, for use in a
+	 * {@link java.sql.PreparedStatement}
+	 *
+	 * @param parameters The List to add the value to (or null to put the value inline instead)
+	 * @return The text of this statement
+	 */
+	public String toParameterizedString(List<Object> parameters){
+		return appendTo(new StringBuilder(), parameters).toString();
+	}
+	
+	/**
+	 * Appends the text of this statement to the given StringBuilder
+	 *
+	 * @param statement The StringBuilder to append to
+	 * @param parameters The List to add the value to (or null to put the value inline instead)
+	 * @return The given StringBuilder, to continue appending
+	 */
+	public StringBuilder appendTo(StringBuilder statement, List<Object> parameters){
+		column.appendTo(statement).append(' ').append(SQLOperator.EQUAL).append(' ');
+		return SQLSyntaxUtil.appendValueOrPlaceholder(statement, value, parameters);
 	}
 }
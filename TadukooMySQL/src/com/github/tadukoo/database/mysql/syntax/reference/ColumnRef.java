@@ -160,8 +160,16 @@ public class ColumnRef{
 	/** {@inheritDoc} */
 	@Override
 	public String toString(){
-		StringBuilder columnRef = new StringBuilder();
-		
+		return appendTo(new StringBuilder()).toString();
+	}
+	
+	/**
+	 * Appends the text of this column reference to the given StringBuilder
+	 *
+	 * @param columnRef The StringBuilder to append to
+	 * @return The given StringBuilder, to continue appending
+	 */
+	public StringBuilder appendTo(StringBuilder columnRef){
 		// Add table name and a dot if we have it
 		if(StringUtil.isNotBlank(tableName)){
 			columnRef.append(tableName).append('.');
@@ -182,7 +190,7 @@ public class ColumnRef{
 			}
 		}
 		
-		return columnRef.toString();
+		return columnRef;
 	}
 	
 	/*
@@ -0,0 +1,72 @@
+package com.github.tadukoo.database.mysql.syntax.reference;
+
+import com.github.tadukoo.util.StringUtil;
+
+/**
+ * Order By Column represents a single column of a MySQL {@code ORDER BY}, along with the direction to sort it in
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.3
+ */
+public class OrderByColumn{
+	
+	/** The {@link ColumnRef column} to sort by */
+	private final ColumnRef column;
+	/** The {@link SQLSortOrder direction} to sort the column in */
+	private final SQLSortOrder order;
+	
+	/**
+	 * Constructs a new OrderByColumn that sorts the given column in ascending order
+	 *
+	 * @param column The {@link ColumnRef column} to sort by
+	 */
+	public OrderByColumn(ColumnRef column){
+		this(column, SQLSortOrder.ASC);
+	}
+	
+	/**
+	 * Constructs a new OrderByColumn using the given parameters
+	 *
+	 * @param column The {@link ColumnRef column} to sort by
+	 * @param order The {@link SQLSortOrder direction} to sort the column in
+	 */
+	public OrderByColumn(ColumnRef column, SQLSortOrder order){
+		this.column = column;
+		this.order = order;
+	}
+	
+	/**
+	 * @return The {@link ColumnRef column} to sort by
+	 */
+	public ColumnRef getColumn(){
+		return column;
+	}
+	
+	/**
+	 * @return The {@link SQLSortOrder direction} to sort the column in
+	 */
+	public SQLSortOrder getOrder(){
+		return order;
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public String toString(){
+		return appendTo(new StringBuilder()).toString();
+	}
+	
+	/**
+	 * Appends the text of this column to the given StringBuilder
+	 *
+	 * @param orderBy The StringBuilder to append to
+	 * @return The given StringBuilder, to continue appending
+	 */
+	public StringBuilder appendTo(StringBuilder orderBy){
+		// Add table name and a dot if we have it (the alias isn't used here)
+		if(StringUtil.isNotBlank(column.getTableName())){
+			orderBy.append(column.getTableName()).append('.');
+		}
+		
+		return orderBy.append(column.getColumnName()).append(' ').append(order);
+	}
+}
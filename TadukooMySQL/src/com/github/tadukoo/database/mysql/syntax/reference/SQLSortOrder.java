@@ -0,0 +1,52 @@
+package com.github.tadukoo.database.mysql.syntax.reference;
+
+import com.github.tadukoo.util.StringUtil;
+
+/**
+ * SQL Sort Order represents the direction to sort a column in for an {@code ORDER BY}
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.3
+ */
+public enum SQLSortOrder{
+	/** Smallest values first ({@code ASC}) */
+	ASC("ASC"),
+	/** Largest values first ({@code DESC}) */
+	DESC("DESC");
+	
+	/** The sort order string */
+	private final String order;
+	
+	/**
+	 * Constructs a new SQLSortOrder using the given parameters
+	 *
+	 * @param order The sort order string
+	 */
+	SQLSortOrder(String order){
+		this.order = order;
+	}
+	
+	/**
+	 * Searches for a sort order that matches the given sort order string
+	 *
+	 * @param order The sort order string to match on
+	 * @return The found sort order, or null if none could be found
+	 */
+	public static SQLSortOrder fromString(String order){
+		// Look for a sort order that matches the given sort order string
+		for(SQLSortOrder sortOrder: values()){
+			if(StringUtil.equalsIgnoreCase(sortOrder.toString(), order)){
+				return sortOrder;
+			}
+		}
+		
+		// Return null if we couldn't find a matching sort order
+		return null;
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public String toString(){
+		return order;
+	}
+}
@@ -125,14 +125,24 @@ public class TableRef{
 	/** {@inheritDoc} */
 	@Override
 	public String toString(){
-		StringBuilder tableRef = new StringBuilder(tableName);
+		return appendTo(new StringBuilder()).toString();
+	}
+	
+	/**
+	 * Appends the text of this table reference to the given StringBuilder
+	 *
+	 * @param tableRef The StringBuilder to append to
+	 * @return The given StringBuilder, to continue appending
+	 */
+	public StringBuilder appendTo(StringBuilder tableRef){
+		tableRef.append(tableName);
 		
 		// If we have alias, add it
 		if(StringUtil.isNotBlank(alias)){
 			tableRef.append(" AS ").append(alias);
 		}
 		
-		return tableRef.toString();
+		return tableRef;
 	}
 	
 	/*
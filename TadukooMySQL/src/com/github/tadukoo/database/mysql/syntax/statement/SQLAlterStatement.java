@@ -254,20 +254,30 @@ public class SQLAlterStatement{
 	/** {@inheritDoc} */
 	@Override
 	public String toString(){
+		return appendTo(new StringBuilder()).toString();
+	}
+	
+	/**
+	 * Appends the text of this statement to the given StringBuilder
+	 *
+	 * @param stmt The StringBuilder to append to
+	 * @return The given StringBuilder, to continue appending
+	 */
+	public StringBuilder appendTo(StringBuilder stmt){
 		// Start statement
-		StringBuilder stmt = new StringBuilder("ALTER ").append(type).append(' ').append(tableName)
+		stmt.append("ALTER ").append(type).append(' ').append(tableName)
 				.append(' ').append(operation).append(' ');
 		
 		// Append either columnName or columnDef or foreign key
 		if(columnDef != null){
-			stmt.append(columnDef);
+			columnDef.appendTo(stmt);
 		}else if(foreignKey != null){
-			stmt.append(foreignKey);
+			foreignKey.appendTo(stmt);
 		}else{
 			stmt.append(columnName);
 		}
 		
-		return stmt.toString();
+		return stmt;
 	}
 	
 	/*
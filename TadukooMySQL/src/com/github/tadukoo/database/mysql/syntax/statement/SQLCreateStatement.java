@@ -275,8 +275,18 @@ public class SQLCreateStatement{
 	/** {@inheritDoc} */
 	@Override
 	public String toString(){
+		return appendTo(new StringBuilder()).toString();
+	}
+	
+	/**
+	 * Appends the text of this statement to the given StringBuilder
+	 *
+	 * @param stmt The StringBuilder to append to
+	 * @return The given StringBuilder, to continue appending
+	 */
+	public StringBuilder appendTo(StringBuilder stmt){
 		// Start the statement
-		StringBuilder stmt = new StringBuilder("CREATE ").append(type).append(' ');
+		stmt.append("CREATE ").append(type).append(' ');
 		
 		// Add IF NOT EXISTS if specified
 		if(ifNotExists){
@@ -288,14 +298,14 @@ public class SQLCreateStatement{
 		
 		// If we have the select statement, do an as
 		if(selectStmt != null){
-			stmt.append(" AS ").append(selectStmt);
+			selectStmt.appendTo(stmt.append(" AS "), null);
 		}
 		
 		// If we have columns, add them to the statement
 		if(ListUtil.isNotBlank(columns)){
 			stmt.append('(');
 			for(ColumnDefinition column: columns){
-				stmt.append(column).append(", ");
+				column.appendTo(stmt).append(", ");
 			}
 			// Remove last comma
 			stmt.delete(stmt.length() - 2, stmt.length());
@@ -303,7 +313,7 @@ public class SQLCreateStatement{
 			// If we have foreign keys, add them to the statement
 			if(ListUtil.isNotBlank(foreignKeys)){
 				for(ForeignKeyConstraint foreignKey: foreignKeys){
-					stmt.append(", ").append(foreignKey);
+					foreignKey.appendTo(stmt.append(", "));
 				}
 			}
 			
@@ -311,7 +321,7 @@ public class SQLCreateStatement{
 			stmt.append(')');
 		}
 		
-		return stmt.toString();
+		return stmt;
 	}
 	
 	/*
@@ -129,7 +129,24 @@ public class SQLDeleteStatement{
 	/** {@inheritDoc} */
 	@Override
 	public String toString(){
-		return "DELETE FROM " + table + (whereStatement == null?"":" WHERE " + whereStatement);
+		return appendTo(new StringBuilder()).toString();
+	}
+	
+	/**
+	 * Appends the text of this statement to the given StringBuilder
+	 *
+	 * @param stmt The StringBuilder to append to
+	 * @return The given StringBuilder, to continue appending
+	 */
+	public StringBuilder appendTo(StringBuilder stmt){
+		table.appendTo(stmt.append("DELETE FROM "));
+		
+		// Add where statement if we have it
+		if(whereStatement != null){
+			whereStatement.appendTo(stmt.append(" WHERE "), null);
+		}
+		
+		return stmt;
 	}
 	
 	/*
@@ -160,7 +160,17 @@ public class SQLDropStatement{
 	
 	@Override
 	public String toString(){
-		StringBuilder stmt = new StringBuilder("DROP ").append(type).append(' ');
+		return appendTo(new StringBuilder()).toString();
+	}
+	
+	/**
+	 * Appends the text of this statement to the given StringBuilder
+	 *
+	 * @param stmt The StringBuilder to append to
+	 * @return The given StringBuilder, to continue appending
+	 */
+	public StringBuilder appendTo(StringBuilder stmt){
+		stmt.append("DROP ").append(type).append(' ');
 		
 		// Add IF EXISTS if specified
 		if(ifExists){
@@ -170,7 +180,7 @@ public class SQLDropStatement{
 		// Add the name to the end
 		stmt.append(name);
 		
-		return stmt.toString();
+		return stmt;
 	}
 	
 	/*
@@ -1,6 +1,8 @@
 package com.github.tadukoo.database.mysql.syntax.statement;
 
+import com.github.tadukoo.database.mysql.syntax.ParameterizedSQL;
 import com.github.tadukoo.database.mysql.syntax.SQLSyntaxUtil;
+import com.github.tadukoo.database.mysql.syntax.conditional.EqualsStatement;
 import com.github.tadukoo.database.mysql.syntax.reference.ColumnRef;
 import com.github.tadukoo.database.mysql.syntax.reference.TableRef;
 import com.github.tadukoo.util.ListUtil;
@@ -10,7 +12,8 @@ import java.util.ArrayList;
 import java.util.List;
 
 /**
- * SQLInsertStatement represents a MySQL Insert Statement
+ * SQLInsertStatement represents a MySQL Insert Statement (optionally with an {@code ON DUPLICATE KEY UPDATE}
+ * clause, to make it an upsert)
  *
  * @author Logan Ferree (Tadukoo)
  * @version Alpha v.0.3
@@ -38,15 +41,41 @@ public class SQLInsertStatement{
 	 *         <td>Defaults to empty list</td>
 	 *     </tr>
 	 *     <tr>
-	 *         <td>values</td>
-	 *         <td>The values to insert</td>
-	 *         <td>Defaults to empty list - need either this or select statement</td>
+	 *         <td>rows</td>
+	 *         <td>The rows of values to insert (setting values sets a single row)</td>
+	 *         <td>Defaults to a single empty row - need either this or select statement</td>
 	 *     </tr>
 	 *     <tr>
 	 *         <td>selectStmt</td>
 	 *         <td>The {@link SQLSelectStatement select statement} to use for values to insert</td>
 	 *         <td>Defaults to null - need either this or values</td>
 	 *     </tr>
+	 *     <tr>
+	 *         <td>rowAlias</td>
+	 *         <td>The alias to give the new rows ({@code AS alias}), so that
+	 *         {@link #onDuplicateKeyUpdate(List) update columns} use {@code alias.column} instead of the
+	 *         {@code VALUES(column)} function (which MySQL 8.0.20+ deprecates, but MariaDB requires)</td>
+	 *         <td>Defaults to null (uses {@code VALUES(column)})</td>
+	 *     </tr>
+	 *     <tr>
+	 *         <td>updateColumns</td>
+	 *         <td>The {@link ColumnRef columns} to set to their new values when a row already exists
+	 *         ({@code ON DUPLICATE KEY UPDATE column = VALUES(column)})</td>
+	 *         <td>Defaults to empty list</td>
+	 *     </tr>
+	 *     <tr>
+	 *         <td>updateStatements</td>
+	 *         <td>The {@link EqualsStatement statements} to set values when a row already exists
+	 *         ({@code ON DUPLICATE KEY UPDATE column = value})</td>
+	 *         <td>Defaults to empty list</td>
+	 *     </tr>
+	 *     <tr>
+	 *         <td>keyColumn</td>
+	 *         <td>The auto-incremented {@link ColumnRef column} to report the value of when a row already exists
+	 *         ({@code ON DUPLICATE KEY UPDATE column = LAST_INSERT_ID(column)}), so that the generated keys hold the
+	 *         key of the existing row</td>
+	 *         <td>Defaults to null (only the key of an inserted row is reported)</td>
+	 *     </tr>
 	 * </table>
 	 *
 	 * @author Logan Ferree (Tadukoo)
@@ -57,10 +86,18 @@ public class SQLInsertStatement{
 		private TableRef table;
 		/** The {@link ColumnRef columns} to insert into */
 		private List<ColumnRef> columns = new ArrayList<>();
-		/** The values to insert */
-		private List<Object> values = new ArrayList<>();
+		/** The rows of values to insert */
+		private List<List<Object>> rows = ListUtil.createList(new ArrayList<>());
 		/** The {@link SQLSelectStatement select statement} to use for values to insert */
 		private SQLSelectStatement selectStmt = null;
+		/** The alias to give the new rows, to use in place of {@code VALUES(column)} */
+		private String rowAlias = null;
+		/** The {@link ColumnRef columns} to set to their new values when a row already exists */
+		private List<ColumnRef> updateColumns = new ArrayList<>();
+		/** The {@link EqualsStatement statements} to set values when a row already exists */
+		private List<EqualsStatement> updateStatements = new ArrayList<>();
+		/** The auto-incremented {@link ColumnRef column} to report the value of when a row already exists */
+		private ColumnRef keyColumn = null;
 		
 		/**
 		 * Not allowed to instantiate outside SQLInsertStatement
@@ -87,13 +124,19 @@ public class SQLInsertStatement{
 		
 		/** {@inheritDoc} */
 		public Build values(List<Object> values){
-			this.values = values;
+			this.rows = ListUtil.createList(values);
 			return this;
 		}
 		
 		/** {@inheritDoc} */
 		public Build values(Object ... values){
-			this.values = ListUtil.createList(values);
+			this.rows = ListUtil.createList(ListUtil.createList(values));
+			return this;
+		}
+		
+		/** {@inheritDoc} */
+		public Build rows(List<List<Object>> rows){
+			this.rows = rows;
 			return this;
 		}
 		
@@ -103,6 +146,42 @@ public class SQLInsertStatement{
 			return this;
 		}
 		
+		/** {@inheritDoc} */
+		public Build rowAlias(String rowAlias){
+			this.rowAlias = rowAlias;
+			return this;
+		}
+		
+		/** {@inheritDoc} */
+		public Build onDuplicateKeyUpdate(List<ColumnRef> updateColumns){
+			this.updateColumns = updateColumns;
+			return this;
+		}
+		
+		/** {@inheritDoc} */
+		public Build onDuplicateKeyUpdate(ColumnRef ... updateColumns){
+			this.updateColumns = ListUtil.createList(updateColumns);
+			return this;
+		}
+		
+		/** {@inheritDoc} */
+		public Build onDuplicateKeyUpdateStatements(List<EqualsStatement> updateStatements){
+			this.updateStatements = updateStatements;
+			return this;
+		}
+		
+		/** {@inheritDoc} */
+		public Build onDuplicateKeyUpdateStatements(EqualsStatement ... updateStatements){
+			this.updateStatements = ListUtil.createList(updateStatements);
+			return this;
+		}
+		
+		/** {@inheritDoc} */
+		public Build keyColumn(ColumnRef keyColumn){
+			this.keyColumn = keyColumn;
+			return this;
+		}
+		
 		/**
 		 * Checks for any errors and throws an IllegalArgumentException if any are found
 		 */
@@ -114,9 +193,24 @@ public class SQLInsertStatement{
 				errors.add("table is required!");
 			}
 			
-			// if columns and values aren't empty, it must match the number of values
-			if(ListUtil.isNotBlank(columns) && selectStmt == null && columns.size() != values.size()){
-				errors.add("Number of columns must equal number of values if specified!");
+			if(selectStmt == null){
+				if(ListUtil.isBlank(rows)){
+					// Need at least one row of values
+					errors.add("rows can't be empty!");
+				}else if(ListUtil.isNotBlank(columns)){
+					// if columns aren't empty, they must match the number of values in every row
+					if(rows.stream().anyMatch(row -> row.size() != columns.size())){
+						errors.add("Number of columns must equal number of values if specified!");
+					}
+				}else if(rows.stream().anyMatch(row -> row.size() != rows.get(0).size())){
+					// without columns, every row still needs the same number of values
+					errors.add("All rows must have the same number of values!");
+				}
+			}
+			
+			// the row alias only works with values
+			if(StringUtil.isNotBlank(rowAlias) && selectStmt != null){
+				errors.add("rowAlias can't be used with a select statement!");
 			}
 			
 			// Report any errors
@@ -130,7 +224,8 @@ public class SQLInsertStatement{
 		public SQLInsertStatement build(){
 			checkForErrors();
 			
-			return new SQLInsertStatement(table, columns, values, selectStmt);
+			return new SQLInsertStatement(table, columns, rows, selectStmt, rowAlias, updateColumns, updateStatements,
+					keyColumn);
 		}
 	}
 	
@@ -138,25 +233,42 @@ public class SQLInsertStatement{
 	private final TableRef table;
 	/** The {@link ColumnRef columns} to insert into */
 	private final List<ColumnRef> columns;
-	/** The values to insert */
-	private final List<Object> values;
+	/** The rows of values to insert */
+	private final List<List<Object>> rows;
 	/** The {@link SQLSelectStatement select statement} to use for values to insert */
 	private final SQLSelectStatement selectStmt;
+	/** The alias to give the new rows, to use in place of {@code VALUES(column)} */
+	private final String rowAlias;
+	/** The {@link ColumnRef columns} to set to their new values when a row already exists */
+	private final List<ColumnRef> updateColumns;
+	/** The {@link EqualsStatement statements} to set values when a row already exists */
+	private final List<EqualsStatement> updateStatements;
+	/** The auto-incremented {@link ColumnRef column} to report the value of when a row already exists */
+	private final ColumnRef keyColumn;
 	
 	/**
 	 * Constructs a new SQLInsertStatement using the given parameters
 	 *
 	 * @param table The {@link TableRef table} to insert into
 	 * @param columns The {@link ColumnRef columns} to insert into
-	 * @param values The values to insert
+	 * @param rows The rows of values to insert
 	 * @param selectStmt The {@link SQLSelectStatement select statement} to use for values to insert
+	 * @param rowAlias The alias to give the new rows, to use in place of {@code VALUES(column)}
+	 * @param updateColumns The {@link ColumnRef columns} to set to their new values when a row already exists
+	 * @param updateStatements The {@link EqualsStatement statements} to set values when a row already exists
+	 * @param keyColumn The auto-incremented {@link ColumnRef column} to report the value of when a row already exists
 	 */
-	private SQLInsertStatement(TableRef table, List<ColumnRef> columns, List<Object> values,
-	                           SQLSelectStatement selectStmt){
+	private SQLInsertStatement(TableRef table, List<ColumnRef> columns, List<List<Object>> rows,
+	                           SQLSelectStatement selectStmt, String rowAlias, List<ColumnRef> updateColumns,
+	                           List<EqualsStatement> updateStatements, ColumnRef keyColumn){
 		this.table = table;
 		this.columns = columns;
-		this.values = values;
+		this.rows = rows;
 		this.selectStmt = selectStmt;
+		this.rowAlias = rowAlias;
+		this.updateColumns = updateColumns;
+		this.updateStatements = updateStatements;
+		this.keyColumn = keyColumn;
 	}
 	
 	/**
@@ -181,10 +293,17 @@ public class SQLInsertStatement{
 	}
 	
 	/**
-	 * @return The values to insert
+	 * @return The values to insert (the first row of values if there are multiple rows)
 	 */
 	public List<Object> getValues(){
-		return values;
+		return rows.get(0);
+	}
+	
+	/**
+	 * @return The rows of values to insert
+	 */
+	public List<List<Object>> getRows(){
+		return rows;
 	}
 	
 	/**
@@ -194,19 +313,79 @@ public class SQLInsertStatement{
 		return selectStmt;
 	}
 	
+	/**
+	 * @return The alias to give the new rows, to use in place of {@code VALUES(column)}
+	 */
+	public String getRowAlias(){
+		return rowAlias;
+	}
+	
+	/**
+	 * @return The {@link ColumnRef columns} to set to their new values when a row already exists
+	 */
+	public List<ColumnRef> getUpdateColumns(){
+		return updateColumns;
+	}
+	
+	/**
+	 * @return The {@link EqualsStatement statements} to set values when a row already exists
+	 */
+	public List<EqualsStatement> getUpdateStatements(){
+		return updateStatements;
+	}
+	
+	/**
+	 * @return The auto-incremented {@link ColumnRef column} to report the value of when a row already exists
+	 */
+	public ColumnRef getKeyColumn(){
+		return keyColumn;
+	}
+	
 	/** {@inheritDoc} */
 	@Override
 	public String toString(){
-		StringBuilder statement = new StringBuilder("INSERT INTO ");
+		return toParameterizedString(null);
+	}
+	
+	/**
+	 * @return This statement as {@link ParameterizedSQL}, with {@code ?} placeholders in place of the values to be
+	 * bound when run as a {@link java.sql.PreparedStatement}
+	 */
+	public ParameterizedSQL toParameterizedSQL(){
+		List<Object> parameters = new ArrayList<>();
+		String sql = toParameterizedString(parameters);
+		return new ParameterizedSQL(sql, parameters);
+	}
+	
+	/**
+	 * Builds the text of this statement with {@code ?} placeholders in place of the values
+	 *
+	 * @param parameters The List to add the values to in order (or null to put the values inline instead)
+	 * @return The text of this statement
+	 */
+	public String toParameterizedString(List<Object> parameters){
+		return appendTo(new StringBuilder(), parameters).toString();
+	}
+	
+	/**
+	 * Appends the text of this statement to the given StringBuilder, with {@code ?} placeholders in place of the
+	 * values
+	 *
+	 * @param statement The StringBuilder to append to
+	 * @param parameters The List to add the values to in order (or null to put the values inline instead)
+	 * @return The given StringBuilder, to continue appending
+	 */
+	public StringBuilder appendTo(StringBuilder statement, List<Object> parameters){
+		statement.append("INSERT INTO ");
 		
 		// Add table
-		statement.append(table).append(' ');
+		table.appendTo(statement).append(' ');
 		
 		// Add columns if we have them
 		if(ListUtil.isNotBlank(columns)){
 			statement.append('(');
 			for(ColumnRef column: columns){
-				statement.append(column).append(", ");
+				column.appendTo(statement).append(", ");
 			}
 			// Remove last unnecessary comma
 			statement.delete(statement.length()-2, statement.length());
@@ -215,21 +394,59 @@ public class SQLInsertStatement{
 		
 		// Add select statement if we have it
 		if(selectStmt != null){
-			statement.append(selectStmt);
+			selectStmt.appendTo(statement, parameters);
 		}else{
-			// Add values
-			statement.append("VALUES (");
-			if(ListUtil.isNotBlank(values)){
-				for(Object value: values){
-					statement.append(SQLSyntaxUtil.convertValueToString(value)).append(", ");
+			// Add values for each row
+			statement.append("VALUES ");
+			for(List<Object> values: rows){
+				statement.append('(');
+				if(ListUtil.isNotBlank(values)){
+					for(Object value: values){
+						SQLSyntaxUtil.appendValueOrPlaceholder(statement, value, parameters).append(", ");
+					}
+					// Remove last unnecessary comma
+					statement.delete(statement.length() - 2, statement.length());
+				}
+				statement.append("), ");
+			}
+			// Remove last unnecessary comma
+			statement.delete(statement.length() - 2, statement.length());
+			
+			// Add row alias if we have it
+			if(StringUtil.isNotBlank(rowAlias)){
+				statement.append(" AS ").append(rowAlias);
+			}
+		}
+		
+		// Add on duplicate key update if we have it
+		if(ListUtil.isNotBlank(updateColumns) || ListUtil.isNotBlank(updateStatements) || keyColumn != null){
+			statement.append(" ON DUPLICATE KEY UPDATE ");
+			if(ListUtil.isNotBlank(updateColumns)){
+				for(ColumnRef column: updateColumns){
+					statement.append(column.getColumnName()).append(" = ");
+					if(StringUtil.isNotBlank(rowAlias)){
+						statement.append(rowAlias).append('.').append(column.getColumnName());
+					}else{
+						statement.append("VALUES(").append(column.getColumnName()).append(')');
+					}
+					statement.append(", ");
 				}
-				// Remove last unnecessary comma
-				statement.delete(statement.length() - 2, statement.length());
 			}
-			statement.append(')');
+			if(ListUtil.isNotBlank(updateStatements)){
+				for(EqualsStatement updateStatement: updateStatements){
+					updateStatement.appendTo(statement, parameters).append(", ");
+				}
+			}
+			if(keyColumn != null){
+				// Setting LAST_INSERT_ID has the server report the existing row's key
+				keyColumn.appendTo(statement).append(" = LAST_INSERT_ID(");
+				keyColumn.appendTo(statement).append("), ");
+			}
+			// Remove last unnecessary comma
+			statement.delete(statement.length() - 2, statement.length());
 		}
 		
-		return statement.toString();
+		return statement;
 	}
 	
 	/*
@@ -275,6 +492,12 @@ public class SQLInsertStatement{
 		 */
 		Build values(Object ... values);
 		
+		/**
+		 * @param rows The rows of values to insert (rendered as a single multi-row {@code VALUES (...), (...)})
+		 * @return this, to continue building
+		 */
+		Build rows(List<List<Object>> rows);
+		
 		/**
 		 * @param selectStmt The {@link SQLSelectStatement select statement} to use for values to insert
 		 * @return this, to continue building
@@ -283,9 +506,48 @@ public class SQLInsertStatement{
 	}
 	
 	/**
-	 * The Building part of building a {@link SQLInsertStatement}
+	 * The optional settings and Building part of building a {@link SQLInsertStatement}
 	 */
 	public interface Build{
+		/**
+		 * @param rowAlias The alias to give the new rows ({@code AS alias}), so that update columns use
+		 * {@code alias.column} instead of the {@code VALUES(column)} function
+		 * @return this, to continue building
+		 */
+		Build rowAlias(String rowAlias);
+		
+		/**
+		 * @param updateColumns The {@link ColumnRef columns} to set to their new values when a row already exists
+		 * @return this, to continue building
+		 */
+		Build onDuplicateKeyUpdate(List<ColumnRef> updateColumns);
+		
+		/**
+		 * @param updateColumns The {@link ColumnRef columns} to set to their new values when a row already exists
+		 * @return this, to continue building
+		 */
+		Build onDuplicateKeyUpdate(ColumnRef ... updateColumns);
+		
+		/**
+		 * @param updateStatements The {@link EqualsStatement statements} to set values when a row already exists
+		 * @return this, to continue building
+		 */
+		Build onDuplicateKeyUpdateStatements(List<EqualsStatement> updateStatements);
+		
+		/**
+		 * @param updateStatements The {@link EqualsStatement statements} to set values when a row already exists
+		 * @return this, to continue building
+		 */
+		Build onDuplicateKeyUpdateStatements(EqualsStatement ... updateStatements);
+		
+		/**
+		 * @param keyColumn The auto-incremented {@link ColumnRef column} to report the value of when a row already
+		 * exists ({@code column = LAST_INSERT_ID(column)}), so that the generated keys hold the key of the existing
+		 * row
+		 * @return this, to continue building
+		 */
+		Build keyColumn(ColumnRef keyColumn);
+		
 		/**
 		 * Creates a new {@link SQLInsertStatement} after checking for errors
 		 *
@@ -1,7 +1,9 @@
 package com.github.tadukoo.database.mysql.syntax.statement;
 
+import com.github.tadukoo.database.mysql.syntax.ParameterizedSQL;
 import com.github.tadukoo.database.mysql.syntax.conditional.Conditional;
 import com.github.tadukoo.database.mysql.syntax.reference.ColumnRef;
+import com.github.tadukoo.database.mysql.syntax.reference.OrderByColumn;
 import com.github.tadukoo.database.mysql.syntax.reference.TableRef;
 import com.github.tadukoo.util.ListUtil;
 import com.github.tadukoo.util.StringUtil;
@@ -47,13 +49,28 @@ public class SQLSelectStatement{
 	 *         <td>The conditional where statement</td>
 	 *         <td>Defaults to null</td>
 	 *     </tr>
+	 *     <tr>
+	 *         <td>orderBy</td>
+	 *         <td>The columns to sort the results by</td>
+	 *         <td>Defaults to an empty list (results aren't sorted then)</td>
+	 *     </tr>
+	 *     <tr>
+	 *         <td>limit</td>
+	 *         <td>The most rows to return</td>
+	 *         <td>Defaults to null (all rows are returned then)</td>
+	 *     </tr>
+	 *     <tr>
+	 *         <td>offset</td>
+	 *         <td>The number of rows to skip before returning rows (can only be set along with limit)</td>
+	 *         <td>Defaults to null</td>
+	 *     </tr>
 	 * </table>
 	 *
 	 * @author Logan Ferree (Tadukoo)
 	 * @version Alpha v.0.3
 	 */
 	public static class SQLSelectStatementBuilder implements DistinctOrColumnsOrTables, ColumnsOrTables, FromTables,
-			WhereStatementAndBuild, Build{
+			WhereStatementAndBuild, OrderByAndBuild, LimitAndBuild, OffsetAndBuild, Build{
 		/** Whether to select distinct columns or not */
 		private boolean distinct = false;
 		/** The columns to be selected */
@@ -62,6 +79,12 @@ public class SQLSelectStatement{
 		private List<TableRef> fromTables = new ArrayList<>();
 		/** The conditional where statement */
 		private Conditional whereStatement = null;
+		/** The columns to sort the results by */
+		private List<OrderByColumn> orderBy = new ArrayList<>();
+		/** The most rows to return */
+		private Long limit = null;
+		/** The number of rows to skip before returning rows */
+		private Long offset = null;
 		
 		/** Not allowed to instantiate outside SQLSelectStatement */
 		private SQLSelectStatementBuilder(){ }
@@ -103,11 +126,39 @@ public class SQLSelectStatement{
 		
 		/** {@inheritDoc} */
 		@Override
-		public Build whereStatement(Conditional whereStatement){
+		public OrderByAndBuild whereStatement(Conditional whereStatement){
 			this.whereStatement = whereStatement;
 			return this;
 		}
 		
+		/** {@inheritDoc} */
+		@Override
+		public LimitAndBuild orderBy(List<OrderByColumn> orderBy){
+			this.orderBy = orderBy;
+			return this;
+		}
+		
+		/** {@inheritDoc} */
+		@Override
+		public LimitAndBuild orderBy(OrderByColumn ... orderBy){
+			this.orderBy = ListUtil.createList(orderBy);
+			return this;
+		}
+		
+		/** {@inheritDoc} */
+		@Override
+		public OffsetAndBuild limit(long limit){
+			this.limit = limit;
+			return this;
+		}
+		
+		/** {@inheritDoc} */
+		@Override
+		public Build offset(long offset){
+			this.offset = offset;
+			return this;
+		}
+		
 		/**
 		 * Checks for any errors with the set parameters
 		 */
@@ -119,6 +170,14 @@ public class SQLSelectStatement{
 				errors.add("Must add at least one fromTable!");
 			}
 			
+			// limit and offset can't be negative
+			if(limit != null && limit < 0){
+				errors.add("limit can't be negative!");
+			}
+			if(offset != null && offset < 0){
+				errors.add("offset can't be negative!");
+			}
+			
 			// Report any errors
 			if(!errors.isEmpty()){
 				throw new IllegalArgumentException("Encountered the following errors trying to build a " +
@@ -131,7 +190,7 @@ public class SQLSelectStatement{
 		public SQLSelectStatement build(){
 			checkForErrors();
 			
-			return new SQLSelectStatement(distinct, returnColumns, fromTables, whereStatement);
+			return new SQLSelectStatement(distinct, returnColumns, fromTables, whereStatement, orderBy, limit, offset);
 		}
 	}
 	
@@ -143,6 +202,12 @@ public class SQLSelectStatement{
 	private final List<TableRef> fromTables;
 	/** The conditional where statement */
 	private final Conditional whereStatement;
+	/** The columns to sort the results by */
+	private final List<OrderByColumn> orderBy;
+	/** The most rows to return */
+	private final Long limit;
+	/** The number of rows to skip before returning rows */
+	private final Long offset;
 	
 	/**
 	 * Constructs a new {@link SQLSelectStatement} using the given parameters.
@@ -151,13 +216,19 @@ public class SQLSelectStatement{
 	 * @param returnColumns The columns to be selected
 	 * @param fromTables The tables to grab data from
 	 * @param whereStatement The conditional where statement
+	 * @param orderBy The columns to sort the results by
+	 * @param limit The most rows to return
+	 * @param offset The number of rows to skip before returning rows
 	 */
 	private SQLSelectStatement(boolean distinct, List<ColumnRef> returnColumns, List<TableRef> fromTables,
-	                           Conditional whereStatement){
+	                           Conditional whereStatement, List<OrderByColumn> orderBy, Long limit, Long offset){
 		this.distinct = distinct;
 		this.returnColumns = returnColumns;
 		this.fromTables = fromTables;
 		this.whereStatement = whereStatement;
+		this.orderBy = orderBy;
+		this.limit = limit;
+		this.offset = offset;
 	}
 	
 	/**
@@ -195,10 +266,63 @@ public class SQLSelectStatement{
 		return whereStatement;
 	}
 	
+	/**
+	 * @return The columns to sort the results by
+	 */
+	public List<OrderByColumn> getOrderBy(){
+		return orderBy;
+	}
+	
+	/**
+	 * @return The most rows to return (null if all rows are returned)
+	 */
+	public Long getLimit(){
+		return limit;
+	}
+	
+	/**
+	 * @return The number of rows to skip before returning rows (may be null)
+	 */
+	public Long getOffset(){
+		return offset;
+	}
+	
 	/** {@inheritDoc} */
 	@Override
 	public String toString(){
-		StringBuilder statement = new StringBuilder("SELECT ");
+		return toParameterizedString(null);
+	}
+	
+	/**
+	 * @return This statement as {@link ParameterizedSQL}, with {@code ?} placeholders in place of the values to be
+	 * bound when run as a {@link java.sql.PreparedStatement}
+	 */
+	public ParameterizedSQL toParameterizedSQL(){
+		List<Object> parameters = new ArrayList<>();
+		String sql = toParameterizedString(parameters);
+		return new ParameterizedSQL(sql, parameters);
+	}
+	
+	/**
+	 * Builds the text of this statement with {@code ?} placeholders in place of the values
+	 *
+	 * @param parameters The List to add the values to in order (or null to put the values inline instead)
+	 * @return The text of this statement
+	 */
+	public String toParameterizedString(List<Object> parameters){
+		return appendTo(new StringBuilder(), parameters).toString();
+	}
+	
+	/**
+	 * Appends the text of this statement to the given StringBuilder, with {@code ?} placeholders in place of the
+	 * values
+	 *
+	 * @param statement The StringBuilder to append to
+	 * @param parameters The List to add the values to in order (or null to put the values inline instead)
+	 * @return The given StringBuilder, to continue appending
+	 */
+	public StringBuilder appendTo(StringBuilder statement, List<Object> parameters){
+		statement.append("SELECT ");
 		
 		// Set distinct if it's set
 		if(distinct){
@@ -211,7 +335,7 @@ public class SQLSelectStatement{
 		}else{
 			// Add return columns
 			for(ColumnRef column: returnColumns){
-				statement.append(column.toString()).append(", ");
+				column.appendTo(statement).append(", ");
 			}
 			// Remove last unnecessary comma
 			statement.delete(statement.length()-2, statement.length());
@@ -223,18 +347,36 @@ public class SQLSelectStatement{
 		
 		// Add from table(s)
 		for(TableRef table: fromTables){
-			statement.append(table.toString()).append(", ");
+			table.appendTo(statement).append(", ");
 		}
 		// Remove last unnecessary comma
 		statement.delete(statement.length()-2, statement.length());
 		
 		// Add where statement if we have it
 		if(whereStatement != null){
-			statement.append(" WHERE ").append(whereStatement);
+			whereStatement.appendTo(statement.append(" WHERE "), parameters);
 		}
 		
-		// Return the statement we built
-		return statement.toString();
+		// Add order by if we have it
+		if(ListUtil.isNotBlank(orderBy)){
+			statement.append(" ORDER BY ");
+			for(OrderByColumn column: orderBy){
+				column.appendTo(statement).append(", ");
+			}
+			// Remove last unnecessary comma
+			statement.delete(statement.length()-2, statement.length());
+		}
+		
+		// Add limit and offset if we have them
+		if(limit != null){
+			statement.append(" LIMIT ").append(limit.longValue());
+		}
+		if(offset != null){
+			statement.append(" OFFSET ").append(offset.longValue());
+		}
+		
+		// Return the builder we appended to
+		return statement;
 	}
 	
 	/*
@@ -290,12 +432,51 @@ public class SQLSelectStatement{
 	/**
 	 * The {@link Conditional Where Statement} and building part of building a {@link SQLSelectStatement}
 	 */
-	public interface WhereStatementAndBuild extends Build{
+	public interface WhereStatementAndBuild extends OrderByAndBuild{
 		/**
 		 * @param whereStatement The conditional where statement
 		 * @return this, to continue building
 		 */
-		Build whereStatement(Conditional whereStatement);
+		OrderByAndBuild whereStatement(Conditional whereStatement);
+	}
+	
+	/**
+	 * The {@link OrderByColumn Order By} and building part of building a {@link SQLSelectStatement}
+	 */
+	public interface OrderByAndBuild extends LimitAndBuild{
+		/**
+		 * @param orderBy The columns to sort the results by
+		 * @return this, to continue building
+		 */
+		LimitAndBuild orderBy(List<OrderByColumn> orderBy);
+		
+		/**
+		 * @param orderBy The columns to sort the results by
+		 * @return this, to continue building
+		 */
+		LimitAndBuild orderBy(OrderByColumn ... orderBy);
+	}
+	
+	/**
+	 * The Limit and building part of building a {@link SQLSelectStatement}
+	 */
+	public interface LimitAndBuild extends Build{
+		/**
+		 * @param limit The most rows to return
+		 * @return this, to continue building
+		 */
+		OffsetAndBuild limit(long limit);
+	}
+	
+	/**
+	 * The Offset and building part of building a {@link SQLSelectStatement}
+	 */
+	public interface OffsetAndBuild extends Build{
+		/**
+		 * @param offset The number of rows to skip before returning rows
+		 * @return this, to continue building
+		 */
+		Build offset(long offset);
 	}
 	
 	/**
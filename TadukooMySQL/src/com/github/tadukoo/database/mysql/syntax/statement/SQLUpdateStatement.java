@@ -1,5 +1,6 @@
 package com.github.tadukoo.database.mysql.syntax.statement;
 
+import com.github.tadukoo.database.mysql.syntax.ParameterizedSQL;
 import com.github.tadukoo.database.mysql.syntax.conditional.Conditional;
 import com.github.tadukoo.database.mysql.syntax.conditional.EqualsStatement;
 import com.github.tadukoo.database.mysql.syntax.reference.TableRef;
@@ -167,25 +168,57 @@ public class SQLUpdateStatement{
 	/** {@inheritDoc} */
 	@Override
 	public String toString(){
+		return toParameterizedString(null);
+	}
+	
+	/**
+	 * @return This statement as {@link ParameterizedSQL}, with {@code ?} placeholders in place of the values to be
+	 * bound when run as a {@link java.sql.PreparedStatement}
+	 */
+	public ParameterizedSQL toParameterizedSQL(){
+		List<Object> parameters = new ArrayList<>();
+		String sql = toParameterizedString(parameters);
+		return new ParameterizedSQL(sql, parameters);
+	}
+	
+	/**
+	 * Builds the text of this statement with {@code ?} placeholders in place of the values
+	 *
+	 * @param parameters The List to add the values to in order (or null to put the values inline instead)
+	 * @return The text of this statement
+	 */
+	public String toParameterizedString(List<Object> parameters){
+		return appendTo(new StringBuilder(), parameters).toString();
+	}
+	
+	/**
+	 * Appends the text of this statement to the given StringBuilder, with {@code ?} placeholders in place of the
+	 * values
+	 *
+	 * @param statement The StringBuilder to append to
+	 * @param parameters The List to add the values to in order (or null to put the values inline instead)
+	 * @return The given StringBuilder, to continue appending
+	 */
+	public StringBuilder appendTo(StringBuilder statement, List<Object> parameters){
 		// Start statement
-		StringBuilder statement = new StringBuilder("UPDATE ");
+		statement.append("UPDATE ");
 		
 		// Add table
-		statement.append(table).append(" SET ");
+		table.appendTo(statement).append(" SET ");
 		
 		// Add statements
 		for(EqualsStatement setStatement: setStatements){
-			statement.append(setStatement).append(", ");
+			setStatement.appendTo(statement, parameters).append(", ");
 		}
 		// Remove last unnecessary comma
 		statement.delete(statement.length()-2, statement.length());
 		
 		// Add where statement if we have it
 		if(whereStatement != null){
-			statement.append(" WHERE ").append(whereStatement);
+			whereStatement.appendTo(statement.append(" WHERE "), parameters);
 		}
 		
-		return statement.toString();
+		return statement;
 	}
 	
 	/*
@@ -0,0 +1,105 @@
+package com.github.tadukoo.database.mysql.transaction;
+
+import java.time.Duration;
+
+/**
+ * Deadline marks the point in time a {@link SQLTransaction} has to be done by, counting from when it was made. A
+ * deadline made from a null timeout never expires.
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.3
+ */
+public class Deadline{
+	/** A {@link Deadline} that never expires */
+	private static final Deadline NONE = new Deadline(null, 0);
+	
+	/** How long was given to finish (null if there's no limit) */
+	private final Duration timeout;
+	/** When the deadline passes (in {@link System#nanoTime()} terms) */
+	private final long expiresAt;
+	
+	/**
+	 * Constructs a new {@link Deadline} with the given parameters
+	 *
+	 * @param timeout How long was given to finish (null if there's no limit)
+	 * @param expiresAt When the deadline passes (in {@link System#nanoTime()} terms)
+	 */
+	private Deadline(Duration timeout, long expiresAt){
+		this.timeout = timeout;
+		this.expiresAt = expiresAt;
+	}
+	
+	/**
+	 * Makes a {@link Deadline} the given timeout from now
+	 *
+	 * @param timeout How long to give to finish (null for no limit)
+	 * @return The new {@link Deadline}
+	 */
+	public static Deadline after(Duration timeout){
+		if(timeout == null){
+			return NONE;
+		}
+		if(timeout.isNegative()){
+			throw new IllegalArgumentException("timeout can't be negative!");
+		}
+		return new Deadline(timeout, System.nanoTime() + timeout.toNanos());
+	}
+	
+	/**
+	 * @return A {@link Deadline} that never expires
+	 */
+	public static Deadline none(){
+		return NONE;
+	}
+	
+	/**
+	 * @return How long was given to finish (null if there's no limit)
+	 */
+	public Duration getTimeout(){
+		return timeout;
+	}
+	
+	/**
+	 * @return Whether this deadline can expire
+	 */
+	public boolean isBounded(){
+		return timeout != null;
+	}
+	
+	/**
+	 * @return How much time is left before the deadline (never negative, and null if there's no limit)
+	 */
+	public Duration getRemaining(){
+		if(!isBounded()){
+			return null;
+		}
+		return Duration.ofNanos(Math.max(0, expiresAt - System.nanoTime()));
+	}
+	
+	/**
+	 * @return Whether the deadline has passed
+	 */
+	public boolean isExpired(){
+		return isBounded() && expiresAt - System.nanoTime() <= 0;
+	}
+	
+	/**
+	 * @param wait How long something will wait
+	 * @return Whether there'll still be time left after waiting the given amount
+	 */
+	public boolean hasTimeAfter(Duration wait){
+		return !isBounded() || expiresAt - System.nanoTime() > wait.toNanos();
+	}
+	
+	/**
+	 * @return The time left in whole seconds (rounded up, and at least 1) for
+	 * {@link java.sql.Statement#setQueryTimeout(int)}, or 0 if there's no limit
+	 */
+	public int getRemainingSeconds(){
+		if(!isBounded()){
+			return 0;
+		}
+		long remainingMillis = getRemaining().toMillis();
+		return (int) Math.min(Integer.MAX_VALUE, Math.max(1, (remainingMillis + 999) / 1000));
+	}
+}
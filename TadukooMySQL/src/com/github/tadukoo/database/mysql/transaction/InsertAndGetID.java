@@ -1,5 +1,6 @@
 package com.github.tadukoo.database.mysql.transaction;
 
+import com.github.tadukoo.database.mysql.syntax.ParameterizedSQL;
 import com.github.tadukoo.database.mysql.syntax.SQLSyntaxUtil;
 import com.github.tadukoo.util.AutoCloseableUtil;
 import com.github.tadukoo.util.ListUtil;
@@ -7,10 +8,12 @@ import com.github.tadukoo.util.StringUtil;
 import com.github.tadukoo.util.logger.EasyLogger;
 
 import java.sql.Connection;
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.Collection;
+import java.util.List;
 
 /**
  * Insert and Get ID is a {@link SQLTransaction} that will run an insert statement on a table and then
@@ -33,6 +36,14 @@ public abstract class InsertAndGetID implements SQLTransaction<Integer>{
 	 */
 	public abstract String getInsertSQL();
 	
+	/**
+	 * @return The values to bind to the {@code ?} placeholders in the insert statement, in order (null if the
+	 * statement has no placeholders)
+	 */
+	public List<Object> getInsertParameters(){
+		return null;
+	}
+	
 	/**
 	 * @return The string to report when the id retrieval is run (can be blank for no reporting)
 	 */
@@ -45,6 +56,14 @@ public abstract class InsertAndGetID implements SQLTransaction<Integer>{
 	 */
 	public abstract String getSelectSQL();
 	
+	/**
+	 * @return The values to bind to the {@code ?} placeholders in the id retrieval statement, in order (null if
+	 * the statement has no placeholders)
+	 */
+	public List<Object> getSelectParameters(){
+		return null;
+	}
+	
 	/** {@inheritDoc} */
 	@Override
 	public Integer execute(Connection conn, EasyLogger logger) throws SQLException{
@@ -61,18 +80,34 @@ public abstract class InsertAndGetID implements SQLTransaction<Integer>{
 		try{
 			logger.logInfo("Starting execution of " + name);
 			
-			// Execute Insert Statement
-			insert = conn.createStatement();
+			// Execute Insert Statement (binding the values if it has placeholders)
 			String insertSQL = getInsertSQL();
-			insert.executeUpdate(insertSQL);
+			List<Object> insertParameters = getInsertParameters();
+			if(insertParameters != null){
+				PreparedStatement preparedInsert = conn.prepareStatement(insertSQL);
+				insert = preparedInsert;
+				SQLSyntaxUtil.bindValues(preparedInsert, insertParameters);
+				preparedInsert.executeUpdate();
+			}else{
+				insert = conn.createStatement();
+				insert.executeUpdate(insertSQL);
+			}
 			// Log that we finished the insert if we have an insert string
 			if(StringUtil.isNotBlank(insertString)){
 				logger.logInfo(insertString);
 			}
 			
-			// Execute Get ID Statement
-			selectID = conn.createStatement();
-			id = selectID.executeQuery(getSelectSQL());
+			// Execute Get ID Statement (binding the values if it has placeholders)
+			List<Object> selectParameters = getSelectParameters();
+			if(selectParameters != null){
+				PreparedStatement preparedSelectID = conn.prepareStatement(getSelectSQL());
+				selectID = preparedSelectID;
+				SQLSyntaxUtil.bindValues(preparedSelectID, selectParameters);
+				id = preparedSelectID.executeQuery();
+			}else{
+				selectID = conn.createStatement();
+				id = selectID.executeQuery(getSelectSQL());
+			}
 			// Log that we finished the select if we have a select string
 			if(StringUtil.isNotBlank(selectString)){
 				logger.logInfo(selectString);
@@ -140,4 +175,71 @@ public abstract class InsertAndGetID implements SQLTransaction<Integer>{
 			}
 		};
 	}
+	
+	/**
+	 * Creates a new {@link InsertAndGetID} using the given information. Both the insert and the id retrieval
+	 * will be run as {@link PreparedStatement PreparedStatements} with the values bound to their placeholders.
+	 *
+	 * @param table The table to use for the insert and id retrieval
+	 * @param idColumnName The name of the id column in the table
+	 * @param cols The columns of the table to use in the insert
+	 * @param values The values to use for the insert (should be in the same order as the cols)
+	 * @return An {@link InsertAndGetID} object to use for a transaction
+	 */
+	public static InsertAndGetID createParameterizedInsertAndGetID(
+			String table, String idColumnName, Collection<String> cols, Collection<Object> values){
+		// Check that we have the same amount of cols and values
+		if(cols.size() != values.size()){
+			throw new IllegalArgumentException("Cols and Values don't match up!");
+		}
+		
+		// Build the statements up front so the SQL and parameters line up
+		ParameterizedSQL insertSQL = SQLSyntaxUtil.formatParameterizedInsertStatement(table, cols, values);
+		ParameterizedSQL selectSQL = SQLSyntaxUtil.formatParameterizedQuery(ListUtil.createList(table),
+				ListUtil.createList(idColumnName), cols, values, false);
+		
+		return new InsertAndGetID(){
+			/** {@inheritDoc} */
+			@Override
+			public String getTransactionName(){
+				return "Insert " + table + " and Get ID";
+			}
+			
+			/** {@inheritDoc} */
+			@Override
+			public String getInsertString(){
+				return "Executed Insert of a " + table + "!";
+			}
+			
+			/** {@inheritDoc} */
+			@Override
+			public String getInsertSQL(){
+				return insertSQL.getSQL();
+			}
+			
+			/** {@inheritDoc} */
+			@Override
+			public List<Object> getInsertParameters(){
+				return insertSQL.getParameters();
+			}
+			
+			/** {@inheritDoc} */
+			@Override
+			public String getSelectString(){
+				return "Pulled out " + idColumnName + " of just inserted " + table + "!";
+			}
+			
+			/** {@inheritDoc} */
+			@Override
+			public String getSelectSQL(){
+				return selectSQL.getSQL();
+			}
+			
+			/** {@inheritDoc} */
+			@Override
+			public List<Object> getSelectParameters(){
+				return selectSQL.getParameters();
+			}
+		};
+	}
 }
@@ -0,0 +1,195 @@
+package com.github.tadukoo.database.mysql.transaction;
+
+import com.github.tadukoo.database.mysql.syntax.ParameterizedSQL;
+import com.github.tadukoo.database.mysql.syntax.SQLSyntaxUtil;
+import com.github.tadukoo.util.AutoCloseableUtil;
+import com.github.tadukoo.util.ListUtil;
+import com.github.tadukoo.util.StringUtil;
+import com.github.tadukoo.util.logger.EasyLogger;
+
+import java.math.BigInteger;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Insert and Get Keys is a {@link SQLTransaction} that will run one or more insert statements on a table and
+ * return the keys the server generated for the new rows (e.g. from an auto-incremented id column). Unlike
+ * {@link InsertAndGetID}, this doesn't need a second query to find the new rows: the keys are read from
+ * {@link Statement#getGeneratedKeys()}, so it works on tables with duplicate rows and handles multi-row inserts.
+ * <br><br>
+ * Keys are returned as longs. Keys of {@code BIGINT UNSIGNED} columns above {@link Long#MAX_VALUE} keep their
+ * unsigned bit pattern (use {@link Long#toUnsignedString(long)} or {@link Long#compareUnsigned(long, long)} on
+ * them).
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.3
+ */
+public abstract class InsertAndGetKeys implements SQLTransaction<List<Long>>{
+	
+	/**
+	 * @return The string to report when the inserts are run (can be blank for no reporting)
+	 */
+	public String getInsertString(){
+		return null;
+	}
+	
+	/**
+	 * @return The MySQL strings to use for the insert statements
+	 */
+	public abstract List<String> getInsertSQLs();
+	
+	/**
+	 * @return The values to bind to the {@code ?} placeholders of each insert statement, in the same order as the
+	 * statements (null if none of them have placeholders, or a null entry for each one that doesn't)
+	 */
+	public List<List<Object>> getInsertParameters(){
+		return null;
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @return The generated keys of all the inserted rows, in the order they were inserted
+	 */
+	@Override
+	public List<Long> execute(Connection conn, EasyLogger logger) throws SQLException{
+		// Grab sql strings and parameters and determine if we have parameters
+		List<String> sqls = getInsertSQLs();
+		List<List<Object>> parameters = getInsertParameters();
+		boolean haveParameters = ListUtil.isNotBlank(parameters);
+		
+		// Grab strings to use for reporting
+		String name = getTransactionName();
+		String insertString = getInsertString();
+		
+		// If we have parameters, make sure the size matches the sql strings size
+		if(haveParameters && parameters.size() != sqls.size()){
+			throw new IllegalArgumentException("Must have parameters for all sql statements or pass null " +
+					"parameters list!");
+		}
+		
+		logger.logInfo("Starting execution of " + name);
+		
+		List<Long> keys = new ArrayList<>();
+		for(int i = 0; i < sqls.size(); i++){
+			// We need a statement and a ResultSet for each insert
+			Statement insert = null;
+			ResultSet generatedKeys = null;
+			try{
+				// Execute Insert Statement (binding the values if it has placeholders)
+				String sql = sqls.get(i);
+				List<Object> insertParameters = haveParameters?parameters.get(i):null;
+				if(insertParameters != null){
+					PreparedStatement preparedInsert = conn.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS);
+					insert = preparedInsert;
+					SQLSyntaxUtil.bindValues(preparedInsert, insertParameters);
+					preparedInsert.executeUpdate();
+				}else{
+					insert = conn.createStatement();
+					insert.executeUpdate(sql, Statement.RETURN_GENERATED_KEYS);
+				}
+				
+				// Grab the keys of the new rows
+				generatedKeys = insert.getGeneratedKeys();
+				while(generatedKeys.next()){
+					keys.add(convertKey(generatedKeys.getObject(1)));
+				}
+			}finally{
+				// Close the statement and ResultSet quietly
+				AutoCloseableUtil.closeQuietly(generatedKeys);
+				AutoCloseableUtil.closeQuietly(insert);
+			}
+		}
+		
+		// Log that we finished the inserts if we have an insert string
+		if(StringUtil.isNotBlank(insertString)){
+			logger.logInfo(insertString);
+		}
+		
+		logger.logInfo("Finished execution of " + name);
+		
+		return keys;
+	}
+	
+	/**
+	 * Converts a generated key into a long
+	 *
+	 * @param key The generated key, as returned by the driver
+	 * @return The key as a long
+	 * @throws SQLException If the key isn't a number
+	 */
+	private static long convertKey(Object key) throws SQLException{
+		if(key instanceof BigInteger bigKey){
+			// Unsigned keys above Long.MAX_VALUE keep their bit pattern
+			return bigKey.longValue();
+		}else if(key instanceof Number numberKey){
+			return numberKey.longValue();
+		}else{
+			throw new SQLException("Generated key " + key + " is not a number!");
+		}
+	}
+	
+	/**
+	 * Creates a new {@link InsertAndGetKeys} that inserts a single row using the given information. The insert
+	 * will be run as a {@link PreparedStatement} with the values bound to its placeholders.
+	 *
+	 * @param table The table to insert into
+	 * @param cols The columns of the table to use in the insert
+	 * @param values The values to use for the insert (should be in the same order as the cols)
+	 * @return An {@link InsertAndGetKeys} object to use for a transaction
+	 */
+	public static InsertAndGetKeys createInsertAndGetKeys(
+			String table, Collection<String> cols, Collection<Object> values){
+		// Check that we have the same amount of cols and values
+		if(cols.size() != values.size()){
+			throw new IllegalArgumentException("Cols and Values don't match up!");
+		}
+		
+		return createBulkInsertAndGetKeys(table,
+				ListUtil.createList(SQLSyntaxUtil.formatParameterizedInsertStatement(table, cols, values)));
+	}
+	
+	/**
+	 * Creates a new {@link InsertAndGetKeys} that runs the given (possibly multi-row) insert statements. The
+	 * inserts will be run as {@link PreparedStatement PreparedStatements} with the values bound to their
+	 * placeholders.
+	 *
+	 * @param table The table being inserted into
+	 * @param inserts The {@link ParameterizedSQL insert statements} to run
+	 * @return An {@link InsertAndGetKeys} object to use for a transaction
+	 */
+	public static InsertAndGetKeys createBulkInsertAndGetKeys(String table, List<ParameterizedSQL> inserts){
+		return new InsertAndGetKeys(){
+			/** {@inheritDoc} */
+			@Override
+			public String getTransactionName(){
+				return "Insert " + table + " and Get Keys";
+			}
+			
+			/** {@inheritDoc} */
+			@Override
+			public String getInsertString(){
+				return "Executed Insert of " + table + "!";
+			}
+			
+			/** {@inheritDoc} */
+			@Override
+			public List<String> getInsertSQLs(){
+				return inserts.stream().map(ParameterizedSQL::getSQL).collect(Collectors.toList());
+			}
+			
+			/** {@inheritDoc} */
+			@Override
+			public List<List<Object>> getInsertParameters(){
+				return inserts.stream().map(ParameterizedSQL::getParameters).collect(Collectors.toList());
+			}
+		};
+	}
+}
@@ -0,0 +1,134 @@
+package com.github.tadukoo.database.mysql.transaction;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Interrupt Watcher lets interrupting a thread cancel the transaction it's running. A thread that's blocked waiting
+ * on a statement doesn't notice being interrupted, so while a transaction is {@link #watch(TransactionGuard) watched},
+ * a background thread checks every poll interval whether the thread running it was interrupted, and if so,
+ * {@link TransactionGuard#cancel() cancels} the transaction (stopping the statement it's running). The transaction
+ * itself keeps running on its own thread, so it keeps that thread's context and hands back its connection before
+ * the thread returns.
+ * <br><br>
+ * The background thread is a daemon thread that's only started while there are transactions to watch.
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.3
+ */
+public class InterruptWatcher{
+	/** The default for how often to check for interrupts */
+	public static final Duration DEFAULT_POLL_INTERVAL = Duration.ofMillis(10);
+	
+	/** How often to check for interrupts */
+	private final Duration pollInterval;
+	/** The transactions being watched (guarded by synchronizing on this) */
+	private final List<Watch> watches = new ArrayList<>();
+	/** The background thread checking for interrupts (null when it's not running, guarded by synchronizing on this) */
+	private Thread watcherThread = null;
+	
+	/**
+	 * A transaction being watched by an {@link InterruptWatcher}, which stops being watched once closed
+	 */
+	public class Watch implements AutoCloseable{
+		/** The thread running the transaction */
+		private final Thread thread;
+		/** The {@link TransactionGuard} to cancel if the thread is interrupted */
+		private final TransactionGuard guard;
+		
+		/**
+		 * Constructs a new {@link Watch} with the given parameters
+		 *
+		 * @param thread The thread running the transaction
+		 * @param guard The {@link TransactionGuard} to cancel if the thread is interrupted
+		 */
+		private Watch(Thread thread, TransactionGuard guard){
+			this.thread = thread;
+			this.guard = guard;
+		}
+		
+		/**
+		 * Stops watching the transaction
+		 */
+		@Override
+		public void close(){
+			synchronized(InterruptWatcher.this){
+				watches.remove(this);
+			}
+		}
+	}
+	
+	/**
+	 * Constructs a new {@link InterruptWatcher} that checks for interrupts every given interval
+	 *
+	 * @param pollInterval How often to check for interrupts
+	 */
+	public InterruptWatcher(Duration pollInterval){
+		this.pollInterval = pollInterval;
+	}
+	
+	/**
+	 * @return How often to check for interrupts
+	 */
+	public Duration getPollInterval(){
+		return pollInterval;
+	}
+	
+	/**
+	 * @return The number of transactions currently being watched
+	 */
+	public synchronized int getNumWatched(){
+		return watches.size();
+	}
+	
+	/**
+	 * Starts watching a transaction that's about to run on the calling thread, so that interrupting the thread
+	 * cancels it. Close the returned {@link Watch} once the transaction is done.
+	 *
+	 * @param guard The {@link TransactionGuard} for the transaction
+	 * @return The {@link Watch} to close once the transaction is done
+	 */
+	public Watch watch(TransactionGuard guard){
+		Watch watch = new Watch(Thread.currentThread(), guard);
+		synchronized(this){
+			watches.add(watch);
+			if(watcherThread == null){
+				watcherThread = new Thread(this::checkForInterrupts, "InterruptWatcher");
+				watcherThread.setDaemon(true);
+				watcherThread.start();
+			}
+		}
+		return watch;
+	}
+	
+	/**
+	 * Run by the {@link #watcherThread} to cancel the transactions of interrupted threads until there are no
+	 * transactions left to watch
+	 */
+	private void checkForInterrupts(){
+		while(true){
+			// Stop watching the interrupted threads' transactions (stopping altogether once there are none left)
+			List<Watch> interrupted = new ArrayList<>();
+			synchronized(this){
+				for(Watch watch: watches){
+					if(watch.thread.isInterrupted()){
+						interrupted.add(watch);
+					}
+				}
+				watches.removeAll(interrupted);
+				if(watches.isEmpty() && interrupted.isEmpty()){
+					watcherThread = null;
+					return;
+				}
+			}
+			
+			// Cancelling can wait on the driver, so it's done outside the lock
+			for(Watch watch: interrupted){
+				watch.guard.cancel();
+			}
+			LockSupport.parkNanos(pollInterval.toNanos());
+		}
+	}
+}
@@ -4,6 +4,7 @@ import com.github.tadukoo.util.logger.EasyLogger;
 
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.time.Duration;
 
 /**
  * Represents a transaction in MySQL
@@ -19,6 +20,58 @@ public interface SQLTransaction<ResultType>{
 	 */
 	String getTransactionName();
 	
+	/**
+	 * @return The {@link TransactionLane} the transaction runs in, which decides the connection quota and queue it
+	 * uses (defaults to {@link TransactionLane#INTERACTIVE})
+	 */
+	default TransactionLane getLane(){
+		return TransactionLane.INTERACTIVE;
+	}
+	
+	/**
+	 * @return Whether the transaction only reads (defaults to false). Read-only transactions are run as read-only
+	 * on the server (which is cheaper, as InnoDB skips giving them a transaction ID) and can be sent to a read
+	 * replica if any are set up. Replicas may lag behind the primary, so a transaction that needs to see its own
+	 * recent writes shouldn't be marked read-only.
+	 */
+	default boolean isReadOnly(){
+		return false;
+	}
+	
+	/**
+	 * @return The {@link TransactionIsolation} to run the transaction at (defaults to null, which leaves the
+	 * connection at the server's default, usually {@link TransactionIsolation#REPEATABLE_READ})
+	 */
+	default TransactionIsolation getIsolation(){
+		return null;
+	}
+	
+	/**
+	 * @return Whether the transaction runs just one statement (defaults to false). If the Database is set to
+	 * auto-commit single statements, these run with auto-commit enabled, skipping the separate commit.
+	 */
+	default boolean isSingleStatement(){
+		return false;
+	}
+	
+	/**
+	 * @return Whether a read-only transaction may be hedged (defaults to {@link #isReadOnly()}): if the Database is
+	 * set to hedge reads and this doesn't finish quickly, a duplicate copy is sent to another read replica and the
+	 * first to finish wins. Override to return false for reads that are too expensive to run twice. Transactions
+	 * that aren't read-only are never hedged.
+	 */
+	default boolean isHedgeable(){
+		return isReadOnly();
+	}
+	
+	/**
+	 * @return How long the transaction gets to finish, counting all of its attempts (defaults to null, which uses
+	 * the Database's transaction timeout)
+	 */
+	default Duration getTimeout(){
+		return null;
+	}
+	
 	/**
 	 * Executes the transaction using the given connection, and will log messages as needed to the given
 	 * {@link EasyLogger}
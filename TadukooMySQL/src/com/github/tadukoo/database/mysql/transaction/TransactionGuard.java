@@ -0,0 +1,293 @@
+package com.github.tadukoo.database.mysql.transaction;
+
+import com.github.tadukoo.database.mysql.breaker.CircuitBreaker;
+import com.github.tadukoo.database.mysql.retry.SQLExceptionClassifier;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Transaction Guard keeps a {@link SQLTransaction} (across all of its attempts) within its {@link Deadline} and
+ * lets it be cancelled from another thread. Transactions run on a connection {@link #guard(Connection) guarded} by
+ * it, which:
+ * <ul>
+ *     <li>gives every statement a query timeout of the time left before the deadline, so the server stops a
+ *     runaway statement instead of it holding the connection indefinitely</li>
+ *     <li>refuses to start another statement once the transaction is cancelled, the deadline passes, or the
+ *     running thread is interrupted</li>
+ *     <li>keeps track of the statements so {@link #cancel()} can stop the one that's running with
+ *     {@link Statement#cancel()}</li>
+ * </ul>
+ * A thread that's blocked waiting on a statement doesn't notice being interrupted, so to have an interrupt stop
+ * the running statement, have an {@link InterruptWatcher} watch the transaction.
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.3
+ */
+public class TransactionGuard{
+	/** The name of the transaction being guarded, used in error messages */
+	private final String transactionName;
+	/** The {@link Deadline} the transaction has to be done by */
+	private final Deadline deadline;
+	/** The statements the transaction has started (guarded by synchronizing on the list) */
+	private final List<Statement> statements = new ArrayList<>();
+	/** The guards for copies of the transaction, cancelled along with this one (guarded by synchronizing on it) */
+	private final List<TransactionGuard> forks = new ArrayList<>();
+	/** The guard for the copy of the transaction this copy is hedging (null if it isn't a hedge) */
+	private final TransactionGuard hedgeOf;
+	/** The actual {@link Connection} the transaction was last run on (null if it hasn't been run yet) */
+	private volatile Connection connection = null;
+	/** Whether the transaction has been cancelled */
+	private volatile boolean cancelled = false;
+	
+	/**
+	 * Constructs a new {@link TransactionGuard} with the given parameters
+	 *
+	 * @param transactionName The name of the transaction being guarded, used in error messages
+	 * @param deadline The {@link Deadline} the transaction has to be done by
+	 */
+	public TransactionGuard(String transactionName, Deadline deadline){
+		this(transactionName, deadline, null);
+	}
+	
+	/**
+	 * Constructs a new {@link TransactionGuard} with the given parameters
+	 *
+	 * @param transactionName The name of the transaction being guarded, used in error messages
+	 * @param deadline The {@link Deadline} the transaction has to be done by
+	 * @param hedgeOf The guard for the copy of the transaction this copy is hedging (null if it isn't a hedge)
+	 */
+	private TransactionGuard(String transactionName, Deadline deadline, TransactionGuard hedgeOf){
+		this.transactionName = transactionName;
+		this.deadline = deadline;
+		this.hedgeOf = hedgeOf;
+	}
+	
+	/**
+	 * @return The {@link Deadline} the transaction has to be done by
+	 */
+	public Deadline getDeadline(){
+		return deadline;
+	}
+	
+	/**
+	 * @return The guard for the copy of the transaction this copy is hedging (null if it isn't a hedge)
+	 */
+	public TransactionGuard getHedgeOf(){
+		return hedgeOf;
+	}
+	
+	/**
+	 * @return The actual {@link Connection} the transaction was last {@link #guard(Connection) run on} (null if it
+	 * hasn't been run yet)
+	 */
+	public Connection getConnection(){
+		return connection;
+	}
+	
+	/**
+	 * @return Whether the transaction has been cancelled
+	 */
+	public boolean isCancelled(){
+		return cancelled;
+	}
+	
+	/**
+	 * Makes a {@link TransactionGuard} for a copy of the transaction (e.g. a hedged read) with the same
+	 * {@link Deadline}. Cancelling this guard cancels the copy's too, but the copy can also be cancelled on its own.
+	 *
+	 * @return The {@link TransactionGuard} for the copy
+	 */
+	public TransactionGuard fork(){
+		return addFork(new TransactionGuard(transactionName, deadline));
+	}
+	
+	/**
+	 * Makes a {@link TransactionGuard} for a duplicate copy of the transaction that's hedging the given (slow) copy,
+	 * the same as {@link #fork()}, but keeping track of the copy it's hedging so it can be sent somewhere else
+	 *
+	 * @param hedgeOf The guard for the copy of the transaction being hedged
+	 * @return The {@link TransactionGuard} for the duplicate copy
+	 */
+	public TransactionGuard forkHedge(TransactionGuard hedgeOf){
+		return addFork(new TransactionGuard(transactionName, deadline, hedgeOf));
+	}
+	
+	/**
+	 * Adds the given guard to the {@link #forks} to be cancelled along with this one
+	 *
+	 * @param fork The {@link TransactionGuard} for a copy of the transaction
+	 * @return The same {@link TransactionGuard}
+	 */
+	private TransactionGuard addFork(TransactionGuard fork){
+		synchronized(forks){
+			forks.add(fork);
+		}
+		
+		// In case it was cancelled while the fork was being made
+		if(cancelled){
+			fork.cancel();
+		}
+		return fork;
+	}
+	
+	/**
+	 * Cancels the transaction (and any copies of it): any statement it's running is cancelled and it won't be able
+	 * to start any more
+	 */
+	public void cancel(){
+		cancelled = true;
+		List<TransactionGuard> forksToCancel;
+		synchronized(forks){
+			forksToCancel = new ArrayList<>(forks);
+		}
+		forksToCancel.forEach(TransactionGuard::cancel);
+		
+		List<Statement> toCancel;
+		synchronized(statements){
+			toCancel = new ArrayList<>(statements);
+		}
+		for(Statement statement: toCancel){
+			try{
+				if(!statement.isClosed()){
+					statement.cancel();
+				}
+			}catch(SQLException e){
+				// The statement may have finished in the meantime
+			}
+		}
+	}
+	
+	/**
+	 * Checks that the transaction can keep going
+	 *
+	 * @throws SQLException If the transaction was cancelled, the running thread was interrupted, or the deadline
+	 * passed (as a {@link SQLTimeoutException})
+	 */
+	public void check() throws SQLException{
+		check(Duration.ZERO, null);
+	}
+	
+	/**
+	 * Checks that the transaction can keep going after waiting the given amount (e.g. before a retry)
+	 *
+	 * @param wait How long the transaction is about to wait
+	 * @param cause What made the transaction need to wait (may be null), used as the cause of any exception
+	 * @throws SQLException If the transaction was cancelled, the running thread was interrupted, or the deadline
+	 * will have passed by the end of the wait (as a {@link SQLTimeoutException})
+	 */
+	public void check(Duration wait, SQLException cause) throws SQLException{
+		if(cancelled){
+			throw new SQLException("Transaction " + transactionName + " was cancelled", cause);
+		}
+		if(Thread.currentThread().isInterrupted()){
+			throw new SQLException("Interrupted while running transaction " + transactionName, cause);
+		}
+		if(deadline.isExpired() || !deadline.hasTimeAfter(wait)){
+			throw new SQLTimeoutException("Transaction " + transactionName + " timed out after " +
+					deadline.getTimeout().toMillis() + " ms", cause);
+		}
+	}
+	
+	/**
+	 * Checks if the given failure is of the transaction's own making rather than a sign of trouble with the host:
+	 * the transaction was cancelled, or it timed out while it had a deadline (its statements' query timeouts come
+	 * from the deadline, so a timeout then means it ran out of its own time)
+	 *
+	 * @param e The {@link SQLException} the transaction failed with
+	 * @return Whether the failure came from the transaction itself
+	 */
+	public boolean isOwnFailure(SQLException e){
+		return cancelled || (deadline.isBounded() && SQLExceptionClassifier.isTimeoutError(e));
+	}
+	
+	/**
+	 * Records how an attempt of the transaction went with the given {@link CircuitBreaker}. Failures that don't say
+	 * anything about the host (see {@link #isOwnFailure(SQLException)} and
+	 * {@link CircuitBreaker#isPoolTimeout(SQLException)}) are recorded as {@link CircuitBreaker#recordInconclusive()
+	 * inconclusive}.
+	 *
+	 * @param breaker The {@link CircuitBreaker} to record with (may be null for no circuit breaker)
+	 * @param error The {@link SQLException} the attempt failed with (null if it worked)
+	 */
+	public void recordOutcome(CircuitBreaker breaker, SQLException error){
+		if(breaker == null){
+			return;
+		}
+		if(error != null && (isOwnFailure(error) || CircuitBreaker.isPoolTimeout(error))){
+			breaker.recordInconclusive();
+		}else{
+			breaker.record(error);
+		}
+	}
+	
+	/**
+	 * Wraps the given {@link Connection} so that the statements made on it are guarded by this
+	 *
+	 * @param connection The {@link Connection} the transaction is about to run on
+	 * @return The guarded {@link Connection}
+	 */
+	public Connection guard(Connection connection){
+		this.connection = connection;
+		return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+				new Class<?>[]{Connection.class}, (proxy, method, args) -> switch(method.getName()){
+					case "createStatement", "prepareStatement", "prepareCall" ->
+							startStatement((Statement) invoke(connection, method, args, true));
+					case "hashCode" -> System.identityHashCode(proxy);
+					case "equals" -> proxy == args[0];
+					default -> invoke(connection, method, args, false);
+				});
+	}
+	
+	/**
+	 * Sets up a statement the transaction just made: gives it the time left as its query timeout and keeps track
+	 * of it so it can be cancelled
+	 *
+	 * @param statement The {@link Statement} that was made
+	 * @return The same {@link Statement}
+	 * @throws SQLException If the query timeout can't be set
+	 */
+	private Statement startStatement(Statement statement) throws SQLException{
+		if(deadline.isBounded()){
+			statement.setQueryTimeout(deadline.getRemainingSeconds());
+		}
+		synchronized(statements){
+			statements.add(statement);
+		}
+		
+		// In case it was cancelled while the statement was being made
+		if(cancelled){
+			statement.cancel();
+		}
+		return statement;
+	}
+	
+	/**
+	 * Calls the given method on the actual connection, unwrapping any exception it throws
+	 *
+	 * @param connection The actual {@link Connection}
+	 * @param method The method to call
+	 * @param args The arguments to the method
+	 * @param check Whether to {@link #check()} that the transaction can keep going first
+	 * @return The result of the method
+	 * @throws Throwable Whatever the method (or the check) throws
+	 */
+	private Object invoke(Connection connection, Method method, Object[] args, boolean check) throws Throwable{
+		if(check){
+			check();
+		}
+		try{
+			return method.invoke(connection, args);
+		}catch(InvocationTargetException e){
+			throw e.getCause();
+		}
+	}
+}
@@ -0,0 +1,40 @@
+package com.github.tadukoo.database.mysql.transaction;
+
+import java.sql.Connection;
+
+/**
+ * Transaction Isolation represents the isolation levels a {@link SQLTransaction} can ask to be run at, which
+ * decide how much it sees of other transactions running at the same time
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.3
+ */
+public enum TransactionIsolation{
+	/** Can see changes other transactions haven't committed yet */
+	READ_UNCOMMITTED(Connection.TRANSACTION_READ_UNCOMMITTED),
+	/** Each statement sees the latest committed changes */
+	READ_COMMITTED(Connection.TRANSACTION_READ_COMMITTED),
+	/** Every read sees the same snapshot, taken at the first read (the InnoDB default) */
+	REPEATABLE_READ(Connection.TRANSACTION_REPEATABLE_READ),
+	/** Like {@link #REPEATABLE_READ}, but plain reads also lock the rows they read */
+	SERIALIZABLE(Connection.TRANSACTION_SERIALIZABLE);
+	
+	/** The matching JDBC isolation level (one of the {@code Connection.TRANSACTION_*} constants) */
+	private final int jdbcLevel;
+	
+	/**
+	 * Constructs a new {@link TransactionIsolation} with the given JDBC level
+	 *
+	 * @param jdbcLevel The matching JDBC isolation level (one of the {@code Connection.TRANSACTION_*} constants)
+	 */
+	TransactionIsolation(int jdbcLevel){
+		this.jdbcLevel = jdbcLevel;
+	}
+	
+	/**
+	 * @return The matching JDBC isolation level (one of the {@code Connection.TRANSACTION_*} constants)
+	 */
+	public int getJDBCLevel(){
+		return jdbcLevel;
+	}
+}
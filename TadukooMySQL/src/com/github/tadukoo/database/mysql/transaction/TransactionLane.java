@@ -0,0 +1,16 @@
+package com.github.tadukoo.database.mysql.transaction;
+
+/**
+ * Transaction Lane is used to tag a {@link SQLTransaction} with the kind of work it is, so that each kind can be
+ * given its own quota of connections and its own queue (see {@code laneLimit} on the Database builder). This keeps
+ * long-running batch work from crowding out the transactions users are waiting on.
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.3
+ */
+public enum TransactionLane{
+	/** Transactions someone is waiting on (e.g. serving a user's request) - the default */
+	INTERACTIVE,
+	/** Background work that can wait its turn (e.g. nightly jobs and backfills) */
+	BATCH
+}
@@ -0,0 +1,120 @@
+package com.github.tadukoo.database.mysql.transaction;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * Transaction Settings is used to put a {@link Connection} into the state a {@link SQLTransaction} asks for (see
+ * {@link SQLTransaction#isReadOnly()} and {@link SQLTransaction#getIsolation()}) before it runs. Each setting is
+ * only sent to the server when the connection isn't already in that state, so a pooled connection that keeps
+ * running the same kind of transaction doesn't pay an extra round trip for every one of them.
+ * <br><br>
+ * Read-only and auto-commit are applied to every transaction (so they don't need undoing), but an isolation level
+ * only applies to the transaction that asked for it: call {@link #restore()} once the transaction is done to put the
+ * connection's previous isolation level back before it's reused.
+ * <br><br>
+ * Skipping read-only only pays off while the transactions on a connection agree on it. With a read replica, the
+ * primary's connections mostly run updates and the replica's only run queries, so it rarely changes. Without one,
+ * a mix of queries and updates shares the primary's connections, and read-only flips (costing a round trip) on
+ * most transactions that follow the other kind.
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.3
+ */
+public class TransactionSettings{
+	/** Marks that the isolation level wasn't changed */
+	private static final int UNCHANGED = -1;
+	
+	/** The {@link Connection} the settings were applied to */
+	private final Connection connection;
+	/** Whether the transaction runs with auto-commit enabled (each statement committing on its own) */
+	private final boolean autoCommit;
+	/** The isolation level the connection had before it was changed (or {@link #UNCHANGED}) */
+	private final int previousIsolation;
+	
+	/**
+	 * Constructs a new {@link TransactionSettings} for settings that were applied to the given {@link Connection}
+	 *
+	 * @param connection The {@link Connection} the settings were applied to
+	 * @param autoCommit Whether the transaction runs with auto-commit enabled
+	 * @param previousIsolation The isolation level the connection had before it was changed (or
+	 * {@link #UNCHANGED})
+	 */
+	private TransactionSettings(Connection connection, boolean autoCommit, int previousIsolation){
+		this.connection = connection;
+		this.autoCommit = autoCommit;
+		this.previousIsolation = previousIsolation;
+	}
+	
+	/**
+	 * Puts the given {@link Connection} into the state the given {@link SQLTransaction} asks for
+	 *
+	 * @param connection The {@link Connection} the transaction is about to run on
+	 * @param transaction The {@link SQLTransaction} about to run
+	 * @param autoCommit Whether to run the transaction with auto-commit enabled (only safe for a
+	 * {@link SQLTransaction#isSingleStatement() single statement})
+	 * @return The {@link TransactionSettings} that were applied, to be {@link #restore() restored} afterwards
+	 * @throws SQLException If the settings can't be applied
+	 */
+	public static TransactionSettings apply(
+			Connection connection, SQLTransaction<?> transaction, boolean autoCommit) throws SQLException{
+		return apply(connection, transaction.isReadOnly(), transaction.getIsolation(), autoCommit);
+	}
+	
+	/**
+	 * Puts the given {@link Connection} into the given state, only changing what differs
+	 *
+	 * @param connection The {@link Connection} a transaction is about to run on
+	 * @param readOnly Whether the transaction only reads
+	 * @param isolation The {@link TransactionIsolation} to run the transaction at (null to leave it as is)
+	 * @param autoCommit Whether to run the transaction with auto-commit enabled
+	 * @return The {@link TransactionSettings} that were applied, to be {@link #restore() restored} afterwards
+	 * @throws SQLException If the settings can't be applied
+	 */
+	public static TransactionSettings apply(
+			Connection connection, boolean readOnly, TransactionIsolation isolation, boolean autoCommit)
+			throws SQLException{
+		if(connection.getAutoCommit() != autoCommit){
+			connection.setAutoCommit(autoCommit);
+		}
+		if(connection.isReadOnly() != readOnly){
+			connection.setReadOnly(readOnly);
+		}
+		
+		int previousIsolation = UNCHANGED;
+		if(isolation != null){
+			int currentIsolation = connection.getTransactionIsolation();
+			if(currentIsolation != isolation.getJDBCLevel()){
+				connection.setTransactionIsolation(isolation.getJDBCLevel());
+				previousIsolation = currentIsolation;
+			}
+		}
+		return new TransactionSettings(connection, autoCommit, previousIsolation);
+	}
+	
+	/**
+	 * @return Whether the transaction runs with auto-commit enabled (so there's nothing to commit or roll back)
+	 */
+	public boolean isAutoCommit(){
+		return autoCommit;
+	}
+	
+	/**
+	 * @return Whether the isolation level of the connection was changed (and so will be put back by
+	 * {@link #restore()})
+	 */
+	public boolean isIsolationChanged(){
+		return previousIsolation != UNCHANGED;
+	}
+	
+	/**
+	 * Puts the connection's previous isolation level back if it was changed
+	 *
+	 * @throws SQLException If the isolation level can't be put back
+	 */
+	public void restore() throws SQLException{
+		if(isIsolationChanged()){
+			connection.setTransactionIsolation(previousIsolation);
+		}
+	}
+}
@@ -1,5 +1,7 @@
 package com.github.tadukoo.database.mysql.transaction.query;
 
+import com.github.tadukoo.database.mysql.syntax.ParameterizedSQL;
+import com.github.tadukoo.database.mysql.syntax.SQLSyntaxUtil;
 import com.github.tadukoo.database.mysql.transaction.SQLTransaction;
 import com.github.tadukoo.util.AutoCloseableUtil;
 import com.github.tadukoo.util.StringUtil;
@@ -7,9 +9,11 @@ import com.github.tadukoo.util.functional.function.ThrowingFunction;
 import com.github.tadukoo.util.logger.EasyLogger;
 
 import java.sql.Connection;
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.List;
 
 /**
  * Represents a single statement query in MySQL, to be executed as a transaction.
@@ -25,6 +29,37 @@ public abstract class Query<ResultType> implements SQLTransaction<ResultType>{
 	 */
 	public abstract String getSQL();
 	
+	/**
+	 * @return The values to bind to the {@code ?} placeholders in the SQL statement, in order (null if the
+	 * statement has no placeholders)
+	 */
+	public List<Object> getParameters(){
+		return null;
+	}
+	
+	/**
+	 * Queries only read, so they're sent to a read replica if any are set up. Override this to return false for a
+	 * query that locks rows (e.g. {@code SELECT ... FOR UPDATE}) or needs to see the latest writes.
+	 *
+	 * @return true
+	 */
+	@Override
+	public boolean isReadOnly(){
+		return true;
+	}
+	
+	/**
+	 * A query runs a single statement, so it can skip the separate commit if the Database is set to auto-commit
+	 * single statements. Override this to return false if {@link #execute(Connection, EasyLogger)} is overridden to
+	 * run more than one statement.
+	 *
+	 * @return true
+	 */
+	@Override
+	public boolean isSingleStatement(){
+		return true;
+	}
+	
 	/** {@inheritDoc} */
 	@Override
 	public ResultType execute(Connection conn, EasyLogger logger) throws SQLException{
@@ -37,9 +72,17 @@ public abstract class Query<ResultType> implements SQLTransaction<ResultType>{
 			String name = getTransactionName();
 			logger.logInfo("Running query " + name);
 			
-			// Create and run the statement
-			stmt = conn.createStatement();
-			resultSet = stmt.executeQuery(getSQL());
+			// Create and run the statement (binding the values if it has placeholders)
+			List<Object> parameters = getParameters();
+			if(parameters != null){
+				PreparedStatement preparedStmt = conn.prepareStatement(getSQL());
+				stmt = preparedStmt;
+				SQLSyntaxUtil.bindValues(preparedStmt, parameters);
+				resultSet = preparedStmt.executeQuery();
+			}else{
+				stmt = conn.createStatement();
+				resultSet = stmt.executeQuery(getSQL());
+			}
 			
 			// Report that we finished the query
 			logger.logInfo("Finished query " + name);
@@ -96,4 +139,46 @@ public abstract class Query<ResultType> implements SQLTransaction<ResultType>{
 			}
 		};
 	}
+	
+	/**
+	 * Creates a new {@link Query} using the given transaction name, {@link ParameterizedSQL MySQL query statement},
+	 * and {@link ResultSet} conversion function. The query will be run as a {@link PreparedStatement} with the
+	 * values bound to its placeholders.
+	 *
+	 * @param name The MySQL transaction name
+	 * @param sql The {@link ParameterizedSQL MySQL query statement} to be executed
+	 * @param convertFromResultSet A method to convert the {@link ResultSet} to the proper {@link ResultType}
+	 * @param <ResultType> The type of result to be returned from the Query
+	 * @return A {@link Query} object
+	 */
+	public static <ResultType> Query<ResultType> createQuery(
+			String name, ParameterizedSQL sql,
+			ThrowingFunction<ResultSet, ResultType, SQLException> convertFromResultSet){
+		return new Query<>(){
+			
+			/** {@inheritDoc} */
+			@Override
+			public String getTransactionName(){
+				return StringUtil.isNotBlank(name)?name:sql.getSQL();
+			}
+			
+			/** {@inheritDoc} */
+			@Override
+			public String getSQL(){
+				return sql.getSQL();
+			}
+			
+			/** {@inheritDoc} */
+			@Override
+			public List<Object> getParameters(){
+				return sql.getParameters();
+			}
+			
+			/** {@inheritDoc} */
+			@Override
+			public ResultType convertFromResultSet(ResultSet resultSet) throws SQLException{
+				return convertFromResultSet.apply(resultSet);
+			}
+		};
+	}
 }
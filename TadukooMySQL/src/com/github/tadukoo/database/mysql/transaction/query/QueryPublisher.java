@@ -0,0 +1,189 @@
+package com.github.tadukoo.database.mysql.transaction.query;
+
+import com.github.tadukoo.database.mysql.connection.ConnectionSource;
+import com.github.tadukoo.util.logger.EasyLogger;
+
+import java.sql.SQLException;
+import java.util.Iterator;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * Query Publisher is a {@link Flow.Publisher} for the rows of a {@link StreamingQuery}. Each subscriber gets its
+ * own run of the query, which isn't started until the subscriber first requests rows. Rows are only read from the
+ * {@link java.sql.ResultSet} as the subscriber asks for them, so a slow subscriber slows down the reading instead of
+ * the rows piling up in memory, and the driver only fetches the query's fetch size worth of rows at a time.
+ * <br><br>
+ * All the work for a subscriber (running the query, reading rows, and signalling the subscriber) is done on the
+ * given {@link Executor}, one task at a time. Once the rows run out, the query fails, or the subscriber cancels,
+ * the query's {@link Stream} is closed, which closes the statement and hands back the connection.
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.3
+ * @param <ResultType> The type of result published for each row
+ */
+public class QueryPublisher<ResultType> implements Flow.Publisher<ResultType>{
+	/** The {@link StreamingQuery} to be run for each subscriber */
+	private final StreamingQuery<ResultType> query;
+	/** The {@link ConnectionSource} to grab connections from */
+	private final ConnectionSource connectionSource;
+	/** The {@link EasyLogger logger} to use for logging */
+	private final EasyLogger logger;
+	/** The {@link Executor} to do the work for subscribers on */
+	private final Executor executor;
+	
+	/**
+	 * Constructs a new {@link QueryPublisher} using the given parameters
+	 *
+	 * @param query The {@link StreamingQuery} to be run for each subscriber
+	 * @param connectionSource The {@link ConnectionSource} to grab connections from
+	 * @param logger The {@link EasyLogger logger} to use for logging
+	 * @param executor The {@link Executor} to do the work for subscribers on (reading rows blocks, so this shouldn't
+	 *                 be a pool meant for short, non-blocking tasks)
+	 */
+	public QueryPublisher(
+			StreamingQuery<ResultType> query, ConnectionSource connectionSource, EasyLogger logger, Executor executor){
+		this.query = query;
+		this.connectionSource = connectionSource;
+		this.logger = logger;
+		this.executor = executor;
+	}
+	
+	/**
+	 * @return The {@link StreamingQuery} to be run for each subscriber
+	 */
+	public StreamingQuery<ResultType> getQuery(){
+		return query;
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public void subscribe(Flow.Subscriber<? super ResultType> subscriber){
+		if(subscriber == null){
+			throw new NullPointerException("subscriber can't be null!");
+		}
+		subscriber.onSubscribe(new RowSubscription(subscriber));
+	}
+	
+	/**
+	 * A {@link Flow.Subscription} that runs the query for a single subscriber and reads rows as they're requested.
+	 * Every signal to the subscriber comes from {@link #drain()}, which only ever runs one at a time.
+	 */
+	private class RowSubscription implements Flow.Subscription{
+		/** The subscriber to send rows to */
+		private final Flow.Subscriber<? super ResultType> subscriber;
+		/** The number of rows requested but not yet sent */
+		private final AtomicLong demand = new AtomicLong();
+		/** The number of times {@link #drain()} has been asked for that it hasn't caught up on yet */
+		private final AtomicInteger pending = new AtomicInteger();
+		/** Whether the subscriber has cancelled */
+		private volatile boolean cancelled = false;
+		/** A bad request made by the subscriber, to be reported to it */
+		private volatile IllegalArgumentException badRequest = null;
+		/** The {@link Stream} of the query's rows (only touched in {@link #drain()}) */
+		private Stream<ResultType> stream = null;
+		/** The {@link Iterator} over the query's rows (only touched in {@link #drain()}) */
+		private Iterator<ResultType> rows = null;
+		/** Whether the subscription is finished (only touched in {@link #drain()}) */
+		private boolean done = false;
+		
+		/**
+		 * Constructs a new {@link RowSubscription} for the given subscriber
+		 *
+		 * @param subscriber The subscriber to send rows to
+		 */
+		private RowSubscription(Flow.Subscriber<? super ResultType> subscriber){
+			this.subscriber = subscriber;
+		}
+		
+		/** {@inheritDoc} */
+		@Override
+		public void request(long n){
+			if(n <= 0){
+				badRequest = new IllegalArgumentException("Must request a positive number of rows!");
+			}else{
+				demand.getAndAccumulate(n, (current, added) -> current + added < 0?Long.MAX_VALUE:current + added);
+			}
+			schedule();
+		}
+		
+		/** {@inheritDoc} */
+		@Override
+		public void cancel(){
+			cancelled = true;
+			schedule();
+		}
+		
+		/**
+		 * Runs {@link #drain()} on the {@link Executor} unless it's already running or waiting to run
+		 */
+		private void schedule(){
+			if(pending.getAndIncrement() == 0){
+				executor.execute(this::drain);
+			}
+		}
+		
+		/**
+		 * Sends as many rows as have been requested, then finishes up if the rows have run out, the subscriber has
+		 * cancelled, or something went wrong. Keeps going until it has caught up with every call to
+		 * {@link #schedule()} made while it was running.
+		 */
+		private void drain(){
+			int missed = 1;
+			do{
+				if(!done){
+					sendRows();
+				}
+				missed = pending.addAndGet(-missed);
+			}while(missed != 0);
+		}
+		
+		/**
+		 * Sends rows to the subscriber while it has demand, starting the query if it hasn't been started yet
+		 */
+		private void sendRows(){
+			try{
+				while(!cancelled && badRequest == null && demand.get() > 0){
+					if(rows == null){
+						stream = query.open(connectionSource, logger);
+						rows = stream.iterator();
+					}
+					if(!rows.hasNext()){
+						finish();
+						subscriber.onComplete();
+						return;
+					}
+					subscriber.onNext(rows.next());
+					if(demand.get() != Long.MAX_VALUE){
+						demand.decrementAndGet();
+					}
+				}
+				if(badRequest != null){
+					finish();
+					subscriber.onError(badRequest);
+				}else if(cancelled){
+					finish();
+				}
+			}catch(SQLException | IllegalStateException e){
+				finish();
+				subscriber.onError(e instanceof IllegalStateException && e.getCause() instanceof SQLException
+						?e.getCause():e);
+			}
+		}
+		
+		/**
+		 * Marks the subscription as finished and closes the query's {@link Stream} if it was started
+		 */
+		private void finish(){
+			done = true;
+			if(stream != null){
+				stream.close();
+				stream = null;
+				rows = null;
+			}
+		}
+	}
+}
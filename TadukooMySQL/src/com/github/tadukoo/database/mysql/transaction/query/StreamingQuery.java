@@ -0,0 +1,194 @@
+package com.github.tadukoo.database.mysql.transaction.query;
+
+import com.github.tadukoo.database.mysql.connection.ConnectionSource;
+import com.github.tadukoo.database.mysql.syntax.ParameterizedSQL;
+import com.github.tadukoo.database.mysql.syntax.SQLSyntaxUtil;
+import com.github.tadukoo.database.mysql.transaction.TransactionSettings;
+import com.github.tadukoo.util.AutoCloseableUtil;
+import com.github.tadukoo.util.StringUtil;
+import com.github.tadukoo.util.functional.function.ThrowingFunction;
+import com.github.tadukoo.util.logger.EasyLogger;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Streaming Query represents a single statement query in MySQL whose rows are read lazily rather than all at once.
+ * The statement is run with a fetch size so the driver only holds that many rows in memory at a time, and the rows
+ * are handed out one at a time as a {@link Stream}. The {@link Connection} the query runs on is held until the
+ * {@link Stream} is closed, so it should always be used in a try-with-resources block.
+ * <br><br>
+ * Unlike a {@link Query}, a Streaming Query is not retried if it fails, since some of its rows may have already
+ * been handed out by then.
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.3
+ * @param <ResultType> The type of result returned for each row
+ */
+public class StreamingQuery<ResultType>{
+	/** The name of the query (for debugging purposes) */
+	private final String name;
+	/** The {@link ParameterizedSQL MySQL query statement} to be executed */
+	private final ParameterizedSQL sql;
+	/** The number of rows the driver should fetch from the server at a time */
+	private final int fetchSize;
+	/** The function used to convert the current row of the {@link ResultSet} to a result */
+	private final ThrowingFunction<ResultSet, ResultType, SQLException> convertRow;
+	
+	/**
+	 * Constructs a new {@link StreamingQuery} using the given parameters
+	 *
+	 * @param name The name of the query (for debugging purposes - may be null)
+	 * @param sql The {@link ParameterizedSQL MySQL query statement} to be executed
+	 * @param fetchSize The number of rows the driver should fetch from the server at a time
+	 * @param convertRow The function used to convert the current row of the {@link ResultSet} to a result (it
+	 *                   should not move the {@link ResultSet} to another row)
+	 */
+	public StreamingQuery(
+			String name, ParameterizedSQL sql, int fetchSize,
+			ThrowingFunction<ResultSet, ResultType, SQLException> convertRow){
+		if(fetchSize < 1){
+			throw new IllegalArgumentException("fetchSize must be at least 1!");
+		}
+		this.name = name;
+		this.sql = sql;
+		this.fetchSize = fetchSize;
+		this.convertRow = convertRow;
+	}
+	
+	/**
+	 * @return The name of the query (the SQL if no name was given)
+	 */
+	public String getQueryName(){
+		return StringUtil.isNotBlank(name)?name:sql.getSQL();
+	}
+	
+	/**
+	 * @return The {@link ParameterizedSQL MySQL query statement} to be executed
+	 */
+	public ParameterizedSQL getSQL(){
+		return sql;
+	}
+	
+	/**
+	 * @return The number of rows the driver should fetch from the server at a time
+	 */
+	public int getFetchSize(){
+		return fetchSize;
+	}
+	
+	/**
+	 * Runs the query on a {@link Connection} from the given {@link ConnectionSource} and returns a {@link Stream}
+	 * of its rows, converted one at a time as the {@link Stream} is read. Closing the {@link Stream} closes the
+	 * {@link ResultSet} and statement, ends the transaction, and hands the connection back to the source.
+	 * <br><br>
+	 * If reading a row fails while the {@link Stream} is being read, an {@link IllegalStateException} is thrown
+	 * with the {@link SQLException} as its cause, and the connection is not trusted for reuse.
+	 *
+	 * @param connectionSource The {@link ConnectionSource} to grab the connection from
+	 * @param logger The {@link EasyLogger logger} to use for logging
+	 * @return A {@link Stream} of the converted rows
+	 * @throws SQLException If the query can't be run
+	 */
+	public Stream<ResultType> open(ConnectionSource connectionSource, EasyLogger logger) throws SQLException{
+		String queryName = getQueryName();
+		Connection conn = connectionSource.getConnection();
+		PreparedStatement stmt = null;
+		ResultSet resultSet;
+		try{
+			// Report that we're starting the query
+			logger.logInfo("Streaming query " + queryName);
+			
+			// Streaming queries only read
+			TransactionSettings.apply(conn, true, null, false);
+			
+			// A forward-only, read-only statement with a fetch size lets the driver read the rows in batches
+			// (this form of prepareStatement also skips any statement cache, keeping the fetch size off of it)
+			stmt = conn.prepareStatement(sql.getSQL(), ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+			stmt.setFetchSize(fetchSize);
+			List<Object> parameters = sql.getParameters();
+			if(parameters != null){
+				SQLSyntaxUtil.bindValues(stmt, parameters);
+			}
+			resultSet = stmt.executeQuery();
+		}catch(SQLException e){
+			logger.logError("Failed to stream query " + queryName, e);
+			AutoCloseableUtil.closeQuietly(stmt);
+			connectionSource.releaseConnection(conn, !rollback(conn, logger));
+			throw e;
+		}
+		
+		RowSpliterator rows = new RowSpliterator(resultSet);
+		PreparedStatement openStmt = stmt;
+		return StreamSupport.stream(rows, false).onClose(() -> {
+			AutoCloseableUtil.closeQuietly(resultSet);
+			AutoCloseableUtil.closeQuietly(openStmt);
+			boolean rolledBack = rollback(conn, logger);
+			connectionSource.releaseConnection(conn, rows.failed || !rolledBack);
+			logger.logInfo("Finished streaming query " + queryName);
+		});
+	}
+	
+	/**
+	 * Ends the read-only transaction on the given {@link Connection}
+	 *
+	 * @param conn The {@link Connection} to roll back
+	 * @param logger The {@link EasyLogger logger} to use for logging
+	 * @return Whether the rollback worked
+	 */
+	private static boolean rollback(Connection conn, EasyLogger logger){
+		try{
+			conn.rollback();
+			return true;
+		}catch(SQLException e){
+			logger.logError("Failed to rollback transaction", e);
+			return false;
+		}
+	}
+	
+	/**
+	 * A {@link Spliterator} that moves through the {@link ResultSet} one row at a time, converting each row as it's
+	 * reached
+	 */
+	private class RowSpliterator extends Spliterators.AbstractSpliterator<ResultType>{
+		/** The {@link ResultSet} being read */
+		private final ResultSet resultSet;
+		/** Whether reading a row has failed (which means the connection is no good) */
+		private boolean failed = false;
+		
+		/**
+		 * Constructs a new {@link RowSpliterator} for the given {@link ResultSet}
+		 *
+		 * @param resultSet The {@link ResultSet} to be read
+		 */
+		private RowSpliterator(ResultSet resultSet){
+			super(Long.MAX_VALUE, Spliterator.ORDERED);
+			this.resultSet = resultSet;
+		}
+		
+		/** {@inheritDoc} */
+		@Override
+		public boolean tryAdvance(Consumer<? super ResultType> action){
+			ResultType result;
+			try{
+				if(!resultSet.next()){
+					return false;
+				}
+				result = convertRow.apply(resultSet);
+			}catch(SQLException e){
+				failed = true;
+				throw new IllegalStateException("Failed to read a row of " + getQueryName(), e);
+			}
+			action.accept(result);
+			return true;
+		}
+	}
+}
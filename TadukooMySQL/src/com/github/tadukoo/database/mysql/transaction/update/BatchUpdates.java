@@ -0,0 +1,238 @@
+package com.github.tadukoo.database.mysql.transaction.update;
+
+import com.github.tadukoo.database.mysql.syntax.ParameterizedSQL;
+import com.github.tadukoo.database.mysql.syntax.SQLSyntaxUtil;
+import com.github.tadukoo.database.mysql.transaction.SQLTransaction;
+import com.github.tadukoo.util.AutoCloseableUtil;
+import com.github.tadukoo.util.ListUtil;
+import com.github.tadukoo.util.logger.EasyLogger;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+/**
+ * Represents one or more MySQL update statements to be executed as a transaction using JDBC batching, so that
+ * many statements are sent to the server at once instead of one round trip per statement.
+ * <br><br>
+ * Statements are batched in order. Consecutive statements with the same {@link ParameterizedSQL SQL} share a
+ * single {@link PreparedStatement} (with a batch entry for each set of parameters), while statements without
+ * parameters are batched on a plain {@link Statement}. A batch is sent whenever it reaches the
+ * {@link #getBatchSize() batch size}, or when the next statement can't be added to it.
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.3
+ */
+public abstract class BatchUpdates implements SQLTransaction<int[]>{
+	
+	/** The default number of statements to send to the server at once */
+	public static final int DEFAULT_BATCH_SIZE = 1000;
+	
+	/**
+	 * @return The List of MySQL statements to be executed as updates
+	 */
+	public abstract List<String> getSQLs();
+	
+	/**
+	 * @return The values to bind to the {@code ?} placeholders of each MySQL statement, in the same order as the
+	 * statements (null if none of them have placeholders, or a null entry for each one that doesn't)
+	 */
+	public List<List<Object>> getParameters(){
+		return null;
+	}
+	
+	/**
+	 * @return The maximum number of statements to send to the server at once
+	 */
+	public int getBatchSize(){
+		return DEFAULT_BATCH_SIZE;
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @return The update counts of each statement, in the same order as the statements (as returned by
+	 * {@link Statement#executeBatch()})
+	 */
+	@Override
+	public int[] execute(Connection conn, EasyLogger logger) throws SQLException{
+		// Grab sql strings and parameters and determine if we have parameters
+		List<String> sqls = getSQLs();
+		List<List<Object>> parameters = getParameters();
+		boolean haveParameters = ListUtil.isNotBlank(parameters);
+		int batchSize = getBatchSize();
+		
+		// We'll need statements to run, and somewhere to put the update counts
+		List<Statement> stmts = new ArrayList<>();
+		int[] updateCounts = new int[sqls.size()];
+		
+		try{
+			// Report that we're starting the transaction
+			logger.logInfo("Starting " + getTransactionName() + " transaction");
+			
+			// If we have parameters, make sure the size matches the sql strings size
+			if(haveParameters && parameters.size() != sqls.size()){
+				throw new IllegalArgumentException("Must have parameters for all sql statements or pass null " +
+						"parameters list!");
+			}
+			
+			// The batch size must be positive
+			if(batchSize < 1){
+				throw new IllegalArgumentException("Batch size must be at least 1!");
+			}
+			
+			// Keep track of the statement being batched and which sql it's for (null for a plain statement)
+			Statement plainStmt = null;
+			Statement batchStmt = null;
+			String batchSQL = null;
+			int batchStart = 0;
+			
+			for(int i = 0; i < sqls.size(); i++){
+				String sql = sqls.get(i);
+				List<Object> stmtParameters = haveParameters?parameters.get(i):null;
+				String stmtSQL = stmtParameters != null?sql:null;
+				
+				// Send the current batch if this statement can't be added to it
+				if(batchStmt != null && !Objects.equals(batchSQL, stmtSQL)){
+					if(batchStart < i){
+						batchStart = executeBatch(batchStmt, updateCounts, batchStart);
+					}
+					// We're done with a prepared statement once we switch to different sql
+					if(batchStmt != plainStmt){
+						stmts.remove(batchStmt);
+						batchStmt.close();
+					}
+					batchStmt = null;
+				}
+				
+				// Add this statement to the batch
+				if(stmtParameters != null){
+					if(batchStmt == null){
+						batchStmt = conn.prepareStatement(sql);
+						stmts.add(batchStmt);
+					}
+					PreparedStatement preparedStmt = (PreparedStatement) batchStmt;
+					SQLSyntaxUtil.bindValues(preparedStmt, stmtParameters);
+					preparedStmt.addBatch();
+				}else{
+					if(plainStmt == null){
+						plainStmt = conn.createStatement();
+						stmts.add(plainStmt);
+					}
+					batchStmt = plainStmt;
+					batchStmt.addBatch(sql);
+				}
+				batchSQL = stmtSQL;
+				
+				// Send the batch if it's full
+				if(i + 1 - batchStart >= batchSize){
+					batchStart = executeBatch(batchStmt, updateCounts, batchStart);
+				}
+			}
+			
+			// Send whatever's left
+			if(batchStmt != null && batchStart < sqls.size()){
+				executeBatch(batchStmt, updateCounts, batchStart);
+			}
+			
+			// Report that the transaction is done
+			logger.logInfo("Finished " + getTransactionName() + " transaction");
+			
+			// Return the update counts
+			return updateCounts;
+		}finally{
+			// If we fail, close the statements quietly
+			for(Statement stmt: stmts){
+				AutoCloseableUtil.closeQuietly(stmt);
+			}
+		}
+	}
+	
+	/**
+	 * Sends the batch on the given statement and copies its update counts into the given array
+	 *
+	 * @param stmt The {@link Statement} with the batch to send
+	 * @param updateCounts The update counts for all the statements in the transaction
+	 * @param batchStart The index of the first statement in this batch
+	 * @return The index of the first statement in the next batch
+	 * @throws SQLException If anything goes wrong
+	 */
+	private static int executeBatch(Statement stmt, int[] updateCounts, int batchStart) throws SQLException{
+		int[] batchCounts = stmt.executeBatch();
+		System.arraycopy(batchCounts, 0, updateCounts, batchStart, batchCounts.length);
+		return batchStart + batchCounts.length;
+	}
+	
+	/**
+	 * Creates a new BatchUpdates transaction with the given parameters
+	 *
+	 * @param transactionName The name for the overall transaction
+	 * @param sqls The MySQL statements to be executed in the updates
+	 * @param batchSize The maximum number of statements to send to the server at once
+	 * @return A BatchUpdates object that can run the transaction
+	 */
+	public static BatchUpdates createBatchUpdates(String transactionName, List<String> sqls, int batchSize){
+		return new BatchUpdates(){
+			/** {@inheritDoc} */
+			@Override
+			public String getTransactionName(){
+				return transactionName;
+			}
+			
+			/** {@inheritDoc} */
+			@Override
+			public List<String> getSQLs(){
+				return sqls;
+			}
+			
+			/** {@inheritDoc} */
+			@Override
+			public int getBatchSize(){
+				return batchSize;
+			}
+		};
+	}
+	
+	/**
+	 * Creates a new BatchUpdates transaction with the given parameters. Consecutive statements with the same SQL
+	 * are sent as a single batched {@link PreparedStatement}.
+	 *
+	 * @param transactionName The name for the overall transaction
+	 * @param sqls The {@link ParameterizedSQL MySQL statements} to be executed in the updates
+	 * @param batchSize The maximum number of statements to send to the server at once
+	 * @return A BatchUpdates object that can run the transaction
+	 */
+	public static BatchUpdates createParameterizedBatchUpdates(
+			String transactionName, List<ParameterizedSQL> sqls, int batchSize){
+		return new BatchUpdates(){
+			/** {@inheritDoc} */
+			@Override
+			public String getTransactionName(){
+				return transactionName;
+			}
+			
+			/** {@inheritDoc} */
+			@Override
+			public List<String> getSQLs(){
+				return sqls.stream().map(ParameterizedSQL::getSQL).collect(Collectors.toList());
+			}
+			
+			/** {@inheritDoc} */
+			@Override
+			public List<List<Object>> getParameters(){
+				return sqls.stream().map(ParameterizedSQL::getParameters).collect(Collectors.toList());
+			}
+			
+			/** {@inheritDoc} */
+			@Override
+			public int getBatchSize(){
+				return batchSize;
+			}
+		};
+	}
+}
@@ -1,15 +1,19 @@
 package com.github.tadukoo.database.mysql.transaction.update;
 
+import com.github.tadukoo.database.mysql.syntax.ParameterizedSQL;
+import com.github.tadukoo.database.mysql.syntax.SQLSyntaxUtil;
 import com.github.tadukoo.database.mysql.transaction.SQLTransaction;
 import com.github.tadukoo.util.AutoCloseableUtil;
 import com.github.tadukoo.util.ListUtil;
 import com.github.tadukoo.util.logger.EasyLogger;
 
 import java.sql.Connection;
+import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.stream.Collectors;
 
 /**
  * Represents one or more MySQL update statements to be executed as a transaction.
@@ -31,13 +35,23 @@ public abstract class Updates implements SQLTransaction<Boolean>{
 	 */
 	public abstract List<String> getSQLs();
 	
+	/**
+	 * @return The values to bind to the {@code ?} placeholders of each MySQL statement, in the same order as the
+	 * statements (null if none of them have placeholders, or a null entry for each one that doesn't)
+	 */
+	public List<List<Object>> getParameters(){
+		return null;
+	}
+	
 	/** {@inheritDoc} */
 	@Override
 	public Boolean execute(Connection conn, EasyLogger logger) throws SQLException{
 		// Grab names and sql strings and determine if we have names
 		List<String> names = getNames();
 		List<String> sqls = getSQLs();
+		List<List<Object>> parameters = getParameters();
 		boolean haveNames = ListUtil.isNotBlank(names);
+		boolean haveParameters = ListUtil.isNotBlank(parameters);
 		
 		// We'll need statements to run
 		ArrayList<Statement> stmts = new ArrayList<>();
@@ -51,6 +65,12 @@ public abstract class Updates implements SQLTransaction<Boolean>{
 				throw new IllegalArgumentException("Must have all sql statements named or pass null names list!");
 			}
 			
+			// If we have parameters, make sure the size matches the sql strings size
+			if(haveParameters && parameters.size() != sqls.size()){
+				throw new IllegalArgumentException("Must have parameters for all sql statements or pass null " +
+						"parameters list!");
+			}
+			
 			// Run the updates
 			for(int i = 0; i < sqls.size(); i++){
 				// Report starting this statement
@@ -58,9 +78,17 @@ public abstract class Updates implements SQLTransaction<Boolean>{
 					logger.logInfo("Starting " + names.get(i) + " statement");
 				}
 				
-				// Execute this statement
-				stmts.add(conn.createStatement());
-				stmts.get(i).executeUpdate(sqls.get(i));
+				// Execute this statement (binding the values if it has placeholders)
+				List<Object> stmtParameters = haveParameters?parameters.get(i):null;
+				if(stmtParameters != null){
+					PreparedStatement preparedStmt = conn.prepareStatement(sqls.get(i));
+					stmts.add(preparedStmt);
+					SQLSyntaxUtil.bindValues(preparedStmt, stmtParameters);
+					preparedStmt.executeUpdate();
+				}else{
+					stmts.add(conn.createStatement());
+					stmts.get(i).executeUpdate(sqls.get(i));
+				}
 				
 				// Report finishing this statement
 				if(haveNames){
@@ -110,4 +138,42 @@ public abstract class Updates implements SQLTransaction<Boolean>{
 			}
 		};
 	}
+	
+	/**
+	 * Creates a new Updates transaction with the given parameters. Each statement will be run as a
+	 * {@link PreparedStatement} with the values bound to its placeholders.
+	 *
+	 * @param transactionName The name for the overall transaction
+	 * @param names The names for individual statements, this may be null or an empty list
+	 * @param sqls The {@link ParameterizedSQL MySQL statements} to be executed in the updates
+	 * @return An Updates object that can run the transaction
+	 */
+	public static Updates createParameterizedUpdates(
+			String transactionName, List<String> names, List<ParameterizedSQL> sqls){
+		return new Updates(){
+			/** {@inheritDoc} */
+			@Override
+			public String getTransactionName(){
+				return transactionName;
+			}
+			
+			/** {@inheritDoc} */
+			@Override
+			public List<String> getNames(){
+				return names;
+			}
+			
+			/** {@inheritDoc} */
+			@Override
+			public List<String> getSQLs(){
+				return sqls.stream().map(ParameterizedSQL::getSQL).collect(Collectors.toList());
+			}
+			
+			/** {@inheritDoc} */
+			@Override
+			public List<List<Object>> getParameters(){
+				return sqls.stream().map(ParameterizedSQL::getParameters).collect(Collectors.toList());
+			}
+		};
+	}
 }
@@ -1,5 +1,6 @@
 /**
- * Contains {@link com.github.tadukoo.database.mysql.transaction.update.Updates Updates}, along with some
- * implementations of it
+ * Contains {@link com.github.tadukoo.database.mysql.transaction.update.Updates Updates} and
+ * {@link com.github.tadukoo.database.mysql.transaction.update.BatchUpdates BatchUpdates}, along with some
+ * implementations of them
  */
 package com.github.tadukoo.database.mysql.transaction.update;
\ No newline at end of file